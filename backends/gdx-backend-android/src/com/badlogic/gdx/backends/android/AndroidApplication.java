@@ -47,6 +47,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Clipboard;
 import com.badlogic.gdx.utils.GdxNativesLoader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.MpscQueue;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -56,7 +57,7 @@ import java.util.Arrays;
  * configuration for the GLSurfaceView.
  * 
  * @author mzechner */
-public class AndroidApplication extends Activity implements AndroidApplicationBase {
+public class AndroidApplication extends Activity implements AndroidApplicationBase, AndroidRunnableQueue {
 	static {
 		GdxNativesLoader.load();
 	}
@@ -69,8 +70,11 @@ public class AndroidApplication extends Activity implements AndroidApplicationBa
 	protected ApplicationListener listener;
 	public Handler handler;
 	protected boolean firstResume = true;
+	protected final MpscQueue<Runnable> runnableQueue = new MpscQueue<Runnable>(1024);
+	/** Runnables posted while {@link #runnableQueue} was full, access must be synchronized on the array. */
 	protected final Array<Runnable> runnables = new Array<Runnable>();
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+	private volatile boolean overflowing;
 	protected final Array<LifecycleListener> lifecycleListeners = new Array<LifecycleListener>();
 	private final Array<AndroidEventListener> androidEventListeners = new Array<AndroidEventListener>();
 	protected int logLevel = LOG_INFO;
@@ -381,9 +385,22 @@ public class AndroidApplication extends Activity implements AndroidApplicationBa
 
 	@Override
 	public void postRunnable (Runnable runnable) {
+		if (!overflow(runnable, false) && !runnableQueue.put(runnable)) overflow(runnable, true);
+		Gdx.graphics.requestRendering();
+	}
+
+	/** Adds the runnable to {@link #runnables} if force is true or the array is not empty. After a runnable overflows, later
+	 * runnables are added there too until the array is drained, so runnables are executed in the order they were posted. */
+	private boolean overflow (Runnable runnable, boolean force) {
+		if (!force && !overflowing) return false;
 		synchronized (runnables) {
-			runnables.add(runnable);
-			Gdx.graphics.requestRendering();
+			if (force || runnables.size > 0) {
+				runnables.add(runnable);
+				overflowing = true;
+				return true;
+			}
+			overflowing = false;
+			return false;
 		}
 	}
 
@@ -499,6 +516,11 @@ public class AndroidApplication extends Activity implements AndroidApplicationBa
 		return runnables;
 	}
 
+	@Override
+	public MpscQueue<Runnable> getRunnableQueue () {
+		return runnableQueue;
+	}
+
 	@Override
 	public Array<Runnable> getExecutedRunnables () {
 		return executedRunnables;
@@ -44,7 +44,8 @@ public interface AndroidApplicationBase extends Application {
 	 * @return the {@link Context} */
 	Context getContext ();
 
-	/** A set of usable runnables
+	/** A set of usable runnables, access must be synchronized on the array. Implementations can also implement
+	 * {@link AndroidRunnableQueue} to hand runnables to the rendering thread without locking.
 	 * 
 	 * @return the {@link Runnable} array */
 	Array<Runnable> getRunnables ();
@@ -51,13 +51,14 @@ import com.badlogic.gdx.backends.android.surfaceview.FillResolutionStrategy;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Clipboard;
 import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.MpscQueue;
 
 /** An implementation of the {@link Application} interface for Android. Create an {@link Activity} that derives from this class. In
  * the Activity#onCreate(Bundle) method call the {@link #initialize(ApplicationListener)} method specifying the configuration for
  * the {@link GLSurfaceView}.
  * 
  * @author mzechner */
-public class AndroidDaydream extends DreamService implements AndroidApplicationBase {
+public class AndroidDaydream extends DreamService implements AndroidApplicationBase, AndroidRunnableQueue {
 	static {
 		GdxNativesLoader.load();
 	}
@@ -70,8 +71,11 @@ public class AndroidDaydream extends DreamService implements AndroidApplicationB
 	protected ApplicationListener listener;
 	protected Handler handler;
 	protected boolean firstResume = true;
+	protected final MpscQueue<Runnable> runnableQueue = new MpscQueue<Runnable>(1024);
+	/** Runnables posted while {@link #runnableQueue} was full, access must be synchronized on the array. */
 	protected final Array<Runnable> runnables = new Array<Runnable>();
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+	private volatile boolean overflowing;
 	protected final Array<LifecycleListener> lifecycleListeners = new Array<LifecycleListener>();
 	protected int logLevel = LOG_INFO;
 
@@ -309,9 +313,22 @@ public class AndroidDaydream extends DreamService implements AndroidApplicationB
 
 	@Override
 	public void postRunnable (Runnable runnable) {
+		if (!overflow(runnable, false) && !runnableQueue.put(runnable)) overflow(runnable, true);
+		Gdx.graphics.requestRendering();
+	}
+
+	/** Adds the runnable to {@link #runnables} if force is true or the array is not empty. After a runnable overflows, later
+	 * runnables are added there too until the array is drained, so runnables are executed in the order they were posted. */
+	private boolean overflow (Runnable runnable, boolean force) {
+		if (!force && !overflowing) return false;
 		synchronized (runnables) {
-			runnables.add(runnable);
-			Gdx.graphics.requestRendering();
+			if (force || runnables.size > 0) {
+				runnables.add(runnable);
+				overflowing = true;
+				return true;
+			}
+			overflowing = false;
+			return false;
 		}
 	}
 
@@ -401,6 +418,11 @@ public class AndroidDaydream extends DreamService implements AndroidApplicationB
 		return runnables;
 	}
 
+	@Override
+	public MpscQueue<Runnable> getRunnableQueue () {
+		return runnableQueue;
+	}
+
 	@Override
 	public Array<Runnable> getExecutedRunnables () {
 		return executedRunnables;
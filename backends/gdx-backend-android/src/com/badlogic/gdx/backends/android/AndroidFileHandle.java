@@ -18,9 +18,12 @@ package com.badlogic.gdx.backends.android;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
 
 import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
@@ -29,6 +32,7 @@ import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
 
 /** @author mzechner
  * @author Nathan Sweet */
@@ -80,6 +84,31 @@ public class AndroidFileHandle extends FileHandle {
 		return super.read();
 	}
 
+	/** Internal files that are stored uncompressed in the apk are memory mapped from it, compressed ones are read into a direct
+	 * buffer. */
+	public ByteBuffer map () {
+		if (type == FileType.Internal) {
+			AssetFileDescriptor fileDescriptor = null;
+			FileInputStream input = null;
+			try {
+				fileDescriptor = assets.openFd(file.getPath().replace('\\', '/'));
+				input = fileDescriptor.createInputStream();
+				return input.getChannel().map(MapMode.READ_ONLY, fileDescriptor.getStartOffset(), fileDescriptor.getLength());
+			} catch (IOException ignored) {
+				// The asset is compressed, super reads it through read().
+			} finally {
+				StreamUtils.closeQuietly(input);
+				if (fileDescriptor != null) {
+					try {
+						fileDescriptor.close();
+					} catch (IOException e) {
+					}
+				}
+			}
+		}
+		return super.map();
+	}
+
 	public FileHandle[] list () {
 		if (type == FileType.Internal) {
 			try {
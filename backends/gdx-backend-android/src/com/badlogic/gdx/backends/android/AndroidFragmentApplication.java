@@ -31,6 +31,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Clipboard;
 import com.badlogic.gdx.utils.GdxNativesLoader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.MpscQueue;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -39,7 +40,7 @@ import java.util.Arrays;
  * to the {@link AndroidApplication} class, which is based on an {@link Activity}.
  * 
  * @author Bartol Karuza (me@bartolkaruza.com) */
-public class AndroidFragmentApplication extends Fragment implements AndroidApplicationBase {
+public class AndroidFragmentApplication extends Fragment implements AndroidApplicationBase, AndroidRunnableQueue {
 
 	/** Callbacks interface for letting the fragment interact with the Activitiy, parent fragment or target fragment.
 	 * 
@@ -60,8 +61,11 @@ public class AndroidFragmentApplication extends Fragment implements AndroidAppli
 	protected ApplicationListener listener;
 	public Handler handler;
 	protected boolean firstResume = true;
+	protected final MpscQueue<Runnable> runnableQueue = new MpscQueue<Runnable>(1024);
+	/** Runnables posted while {@link #runnableQueue} was full, access must be synchronized on the array. */
 	protected final Array<Runnable> runnables = new Array<Runnable>();
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+	private volatile boolean overflowing;
 	protected final Array<LifecycleListener> lifecycleListeners = new Array<LifecycleListener>();
 	private final Array<AndroidEventListener> androidEventListeners = new Array<AndroidEventListener>();
 	protected int logLevel = LOG_INFO;
@@ -317,9 +321,22 @@ public class AndroidFragmentApplication extends Fragment implements AndroidAppli
 
 	@Override
 	public void postRunnable (Runnable runnable) {
+		if (!overflow(runnable, false) && !runnableQueue.put(runnable)) overflow(runnable, true);
+		Gdx.graphics.requestRendering();
+	}
+
+	/** Adds the runnable to {@link #runnables} if force is true or the array is not empty. After a runnable overflows, later
+	 * runnables are added there too until the array is drained, so runnables are executed in the order they were posted. */
+	private boolean overflow (Runnable runnable, boolean force) {
+		if (!force && !overflowing) return false;
 		synchronized (runnables) {
-			runnables.add(runnable);
-			Gdx.graphics.requestRendering();
+			if (force || runnables.size > 0) {
+				runnables.add(runnable);
+				overflowing = true;
+				return true;
+			}
+			overflowing = false;
+			return false;
 		}
 	}
 
@@ -409,6 +426,11 @@ public class AndroidFragmentApplication extends Fragment implements AndroidAppli
 		return runnables;
 	}
 
+	@Override
+	public MpscQueue<Runnable> getRunnableQueue () {
+		return runnableQueue;
+	}
+
 	@Override
 	public Array<Runnable> getExecutedRunnables () {
 		return executedRunnables;
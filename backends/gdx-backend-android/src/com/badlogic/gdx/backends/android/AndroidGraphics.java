@@ -42,6 +42,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.WindowedMean;
@@ -259,6 +260,7 @@ public class AndroidGraphics implements Graphics, Renderer {
 		Cubemap.invalidateAllCubemaps(app);
 		ShaderProgram.invalidateAllShaderPrograms(app);
 		FrameBuffer.invalidateAllFrameBuffers(app);
+		InstancedSpriteBatch.invalidateAllInstancedSpriteBatches(app);
 
 		logManagedCachesStatus();
 
@@ -404,15 +406,18 @@ public class AndroidGraphics implements Graphics, Renderer {
 		}
 
 		if (lrunning) {
-			synchronized (app.getRunnables()) {
-				app.getExecutedRunnables().clear();
-				app.getExecutedRunnables().addAll(app.getRunnables());
-				app.getRunnables().clear();
+			Array<Runnable> executedRunnables = app.getExecutedRunnables();
+			executedRunnables.clear();
+			if (app instanceof AndroidRunnableQueue) ((AndroidRunnableQueue)app).getRunnableQueue().drainTo(executedRunnables);
+			Array<Runnable> runnables = app.getRunnables();
+			synchronized (runnables) {
+				executedRunnables.addAll(runnables);
+				runnables.clear();
 			}
 
-			for (int i = 0; i < app.getExecutedRunnables().size; i++) {
+			for (int i = 0; i < executedRunnables.size; i++) {
 				try {
-					app.getExecutedRunnables().get(i).run();
+					executedRunnables.get(i).run();
 				} catch (Throwable t) {
 					t.printStackTrace();
 				}
@@ -486,6 +491,7 @@ public class AndroidGraphics implements Graphics, Renderer {
 		Cubemap.clearAllCubemaps(app);
 		ShaderProgram.clearAllShaderPrograms(app);
 		FrameBuffer.clearAllFrameBuffers(app);
+		InstancedSpriteBatch.clearAllInstancedSpriteBatches(app);
 
 		logManagedCachesStatus();
 	}
@@ -496,6 +502,7 @@ public class AndroidGraphics implements Graphics, Renderer {
 		Gdx.app.log(LOG_TAG, Cubemap.getManagedStatus());
 		Gdx.app.log(LOG_TAG, ShaderProgram.getManagedStatus());
 		Gdx.app.log(LOG_TAG, FrameBuffer.getManagedStatus());
+		Gdx.app.log(LOG_TAG, InstancedSpriteBatch.getManagedStatus());
 	}
 
 	public View getView () {
@@ -30,6 +30,7 @@ import com.badlogic.gdx.backends.android.surfaceview.GLSurfaceView20;
 import com.badlogic.gdx.backends.android.surfaceview.GLSurfaceView20API18;
 import com.badlogic.gdx.backends.android.surfaceview.GLSurfaceViewAPI18;
 import com.badlogic.gdx.backends.android.surfaceview.ResolutionStrategy;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** A subclass of {@link AndroidGraphics} specialized for live wallpaper applications.
@@ -198,17 +199,20 @@ public final class AndroidGraphicsLiveWallpaper extends AndroidGraphics {
 		if (lrunning) {
 
 			// jw: changed
-			synchronized (app.getRunnables()) {
-				app.getExecutedRunnables().clear();
-				app.getExecutedRunnables().addAll(app.getRunnables());
-				app.getRunnables().clear();
-
-				for (int i = 0; i < app.getExecutedRunnables().size; i++) {
-					try {
-						app.getExecutedRunnables().get(i).run();
-					} catch (Throwable t) {
-						t.printStackTrace();
-					}
+			Array<Runnable> executedRunnables = app.getExecutedRunnables();
+			executedRunnables.clear();
+			if (app instanceof AndroidRunnableQueue) ((AndroidRunnableQueue)app).getRunnableQueue().drainTo(executedRunnables);
+			Array<Runnable> runnables = app.getRunnables();
+			synchronized (runnables) {
+				executedRunnables.addAll(runnables);
+				runnables.clear();
+			}
+
+			for (int i = 0; i < executedRunnables.size; i++) {
+				try {
+					executedRunnables.get(i).run();
+				} catch (Throwable t) {
+					t.printStackTrace();
 				}
 			}
 			/*
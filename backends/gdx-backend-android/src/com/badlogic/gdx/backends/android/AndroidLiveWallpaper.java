@@ -44,12 +44,13 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Clipboard;
 import com.badlogic.gdx.utils.GdxNativesLoader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.MpscQueue;
 
 /** An implementation of the {@link Application} interface to be used with an AndroidLiveWallpaperService. Not directly
  * constructable, instead the {@link AndroidLiveWallpaperService} will create this class internally.
  * 
  * @author mzechner */
-public class AndroidLiveWallpaper implements AndroidApplicationBase {
+public class AndroidLiveWallpaper implements AndroidApplicationBase, AndroidRunnableQueue {
 	static {
 		GdxNativesLoader.load();
 	}
@@ -63,8 +64,11 @@ public class AndroidLiveWallpaper implements AndroidApplicationBase {
 	protected AndroidNet net;
 	protected ApplicationListener listener;
 	protected boolean firstResume = true;
+	protected final MpscQueue<Runnable> runnableQueue = new MpscQueue<Runnable>(1024);
+	/** Runnables posted while {@link #runnableQueue} was full, access must be synchronized on the array. */
 	protected final Array<Runnable> runnables = new Array<Runnable>();
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+	private volatile boolean overflowing;
 	protected final Array<LifecycleListener> lifecycleListeners = new Array<LifecycleListener>();
 	protected int logLevel = LOG_INFO;
 
@@ -195,8 +199,21 @@ public class AndroidLiveWallpaper implements AndroidApplicationBase {
 
 	@Override
 	public void postRunnable (Runnable runnable) {
+		if (!overflow(runnable, false) && !runnableQueue.put(runnable)) overflow(runnable, true);
+	}
+
+	/** Adds the runnable to {@link #runnables} if force is true or the array is not empty. After a runnable overflows, later
+	 * runnables are added there too until the array is drained, so runnables are executed in the order they were posted. */
+	private boolean overflow (Runnable runnable, boolean force) {
+		if (!force && !overflowing) return false;
 		synchronized (runnables) {
-			runnables.add(runnable);
+			if (force || runnables.size > 0) {
+				runnables.add(runnable);
+				overflowing = true;
+				return true;
+			}
+			overflowing = false;
+			return false;
 		}
 	}
 
@@ -333,6 +350,11 @@ public class AndroidLiveWallpaper implements AndroidApplicationBase {
 		return runnables;
 	}
 
+	@Override
+	public MpscQueue<Runnable> getRunnableQueue () {
+		return runnableQueue;
+	}
+
 	@Override
 	public Array<Runnable> getExecutedRunnables () {
 		return executedRunnables;
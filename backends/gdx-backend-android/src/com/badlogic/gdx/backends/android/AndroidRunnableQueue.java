@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.android;
+
+import com.badlogic.gdx.utils.MpscQueue;
+
+/** Implemented by {@link AndroidApplicationBase} implementations that hand posted runnables to the rendering thread with a
+ * lock-free queue. The rendering thread drains the queue before the runnables in {@link AndroidApplicationBase#getRunnables()},
+ * which hold the runnables posted while the queue was full. Implementations that don't implement this interface only use
+ * {@link AndroidApplicationBase#getRunnables()}. */
+public interface AndroidRunnableQueue {
+	/** @return the queue of posted runnables, drained by the rendering thread */
+	public MpscQueue<Runnable> getRunnableQueue ();
+}
@@ -32,6 +32,7 @@ import com.badlogic.gdx.backends.headless.mock.input.MockInput;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Clipboard;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.MpscQueue;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.TimeUtils;
 
@@ -46,8 +47,11 @@ public class HeadlessApplication implements Application {
 	protected final MockInput input;
 	protected final MockGraphics graphics;
 	protected boolean running = true;
+	protected final MpscQueue<Runnable> runnableQueue = new MpscQueue<Runnable>(1024);
+	/** Runnables posted while {@link #runnableQueue} was full, access must be synchronized on the array. */
 	protected final Array<Runnable> runnables = new Array<Runnable>();
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+	private volatile boolean overflowing;
 	protected final Array<LifecycleListener> lifecycleListeners = new Array<LifecycleListener>();
 	protected int logLevel = LOG_INFO;
 	private final long renderInterval;
@@ -141,12 +145,13 @@ public class HeadlessApplication implements Application {
 	}
 
 	public boolean executeRunnables () {
+		runnableQueue.drainTo(executedRunnables);
 		synchronized (runnables) {
-			for (int i = runnables.size - 1; i >= 0; i--)
-				executedRunnables.addAll(runnables.get(i));
+			executedRunnables.addAll(runnables);
 			runnables.clear();
 		}
 		if (executedRunnables.size == 0) return false;
+		executedRunnables.reverse();
 		for (int i = executedRunnables.size - 1; i >= 0; i--)
 			executedRunnables.removeIndex(i).run();
 		return true;
@@ -223,8 +228,21 @@ public class HeadlessApplication implements Application {
 
 	@Override
 	public void postRunnable (Runnable runnable) {
+		if (!overflow(runnable, false) && !runnableQueue.put(runnable)) overflow(runnable, true);
+	}
+
+	/** Adds the runnable to {@link #runnables} if force is true or the array is not empty. After a runnable overflows,
+	 * later runnables are added there too until the array is drained, so runnables are executed in the order they were posted. */
+	private boolean overflow (Runnable runnable, boolean force) {
+		if (!force && !overflowing) return false;
 		synchronized (runnables) {
-			runnables.add(runnable);
+			if (force || runnables.size > 0) {
+				runnables.add(runnable);
+				overflowing = true;
+				return true;
+			}
+			overflowing = false;
+			return false;
 		}
 	}
 
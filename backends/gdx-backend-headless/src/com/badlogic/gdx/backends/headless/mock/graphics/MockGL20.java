@@ -0,0 +1,1116 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless.mock.graphics;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A {@link GL20} that renders nothing and counts the calls made to it, so rendering code such as batches can be run and measured
+ * without a GL context. Handles are generated, shaders always compile and link, and the attributes and uniforms declared in the
+ * shader sources are reported as active. Only #define, #ifdef and #ifndef are evaluated, code inside #if and #elif blocks is
+ * assumed to be compiled.
+ * <p>
+ * Set an instance to {@link com.badlogic.gdx.Gdx#gl} and {@link com.badlogic.gdx.Gdx#gl20} to use it. */
+public class MockGL20 implements GL20 {
+	static private final Pattern declaration = Pattern
+		.compile("\\b(attribute|uniform)\\s+(?:(?:lowp|mediump|highp)\\s+)?(\\w+)\\s+(\\w+)\\s*(?:\\[\\s*(\\w+)\\s*\\])?\\s*;");
+
+	/** All calls to any GL function since the last reset. */
+	public long calls;
+	/** The number of glDrawArrays and glDrawElements calls since the last reset. */
+	public long drawCalls;
+	/** The number of vertices or indices drawn since the last reset. */
+	public long vertexCount;
+	public long textureBindings;
+	/** The number of glUseProgram calls since the last reset. */
+	public long shaderSwitches;
+	public long uniformCalls;
+	/** The number of glBufferData and glBufferSubData calls since the last reset. */
+	public long bufferUploads;
+	/** The number of bytes passed to glBufferData and glBufferSubData since the last reset. */
+	public long bufferUploadBytes;
+	/** The number of texture image uploads since the last reset. */
+	public long textureUploads;
+
+	private int lastHandle;
+	private final IntMap<String> shaderSources = new IntMap();
+	private final IntMap<Program> programs = new IntMap();
+
+	/** Sets all counters to zero. */
+	public void reset () {
+		calls = 0;
+		drawCalls = 0;
+		vertexCount = 0;
+		textureBindings = 0;
+		shaderSwitches = 0;
+		uniformCalls = 0;
+		bufferUploads = 0;
+		bufferUploadBytes = 0;
+		textureUploads = 0;
+	}
+
+	private void genHandles (int n, IntBuffer handles) {
+		for (int i = 0; i < n; i++)
+			handles.put(handles.position() + i, ++lastHandle);
+	}
+
+	/** Returns typical values for the implementation limits queried by glGetIntegerv. */
+	protected int getInteger (int pname) {
+		switch (pname) {
+		case GL_MAX_TEXTURE_SIZE:
+			return 4096;
+		case GL_MAX_TEXTURE_IMAGE_UNITS:
+		case GL_MAX_COMBINED_TEXTURE_IMAGE_UNITS:
+		case GL_MAX_VERTEX_ATTRIBS:
+			return 16;
+		case GL_MAX_VERTEX_UNIFORM_VECTORS:
+		case GL_MAX_FRAGMENT_UNIFORM_VECTORS:
+			return 256;
+		}
+		return 0;
+	}
+
+	@Override
+	public void glActiveTexture (int texture) {
+		calls++;
+	}
+
+	@Override
+	public void glBindTexture (int target, int texture) {
+		calls++;
+		textureBindings++;
+	}
+
+	@Override
+	public void glBlendFunc (int sfactor, int dfactor) {
+		calls++;
+	}
+
+	@Override
+	public void glClear (int mask) {
+		calls++;
+	}
+
+	@Override
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		calls++;
+	}
+
+	@Override
+	public void glClearDepthf (float depth) {
+		calls++;
+	}
+
+	@Override
+	public void glClearStencil (int s) {
+		calls++;
+	}
+
+	@Override
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		calls++;
+	}
+
+	@Override
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+		calls++;
+		textureUploads++;
+	}
+
+	@Override
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+		calls++;
+		textureUploads++;
+	}
+
+	@Override
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		calls++;
+	}
+
+	@Override
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		calls++;
+	}
+
+	@Override
+	public void glCullFace (int mode) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteTexture (int texture) {
+		calls++;
+	}
+
+	@Override
+	public void glDepthFunc (int func) {
+		calls++;
+	}
+
+	@Override
+	public void glDepthMask (boolean flag) {
+		calls++;
+	}
+
+	@Override
+	public void glDepthRangef (float zNear, float zFar) {
+		calls++;
+	}
+
+	@Override
+	public void glDisable (int cap) {
+		calls++;
+	}
+
+	@Override
+	public void glDrawArrays (int mode, int first, int count) {
+		calls++;
+		drawCalls++;
+		vertexCount += count;
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		calls++;
+		drawCalls++;
+		vertexCount += count;
+	}
+
+	@Override
+	public void glEnable (int cap) {
+		calls++;
+	}
+
+	@Override
+	public void glFinish () {
+		calls++;
+	}
+
+	@Override
+	public void glFlush () {
+		calls++;
+	}
+
+	@Override
+	public void glFrontFace (int mode) {
+		calls++;
+	}
+
+	@Override
+	public void glGenTextures (int n, IntBuffer textures) {
+		calls++;
+		genHandles(n, textures);
+	}
+
+	@Override
+	public int glGenTexture () {
+		calls++;
+		return ++lastHandle;
+	}
+
+	@Override
+	public int glGetError () {
+		calls++;
+		return GL_NO_ERROR;
+	}
+
+	@Override
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		calls++;
+		params.put(0, getInteger(pname));
+	}
+
+	@Override
+	public String glGetString (int name) {
+		calls++;
+		return name == GL_VERSION ? "2.0 headless mock" : "";
+	}
+
+	@Override
+	public void glHint (int target, int mode) {
+		calls++;
+	}
+
+	@Override
+	public void glLineWidth (float width) {
+		calls++;
+	}
+
+	@Override
+	public void glPixelStorei (int pname, int param) {
+		calls++;
+	}
+
+	@Override
+	public void glPolygonOffset (float factor, float units) {
+		calls++;
+	}
+
+	@Override
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		calls++;
+	}
+
+	@Override
+	public void glScissor (int x, int y, int width, int height) {
+		calls++;
+	}
+
+	@Override
+	public void glStencilFunc (int func, int ref, int mask) {
+		calls++;
+	}
+
+	@Override
+	public void glStencilMask (int mask) {
+		calls++;
+	}
+
+	@Override
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		calls++;
+	}
+
+	@Override
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+		calls++;
+		textureUploads++;
+	}
+
+	@Override
+	public void glTexParameterf (int target, int pname, float param) {
+		calls++;
+	}
+
+	@Override
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+		calls++;
+		textureUploads++;
+	}
+
+	@Override
+	public void glViewport (int x, int y, int width, int height) {
+		calls++;
+	}
+
+	@Override
+	public void glAttachShader (int program, int shader) {
+		calls++;
+		Program p = programs.get(program);
+		if (p != null) p.shaders.add(shader);
+	}
+
+	@Override
+	public void glBindAttribLocation (int program, int index, String name) {
+		calls++;
+	}
+
+	@Override
+	public void glBindBuffer (int target, int buffer) {
+		calls++;
+	}
+
+	@Override
+	public void glBindFramebuffer (int target, int framebuffer) {
+		calls++;
+	}
+
+	@Override
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		calls++;
+	}
+
+	@Override
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		calls++;
+	}
+
+	@Override
+	public void glBlendEquation (int mode) {
+		calls++;
+	}
+
+	@Override
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		calls++;
+	}
+
+	@Override
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		calls++;
+	}
+
+	@Override
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		calls++;
+		bufferUploads++;
+		bufferUploadBytes += size;
+	}
+
+	@Override
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		calls++;
+		bufferUploads++;
+		bufferUploadBytes += size;
+	}
+
+	@Override
+	public int glCheckFramebufferStatus (int target) {
+		calls++;
+		return GL_FRAMEBUFFER_COMPLETE;
+	}
+
+	@Override
+	public void glCompileShader (int shader) {
+		calls++;
+	}
+
+	@Override
+	public int glCreateProgram () {
+		calls++;
+		int program = ++lastHandle;
+		programs.put(program, new Program());
+		return program;
+	}
+
+	@Override
+	public int glCreateShader (int type) {
+		calls++;
+		int shader = ++lastHandle;
+		shaderSources.put(shader, "");
+		return shader;
+	}
+
+	@Override
+	public void glDeleteBuffer (int buffer) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteFramebuffer (int framebuffer) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteProgram (int program) {
+		calls++;
+		programs.remove(program);
+	}
+
+	@Override
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		calls++;
+	}
+
+	@Override
+	public void glDeleteShader (int shader) {
+		calls++;
+		shaderSources.remove(shader);
+	}
+
+	@Override
+	public void glDetachShader (int program, int shader) {
+		calls++;
+	}
+
+	@Override
+	public void glDisableVertexAttribArray (int index) {
+		calls++;
+	}
+
+	@Override
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		calls++;
+		drawCalls++;
+		vertexCount += count;
+	}
+
+	@Override
+	public void glEnableVertexAttribArray (int index) {
+		calls++;
+	}
+
+	@Override
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		calls++;
+	}
+
+	@Override
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		calls++;
+	}
+
+	@Override
+	public int glGenBuffer () {
+		calls++;
+		return ++lastHandle;
+	}
+
+	@Override
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		calls++;
+		genHandles(n, buffers);
+	}
+
+	@Override
+	public void glGenerateMipmap (int target) {
+		calls++;
+	}
+
+	@Override
+	public int glGenFramebuffer () {
+		calls++;
+		return ++lastHandle;
+	}
+
+	@Override
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		calls++;
+		genHandles(n, framebuffers);
+	}
+
+	@Override
+	public int glGenRenderbuffer () {
+		calls++;
+		return ++lastHandle;
+	}
+
+	@Override
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		calls++;
+		genHandles(n, renderbuffers);
+	}
+
+	@Override
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		calls++;
+		Program p = programs.get(program);
+		size.put(0, 1);
+		if (type instanceof IntBuffer) ((IntBuffer)type).put(0, p.attributeTypes.get(index));
+		return p.attributes.get(index);
+	}
+
+	@Override
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		calls++;
+		Program p = programs.get(program);
+		size.put(0, p.uniformSizes.get(index));
+		if (type instanceof IntBuffer) ((IntBuffer)type).put(0, p.uniformTypes.get(index));
+		String name = p.uniforms.get(index);
+		return p.uniformSizes.get(index) > 1 ? name + "[0]" : name;
+	}
+
+	@Override
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		calls++;
+	}
+
+	@Override
+	public int glGetAttribLocation (int program, String name) {
+		calls++;
+		Program p = programs.get(program);
+		return p == null ? -1 : p.attributes.indexOf(name, false);
+	}
+
+	@Override
+	public void glGetBooleanv (int pname, Buffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		calls++;
+		Program p = programs.get(program);
+		if (p == null)
+			params.put(0, 0);
+		else if (pname == GL_LINK_STATUS)
+			params.put(0, GL_TRUE);
+		else if (pname == GL_ACTIVE_ATTRIBUTES)
+			params.put(0, p.attributes.size);
+		else if (pname == GL_ACTIVE_UNIFORMS)
+			params.put(0, p.uniforms.size);
+		else
+			params.put(0, 0);
+	}
+
+	@Override
+	public String glGetProgramInfoLog (int program) {
+		calls++;
+		return "";
+	}
+
+	@Override
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		calls++;
+		params.put(0, pname == GL_COMPILE_STATUS ? GL_TRUE : 0);
+	}
+
+	@Override
+	public String glGetShaderInfoLog (int shader) {
+		calls++;
+		return "";
+	}
+
+	@Override
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		calls++;
+	}
+
+	@Override
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public int glGetUniformLocation (int program, String name) {
+		calls++;
+		Program p = programs.get(program);
+		return p == null ? -1 : p.uniformLocation(name);
+	}
+
+	@Override
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		calls++;
+	}
+
+	@Override
+	public boolean glIsBuffer (int buffer) {
+		calls++;
+		return true;
+	}
+
+	@Override
+	public boolean glIsEnabled (int cap) {
+		calls++;
+		return false;
+	}
+
+	@Override
+	public boolean glIsFramebuffer (int framebuffer) {
+		calls++;
+		return true;
+	}
+
+	@Override
+	public boolean glIsProgram (int program) {
+		calls++;
+		return true;
+	}
+
+	@Override
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		calls++;
+		return true;
+	}
+
+	@Override
+	public boolean glIsShader (int shader) {
+		calls++;
+		return true;
+	}
+
+	@Override
+	public boolean glIsTexture (int texture) {
+		calls++;
+		return true;
+	}
+
+	@Override
+	public void glLinkProgram (int program) {
+		calls++;
+		Program p = programs.get(program);
+		if (p != null) p.link(shaderSources);
+	}
+
+	@Override
+	public void glReleaseShaderCompiler () {
+		calls++;
+	}
+
+	@Override
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		calls++;
+	}
+
+	@Override
+	public void glSampleCoverage (float value, boolean invert) {
+		calls++;
+	}
+
+	@Override
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		calls++;
+	}
+
+	@Override
+	public void glShaderSource (int shader, String string) {
+		calls++;
+		shaderSources.put(shader, string);
+	}
+
+	@Override
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		calls++;
+	}
+
+	@Override
+	public void glStencilMaskSeparate (int face, int mask) {
+		calls++;
+	}
+
+	@Override
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		calls++;
+	}
+
+	@Override
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glTexParameteri (int target, int pname, int param) {
+		calls++;
+	}
+
+	@Override
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	@Override
+	public void glUniform1f (int location, float x) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform1i (int location, int x) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform2f (int location, float x, float y) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform2i (int location, int x, int y) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform3f (int location, float x, float y, float z) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform3i (int location, int x, int y, int z) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		calls++;
+		uniformCalls++;
+	}
+
+	@Override
+	public void glUseProgram (int program) {
+		calls++;
+		shaderSwitches++;
+	}
+
+	@Override
+	public void glValidateProgram (int program) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib1f (int indx, float x) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		calls++;
+	}
+
+	@Override
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		calls++;
+	}
+
+	/** The attributes and uniforms of a linked program, found by parsing the sources of its shaders. */
+	static class Program {
+		final IntArray shaders = new IntArray();
+		final Array<String> attributes = new Array(), uniforms = new Array();
+		final IntArray attributeTypes = new IntArray(), uniformTypes = new IntArray(), uniformSizes = new IntArray();
+
+		void link (IntMap<String> shaderSources) {
+			attributes.clear();
+			attributeTypes.clear();
+			uniforms.clear();
+			uniformTypes.clear();
+			uniformSizes.clear();
+			for (int i = 0; i < shaders.size; i++) {
+				String source = shaderSources.get(shaders.get(i));
+				if (source != null) parse(source);
+			}
+		}
+
+		private void parse (String source) {
+			ObjectMap<String, String> defines = new ObjectMap();
+			// Whether each enclosing conditional block is compiled, and whether its condition was evaluated.
+			Array<Boolean> active = new Array(), known = new Array();
+			boolean compiled = true;
+			for (String line : source.split("\n")) {
+				int comment = line.indexOf("//");
+				if (comment != -1) line = line.substring(0, comment);
+				line = line.trim();
+				if (line.startsWith("#")) {
+					String[] tokens = line.substring(1).trim().split("\\s+");
+					String directive = tokens[0], argument = tokens.length > 1 ? tokens[1] : "";
+					if (directive.equals("define")) {
+						if (compiled) defines.put(argument, tokens.length > 2 ? tokens[2] : "");
+					} else if (directive.equals("ifdef") || directive.equals("ifndef")) {
+						active.add(compiled);
+						known.add(true);
+						compiled &= defines.containsKey(argument) == directive.equals("ifdef");
+					} else if (directive.equals("if")) {
+						active.add(compiled);
+						known.add(false);
+					} else if (directive.equals("elif") && active.size > 0) {
+						compiled = active.peek();
+						known.set(known.size - 1, false);
+					} else if (directive.equals("else") && active.size > 0) {
+						if (known.peek()) compiled = active.peek() && !compiled;
+					} else if (directive.equals("endif") && active.size > 0) {
+						compiled = active.pop();
+						known.pop();
+					}
+					continue;
+				}
+				if (!compiled) continue;
+				Matcher matcher = declaration.matcher(line);
+				while (matcher.find()) {
+					String type = matcher.group(2), name = matcher.group(3);
+					if (matcher.group(1).equals("attribute")) {
+						if (attributes.contains(name, false)) continue;
+						attributes.add(name);
+						attributeTypes.add(getType(type));
+					} else {
+						if (uniforms.contains(name, false)) continue;
+						uniforms.add(name);
+						uniformTypes.add(getType(type));
+						uniformSizes.add(getSize(matcher.group(4), defines));
+					}
+				}
+			}
+		}
+
+		/** Array elements and struct fields, eg "u_lights[1].color", have the location of the uniform declaring them. */
+		int uniformLocation (String name) {
+			for (int i = 0, n = name.length(); i < n; i++) {
+				char c = name.charAt(i);
+				if (c == '[' || c == '.') {
+					name = name.substring(0, i);
+					break;
+				}
+			}
+			return uniforms.indexOf(name, false);
+		}
+
+		static private int getSize (String size, ObjectMap<String, String> defines) {
+			if (size == null) return 1;
+			if (defines.containsKey(size)) size = defines.get(size);
+			try {
+				return Integer.parseInt(size);
+			} catch (NumberFormatException ex) {
+				return 1;
+			}
+		}
+
+		static private int getType (String type) {
+			if (type.equals("float")) return GL_FLOAT;
+			if (type.equals("vec2")) return GL_FLOAT_VEC2;
+			if (type.equals("vec3")) return GL_FLOAT_VEC3;
+			if (type.equals("vec4")) return GL_FLOAT_VEC4;
+			if (type.equals("mat2")) return GL_FLOAT_MAT2;
+			if (type.equals("mat3")) return GL_FLOAT_MAT3;
+			if (type.equals("mat4")) return GL_FLOAT_MAT4;
+			if (type.equals("int")) return GL_INT;
+			if (type.equals("bool")) return GL_BOOL;
+			if (type.equals("sampler2D")) return GL_SAMPLER_2D;
+			if (type.equals("samplerCube")) return GL_SAMPLER_CUBE;
+			return 0;
+		}
+	}
+}
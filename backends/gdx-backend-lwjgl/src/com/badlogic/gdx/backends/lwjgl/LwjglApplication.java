@@ -34,6 +34,7 @@ import com.badlogic.gdx.backends.lwjgl.audio.OpenALAudio;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Clipboard;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.MpscQueue;
 import com.badlogic.gdx.utils.ObjectMap;
 
 /** An OpenGL surface fullscreen or in a lightweight window. */
@@ -46,8 +47,11 @@ public class LwjglApplication implements Application {
 	protected final ApplicationListener listener;
 	protected Thread mainLoopThread;
 	protected boolean running = true;
+	protected final MpscQueue<Runnable> runnableQueue = new MpscQueue<Runnable>(1024);
+	/** Runnables posted while {@link #runnableQueue} was full, access must be synchronized on the array. */
 	protected final Array<Runnable> runnables = new Array<Runnable>();
 	protected final Array<Runnable> executedRunnables = new Array<Runnable>();
+	private volatile boolean overflowing;
 	protected final Array<LifecycleListener> lifecycleListeners = new Array<LifecycleListener>();
 	protected int logLevel = LOG_INFO;
 	protected String preferencesdir;
@@ -236,12 +240,13 @@ public class LwjglApplication implements Application {
 	}
 
 	public boolean executeRunnables () {
+		runnableQueue.drainTo(executedRunnables);
 		synchronized (runnables) {
-			for (int i = runnables.size - 1; i >= 0; i--)
-				executedRunnables.addAll(runnables.get(i));
+			executedRunnables.addAll(runnables);
 			runnables.clear();
 		}
 		if (executedRunnables.size == 0) return false;
+		executedRunnables.reverse();
 		for (int i = executedRunnables.size - 1; i >= 0; i--)
 			executedRunnables.removeIndex(i).run();
 		return true;
@@ -325,9 +330,22 @@ public class LwjglApplication implements Application {
 
 	@Override
 	public void postRunnable (Runnable runnable) {
+		if (!overflow(runnable, false) && !runnableQueue.put(runnable)) overflow(runnable, true);
+		Gdx.graphics.requestRendering();
+	}
+
+	/** Adds the runnable to {@link #runnables} if force is true or the array is not empty. After a runnable overflows,
+	 * later runnables are added there too until the array is drained, so runnables are executed in the order they were posted. */
+	private boolean overflow (Runnable runnable, boolean force) {
+		if (!force && !overflowing) return false;
 		synchronized (runnables) {
-			runnables.add(runnable);
-			Gdx.graphics.requestRendering();
+			if (force || runnables.size > 0) {
+				runnables.add(runnable);
+				overflowing = true;
+				return true;
+			}
+			overflowing = false;
+			return false;
 		}
 	}
 
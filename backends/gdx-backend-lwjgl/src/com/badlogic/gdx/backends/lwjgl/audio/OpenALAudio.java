@@ -34,6 +34,7 @@ import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntMap;
 import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Trace;
 
 import static org.lwjgl.openal.AL10.*;
 
@@ -223,8 +224,13 @@ public class OpenALAudio implements Audio {
 
 	public void update () {
 		if (noDevice) return;
-		for (int i = 0; i < music.size; i++)
-			music.items[i].update();
+		Trace.begin("OpenALAudio.update");
+		try {
+			for (int i = 0; i < music.size; i++)
+				music.items[i].update();
+		} finally {
+			Trace.end();
+		}
 	}
 
 	public long getSoundId (int sourceId) {
@@ -28,6 +28,7 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 
 import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Gdx;
@@ -217,6 +218,13 @@ public class GwtFileHandle extends FileHandle {
 		return position - offset;
 	}
 
+	/** Returns a buffer with the entire contents of the file. Files can't be memory mapped in GWT, the contents are copied into
+	 * the buffer.
+	 * @throw GdxRuntimeException if the file handle represents a directory, doesn't exist, or could not be read. */
+	public ByteBuffer map () {
+		return ByteBuffer.wrap(readBytes());
+	}
+
 	/** Returns a stream for writing to this file. Parent directories will be created if necessary.
 	 * @param append If false, this file will be overwritten if it exists, otherwise it will be appended.
 	 * @throw GdxRuntimeException if this file handle represents a directory, if it is a {@link FileType#Classpath} or
@@ -96,7 +96,7 @@ public class GwtGL20 implements GL20 {
 
 	public Float32Array copy (FloatBuffer buffer) {
 		if (GWT.isProdMode()) {
-			return ((Float32Array)((HasArrayBufferView)buffer).getTypedArray()).subarray(buffer.position(), buffer.remaining());
+			return ((Float32Array)((HasArrayBufferView)buffer).getTypedArray()).subarray(buffer.position(), buffer.limit());
 		} else {
 			ensureCapacity(buffer);
 			for (int i = buffer.position(), j = 0; i < buffer.limit(); i++, j++) {
@@ -108,7 +108,7 @@ public class GwtGL20 implements GL20 {
 
 	public Int16Array copy (ShortBuffer buffer) {
 		if (GWT.isProdMode()) {
-			return ((Int16Array)((HasArrayBufferView)buffer).getTypedArray()).subarray(buffer.position(), buffer.remaining());
+			return ((Int16Array)((HasArrayBufferView)buffer).getTypedArray()).subarray(buffer.position(), buffer.limit());
 		} else {
 			ensureCapacity(buffer);
 			for (int i = buffer.position(), j = 0; i < buffer.limit(); i++, j++) {
@@ -120,7 +120,7 @@ public class GwtGL20 implements GL20 {
 
 	public Int32Array copy (IntBuffer buffer) {
 		if (GWT.isProdMode()) {
-			return ((Int32Array)((HasArrayBufferView)buffer).getTypedArray()).subarray(buffer.position(), buffer.remaining());
+			return ((Int32Array)((HasArrayBufferView)buffer).getTypedArray()).subarray(buffer.position(), buffer.limit());
 		} else {
 			ensureCapacity(buffer);
 			for (int i = buffer.position(), j = 0; i < buffer.limit(); i++, j++) {
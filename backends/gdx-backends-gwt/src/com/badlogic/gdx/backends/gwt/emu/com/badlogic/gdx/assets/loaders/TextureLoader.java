@@ -76,6 +76,34 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		return texture;
 	}
 
+	@Override
+	public long getMemorySize (String fileName, FileHandle fileHandle, Texture texture) {
+		TextureData data = texture.getTextureData();
+		return getMemorySize(texture.getWidth(), texture.getHeight(), data.getFormat(), data.useMipMaps());
+	}
+
+	static public long getMemorySize (int width, int height, Format format, boolean useMipMaps) {
+		int bytesPerPixel;
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			bytesPerPixel = 1;
+			break;
+		case LuminanceAlpha:
+		case RGB565:
+		case RGBA4444:
+			bytesPerPixel = 2;
+			break;
+		case RGB888:
+			bytesPerPixel = 3;
+			break;
+		default:
+			bytesPerPixel = 4;
+		}
+		long size = (long)width * height * bytesPerPixel;
+		return useMipMaps ? size + size / 3 : size;
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle fileHandle, TextureParameter parameter) {
 		return null;
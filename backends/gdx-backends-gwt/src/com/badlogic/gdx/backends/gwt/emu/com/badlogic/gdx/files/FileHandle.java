@@ -24,6 +24,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 
 import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -117,6 +118,13 @@ public class FileHandle {
 		throw new GdxRuntimeException("Stub");
 	}
 
+	/** Returns a buffer with the entire contents of the file. Files can't be memory mapped in GWT, the contents are copied into
+	 * the buffer.
+	 * @throw GdxRuntimeException if the file handle represents a directory, doesn't exist, or could not be read. */
+	public ByteBuffer map () {
+		throw new GdxRuntimeException("Stub");
+	}
+
 	/** Returns a stream for writing to this file. Parent directories will be created if necessary.
 	 * @param append If false, this file will be overwritten if it exists, otherwise it will be appended.
 	 * @throw GdxRuntimeException if this file handle represents a directory, if it is a {@link FileType#Classpath} or
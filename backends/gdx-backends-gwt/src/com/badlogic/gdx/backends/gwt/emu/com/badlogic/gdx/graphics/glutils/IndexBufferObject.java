@@ -21,6 +21,7 @@ import java.nio.ShortBuffer;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectShortArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** <p>
@@ -120,6 +121,10 @@ public class IndexBufferObject implements IndexData {
 		}
 	}
 
+	public void setIndices (DirectShortArray indices) {
+		setIndices(indices.getBuffer());
+	}
+
 
 	/** <p>
 	 * Returns the underlying ShortBuffer. If you modify the buffer contents they wil be uploaded on the call to {@link #bind()}.
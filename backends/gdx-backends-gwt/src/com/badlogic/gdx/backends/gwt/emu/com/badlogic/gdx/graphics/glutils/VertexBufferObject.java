@@ -24,6 +24,7 @@ import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectFloatArray;
 
 /** <p>
  * A {@link VertexData} implementation based on OpenGL vertex buffer objects.
@@ -117,6 +118,15 @@ public class VertexBufferObject implements VertexData {
 		buffer.limit(count);
 		bufferChanged();
 	}
+
+	@Override
+	public void setVertices (DirectFloatArray vertices) {
+		isDirty = true;
+		buffer.clear();
+		buffer.put(vertices.getBuffer());
+		buffer.flip();
+		bufferChanged();
+	}
 	
 	@Override
 	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
@@ -530,4 +530,12 @@ public final class BufferUtils {
 		// FIXME ouch :p
 		return LongBuffer.wrap(new long[numLongs]);
 	}
+
+	/** There is no native heap, the buffer is allocated like {@link #newByteBuffer(int)} and reclaimed by the garbage collector. */
+	public static ByteBuffer newUnsafeByteBuffer (int numBytes) {
+		return newByteBuffer(numBytes);
+	}
+
+	public static void disposeUnsafeByteBuffer (ByteBuffer buffer) {
+	}
 }
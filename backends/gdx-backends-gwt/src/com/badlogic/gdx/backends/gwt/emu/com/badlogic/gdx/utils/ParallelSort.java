@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Comparator;
+
+/** Emulation of ParallelSort, there are no threads in GWT so everything is sorted with TimSort on the calling thread. */
+class ParallelSort {
+	private final TimSort timSort = new TimSort();
+
+	public void doSort (Object[] a, Comparator c, int lo, int hi) {
+		timSort.doSort(a, c, lo, hi);
+	}
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.Writer;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/** Emulation of Trace, there are no threads to trace in GWT so nothing is recorded. */
+public class Trace {
+	static public boolean enabled;
+
+	static public void enable () {
+	}
+
+	static public void enable (int eventsPerThread) {
+	}
+
+	static public void disable () {
+	}
+
+	static public void begin (String name) {
+	}
+
+	static public void end () {
+	}
+
+	static public void instant (String name) {
+	}
+
+	static public void clear () {
+	}
+
+	static public void write (FileHandle file) {
+		throw new GdxRuntimeException("Tracing is not supported in GWT.");
+	}
+
+	static public void write (Writer writer) {
+		throw new GdxRuntimeException("Tracing is not supported in GWT.");
+	}
+}
@@ -19,9 +19,19 @@ package java.lang;
 import com.google.gwt.core.client.GWT;
 
 public class Thread {
+	private static final Thread currentThread = new Thread();
+
 	public static void sleep (long millis) throws InterruptedException {
 		// noop emu
 	}
+
+	public static Thread currentThread () {
+		return currentThread;
+	}
+
+	public boolean isAlive () {
+		return true;
+	}
 	
 	public static void setDefaultUncaughtExceptionHandler(final Thread.UncaughtExceptionHandler javaHandler) {
 		GWT.setUncaughtExceptionHandler(new GWT.UncaughtExceptionHandler() {
@@ -47,6 +47,7 @@ import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.SharedLibraryLoader;
+import com.badlogic.gdx.utils.Trace;
 
 /** The world class manages all physics entities, dynamic simulation, and asynchronous queries. The world also contains efficient
  * memory management facilities.
@@ -683,7 +684,12 @@ b2ContactFilter defaultFilter;
 	 * @param velocityIterations for the velocity constraint solver.
 	 * @param positionIterations for the position constraint solver. */
 	public void step (float timeStep, int velocityIterations, int positionIterations) {
-		jniStep(addr, timeStep, velocityIterations, positionIterations);
+		Trace.begin("World.step");
+		try {
+			jniStep(addr, timeStep, velocityIterations, positionIterations);
+		} finally {
+			Trace.end();
+		}
 	}
 
 	private native void jniStep (long addr, float timeStep, int velocityIterations, int positionIterations); /*
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.json;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.Json.Serializer;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Generates the source of {@link Serializer} implementations that read and write the fields of a class directly instead of
+ * through reflection. Primitive fields are written without boxing and read with the typed {@code JsonValue} accessors.
+ * <p>
+ * The generated serializers produce and accept the same JSON as the reflection based serialization of {@link Json}: the same
+ * fields are written in the same order, fields equal to a new instance are skipped when {@link Json#getUsePrototypes()} is true,
+ * and unknown fields obey {@link Json#getIgnoreUnknownFields()}. Fields the generated code cannot access, such as private fields,
+ * or final fields when reading, still go through reflection. Element types set with
+ * {@link Json#setElementType(Class, String, Class)} are not seen, only those from generic type parameters.
+ * <p>
+ * The output is plain Java source placed in the package of the class, so it works on all backends. Register each serializer with
+ * {@link Json#setSerializer(Class, Serializer)} and regenerate it when the class changes.
+ * <p>
+ * Usage: {@code JsonSerializerGenerator outputDir className [className ...]} */
+public class JsonSerializerGenerator {
+	/** Simple names used by generated code, which imports must not hide. */
+	static private final String[] reservedNames = {"Arrays", "IOException", "Json", "JsonValue", "JsonWriter",
+		"SerializationException", "Class", "Double", "Float", "Object", "String"};
+
+	private final HashMap<String, String> importedNames = new HashMap();
+	private final TreeSet<String> imports = new TreeSet();
+
+	/** Returns the simple name of the serializer generated for the class, eg "PlayerJsonSerializer" or "OuterInnerJsonSerializer"
+	 * for a nested class. */
+	static public String getSerializerName (Class type) {
+		String name = type.getSimpleName();
+		for (Class enclosing = type.getEnclosingClass(); enclosing != null; enclosing = enclosing.getEnclosingClass())
+			name = enclosing.getSimpleName() + name;
+		return name + "JsonSerializer";
+	}
+
+	/** Writes the serializer source for the class to its package directory under the output directory.
+	 * @return The file written. */
+	public File generate (Class type, File outputDir) throws IOException {
+		String packageName = getPackageName(type);
+		File dir = packageName.length() == 0 ? outputDir : new File(outputDir, packageName.replace('.', '/'));
+		dir.mkdirs();
+		File file = new File(dir, getSerializerName(type) + ".java");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(generate(type));
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	/** Returns the serializer source for the class.
+	 * @throws IllegalArgumentException if the class can't be serialized by a generated serializer. */
+	public String generate (Class type) {
+		String packageName = getPackageName(type);
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray() || type.isPrimitive() || type.isEnum())
+			throw new IllegalArgumentException("Class must be a concrete class: " + type.getName());
+		if (Json.Serializable.class.isAssignableFrom(type))
+			throw new IllegalArgumentException("Class implements Json.Serializable: " + type.getName());
+		if (!isAccessible(type, packageName))
+			throw new IllegalArgumentException("Class is not accessible from its package: " + type.getName());
+		if (type.getEnclosingClass() != null && !Modifier.isStatic(type.getModifiers()))
+			throw new IllegalArgumentException("Nested class must be static: " + type.getName());
+		try {
+			Constructor constructor = type.getDeclaredConstructor();
+			if (Modifier.isPrivate(constructor.getModifiers()))
+				throw new IllegalArgumentException("Class has a private no-arg constructor: " + type.getName());
+		} catch (NoSuchMethodException ex) {
+			throw new IllegalArgumentException("Class has no no-arg constructor: " + type.getName());
+		}
+
+		importedNames.clear();
+		imports.clear();
+		for (String name : reservedNames)
+			importedNames.put(name, "");
+		String typeName = getTypeName(type, packageName);
+		String serializerName = getSerializerName(type);
+		importedNames.put(serializerName, "");
+		ArrayList<Field> fields = getFields(type);
+
+		boolean directWrites = false, primitiveWrites = false, objectWrites = false;
+		for (Field field : fields) {
+			if (!canWrite(field, packageName)) continue;
+			directWrites = true;
+			if (field.getType().isPrimitive())
+				primitiveWrites = true;
+			else
+				objectWrites = true;
+		}
+
+		StringBuilder buffer = new StringBuilder(2048);
+		buffer.append("/** Reads and writes {@link ").append(typeName).append("} without reflection.\n");
+		buffer.append(" * Generated by ").append(getClass().getSimpleName()).append(", regenerate it when the class changes. */\n");
+		buffer.append("public class ").append(serializerName).append(" implements Json.Serializer<").append(typeName).append("> {\n");
+		if (directWrites) buffer.append("\tprivate final ").append(typeName).append(" defaults = new ").append(typeName).append("();\n\n");
+
+		// write
+		buffer.append("\tpublic void write (Json json, ").append(typeName).append(" object, Class knownType) {\n");
+		buffer.append("\t\tjson.writeObjectStart(").append(typeName).append(".class, knownType);\n");
+		if (directWrites) buffer.append("\t\tboolean usePrototypes = json.getUsePrototypes();\n");
+		String indent = "\t\t";
+		if (primitiveWrites) {
+			buffer.append("\t\tJsonWriter writer = json.getWriter();\n");
+			buffer.append("\t\ttry {\n");
+			indent = "\t\t\t";
+		}
+		for (Field field : fields) {
+			String name = field.getName();
+			Class fieldType = field.getType();
+			if (!canWrite(field, packageName)) {
+				buffer.append(indent).append("json.writeField(object, \"").append(name).append("\");\n");
+			} else if (fieldType.isPrimitive()) {
+				buffer.append(indent).append("if (!usePrototypes || ").append(notEqual(fieldType, "object." + name, "defaults." + name))
+					.append(")\n");
+				buffer.append(indent).append("\twriter.name(\"").append(name).append("\").value(object.").append(name).append(");\n");
+			} else {
+				buffer.append(indent).append("if (!usePrototypes || !equal(object.").append(name).append(", defaults.").append(name)
+					.append("))\n");
+				buffer.append(indent).append("\tjson.writeValue(\"").append(name).append("\", object.").append(name).append(", ")
+					.append(getTypeName(fieldType, packageName)).append(".class, ").append(getElementTypeLiteral(field, packageName))
+					.append(");\n");
+			}
+		}
+		if (primitiveWrites) {
+			buffer.append("\t\t} catch (IOException ex) {\n");
+			buffer.append("\t\t\tthrow new SerializationException(ex);\n");
+			buffer.append("\t\t}\n");
+		}
+		buffer.append("\t\tjson.writeObjectEnd();\n");
+		buffer.append("\t}\n\n");
+
+		// read
+		buffer.append("\tpublic ").append(typeName).append(" read (Json json, JsonValue jsonData, Class type) {\n");
+		buffer.append("\t\t").append(typeName).append(" object = new ").append(typeName).append("();\n");
+		buffer.append("\t\tfor (JsonValue child = jsonData.child; child != null; child = child.next) {\n");
+		buffer.append("\t\t\tString name = child.name();\n");
+		String keyword = "if";
+		for (Field field : fields) {
+			String name = field.getName();
+			Class fieldType = field.getType();
+			buffer.append("\t\t\t").append(keyword).append(" (name.equals(\"").append(name).append("\"))\n");
+			keyword = "else if";
+			if (!canRead(field, packageName))
+				buffer.append("\t\t\t\tjson.readField(object, \"").append(name).append("\", jsonData);\n");
+			else if (fieldType.isPrimitive()) {
+				String accessor = fieldType.getName();
+				accessor = "as" + Character.toUpperCase(accessor.charAt(0)) + accessor.substring(1);
+				buffer.append("\t\t\t\tobject.").append(name).append(" = child.").append(accessor).append("();\n");
+			} else {
+				buffer.append("\t\t\t\tobject.").append(name).append(" = json.readValue(").append(getTypeName(fieldType, packageName))
+					.append(".class, ").append(getElementTypeLiteral(field, packageName)).append(", child);\n");
+			}
+		}
+		buffer.append("\t\t\t").append(fields.isEmpty() ? "if" : "else if").append(" (!json.getIgnoreUnknownFields())\n");
+		buffer.append("\t\t\t\tthrow new SerializationException(\"Field not found: \" + name + \" (").append(type.getName())
+			.append(")\");\n");
+		buffer.append("\t\t}\n");
+		buffer.append("\t\treturn object;\n");
+		buffer.append("\t}\n");
+
+		if (objectWrites) {
+			buffer.append("\n\tstatic private boolean equal (Object value, Object defaultValue) {\n");
+			buffer.append("\t\tif (value == null || defaultValue == null) return value == defaultValue;\n");
+			buffer.append("\t\tif (value.equals(defaultValue)) return true;\n");
+			buffer.append("\t\treturn value.getClass().isArray() && defaultValue.getClass().isArray()\n");
+			buffer.append("\t\t\t&& Arrays.deepEquals(new Object[] {value}, new Object[] {defaultValue});\n");
+			buffer.append("\t}\n");
+		}
+		buffer.append("}\n");
+
+		imports.add("com.badlogic.gdx.utils.Json");
+		imports.add("com.badlogic.gdx.utils.JsonValue");
+		imports.add("com.badlogic.gdx.utils.SerializationException");
+		if (primitiveWrites) {
+			imports.add("java.io.IOException");
+			imports.add("com.badlogic.gdx.utils.JsonWriter");
+		}
+		if (objectWrites) imports.add("java.util.Arrays");
+		StringBuilder header = new StringBuilder(512);
+		if (packageName.length() > 0) header.append("package ").append(packageName).append(";\n\n");
+		boolean javaImports = false;
+		for (String name : imports) {
+			if (!name.startsWith("java.")) continue;
+			header.append("import ").append(name).append(";\n");
+			javaImports = true;
+		}
+		if (javaImports) header.append("\n");
+		for (String name : imports)
+			if (!name.startsWith("java.")) header.append("import ").append(name).append(";\n");
+		header.append("\n");
+		return header.append(buffer).toString();
+	}
+
+	/** Returns the fields serialized by {@link Json}, in the same order. */
+	private ArrayList<Field> getFields (Class type) {
+		ArrayList<Class> classHierarchy = new ArrayList();
+		for (Class nextClass = type; nextClass != Object.class; nextClass = nextClass.getSuperclass())
+			classHierarchy.add(nextClass);
+		Collections.reverse(classHierarchy);
+
+		ArrayList<Field> fields = new ArrayList();
+		for (Class c : classHierarchy) {
+			for (Field field : c.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isTransient(modifiers) || Modifier.isStatic(modifiers) || field.isSynthetic()) continue;
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	private boolean canWrite (Field field, String packageName) {
+		int modifiers = field.getModifiers();
+		if (Modifier.isPrivate(modifiers)) return false;
+		if (!Modifier.isPublic(modifiers) && !getPackageName(field.getDeclaringClass()).equals(packageName)) return false;
+		if (!isAccessible(field.getType(), packageName)) return false;
+		Class elementType = getElementType(field);
+		return elementType == null || isAccessible(elementType, packageName);
+	}
+
+	private boolean canRead (Field field, String packageName) {
+		return canWrite(field, packageName) && !Modifier.isFinal(field.getModifiers());
+	}
+
+	private String notEqual (Class type, String value, String defaultValue) {
+		// Compares the same way as the boxed equals used by Json#writeFields.
+		if (type == float.class) return "Float.floatToIntBits(" + value + ") != Float.floatToIntBits(" + defaultValue + ")";
+		if (type == double.class) return "Double.doubleToLongBits(" + value + ") != Double.doubleToLongBits(" + defaultValue + ")";
+		return value + " != " + defaultValue;
+	}
+
+	/** Same as {@link com.badlogic.gdx.utils.reflect.Field#getElementType(int)} with the index Json uses. */
+	private Class getElementType (Field field) {
+		Class type = field.getType();
+		int index = ObjectMap.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) ? 1 : 0;
+		Type genericType = field.getGenericType();
+		if (!(genericType instanceof ParameterizedType)) return null;
+		Type[] actualTypes = ((ParameterizedType)genericType).getActualTypeArguments();
+		if (actualTypes.length - 1 < index) return null;
+		Type actualType = actualTypes[index];
+		if (actualType instanceof Class) return (Class)actualType;
+		if (actualType instanceof ParameterizedType) return (Class)((ParameterizedType)actualType).getRawType();
+		if (actualType instanceof GenericArrayType) {
+			Type componentType = ((GenericArrayType)actualType).getGenericComponentType();
+			if (componentType instanceof Class) return java.lang.reflect.Array.newInstance((Class)componentType, 0).getClass();
+		}
+		return null;
+	}
+
+	private String getElementTypeLiteral (Field field, String packageName) {
+		Class elementType = getElementType(field);
+		return elementType == null ? "null" : getTypeName(elementType, packageName) + ".class";
+	}
+
+	/** Returns true if generated code in the package can name the type. */
+	private boolean isAccessible (Class type, String packageName) {
+		while (type.isArray())
+			type = type.getComponentType();
+		if (type.isPrimitive()) return true;
+		for (Class c = type; c != null; c = c.getEnclosingClass()) {
+			int modifiers = c.getModifiers();
+			if (Modifier.isPrivate(modifiers)) return false;
+			if (!Modifier.isPublic(modifiers) && !getPackageName(c).equals(packageName)) return false;
+		}
+		return type.getCanonicalName() != null;
+	}
+
+	/** Returns the name generated code uses for the type, adding an import for it if possible. */
+	private String getTypeName (Class type, String packageName) {
+		String name = type.getCanonicalName();
+		Class componentType = type;
+		while (componentType.isArray())
+			componentType = componentType.getComponentType();
+		if (componentType.isPrimitive()) return name;
+		String typePackage = getPackageName(componentType);
+		if (typePackage.length() == 0) return name;
+		if (typePackage.equals(packageName) || typePackage.equals("java.lang")) return name.substring(typePackage.length() + 1);
+		Class topLevel = componentType;
+		while (topLevel.getEnclosingClass() != null)
+			topLevel = topLevel.getEnclosingClass();
+		String simpleName = topLevel.getSimpleName();
+		String importedName = importedNames.get(simpleName);
+		if (importedName == null) {
+			importedNames.put(simpleName, topLevel.getName());
+			imports.add(topLevel.getName());
+		} else if (!importedName.equals(topLevel.getName())) {
+			return name;
+		}
+		return name.substring(typePackage.length() + 1);
+	}
+
+	static private String getPackageName (Class type) {
+		String name = type.getName();
+		int index = name.lastIndexOf('.');
+		return index == -1 ? "" : name.substring(0, index);
+	}
+
+	public static void main (String[] args) throws Exception {
+		if (args.length < 2) {
+			System.out.println("Usage: JsonSerializerGenerator outputDir className [className ...]");
+			System.exit(0);
+		}
+		File outputDir = new File(args[0]);
+		JsonSerializerGenerator generator = new JsonSerializerGenerator();
+		for (int i = 1; i < args.length; i++)
+			System.out.println(generator.generate(Class.forName(args[i]), outputDir));
+	}
+}
@@ -64,6 +64,18 @@ public class ImageProcessor {
 
 	/** The image won't be kept in-memory during packing if {@link Settings#limitMemory} is true. */
 	public void addImage (File file) {
+		addImage(prepareImage(file));
+	}
+
+	/** The image will be kept in-memory during packing.
+	 * @see #addImage(File) */
+	public Rect addImage (BufferedImage image, String name) {
+		return addImage(prepareImage(image, name));
+	}
+
+	/** Reads, processes and hashes the image without adding it. This is thread safe as long as the scale is not changed, so
+	 * images can be prepared in parallel and then added in order with {@link #addImage(PreparedImage)}. */
+	PreparedImage prepareImage (File file) {
 		BufferedImage image;
 		try {
 			image = ImageIO.read(file);
@@ -84,29 +96,37 @@ public class ImageProcessor {
 		int dotIndex = name.lastIndexOf('.');
 		if (dotIndex != -1) name = name.substring(0, dotIndex);
 
-		Rect rect = addImage(image, name);
-		if (rect != null && settings.limitMemory) rect.unloadImage(file);
+		PreparedImage prepared = prepareImage(image, name);
+		if (prepared.rect != null && settings.limitMemory) prepared.rect.unloadImage(file);
+		return prepared;
 	}
 
-	/** The image will be kept in-memory during packing.
-	 * @see #addImage(File) */
-	public Rect addImage (BufferedImage image, String name) {
-		Rect rect = processImage(image, name);
+	/** @see #prepareImage(File) */
+	PreparedImage prepareImage (BufferedImage image, String name) {
+		PreparedImage prepared = new PreparedImage();
+		prepared.name = name;
+		prepared.rect = processImage(image, name);
+		if (prepared.rect != null && settings.alias) prepared.hash = hash(prepared.rect.getImage(this));
+		return prepared;
+	}
 
+	/** Adds an image returned by {@link #prepareImage(File)}. Images must be added in input order so the same aliases are found
+	 * regardless of how the images were prepared. */
+	Rect addImage (PreparedImage prepared) {
+		Rect rect = prepared.rect;
 		if (rect == null) {
-			if(!settings.silent) System.out.println("Ignoring blank input image: " + name);
+			if (!settings.silent) System.out.println("Ignoring blank input image: " + prepared.name);
 			return null;
 		}
 
 		if (settings.alias) {
-			String crc = hash(rect.getImage(this));
-			Rect existing = crcs.get(crc);
+			Rect existing = crcs.get(prepared.hash);
 			if (existing != null) {
 				if (!settings.silent) System.out.println(rect.name + " (alias of " + existing.name + ")");
 				existing.aliases.add(new Alias(rect));
 				return null;
 			}
-			crcs.put(crc, rect);
+			crcs.put(prepared.hash, rect);
 		}
 
 		rects.add(rect);
@@ -444,4 +464,11 @@ public class ImageProcessor {
 		digest.update((byte)(value >> 8));
 		digest.update((byte)value);
 	}
+
+	/** An image that has been processed and hashed but not yet added. */
+	static class PreparedImage {
+		String name;
+		Rect rect;
+		String hash;
+	}
 }
@@ -25,6 +25,10 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Sort;
 
 import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /** Packs pages of images using the maximal rectangles bin packing algorithm by Jukka Jylänki. A brute force binary search is used
  * to pack into the smallest bin possible.
@@ -33,6 +37,7 @@ public class MaxRectsPacker implements Packer {
 	private RectComparator rectComparator = new RectComparator();
 	private FreeRectChoiceHeuristic[] methods = FreeRectChoiceHeuristic.values();
 	private MaxRects maxRects = new MaxRects();
+	private ExecutorService executor;
 	Settings settings;
 	private Sort sort = new Sort();
 
@@ -70,13 +75,21 @@ public class MaxRectsPacker implements Packer {
 			}
 		}
 
-		Array<Page> pages = new Array();
-		while (inputRects.size > 0) {
-			Page result = packPage(inputRects);
-			pages.add(result);
-			inputRects = result.remainingRects;
+		if (settings.threads > 1) executor = Executors.newFixedThreadPool(Math.min(settings.threads, methods.length));
+		try {
+			Array<Page> pages = new Array();
+			while (inputRects.size > 0) {
+				Page result = packPage(inputRects);
+				pages.add(result);
+				inputRects = result.remainingRects;
+			}
+			return pages;
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+				executor = null;
+			}
 		}
-		return pages;
 	}
 
 	private Page packPage (Array<Rect> inputRects) {
@@ -171,25 +184,30 @@ public class MaxRectsPacker implements Packer {
 
 	/** @param fully If true, the only results that pack all rects will be considered. If false, all results are considered, not all
 	 *           rects may be packed. */
-	private Page packAtSize (boolean fully, int width, int height, Array<Rect> inputRects) {
-		Page bestResult = null;
-		for (int i = 0, n = methods.length; i < n; i++) {
-			maxRects.init(width, height);
-			Page result;
-			if (!settings.fast) {
-				result = maxRects.pack(inputRects, methods[i]);
-			} else {
-				Array<Rect> remaining = new Array();
-				for (int ii = 0, nn = inputRects.size; ii < nn; ii++) {
-					Rect rect = inputRects.get(ii);
-					if (maxRects.insert(rect, methods[i]) == null) {
-						while (ii < nn)
-							remaining.add(inputRects.get(ii++));
+	private Page packAtSize (boolean fully, final int width, final int height, final Array<Rect> inputRects) {
+		Page[] results = new Page[methods.length];
+		if (executor == null) {
+			for (int i = 0, n = methods.length; i < n; i++)
+				results[i] = packAtSize(maxRects, methods[i], width, height, inputRects);
+		} else {
+			// Try each heuristic on its own thread.
+			Array<Future<Page>> futures = new Array(methods.length);
+			for (int i = 0, n = methods.length; i < n; i++) {
+				final FreeRectChoiceHeuristic method = methods[i];
+				futures.add(executor.submit(new Callable<Page>() {
+					public Page call () {
+						return packAtSize(new MaxRects(), method, width, height, inputRects);
 					}
-				}
-				result = maxRects.getResult();
-				result.remainingRects = remaining;
+				}));
 			}
+			for (int i = 0, n = methods.length; i < n; i++)
+				results[i] = TexturePacker.getResult(futures.get(i));
+		}
+
+		// Compare in heuristic order so ties resolve the same way regardless of threading.
+		Page bestResult = null;
+		for (int i = 0, n = results.length; i < n; i++) {
+			Page result = results[i];
 			if (fully && result.remainingRects.size > 0) continue;
 			if (result.outputRects.size == 0) continue;
 			bestResult = getBest(bestResult, result);
@@ -197,6 +215,22 @@ public class MaxRectsPacker implements Packer {
 		return bestResult;
 	}
 
+	private Page packAtSize (MaxRects maxRects, FreeRectChoiceHeuristic method, int width, int height, Array<Rect> inputRects) {
+		maxRects.init(width, height);
+		if (!settings.fast) return maxRects.pack(inputRects, method);
+		Array<Rect> remaining = new Array();
+		for (int i = 0, n = inputRects.size; i < n; i++) {
+			Rect rect = inputRects.get(i);
+			if (maxRects.insert(rect, method) == null) {
+				while (i < n)
+					remaining.add(inputRects.get(i++));
+			}
+		}
+		Page result = maxRects.getResult();
+		result.remainingRects = remaining;
+		return result;
+	}
+
 	private Page getBest (Page result1, Page result2) {
 		if (result1 == null) return result2;
 		if (result2 == null) return result1;
@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tools.texturepacker.ImageProcessor.PreparedImage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
@@ -36,6 +37,11 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -94,11 +100,15 @@ public class TexturePacker {
 
 		for (int i = 0, n = settings.scale.length; i < n; i++) {
 			imageProcessor.setScale(settings.scale[i]);
-			for (InputImage inputImage : inputImages) {
-				if (inputImage.file != null)
-					imageProcessor.addImage(inputImage.file);
-				else
-					imageProcessor.addImage(inputImage.image, inputImage.name);
+			if (settings.threads > 1 && inputImages.size > 1)
+				addImages(settings.threads);
+			else {
+				for (InputImage inputImage : inputImages) {
+					if (inputImage.file != null)
+						imageProcessor.addImage(inputImage.file);
+					else
+						imageProcessor.addImage(inputImage.image, inputImage.name);
+				}
 			}
 
 			Array<Page> pages = packer.pack(imageProcessor.getImages());
@@ -114,6 +124,43 @@ public class TexturePacker {
 		}
 	}
 
+	/** Reads, processes and hashes the input images on multiple threads, then adds them in input order so the output is the same
+	 * as when using a single thread. */
+	private void addImages (int threads) {
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, inputImages.size));
+		try {
+			Array<Future<PreparedImage>> futures = new Array(inputImages.size);
+			for (final InputImage inputImage : inputImages) {
+				futures.add(executor.submit(new Callable<PreparedImage>() {
+					public PreparedImage call () {
+						if (inputImage.file != null) return imageProcessor.prepareImage(inputImage.file);
+						return imageProcessor.prepareImage(inputImage.image, inputImage.name);
+					}
+				}));
+			}
+			for (int i = 0, n = futures.size; i < n; i++) {
+				imageProcessor.addImage(getResult(futures.get(i)));
+				futures.set(i, null);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/** Returns the result of a task, rethrowing any exception it threw. */
+	static <T> T getResult (Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException)cause;
+			if (cause instanceof Error) throw (Error)cause;
+			throw new RuntimeException(cause);
+		} catch (InterruptedException ex) {
+			throw new RuntimeException("Interrupted while packing.", ex);
+		}
+	}
+
 	private void writeImages (File outputDir, String scaledPackFileName, Array<Page> pages) {
 		File packFileNoExt = new File(outputDir, scaledPackFileName);
 		File packDir = packFileNoExt.getParentFile();
@@ -540,6 +587,12 @@ public class TexturePacker {
 		public float[] scale = {1};
 		public String[] scaleSuffix = {""};
 		public String atlasExtension = ".atlas";
+		/** The number of threads used to read and process images and to try packing heuristics. The output is the same for any
+		 * number of threads. */
+		public int threads = 1;
+		/** If true, a hash of the input images and settings is stored with the output and packing is skipped when they have not
+		 * changed since the last run. */
+		public boolean incremental;
 
 		public Settings () {
 		}
@@ -581,6 +634,8 @@ public class TexturePacker {
 			scale = settings.scale;
 			scaleSuffix = settings.scaleSuffix;
 			atlasExtension = settings.atlasExtension;
+			threads = settings.threads;
+			incremental = settings.incremental;
 		}
 
 		public String getScaledPackFileName (String packFileName, int scaleIndex) {
@@ -24,8 +24,15 @@ import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -106,16 +113,30 @@ public class TexturePackerFileProcessor extends FileProcessor {
 	}
 
 	public ArrayList<Entry> process (File[] files, File outputRoot) throws Exception {
-		// Delete pack file and images.
-		if (outputRoot.exists()) {
-			// Load root settings to get scale.
-			File settingsFile = new File(root, "pack.json");
-			Settings rootSettings = defaultSettings;
-			if (settingsFile.exists()) {
-				rootSettings = new Settings(rootSettings);
-				merge(rootSettings, settingsFile);
+		// Load root settings to get scale.
+		File settingsFile = new File(root, "pack.json");
+		Settings rootSettings = defaultSettings;
+		if (settingsFile.exists()) {
+			rootSettings = new Settings(rootSettings);
+			merge(rootSettings, settingsFile);
+		}
+
+		// Skip packing if the input hasn't changed since the last run.
+		String hash = null;
+		File hashFile = null;
+		if (rootSettings.incremental) {
+			hash = hash(files);
+			hashFile = new File(outputRoot, packFileName + ".hash");
+			File packFile = new File(outputRoot, rootSettings.getScaledPackFileName(packFileName, 0) + rootSettings.atlasExtension);
+			if (packFile.exists() && hashFile.exists() && hash.equals(readHash(hashFile))) {
+				if (!rootSettings.silent) System.out.println("Skipping unchanged input: " + root);
+				return new ArrayList();
 			}
+			hashFile.delete();
+		}
 
+		// Delete pack file and images.
+		if (outputRoot.exists()) {
 			for (int i = 0, n = rootSettings.scale.length; i < n; i++) {
 				FileProcessor deleteProcessor = new FileProcessor() {
 					protected void processFile (Entry inputFile) throws Exception {
@@ -140,7 +161,67 @@ public class TexturePackerFileProcessor extends FileProcessor {
 					deleteProcessor.process(outputRoot + "/" + dir, null);
 			}
 		}
-		return super.process(files, outputRoot);
+		ArrayList<Entry> entries = super.process(files, outputRoot);
+
+		if (hashFile != null) {
+			File hashDir = hashFile.getParentFile();
+			if (hashDir != null) hashDir.mkdirs();
+			FileWriter writer = new FileWriter(hashFile);
+			try {
+				writer.write(hash);
+			} finally {
+				writer.close();
+			}
+		}
+		return entries;
+	}
+
+	/** Returns a hash of the contents and paths of the images and settings files, and of the default settings. */
+	private String hash (File[] files) throws Exception {
+		final ArrayList<File> inputFiles = new ArrayList();
+		FileProcessor inputProcessor = new FileProcessor(this) {
+			protected void processFile (Entry inputFile) {
+				inputFiles.add(inputFile.inputFile);
+			}
+		};
+		inputProcessor.addInputRegex("pack\\.json");
+		inputProcessor.process(files, null);
+		Collections.sort(inputFiles);
+
+		MessageDigest digest = MessageDigest.getInstance("SHA1");
+		digest.update(json.toJson(defaultSettings).getBytes("UTF-8"));
+		digest.update(packFileName.getBytes("UTF-8"));
+		String rootPath = root.getAbsolutePath();
+		byte[] buffer = new byte[4096];
+		for (File file : inputFiles) {
+			String path = file.getAbsolutePath();
+			if (path.startsWith(rootPath)) path = path.substring(rootPath.length());
+			digest.update(path.replace('\\', '/').getBytes("UTF-8"));
+			InputStream input = new FileInputStream(file);
+			try {
+				while (true) {
+					int length = input.read(buffer);
+					if (length == -1) break;
+					digest.update(buffer, 0, length);
+				}
+			} finally {
+				input.close();
+			}
+		}
+		return new BigInteger(1, digest.digest()).toString(16);
+	}
+
+	private String readHash (File hashFile) {
+		try {
+			BufferedReader reader = new BufferedReader(new FileReader(hashFile));
+			try {
+				return reader.readLine();
+			} finally {
+				reader.close();
+			}
+		} catch (IOException ex) {
+			return null;
+		}
 	}
 
 	protected void processDir (Entry inputDir, ArrayList<Entry> files) throws Exception {
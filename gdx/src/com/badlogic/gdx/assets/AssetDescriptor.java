@@ -17,6 +17,7 @@
 package com.badlogic.gdx.assets;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /** Describes an asset to be loaded by it's filename, type and {@link AssetLoaderParameters}. Instances of this are used in
  * {@link AssetLoadingTask} to load the actual asset.
@@ -27,6 +28,13 @@ public class AssetDescriptor<T> {
 	public final AssetLoaderParameters params;
 	/** The resolved file. May be null if the fileName has not been resolved yet. */
 	public FileHandle file;
+	/** Assets with a higher priority are loaded first by the {@link AssetManager}. Dependencies are loaded with at least the
+	 * priority of the asset depending on them. Defaults to 0. */
+	public int priority;
+	/** The time in milliseconds, as returned by {@link TimeUtils#millis()}, by which the asset is needed, or 0 for no deadline.
+	 * Among assets of the same priority, assets with an earlier deadline are loaded first. {@link AssetManager#update(int)} may
+	 * exceed its time limit by up to the same time again to finish loading an asset whose deadline has passed. */
+	public long deadline;
 
 	public AssetDescriptor (String fileName, Class<T> assetType) {
 		this(fileName, assetType, null);
@@ -22,7 +22,6 @@ import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
-import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.badlogic.gdx.utils.async.AsyncResult;
@@ -37,6 +36,9 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	final AssetLoader loader;
 	final AsyncExecutor executor;
 	final long startTime;
+	/** Nanoseconds spent in the loader on executor threads and on the rendering thread respectively. **/
+	volatile long asyncTime;
+	long syncTime;
 
 	volatile boolean asyncDone = false;
 	volatile boolean dependenciesLoaded = false;
@@ -47,24 +49,27 @@ class AssetLoadingTask implements AsyncTask<Void> {
 
 	int ticks = 0;
 	volatile boolean cancel = false;
+	/** True if the task was started ahead of time from the load queue and later taken over as a dependency of another asset. The
+	 * loaded callback is then invoked once the load queue reaches the original {@link AssetDescriptor}. **/
+	boolean adopted = false;
 
 	public AssetLoadingTask (AssetManager manager, AssetDescriptor assetDesc, AssetLoader loader, AsyncExecutor threadPool) {
 		this.manager = manager;
 		this.assetDesc = assetDesc;
 		this.loader = loader;
 		this.executor = threadPool;
-		startTime = manager.log.getLevel() == Logger.DEBUG ? TimeUtils.nanoTime() : 0;
+		startTime = TimeUtils.nanoTime();
 	}
 
 	/** Loads parts of the asset asynchronously if the loader is an {@link AsynchronousAssetLoader}. */
 	@Override
 	public Void call () throws Exception {
+		long start = TimeUtils.nanoTime();
 		AsynchronousAssetLoader asyncLoader = (AsynchronousAssetLoader)loader;
 		if (dependenciesLoaded == false) {
+			// dependencies are injected on the rendering thread, see handleAsyncLoader()
 			dependencies = asyncLoader.getDependencies(assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
-			if (dependencies != null) {
-				manager.injectDependencies(assetDesc.fileName, dependencies);
-			} else {
+			if (dependencies == null) {
 				// if we have no dependencies, we load the async part of the task immediately.
 				asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 				asyncDone = true;
@@ -72,9 +77,31 @@ class AssetLoadingTask implements AsyncTask<Void> {
 		} else {
 			asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 		}
+		asyncTime += TimeUtils.nanoTime() - start;
 		return null;
 	}
 
+	/** Submits the first asynchronous step of the task to the executor before the task reaches the top of the task stack. Only
+	 * done for {@link AsynchronousAssetLoader} instances that are {@link AsynchronousAssetLoader#isConcurrent() concurrent}.
+	 * @return whether the task was started */
+	boolean prefetch () {
+		if (depsFuture != null || !(loader instanceof AsynchronousAssetLoader)) return false;
+		if (!((AsynchronousAssetLoader)loader).isConcurrent()) return false;
+		depsFuture = executor.submit(this);
+		return true;
+	}
+
+	/** @return whether the task has been submitted to the executor at least once */
+	boolean isStarted () {
+		return depsFuture != null;
+	}
+
+	/** @return whether an asynchronous step of the task is currently queued or executing on the executor */
+	boolean isRunning () {
+		if (loadFuture != null) return !loadFuture.isDone();
+		return depsFuture != null && !depsFuture.isDone();
+	}
+
 	/** Updates the loading of the asset. In case the asset is loaded with an {@link AsynchronousAssetLoader}, the loaders
 	 * {@link AsynchronousAssetLoader#loadAsync(AssetManager, String, FileHandle, AssetLoaderParameters)} method is first called on
 	 * a worker thread. Once this method returns, the rest of the asset is loaded on the rendering thread via
@@ -83,11 +110,13 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	 * @throws GdxRuntimeException */
 	public boolean update () {
 		ticks++;
+		long start = TimeUtils.nanoTime();
 		if (loader instanceof SynchronousAssetLoader) {
 			handleSyncLoader();
 		} else {
 			handleAsyncLoader();
 		}
+		syncTime += TimeUtils.nanoTime() - start;
 		return asset != null;
 	}
 
@@ -100,7 +129,7 @@ class AssetLoadingTask implements AsyncTask<Void> {
 				asset = syncLoader.load(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 				return;
 			}
-			manager.injectDependencies(assetDesc.fileName, dependencies);
+			manager.injectDependencies(assetDesc, dependencies);
 		} else {
 			asset = syncLoader.load(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 		}
@@ -121,6 +150,8 @@ class AssetLoadingTask implements AsyncTask<Void> {
 					dependenciesLoaded = true;
 					if (asyncDone) {
 						asset = asyncLoader.loadSync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
+					} else if (dependencies != null) {
+						manager.injectDependencies(assetDesc, dependencies);
 					}
 				}
 			}
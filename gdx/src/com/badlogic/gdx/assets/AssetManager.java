@@ -16,10 +16,12 @@
 
 package com.badlogic.gdx.assets;
 
+import java.util.Comparator;
 import java.util.Stack;
 
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
 import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
 import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.assets.loaders.I18NBundleLoader;
@@ -33,6 +35,7 @@ import com.badlogic.gdx.assets.loaders.TextureLoader;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -48,31 +51,50 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.I18NBundle;
+import com.badlogic.gdx.utils.IdentityMap;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.OrderedSet;
 import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.Trace;
 import com.badlogic.gdx.utils.UBJsonReader;
 import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.badlogic.gdx.utils.async.ThreadUtils;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 
-/** Loads and stores assets like textures, bitmapfonts, tile maps, sounds, music and so on.
+/** Loads and stores assets like textures, bitmapfonts, tile maps, sounds, music and so on. Lookups of loaded assets, e.g.
+ * {@link #get(String)}, {@link #isLoaded(String)} and {@link #getAssetFileName(Object)}, don't lock the manager and can be
+ * called from any thread while it is loading.
  * @author mzechner */
 public class AssetManager implements Disposable {
 	final ObjectMap<Class, ObjectMap<String, RefCountedContainer>> assets = new ObjectMap();
 	final ObjectMap<String, Class> assetTypes = new ObjectMap();
 	final ObjectMap<String, Array<String>> assetDependencies = new ObjectMap();
 	final ObjectSet<String> injected = new ObjectSet();
+	/** Unreferenced assets kept in memory while a memory budget is set, least recently used first. **/
+	final OrderedSet<String> cached = new OrderedSet();
+	long memoryBudget = 0;
+	long memoryUsed = 0;
+	/** Immutable view of the loaded assets for lookups without locking. Lookups use it only while it is as new as loadedVersion,
+	 * else they read the maps while synchronized. It is rebuilt by {@link #update()} once loading is done. **/
+	volatile LoadedAssets loadedAssets;
+	/** Incremented while synchronized whenever assets are added, removed, cached or restored from the cache. **/
+	volatile int loadedVersion;
+	final Array<AssetDescriptor> injectOrder = new Array();
 
 	final ObjectMap<Class, ObjectMap<String, AssetLoader>> loaders = new ObjectMap();
 	final Array<AssetDescriptor> loadQueue = new Array();
 	final AsyncExecutor executor;
+	final int threads;
 
 	final Stack<AssetLoadingTask> tasks = new Stack();
+	/** Tasks for assets in the load queue whose asynchronous part was started ahead of time. **/
+	final Array<AssetLoadingTask> prefetchTasks = new Array();
 	AssetErrorListener listener = null;
+	AssetTimingListener timingListener = null;
 	int loaded = 0;
 	int toLoad = 0;
 
@@ -85,6 +107,16 @@ public class AssetManager implements Disposable {
 
 	/** Creates a new AssetManager with all default loaders. */
 	public AssetManager (FileHandleResolver resolver) {
+		this(resolver, 1);
+	}
+
+	/** Creates a new AssetManager with all default loaders. With more than one thread, the asynchronous part of assets which do not
+	 * depend on each other is executed in parallel, as long as their loader is {@link AsynchronousAssetLoader#isConcurrent()
+	 * concurrent}. The synchronous part of each asset is still executed one at a time on the thread calling {@link #update()}.
+	 * @param threads the number of threads used for asynchronous loading */
+	public AssetManager (FileHandleResolver resolver, int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		this.threads = threads;
 		setLoader(BitmapFont.class, new BitmapFontLoader(resolver));
 		setLoader(Music.class, new MusicLoader(resolver));
 		setLoader(Pixmap.class, new PixmapLoader(resolver));
@@ -100,19 +132,14 @@ public class AssetManager implements Disposable {
 		setLoader(Model.class, ".g3dj", new G3dModelLoader(new JsonReader(), resolver));
 		setLoader(Model.class, ".g3db", new G3dModelLoader(new UBJsonReader(), resolver));
 		setLoader(Model.class, ".obj", new ObjLoader(resolver));
-		executor = new AsyncExecutor(1);
+		executor = new AsyncExecutor(threads);
 	}
 
 	/** @param fileName the asset file name
 	 * @return the asset */
-	public synchronized <T> T get (String fileName) {
-		Class<T> type = assetTypes.get(fileName);
-		if (type == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
-		ObjectMap<String, RefCountedContainer> assetsByType = assets.get(type);
-		if (assetsByType == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
-		RefCountedContainer assetContainer = assetsByType.get(fileName);
-		if (assetContainer == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
-		T asset = assetContainer.getObject(type);
+	public <T> T get (String fileName) {
+		LoadedAssets loadedAssets = currentLoadedAssets();
+		T asset = (T)(loadedAssets != null ? loadedAssets.assets.get(fileName) : loadedAsset(fileName));
 		if (asset == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 		return asset;
 	}
@@ -120,12 +147,16 @@ public class AssetManager implements Disposable {
 	/** @param fileName the asset file name
 	 * @param type the asset type
 	 * @return the asset */
-	public synchronized <T> T get (String fileName, Class<T> type) {
-		ObjectMap<String, RefCountedContainer> assetsByType = assets.get(type);
-		if (assetsByType == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
-		RefCountedContainer assetContainer = assetsByType.get(fileName);
-		if (assetContainer == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
-		T asset = assetContainer.getObject(type);
+	public <T> T get (String fileName, Class<T> type) {
+		LoadedAssets loadedAssets = currentLoadedAssets();
+		T asset;
+		if (loadedAssets != null) {
+			if (loadedAssets.types.get(fileName) != type) throw new GdxRuntimeException("Asset not loaded: " + fileName);
+			asset = (T)loadedAssets.assets.get(fileName);
+		} else {
+			if (loadedType(fileName) != type) throw new GdxRuntimeException("Asset not loaded: " + fileName);
+			asset = (T)loadedAsset(fileName);
+		}
 		if (asset == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 		return asset;
 	}
@@ -144,7 +175,7 @@ public class AssetManager implements Disposable {
 
 	/** @param assetDescriptor the asset descriptor
 	 * @return the asset */
-	public synchronized <T> T get (AssetDescriptor<T> assetDescriptor) {
+	public <T> T get (AssetDescriptor<T> assetDescriptor) {
 		return get(assetDescriptor.fileName, assetDescriptor.type);
 	}
 
@@ -160,6 +191,13 @@ public class AssetManager implements Disposable {
 			}
 		}
 		if (foundIndex != -1) {
+			AssetLoadingTask prefetchTask = findPrefetchTask(loadQueue.get(foundIndex));
+			if (prefetchTask != null) {
+				// already running on the executor, let it finish and unload it once it is loaded
+				prefetchTask.cancel = true;
+				log.debug("Unload (from prefetch): " + fileName);
+				return;
+			}
 			toLoad--;
 			loadQueue.removeIndex(foundIndex);
 			log.debug("Unload (from queue): " + fileName);
@@ -179,13 +217,18 @@ public class AssetManager implements Disposable {
 
 		// get the asset and its type
 		Class type = assetTypes.get(fileName);
-		if (type == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
+		if (type == null || cached.contains(fileName)) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 
 		RefCountedContainer assetRef = assets.get(type).get(fileName);
 
 		// if it is reference counted, decrement ref count and check if we can really get rid of it.
 		assetRef.decRefCount();
-		if (assetRef.getRefCount() <= 0) {
+		if (assetRef.getRefCount() <= 0 && memoryBudget > 0) {
+			// keep the asset and its dependency information until the memory budget requires evicting it
+			log.debug("Unload (cache): " + fileName);
+			cached.add(fileName);
+			loadedVersion++;
+		} else if (assetRef.getRefCount() <= 0) {
 			log.debug("Unload (dispose): " + fileName);
 
 			// if it is disposable dispose it
@@ -194,6 +237,7 @@ public class AssetManager implements Disposable {
 			// remove the asset from the manager.
 			assetTypes.remove(fileName);
 			assets.get(type).remove(fileName);
+			loadedVersion++;
 		} else {
 			log.debug("Unload (decrement): " + fileName);
 		}
@@ -202,55 +246,168 @@ public class AssetManager implements Disposable {
 		Array<String> dependencies = assetDependencies.get(fileName);
 		if (dependencies != null) {
 			for (String dependency : dependencies) {
-				if (isLoaded(dependency)) unload(dependency);
+				if (assetTypes.containsKey(dependency) && !cached.contains(dependency)) unload(dependency);
 			}
 		}
 		// remove dependencies if ref count < 0
-		if (assetRef.getRefCount() <= 0) {
+		if (assetRef.getRefCount() <= 0 && !cached.contains(fileName)) {
+			assetDependencies.remove(fileName);
+		}
+		evict();
+	}
+
+	/** Sets the memory budget in bytes for assets. While a budget is set, assets whose reference count drops to zero are not
+	 * disposed but kept in memory, so loading them again takes no time. Once the estimated memory of all assets exceeds the budget,
+	 * the least recently unloaded assets are disposed until it fits again. Assets that are referenced are never disposed, even if
+	 * they alone exceed the budget. The memory of each asset is estimated by
+	 * {@link AssetLoader#getMemorySize(String, FileHandle, Object)}.
+	 * @param bytes the budget or 0 to dispose assets as soon as they are unloaded */
+	public synchronized void setMemoryBudget (long bytes) {
+		if (bytes < 0) throw new IllegalArgumentException("bytes must be >= 0: " + bytes);
+		if (memoryBudget == 0 && bytes > 0) {
+			// sizes are only estimated while a budget is set
+			memoryUsed = 0;
+			for (ObjectMap.Entry<String, Class> entry : assetTypes.entries()) {
+				RefCountedContainer assetRef = assets.get(entry.value).get(entry.key);
+				assetRef.memorySize = estimateMemorySize(entry.key, entry.value, assetRef.getObject(Object.class));
+				memoryUsed += assetRef.memorySize;
+			}
+		}
+		memoryBudget = bytes;
+		evict();
+	}
+
+	/** @return the memory budget in bytes, 0 if none is set */
+	public synchronized long getMemoryBudget () {
+		return memoryBudget;
+	}
+
+	/** @return the estimated memory in bytes of all loaded assets, including unreferenced assets kept in memory, or 0 if no memory
+	 *         budget is set */
+	public synchronized long getMemoryUsed () {
+		return memoryBudget > 0 ? memoryUsed : 0;
+	}
+
+	/** @return the number of unreferenced assets kept in memory because of the memory budget */
+	public synchronized int getCachedAssets () {
+		return cached.size;
+	}
+
+	private long estimateMemorySize (String fileName, Class type, Object asset) {
+		AssetLoader loader = getLoader(type, fileName);
+		if (loader == null) return 0;
+		return loader.getMemorySize(fileName, loader.resolve(fileName), asset);
+	}
+
+	/** Disposes the least recently unloaded assets until the memory used fits the memory budget. An asset is always cached after
+	 * the assets depending on it, so no cached asset references a disposed one. */
+	private void evict () {
+		while (cached.size > 0 && (memoryBudget == 0 || memoryUsed > memoryBudget)) {
+			String fileName = cached.orderedItems().first();
+			cached.remove(fileName);
+			Class type = assetTypes.get(fileName);
+			RefCountedContainer assetRef = assets.get(type).get(fileName);
+			log.debug("Unload (evict): " + fileName);
+			if (assetRef.getObject(Object.class) instanceof Disposable) ((Disposable)assetRef.getObject(Object.class)).dispose();
+			memoryUsed -= assetRef.memorySize;
+			assetTypes.remove(fileName);
+			assets.get(type).remove(fileName);
 			assetDependencies.remove(fileName);
 		}
 	}
 
+	/** Increments the reference count of a loaded asset, taking it out of the memory budget cache if it was unreferenced. */
+	private void incRefCount (String fileName, RefCountedContainer assetRef) {
+		assetRef.incRefCount();
+		if (cached.remove(fileName)) {
+			log.debug("Restored from cache: " + fileName);
+			loadedVersion++;
+		}
+	}
+
 	/** @param asset the asset
 	 * @return whether the asset is contained in this manager */
-	public synchronized <T> boolean containsAsset (T asset) {
-		ObjectMap<String, RefCountedContainer> typedAssets = assets.get(asset.getClass());
-		if (typedAssets == null) return false;
-		for (String fileName : typedAssets.keys()) {
-			T otherAsset = (T)typedAssets.get(fileName).getObject(Object.class);
-			if (otherAsset == asset || asset.equals(otherAsset)) return true;
-		}
-		return false;
+	public <T> boolean containsAsset (T asset) {
+		String fileName = getAssetFileName(asset);
+		return fileName != null && getAssetType(fileName) == asset.getClass();
 	}
 
 	/** @param asset the asset
 	 * @return the filename of the asset or null */
-	public synchronized <T> String getAssetFileName (T asset) {
-		for (Class assetType : assets.keys()) {
-			ObjectMap<String, RefCountedContainer> typedAssets = assets.get(assetType);
-			for (String fileName : typedAssets.keys()) {
-				T otherAsset = (T)typedAssets.get(fileName).getObject(Object.class);
-				if (otherAsset == asset || asset.equals(otherAsset)) return fileName;
-			}
-		}
-		return null;
+	public <T> String getAssetFileName (T asset) {
+		LoadedAssets loadedAssets = currentLoadedAssets();
+		return loadedAssets != null ? loadedAssets.fileName(asset) : loadedFileName(asset);
 	}
 
 	/** @param fileName the file name of the asset
 	 * @return whether the asset is loaded */
-	public synchronized boolean isLoaded (String fileName) {
+	public boolean isLoaded (String fileName) {
 		if (fileName == null) return false;
-		return assetTypes.containsKey(fileName);
+		return getAssetType(fileName) != null;
 	}
 
 	/** @param fileName the file name of the asset
 	 * @return whether the asset is loaded */
-	public synchronized boolean isLoaded (String fileName, Class type) {
-		ObjectMap<String, RefCountedContainer> assetsByType = assets.get(type);
-		if (assetsByType == null) return false;
-		RefCountedContainer assetContainer = assetsByType.get(fileName);
-		if (assetContainer == null) return false;
-		return assetContainer.getObject(type) != null;
+	public boolean isLoaded (String fileName, Class type) {
+		if (fileName == null) return false;
+		return getAssetType(fileName) == type;
+	}
+
+	/** @return the {@link LoadedAssets} if no assets were added or removed since it was built, else null. */
+	private LoadedAssets currentLoadedAssets () {
+		LoadedAssets loadedAssets = this.loadedAssets;
+		if (loadedAssets != null && loadedAssets.version == loadedVersion) return loadedAssets;
+		return null;
+	}
+
+	/** @return the loaded asset, or null. Used while the {@link LoadedAssets} is out of date. */
+	private synchronized Object loadedAsset (String fileName) {
+		Class type = loadedType(fileName);
+		if (type == null) return null;
+		return assets.get(type).get(fileName).getObject(Object.class);
+	}
+
+	/** @return the type of the loaded asset, or null. Used while the {@link LoadedAssets} is out of date. */
+	private synchronized Class loadedType (String fileName) {
+		if (cached.contains(fileName)) return null;
+		return assetTypes.get(fileName);
+	}
+
+	/** @return the file name of the loaded asset, or null. Used while the {@link LoadedAssets} is out of date. */
+	private synchronized String loadedFileName (Object asset) {
+		for (ObjectMap.Entry<String, Class> entry : assetTypes.entries()) {
+			if (cached.contains(entry.key)) continue;
+			Object otherAsset = assets.get(entry.value).get(entry.key).getObject(Object.class);
+			if (otherAsset == asset || asset.equals(otherAsset)) return entry.key;
+		}
+		return null;
+	}
+
+	/** Rebuilds the {@link LoadedAssets} if assets were added or removed since it was last built. Only the loaded assets are
+	 * copied while synchronized, the lookup maps are built without holding the lock. Called by {@link #update()} once loading is
+	 * done, so loading n assets doesn't rebuild it n times. */
+	private void updateLoadedAssets () {
+		if (currentLoadedAssets() != null) return;
+		int version;
+		String[] fileNames;
+		Class[] types;
+		Object[] assets;
+		synchronized (this) {
+			version = loadedVersion;
+			int count = assetTypes.size - cached.size;
+			fileNames = new String[count];
+			types = new Class[count];
+			assets = new Object[count];
+			int i = 0;
+			for (ObjectMap.Entry<String, Class> entry : assetTypes.entries()) {
+				if (cached.contains(entry.key)) continue;
+				fileNames[i] = entry.key;
+				types[i] = entry.value;
+				assets[i++] = this.assets.get(entry.value).get(entry.key).getObject(Object.class);
+			}
+		}
+		// A snapshot built concurrently from an older version may overwrite this one, it is then rebuilt by the next update.
+		loadedAssets = new LoadedAssets(version, fileNames, types, assets);
 	}
 
 	/** Returns the default loader for the given type
@@ -292,6 +449,20 @@ public class AssetManager implements Disposable {
 	 * @param type the type of the asset.
 	 * @param parameter parameters for the AssetLoader. */
 	public synchronized <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter) {
+		load(fileName, type, parameter, 0, 0);
+	}
+
+	/** Adds the given asset to the loading queue of the AssetManager. Assets with a higher priority are loaded first, see
+	 * {@link AssetDescriptor#priority}.
+	 * @param fileName the file name (interpretation depends on {@link AssetLoader})
+	 * @param type the type of the asset.
+	 * @param parameter parameters for the AssetLoader.
+	 * @param priority the priority of the asset. */
+	public synchronized <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter, int priority) {
+		load(fileName, type, parameter, priority, 0);
+	}
+
+	private <T> void load (String fileName, Class<T> type, AssetLoaderParameters<T> parameter, int priority, long deadline) {
 		AssetLoader loader = getLoader(type, fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(type));
 
@@ -329,20 +500,55 @@ public class AssetManager implements Disposable {
 
 		toLoad++;
 		AssetDescriptor assetDesc = new AssetDescriptor(fileName, type, parameter);
-		loadQueue.add(assetDesc);
+		assetDesc.priority = priority;
+		assetDesc.deadline = deadline;
+		enqueue(assetDesc);
 		log.debug("Queued: " + assetDesc);
 	}
 
-	/** Adds the given asset to the loading queue of the AssetManager.
+	/** Adds the given asset to the loading queue of the AssetManager, using its {@link AssetDescriptor#priority} and
+	 * {@link AssetDescriptor#deadline}.
 	 * @param desc the {@link AssetDescriptor} */
 	public synchronized void load (AssetDescriptor desc) {
-		load(desc.fileName, desc.type, desc.params);
+		load(desc.fileName, desc.type, desc.params, desc.priority, desc.deadline);
+	}
+
+	/** Inserts the asset into the load queue after all assets that are at least as urgent. */
+	private void enqueue (AssetDescriptor assetDesc) {
+		int index = loadQueue.size;
+		while (index > 0 && urgency.compare(loadQueue.get(index - 1), assetDesc) > 0)
+			index--;
+		loadQueue.insert(index, assetDesc);
+	}
+
+	/** Changes the priority and deadline of an asset that is waiting in the load queue, moving it ahead of or behind other queued
+	 * assets. Has no effect on assets that are already being loaded.
+	 * @param fileName the file name of the queued asset
+	 * @param priority the new priority, see {@link AssetDescriptor#priority}
+	 * @param deadline the new deadline, see {@link AssetDescriptor#deadline} */
+	public synchronized void setPriority (String fileName, int priority, long deadline) {
+		for (int i = loadQueue.size - 1; i >= 0; i--) {
+			AssetDescriptor desc = loadQueue.get(i);
+			if (!desc.fileName.equals(fileName)) continue;
+			loadQueue.removeIndex(i);
+			desc.priority = priority;
+			desc.deadline = deadline;
+			enqueue(desc);
+		}
 	}
 
 	/** Updates the AssetManager, keeping it loading any assets in the preload queue.
 	 * @return true if all loading is finished. */
-	public synchronized boolean update () {
+	public boolean update () {
+		boolean done = updateTasks();
+		if (done) updateLoadedAssets();
+		return done;
+	}
+
+	private synchronized boolean updateTasks () {
+		Trace.begin("AssetManager.update");
 		try {
+			if (threads > 1) prefetch();
 			if (tasks.size() == 0) {
 				// loop until we have a new task ready to be processed
 				while (loadQueue.size != 0 && tasks.size() == 0) {
@@ -355,22 +561,42 @@ public class AssetManager implements Disposable {
 		} catch (Throwable t) {
 			handleTaskError(t);
 			return loadQueue.size == 0;
+		} finally {
+			Trace.end();
 		}
 	}
 
 	/** Updates the AssetManager continuously for the specified number of milliseconds, yielding the CPU to the loading thread
 	 * between updates. This may block for less time if all loading tasks are complete. This may block for more time if the portion
-	 * of a single task that happens in the GL thread takes a long time.
+	 * of a single task that happens in the GL thread takes a long time, or to finish the asset being loaded when its
+	 * {@link AssetDescriptor#deadline} has passed, which is limited to another millis. Queued assets are processed in order of
+	 * their {@link AssetDescriptor#priority}.
 	 * @return true if all loading is finished. */
 	public boolean update (int millis) {
 		long endTime = TimeUtils.millis() + millis;
+		AssetDescriptor overdue = null;
 		while (true) {
 			boolean done = update();
-			if (done || TimeUtils.millis() > endTime) return done;
+			if (done) return true;
+			long time = TimeUtils.millis();
+			if (time > endTime) {
+				// Only the overdue asset that is being loaded when the time is up may overrun, and only by millis.
+				AssetDescriptor current = getOverdueAsset();
+				if (overdue == null) overdue = current;
+				if (current == null || current != overdue || time > endTime + millis) return false;
+			}
 			ThreadUtils.yield();
 		}
 	}
 
+	/** @return the asset currently being loaded if its {@link AssetDescriptor#deadline} has passed, else null */
+	private synchronized AssetDescriptor getOverdueAsset () {
+		if (tasks.size() == 0) return null;
+		AssetDescriptor assetDesc = tasks.firstElement().assetDesc;
+		if (assetDesc.deadline == 0 || assetDesc.deadline > TimeUtils.millis()) return null;
+		return assetDesc;
+	}
+
 	/** Blocks until all assets are loaded. */
 	public void finishLoading () {
 		log.debug("Waiting for loading to complete...");
@@ -390,14 +616,24 @@ public class AssetManager implements Disposable {
 		log.debug("Asset loaded: " + fileName);
 	}
 
-	synchronized void injectDependencies (String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs) {
+	synchronized void injectDependencies (AssetDescriptor parentAssetDesc, Array<AssetDescriptor> dependendAssetDescs) {
 		ObjectSet<String> injected = this.injected;
+		Array<AssetDescriptor> injectOrder = this.injectOrder;
 		for (AssetDescriptor desc : dependendAssetDescs) {
 			if (injected.contains(desc.fileName)) continue; // Ignore subsequent dependencies if there are duplicates.
 			injected.add(desc.fileName);
-			injectDependency(parentAssetFilename, desc);
+			// a dependency is needed at least as urgently as the asset depending on it
+			if (parentAssetDesc.priority > desc.priority) desc.priority = parentAssetDesc.priority;
+			if (parentAssetDesc.deadline != 0 && (desc.deadline == 0 || parentAssetDesc.deadline < desc.deadline))
+				desc.deadline = parentAssetDesc.deadline;
+			injectOrder.add(desc);
 		}
 		injected.clear();
+		// the task stack is processed from the top, so the most urgent dependency is pushed last
+		injectOrder.sort(reverseUrgency);
+		for (int i = 0; i < injectOrder.size; i++)
+			injectDependency(parentAssetDesc.fileName, injectOrder.get(i));
+		injectOrder.clear();
 	}
 
 	private synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
@@ -410,11 +646,11 @@ public class AssetManager implements Disposable {
 		dependencies.add(dependendAssetDesc.fileName);
 
 		// if the asset is already loaded, increase its reference count.
-		if (isLoaded(dependendAssetDesc.fileName)) {
+		if (assetTypes.containsKey(dependendAssetDesc.fileName)) {
 			log.debug("Dependency already loaded: " + dependendAssetDesc);
 			Class type = assetTypes.get(dependendAssetDesc.fileName);
 			RefCountedContainer assetRef = assets.get(type).get(dependendAssetDesc.fileName);
-			assetRef.incRefCount();
+			incRefCount(dependendAssetDesc.fileName, assetRef);
 			incrementRefCountedDependencies(dependendAssetDesc.fileName);
 		}
 		// else add a new task for the asset.
@@ -430,11 +666,11 @@ public class AssetManager implements Disposable {
 		AssetDescriptor assetDesc = loadQueue.removeIndex(0);
 
 		// if the asset not meant to be reloaded and is already loaded, increase its reference count
-		if (isLoaded(assetDesc.fileName)) {
+		if (assetTypes.containsKey(assetDesc.fileName)) {
 			log.debug("Already loaded: " + assetDesc);
 			Class type = assetTypes.get(assetDesc.fileName);
 			RefCountedContainer assetRef = assets.get(type).get(assetDesc.fileName);
-			assetRef.incRefCount();
+			incRefCount(assetDesc.fileName, assetRef);
 			incrementRefCountedDependencies(assetDesc.fileName);
 			if (assetDesc.params != null && assetDesc.params.loadedCallback != null) {
 				assetDesc.params.loadedCallback.finishedLoading(this, assetDesc.fileName, assetDesc.type);
@@ -450,11 +686,87 @@ public class AssetManager implements Disposable {
 	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset.
 	 * @param assetDesc */
 	private void addTask (AssetDescriptor assetDesc) {
+		for (int i = 0; i < prefetchTasks.size; i++) {
+			AssetLoadingTask task = prefetchTasks.get(i);
+			if (!task.assetDesc.fileName.equals(assetDesc.fileName) || task.assetDesc.type != assetDesc.type) continue;
+			prefetchTasks.removeIndex(i);
+			if (task.assetDesc != assetDesc) {
+				// a queued asset is needed as a dependency, take over its already started task. The load queue entry stays and only
+				// increases the reference count once it is reached, unless it was unloaded in the meantime.
+				task.adopted = true;
+				if (task.cancel) {
+					task.cancel = false;
+					toLoad--;
+					loadQueue.removeValue(task.assetDesc, true);
+				}
+			}
+			tasks.push(task);
+			return;
+		}
 		AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(assetDesc.type));
 		tasks.push(new AssetLoadingTask(this, assetDesc, loader, executor));
 	}
 
+	/** Starts the asynchronous part of waiting tasks on idle executor threads. Tasks on the task stack below the top one can't
+	 * depend on each other, neither can assets in the load queue that are not loaded yet. Only one task per file name is started
+	 * at a time, and at most one task per thread is started ahead of time from the load queue. */
+	private void prefetch () {
+		int running = 0;
+		for (int i = 0, n = tasks.size(); i < n; i++)
+			if (tasks.get(i).isRunning()) running++;
+		for (int i = 0; i < prefetchTasks.size; i++)
+			if (prefetchTasks.get(i).isRunning()) running++;
+
+		for (int i = tasks.size() - 2; i >= 0 && running < threads; i--) {
+			AssetLoadingTask task = tasks.get(i);
+			if (task.isStarted() || isStarted(task.assetDesc.fileName)) continue;
+			if (task.prefetch()) running++;
+		}
+
+		for (int i = 0; i < loadQueue.size && running < threads && prefetchTasks.size < threads; i++) {
+			AssetDescriptor assetDesc = loadQueue.get(i);
+			if (assetTypes.containsKey(assetDesc.fileName) || findTask(assetDesc.fileName) != null) continue;
+			AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
+			if (loader == null) continue;
+			AssetLoadingTask task = new AssetLoadingTask(this, assetDesc, loader, executor);
+			if (task.prefetch()) {
+				prefetchTasks.add(task);
+				running++;
+			}
+		}
+	}
+
+	/** @return whether a task for the file name has been submitted to the executor */
+	private boolean isStarted (String fileName) {
+		AssetLoadingTask task = findTask(fileName);
+		return task != null && task.isStarted();
+	}
+
+	/** @return a task for the file name on the task stack or started ahead of time, preferring started tasks, or null */
+	private AssetLoadingTask findTask (String fileName) {
+		AssetLoadingTask found = null;
+		for (int i = 0, n = tasks.size(); i < n; i++) {
+			AssetLoadingTask task = tasks.get(i);
+			if (!task.assetDesc.fileName.equals(fileName)) continue;
+			if (task.isStarted()) return task;
+			found = task;
+		}
+		for (int i = 0; i < prefetchTasks.size; i++) {
+			AssetLoadingTask task = prefetchTasks.get(i);
+			if (task.assetDesc.fileName.equals(fileName)) return task;
+		}
+		return found;
+	}
+
+	private AssetLoadingTask findPrefetchTask (AssetDescriptor assetDesc) {
+		for (int i = 0; i < prefetchTasks.size; i++) {
+			AssetLoadingTask task = prefetchTasks.get(i);
+			if (task.assetDesc == assetDesc) return task;
+		}
+		return null;
+	}
+
 	/** Adds an asset to this AssetManager */
 	protected <T> void addAsset (final String fileName, Class<T> type, T asset) {
 		// add the asset to the filename lookup
@@ -466,7 +778,15 @@ public class AssetManager implements Disposable {
 			typeToAssets = new ObjectMap<String, RefCountedContainer>();
 			assets.put(type, typeToAssets);
 		}
-		typeToAssets.put(fileName, new RefCountedContainer(asset));
+		RefCountedContainer assetRef = new RefCountedContainer(asset);
+		typeToAssets.put(fileName, assetRef);
+		loadedVersion++;
+
+		if (memoryBudget > 0) {
+			assetRef.memorySize = estimateMemorySize(fileName, type, asset);
+			memoryUsed += assetRef.memorySize;
+			evict();
+		}
 	}
 
 	/** Updates the current task on the top of the task stack.
@@ -485,13 +805,17 @@ public class AssetManager implements Disposable {
 			if (task.cancel) {
 				unload(task.assetDesc.fileName);
 			} else {
-				// otherwise, if a listener was found in the parameter invoke it
-				if (task.assetDesc.params != null && task.assetDesc.params.loadedCallback != null) {
+				// otherwise, if a listener was found in the parameter invoke it. Adopted tasks invoke it from nextTask.
+				if (!task.adopted && task.assetDesc.params != null && task.assetDesc.params.loadedCallback != null) {
 					task.assetDesc.params.loadedCallback.finishedLoading(this, task.assetDesc.fileName, task.assetDesc.type);
 				}
 
-				long endTime = TimeUtils.nanoTime();
-				log.debug("Loaded: " + (endTime - task.startTime) / 1000000f + "ms " + task.assetDesc);
+				long totalTime = TimeUtils.nanoTime() - task.startTime;
+				if (timingListener != null) timingListener.loaded(task.assetDesc, totalTime, task.asyncTime, task.syncTime);
+				if (log.getLevel() >= Logger.DEBUG) {
+					log.debug("Loaded: " + totalTime / 1000000f + "ms (async: " + task.asyncTime / 1000000f + "ms, sync: "
+						+ task.syncTime / 1000000f + "ms) " + task.assetDesc);
+				}
 			}
 
 			return true;
@@ -507,7 +831,7 @@ public class AssetManager implements Disposable {
 		for (String dependency : dependencies) {
 			Class type = assetTypes.get(dependency);
 			RefCountedContainer assetRef = assets.get(type).get(dependency);
-			assetRef.incRefCount();
+			incRefCount(dependency, assetRef);
 			incrementRefCountedDependencies(dependency);
 		}
 	}
@@ -563,8 +887,12 @@ public class AssetManager implements Disposable {
 	}
 
 	/** @return the number of loaded assets */
-	public synchronized int getLoadedAssets () {
-		return assetTypes.size;
+	public int getLoadedAssets () {
+		LoadedAssets loadedAssets = currentLoadedAssets();
+		if (loadedAssets != null) return loadedAssets.types.size;
+		synchronized (this) {
+			return assetTypes.size - cached.size;
+		}
 	}
 
 	/** @return the number of currently queued assets */
@@ -584,6 +912,17 @@ public class AssetManager implements Disposable {
 		this.listener = listener;
 	}
 
+	/** Sets an {@link AssetTimingListener} to be invoked for each loaded asset.
+	 * @param listener the listener or null */
+	public synchronized void setTimingListener (AssetTimingListener listener) {
+		this.timingListener = listener;
+	}
+
+	/** @return the number of threads used for asynchronous loading */
+	public int getThreads () {
+		return threads;
+	}
+
 	/** Disposes all assets in the manager and stops all asynchronous loading. */
 	@Override
 	public synchronized void dispose () {
@@ -594,10 +933,22 @@ public class AssetManager implements Disposable {
 
 	/** Clears and disposes all assets and the preloading queue. */
 	public synchronized void clear () {
-		loadQueue.clear();
+		// assets which were started ahead of time are finished and unloaded
+		for (int i = loadQueue.size - 1; i >= 0; i--) {
+			AssetLoadingTask prefetchTask = findPrefetchTask(loadQueue.get(i));
+			if (prefetchTask != null)
+				prefetchTask.cancel = true;
+			else
+				loadQueue.removeIndex(i);
+		}
 		while (!update())
 			;
 
+		// dispose unreferenced assets right away instead of caching them
+		long memoryBudget = this.memoryBudget;
+		this.memoryBudget = 0;
+		evict();
+
 		ObjectIntMap<String> dependencyCount = new ObjectIntMap<String>();
 		while (assetTypes.size > 0) {
 			// for each asset, figure out how often it was referenced
@@ -627,11 +978,15 @@ public class AssetManager implements Disposable {
 
 		this.assets.clear();
 		this.assetTypes.clear();
+		this.loadedVersion++;
 		this.assetDependencies.clear();
 		this.loaded = 0;
 		this.toLoad = 0;
 		this.loadQueue.clear();
 		this.tasks.clear();
+		this.prefetchTasks.clear();
+		this.memoryBudget = memoryBudget;
+		this.memoryUsed = 0;
 	}
 
 	/** @return the {@link Logger} used by the {@link AssetManager} */
@@ -674,6 +1029,11 @@ public class AssetManager implements Disposable {
 
 			buffer.append(", refs: ");
 			buffer.append(assetRef.getRefCount());
+			if (cached.contains(fileName)) buffer.append(", cached");
+			if (memoryBudget > 0) {
+				buffer.append(", bytes: ");
+				buffer.append(assetRef.memorySize);
+			}
 
 			if (dependencies != null) {
 				buffer.append(", deps: [");
@@ -690,7 +1050,10 @@ public class AssetManager implements Disposable {
 
 	/** @return the file names of all loaded assets. */
 	public synchronized Array<String> getAssetNames () {
-		return assetTypes.keys().toArray();
+		Array<String> names = new Array(assetTypes.size - cached.size);
+		for (String fileName : assetTypes.keys())
+			if (!cached.contains(fileName)) names.add(fileName);
+		return names;
 	}
 
 	/** @return the dependencies of an asset or null if the asset has no dependencies. */
@@ -699,8 +1062,61 @@ public class AssetManager implements Disposable {
 	}
 
 	/** @return the type of a loaded asset. */
-	public synchronized Class getAssetType (String fileName) {
-		return assetTypes.get(fileName);
+	public Class getAssetType (String fileName) {
+		LoadedAssets loadedAssets = currentLoadedAssets();
+		return loadedAssets != null ? loadedAssets.types.get(fileName) : loadedType(fileName);
+	}
+
+	/** Copy of the loaded assets that is never modified once built, so it can be read from any thread without locking. */
+	static private class LoadedAssets {
+		final int version;
+		final ObjectMap<String, Class> types;
+		final ObjectMap<String, Object> assets;
+		final IdentityMap<Object, String> fileNames;
+		// the maps' iterators are reused and not safe to share between threads
+		final String[] fileNameArray;
+		final Object[] assetArray;
+
+		LoadedAssets (int version, String[] fileNameArray, Class[] typeArray, Object[] assetArray) {
+			this.version = version;
+			this.fileNameArray = fileNameArray;
+			this.assetArray = assetArray;
+			int count = fileNameArray.length;
+			types = new ObjectMap(Math.max(count, 1));
+			assets = new ObjectMap(Math.max(count, 1));
+			fileNames = new IdentityMap(Math.max(count, 1));
+			for (int i = 0; i < count; i++) {
+				types.put(fileNameArray[i], typeArray[i]);
+				assets.put(fileNameArray[i], assetArray[i]);
+				fileNames.put(assetArray[i], fileNameArray[i]);
+			}
+		}
+
+		/** @return the file name of the asset, looked up by identity and then, for assets overriding equals, by equality. */
+		String fileName (Object asset) {
+			String fileName = fileNames.get(asset);
+			if (fileName != null) return fileName;
+			for (int i = 0; i < assetArray.length; i++)
+				if (asset.equals(assetArray[i])) return fileNameArray[i];
+			return null;
+		}
 	}
 
+	/** Orders assets by descending {@link AssetDescriptor#priority}, then by ascending {@link AssetDescriptor#deadline}, assets
+	 * without a deadline last. */
+	static final Comparator<AssetDescriptor> urgency = new Comparator<AssetDescriptor>() {
+		public int compare (AssetDescriptor a, AssetDescriptor b) {
+			if (a.priority != b.priority) return a.priority > b.priority ? -1 : 1;
+			if (a.deadline == b.deadline) return 0;
+			if (a.deadline == 0) return 1;
+			if (b.deadline == 0) return -1;
+			return a.deadline < b.deadline ? -1 : 1;
+		}
+	};
+
+	static final Comparator<AssetDescriptor> reverseUrgency = new Comparator<AssetDescriptor>() {
+		public int compare (AssetDescriptor a, AssetDescriptor b) {
+			return urgency.compare(b, a);
+		}
+	};
 }
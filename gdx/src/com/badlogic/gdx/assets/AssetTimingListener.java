@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.assets;
+
+/** Receives timing information for each asset loaded by an {@link AssetManager}, see
+ * {@link AssetManager#setTimingListener(AssetTimingListener)}. Invoked on the thread calling {@link AssetManager#update()}. */
+public interface AssetTimingListener {
+	/** @param asset the descriptor of the loaded asset
+	 * @param totalNanos time from the creation of the loading task until the asset was added, including waiting for dependencies
+	 *           and executor threads
+	 * @param asyncNanos time spent in the loader on executor threads
+	 * @param syncNanos time spent in the loader on the thread calling {@link AssetManager#update()} */
+	public void loaded (AssetDescriptor asset, long totalNanos, long asyncNanos, long syncNanos);
+}
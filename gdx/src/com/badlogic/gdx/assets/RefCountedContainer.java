@@ -19,6 +19,8 @@ package com.badlogic.gdx.assets;
 public class RefCountedContainer {
 	Object object;
 	int refCount = 1;
+	/** Estimated memory of the object in bytes, only set while the owning {@link AssetManager} has a memory budget. **/
+	long memorySize;
 
 	public RefCountedContainer (Object object) {
 		if (object == null) throw new IllegalArgumentException("Object must not be null");
@@ -18,6 +18,7 @@ package com.badlogic.gdx.assets.loaders;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 
@@ -48,4 +49,14 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 	 * @param parameter parameters for loading the asset
 	 * @return other assets that the asset depends on and need to be loaded first or null if there are no dependencies. */
 	public abstract Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, P parameter);
+
+	/** Returns an estimate of the memory in bytes used by a loaded asset, excluding the memory of its dependencies. Only called by
+	 * an {@link AssetManager} with a {@link AssetManager#setMemoryBudget(long) memory budget}.
+	 * @param fileName name of the asset
+	 * @param file the resolved file of the asset
+	 * @param asset the loaded asset
+	 * @return the estimated size, 0 by default */
+	public long getMemorySize (String fileName, FileHandle file, T asset) {
+		return 0;
+	}
 }
@@ -45,4 +45,14 @@ public abstract class AsynchronousAssetLoader<T, P extends AssetLoaderParameters
 	 * @param file the resolved file to load
 	 * @param parameter */
 	public abstract T loadSync (AssetManager manager, String fileName, FileHandle file, P parameter);
+
+	/** Returns whether {@link #getDependencies(String, FileHandle, AssetLoaderParameters)} and
+	 * {@link #loadAsync(AssetManager, String, FileHandle, AssetLoaderParameters)} may be called for several assets at the same
+	 * time from different threads, before the matching {@link #loadSync(AssetManager, String, FileHandle, AssetLoaderParameters)}
+	 * calls. Loaders storing the state of a single asset in fields must return false. An {@link AssetManager} with more than one
+	 * loading thread only loads assets of concurrent loaders in parallel.
+	 * @return false by default */
+	public boolean isConcurrent () {
+		return false;
+	}
 }
@@ -92,6 +92,13 @@ public class CubemapLoader extends AsynchronousAssetLoader<Cubemap, CubemapLoade
 		return cubemap;
 	}
 
+	/** @return the size of the six faces, assuming 32 bit pixels */
+	@Override
+	public long getMemorySize (String fileName, FileHandle file, Cubemap cubemap) {
+		CubemapData data = cubemap.getCubemapData();
+		return 6 * TextureLoader.getMemorySize(data.getWidth(), data.getHeight(), Format.RGBA8888, false);
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, CubemapParameter parameter) {
 		return null;
@@ -22,6 +22,7 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link Pixmap} instances. The Pixmap is loaded asynchronously.
  * @author mzechner */
@@ -30,19 +31,34 @@ public class PixmapLoader extends AsynchronousAssetLoader<Pixmap, PixmapLoader.P
 		super(resolver);
 	}
 
-	Pixmap pixmap;
+	/** Loaded pixmaps by file name, guarded by itself. **/
+	final ObjectMap<String, Pixmap> pixmaps = new ObjectMap();
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, PixmapParameter parameter) {
-		pixmap = null;
-		pixmap = new Pixmap(file);
+		Pixmap pixmap = new Pixmap(file);
+		synchronized (pixmaps) {
+			pixmaps.put(fileName, pixmap);
+		}
 	}
 
 	@Override
 	public Pixmap loadSync (AssetManager manager, String fileName, FileHandle file, PixmapParameter parameter) {
-		Pixmap pixmap = this.pixmap;
-		this.pixmap = null;
-		return pixmap;
+		synchronized (pixmaps) {
+			return pixmaps.remove(fileName);
+		}
+	}
+
+	/** @return the size of the pixel data */
+	@Override
+	public long getMemorySize (String fileName, FileHandle file, Pixmap pixmap) {
+		return TextureLoader.getMemorySize(pixmap.getWidth(), pixmap.getHeight(), pixmap.getFormat(), false);
+	}
+
+	/** @return true, the pixmap of each asset is stored by file name */
+	@Override
+	public boolean isConcurrent () {
+		return true;
 	}
 
 	@Override
@@ -46,6 +46,13 @@ public class SoundLoader extends AsynchronousAssetLoader<Sound, SoundLoader.Soun
 		return sound;
 	}
 
+	/** @return the length of the file, which matches the decoded size for uncompressed formats like WAV and underestimates it for
+	 *         compressed formats */
+	@Override
+	public long getMemorySize (String fileName, FileHandle file, Sound sound) {
+		return file.length();
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, SoundParameter parameter) {
 		return null;
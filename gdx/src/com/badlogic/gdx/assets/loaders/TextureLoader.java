@@ -32,6 +32,7 @@ import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously. The texture is then created on the
  * rendering thread, synchronously. Passing a {@link TextureParameter} to
@@ -45,7 +46,8 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		Texture texture;
 	};
 
-	TextureLoaderInfo info = new TextureLoaderInfo();
+	/** Loaded texture data by file name, guarded by itself. **/
+	final ObjectMap<String, TextureLoaderInfo> infos = new ObjectMap();
 
 	public TextureLoader (FileHandleResolver resolver) {
 		super(resolver);
@@ -53,12 +55,11 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info = new TextureLoaderInfo();
 		info.filename = fileName;
 		if (parameter == null || parameter.textureData == null) {
-			Pixmap pixmap = null;
 			Format format = null;
 			boolean genMipMaps = false;
-			info.texture = null;
 
 			if (parameter != null) {
 				format = parameter.format;
@@ -72,10 +73,17 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 			info.texture = parameter.texture;
 		}
 		if (!info.data.isPrepared()) info.data.prepare();
+		synchronized (infos) {
+			infos.put(fileName, info);
+		}
 	}
 
 	@Override
 	public Texture loadSync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info;
+		synchronized (infos) {
+			info = infos.remove(fileName);
+		}
 		if (info == null) return null;
 		Texture texture = info.texture;
 		if (texture != null) {
@@ -90,6 +98,43 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		return texture;
 	}
 
+	/** @return the size of the texture data, including mipmaps */
+	@Override
+	public long getMemorySize (String fileName, FileHandle file, Texture texture) {
+		TextureData data = texture.getTextureData();
+		return getMemorySize(texture.getWidth(), texture.getHeight(), data.getFormat(), data.useMipMaps());
+	}
+
+	/** @return the estimated size in bytes of an uncompressed image with the given format, including mipmaps if requested */
+	static public long getMemorySize (int width, int height, Format format, boolean useMipMaps) {
+		int bytesPerPixel;
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			bytesPerPixel = 1;
+			break;
+		case LuminanceAlpha:
+		case RGB565:
+		case RGBA4444:
+			bytesPerPixel = 2;
+			break;
+		case RGB888:
+			bytesPerPixel = 3;
+			break;
+		default:
+			bytesPerPixel = 4;
+		}
+		long size = (long)width * height * bytesPerPixel;
+		// the mipmap chain adds a third of the base level
+		return useMipMaps ? size + size / 3 : size;
+	}
+
+	/** @return true, the texture data of each asset is stored by file name */
+	@Override
+	public boolean isConcurrent () {
+		return true;
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, TextureParameter parameter) {
 		return null;
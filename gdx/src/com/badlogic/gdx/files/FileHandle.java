@@ -29,9 +29,14 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
 
 import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Files.FileType;
@@ -229,6 +234,54 @@ public class FileHandle {
 		}
 	}
 
+	/** Returns a read only buffer with the entire contents of the file, from position 0 to the limit, in big endian byte order.
+	 * {@link FileType#Absolute}, {@link FileType#External}, {@link FileType#Local} and {@link FileType#Internal} files that exist
+	 * on the filesystem are memory mapped, so the contents are paged in by the operating system when accessed and are never
+	 * copied to the Java heap. Other files, such as classpath files or internal files packed in a jar, are streamed into a direct
+	 * buffer instead. The buffer is released by the garbage collector, it must not be passed to
+	 * {@link com.badlogic.gdx.utils.BufferUtils#disposeUnsafeByteBuffer(ByteBuffer)}. On some platforms a mapped file can't be
+	 * written or deleted until the buffer is collected.
+	 * @throws GdxRuntimeException if the file handle represents a directory, doesn't exist, or could not be read. */
+	public ByteBuffer map () {
+		if (type == FileType.Classpath || (type == FileType.Internal && !file().exists())
+			|| (type == FileType.Local && !file().exists())) return readDirect();
+		RandomAccessFile input = null;
+		try {
+			input = new RandomAccessFile(file(), "r");
+			// The mapping stays valid after the file is closed.
+			return input.getChannel().map(MapMode.READ_ONLY, 0, input.length());
+		} catch (Exception ex) {
+			if (file().isDirectory()) throw new GdxRuntimeException("Cannot map a directory: " + file + " (" + type + ")", ex);
+			throw new GdxRuntimeException("Error memory mapping file: " + file + " (" + type + ")", ex);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	/** Reads the entire file into a direct buffer without an intermediate heap array, for files that can't be memory mapped. */
+	private ByteBuffer readDirect () {
+		InputStream input = read();
+		try {
+			ReadableByteChannel channel = Channels.newChannel(input);
+			ByteBuffer buffer = ByteBuffer.allocateDirect(estimateLength());
+			while (true) {
+				if (!buffer.hasRemaining()) {
+					ByteBuffer newBuffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+					buffer.flip();
+					newBuffer.put(buffer);
+					buffer = newBuffer;
+				}
+				if (channel.read(buffer) == -1) break;
+			}
+			buffer.flip();
+			return buffer.asReadOnlyBuffer();
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error reading file: " + this, ex);
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
 	private int estimateLength () {
 		int length = (int)length();
 		return length != 0 ? length : 512;
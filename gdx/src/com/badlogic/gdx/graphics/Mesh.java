@@ -40,6 +40,8 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DirectFloatArray;
+import com.badlogic.gdx.utils.DirectShortArray;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
@@ -199,6 +201,17 @@ public class Mesh implements Disposable {
 		return this;
 	}
 
+	/** Sets the vertices of this Mesh to the items of the array. Vertex buffer objects upload the array without copying it and
+	 * keep a reference to it, so it must not be disposed while it is set, see {@link VertexData#setVertices(DirectFloatArray)}.
+	 * 
+	 * @param vertices the vertices.
+	 * @return the mesh for invocation chaining. */
+	public Mesh setVertices (DirectFloatArray vertices) {
+		this.vertices.setVertices(vertices);
+
+		return this;
+	}
+
 	/** Update (a portion of) the vertices. Does not resize the backing buffer.
 	 * @param targetOffset the offset in number of floats of the mesh part.
 	 * @param source the vertex data to update the mesh part with */
@@ -285,6 +298,17 @@ public class Mesh implements Disposable {
 		return this;
 	}
 
+	/** Sets the indices of this Mesh to the items of the array. Index buffer objects upload the array without copying it and keep
+	 * a reference to it, so it must not be disposed while it is set, see {@link IndexData#setIndices(DirectShortArray)}.
+	 * 
+	 * @param indices the indices
+	 * @return the mesh for invocation chaining. */
+	public Mesh setIndices (DirectShortArray indices) {
+		this.indices.setIndices(indices);
+
+		return this;
+	}
+
 	/** Copies the indices from the Mesh to the short array. The short array must be large enough to hold all the Mesh's indices.
 	 * @param indices the array to copy the indices to */
 	public void getIndices (short[] indices) {
@@ -786,6 +810,8 @@ public class Mesh implements Disposable {
 				((VertexBufferObject)meshesArray.get(i).vertices).invalidate();
 			} else if(meshesArray.get(i).vertices instanceof VertexBufferObjectWithVAO) {
 				((VertexBufferObjectWithVAO) meshesArray.get(i).vertices).invalidate();
+			} else if(meshesArray.get(i).vertices instanceof VertexBufferObjectSubData) {
+				((VertexBufferObjectSubData) meshesArray.get(i).vertices).invalidate();
 			}
 			meshesArray.get(i).indices.invalidate();
 		}
@@ -22,10 +22,16 @@ import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** CpuSpriteBatch behaves like SpriteBatch, except it doesn't flush automatically whenever the transformation matrix changes.
  * Instead, the vertices get adjusted on subsequent draws to match the running batch. This can improve performance through longer
  * batches, for example when drawing Groups with transform enabled.
+ * <p>
+ * With an executor {@link #setExecutor(AsyncExecutor, int) set}, draws with rotation, scale or an Affine2 transform are recorded
+ * as commands and their vertices are generated in parallel when the batch is flushed.
  *
  * @see SpriteBatch#renderCalls
  * @see com.badlogic.gdx.scenes.scene2d.Group#setTransform(boolean) Group.setTransform()
@@ -39,6 +45,18 @@ public class CpuSpriteBatch extends SpriteBatch {
 
 	private final Affine2 tmpAffine = new Affine2();
 
+	static private final int RECT = 0, AFFINE = 1;
+	static private final int COMMAND_SIZE = 24;
+
+	private AsyncExecutor executor;
+	private float[] commands;
+	private int commandCount;
+	private GenerateTask[] tasks;
+	private AsyncResult[] results;
+
+	/** The minimum number of recorded draws in a batch to split vertex generation across threads. **/
+	public int parallelThreshold = 512;
+
 	/** Constructs a CpuSpriteBatch with a size of 1000 and the default shader.
 	 * @see SpriteBatch#SpriteBatch() */
 	public CpuSpriteBatch () {
@@ -81,6 +99,246 @@ public class CpuSpriteBatch extends SpriteBatch {
 		}
 	}
 
+	/** Sets the executor used to generate vertices. When set, draws with rotation, scale or an Affine2 transform only record a
+	 * command. When the batch is flushed, the commands are split into disjoint slices of the vertex array, which are generated by
+	 * the executor and the calling thread before the vertices are uploaded. Batches with fewer than {@link #parallelThreshold}
+	 * commands are generated on the calling thread.
+	 * @param executor The executor, or null to generate vertices in each draw call.
+	 * @param slices The number of slices to split the commands into, typically the number of cores. The executor should be able
+	 *           to run slices - 1 tasks concurrently. */
+	public void setExecutor (AsyncExecutor executor, int slices) {
+		if (slices < 1) throw new IllegalArgumentException("slices must be > 0: " + slices);
+		if (drawing) flush();
+		this.executor = executor;
+		if (executor == null) {
+			commands = null;
+			tasks = null;
+			results = null;
+			return;
+		}
+		if (commands == null) commands = new float[vertices.length / Sprite.SPRITE_SIZE * COMMAND_SIZE];
+		tasks = new GenerateTask[slices - 1];
+		for (int i = 0; i < tasks.length; i++)
+			tasks[i] = new GenerateTask();
+		results = new AsyncResult[slices - 1];
+	}
+
+	@Override
+	public void flush () {
+		if (commandCount > 0) generate();
+		super.flush();
+	}
+
+	private void generate () {
+		float[] commands = this.commands, vertices = this.vertices;
+		int count = commandCount;
+		commandCount = 0;
+
+		GenerateTask[] tasks = this.tasks;
+		int slices = tasks.length + 1;
+		if (slices == 1 || count < parallelThreshold) {
+			generate(commands, vertices, 0, count);
+			return;
+		}
+
+		int sliceSize = (count + slices - 1) / slices;
+		AsyncResult[] results = this.results;
+		for (int i = 0; i < tasks.length; i++) {
+			GenerateTask task = tasks[i];
+			task.commands = commands;
+			task.vertices = vertices;
+			task.start = (i + 1) * sliceSize;
+			task.end = Math.min(task.start + sliceSize, count);
+			results[i] = executor.submit(task);
+		}
+		generate(commands, vertices, 0, sliceSize);
+
+		// Wait for every slice before rethrowing, so no task writes to the vertices after the flush.
+		GdxRuntimeException exception = null;
+		for (int i = 0; i < results.length; i++) {
+			try {
+				results[i].get();
+			} catch (GdxRuntimeException ex) {
+				if (exception == null) exception = ex;
+			}
+			results[i] = null;
+		}
+		if (exception != null) throw exception;
+	}
+
+	/** Generates the vertices for the commands from start to end, exclusive. Each command writes only its own sprite. */
+	static void generate (float[] commands, float[] vertices, int start, int end) {
+		for (int c = start * COMMAND_SIZE, n = end * COMMAND_SIZE; c < n; c += COMMAND_SIZE) {
+			float x1, y1, x2, y2, x3, y3, x4, y4;
+			float m00, m01, m02, m10, m11, m12;
+			if (commands[c] == RECT) {
+				float fx = commands[c + 13];
+				float fy = commands[c + 14];
+				float fx2 = commands[c + 15];
+				float fy2 = commands[c + 16];
+				float rotation = commands[c + 17];
+				if (rotation != 0) {
+					final float cos = MathUtils.cosDeg(rotation);
+					final float sin = MathUtils.sinDeg(rotation);
+
+					x1 = cos * fx - sin * fy;
+					y1 = sin * fx + cos * fy;
+
+					x2 = cos * fx - sin * fy2;
+					y2 = sin * fx + cos * fy2;
+
+					x3 = cos * fx2 - sin * fy2;
+					y3 = sin * fx2 + cos * fy2;
+
+					x4 = x1 + (x3 - x2);
+					y4 = y3 - (y2 - y1);
+				} else {
+					x1 = fx;
+					y1 = fy;
+					x2 = fx;
+					y2 = fy2;
+					x3 = fx2;
+					y3 = fy2;
+					x4 = fx2;
+					y4 = fy;
+				}
+
+				final float worldOriginX = commands[c + 11];
+				final float worldOriginY = commands[c + 12];
+				x1 += worldOriginX;
+				y1 += worldOriginY;
+				x2 += worldOriginX;
+				y2 += worldOriginY;
+				x3 += worldOriginX;
+				y3 += worldOriginY;
+				x4 += worldOriginX;
+				y4 += worldOriginY;
+
+				m00 = commands[c + 18];
+				m01 = commands[c + 19];
+				m02 = commands[c + 20];
+				m10 = commands[c + 21];
+				m11 = commands[c + 22];
+				m12 = commands[c + 23];
+			} else {
+				x1 = 0;
+				y1 = 0;
+				x2 = 0;
+				y2 = commands[c + 18];
+				x3 = commands[c + 17];
+				y3 = y2;
+				x4 = x3;
+				y4 = 0;
+
+				m00 = commands[c + 11];
+				m01 = commands[c + 12];
+				m02 = commands[c + 13];
+				m10 = commands[c + 14];
+				m11 = commands[c + 15];
+				m12 = commands[c + 16];
+			}
+
+			int idx = (int)commands[c + 1];
+			float color = commands[c + 2];
+
+			vertices[idx + 0] = m00 * x1 + m01 * y1 + m02;
+			vertices[idx + 1] = m10 * x1 + m11 * y1 + m12;
+			vertices[idx + 2] = color;
+			vertices[idx + 3] = commands[c + 3];
+			vertices[idx + 4] = commands[c + 4];
+
+			vertices[idx + 5] = m00 * x2 + m01 * y2 + m02;
+			vertices[idx + 6] = m10 * x2 + m11 * y2 + m12;
+			vertices[idx + 7] = color;
+			vertices[idx + 8] = commands[c + 5];
+			vertices[idx + 9] = commands[c + 6];
+
+			vertices[idx + 10] = m00 * x3 + m01 * y3 + m02;
+			vertices[idx + 11] = m10 * x3 + m11 * y3 + m12;
+			vertices[idx + 12] = color;
+			vertices[idx + 13] = commands[c + 7];
+			vertices[idx + 14] = commands[c + 8];
+
+			vertices[idx + 15] = m00 * x4 + m01 * y4 + m02;
+			vertices[idx + 16] = m10 * x4 + m11 * y4 + m12;
+			vertices[idx + 17] = color;
+			vertices[idx + 18] = commands[c + 9];
+			vertices[idx + 19] = commands[c + 10];
+		}
+	}
+
+	/** Records a rotated and scaled rectangle. The UVs are given per corner, starting at the bottom left and going clockwise. */
+	private void recordRect (Texture texture, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4) {
+		int c = record(texture, RECT, u1, v1, u2, v2, u3, v3, u4, v4);
+		float[] commands = this.commands;
+		commands[c + 11] = x + originX;
+		commands[c + 12] = y + originY;
+		commands[c + 13] = -originX * scaleX;
+		commands[c + 14] = -originY * scaleY;
+		commands[c + 15] = (width - originX) * scaleX;
+		commands[c + 16] = (height - originY) * scaleY;
+		commands[c + 17] = rotation;
+		if (adjustNeeded) {
+			Affine2 t = adjustAffine;
+			commands[c + 18] = t.m00;
+			commands[c + 19] = t.m01;
+			commands[c + 20] = t.m02;
+			commands[c + 21] = t.m10;
+			commands[c + 22] = t.m11;
+			commands[c + 23] = t.m12;
+		} else {
+			commands[c + 18] = 1;
+			commands[c + 19] = 0;
+			commands[c + 20] = 0;
+			commands[c + 21] = 0;
+			commands[c + 22] = 1;
+			commands[c + 23] = 0;
+		}
+	}
+
+	private void recordAffine (TextureRegion region, float width, float height, Affine2 transform) {
+		// v must be flipped
+		int c = record(region.texture, AFFINE, region.u, region.v2, region.u, region.v, region.u2, region.v, region.u2, region.v2);
+		Affine2 t = transform;
+		if (adjustNeeded) t = tmpAffine.set(adjustAffine).mul(transform);
+		float[] commands = this.commands;
+		commands[c + 11] = t.m00;
+		commands[c + 12] = t.m01;
+		commands[c + 13] = t.m02;
+		commands[c + 14] = t.m10;
+		commands[c + 15] = t.m11;
+		commands[c + 16] = t.m12;
+		commands[c + 17] = width;
+		commands[c + 18] = height;
+	}
+
+	/** Reserves the next sprite in the vertex array for a command.
+	 * @return The index of the command. */
+	private int record (Texture texture, int type, float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4) {
+		if (!drawing) throw new IllegalStateException("CpuSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == vertices.length) flush();
+
+		float[] commands = this.commands;
+		int c = commandCount++ * COMMAND_SIZE;
+		commands[c] = type;
+		commands[c + 1] = idx;
+		commands[c + 2] = color;
+		commands[c + 3] = u1;
+		commands[c + 4] = v1;
+		commands[c + 5] = u2;
+		commands[c + 6] = v2;
+		commands[c + 7] = u3;
+		commands[c + 8] = v3;
+		commands[c + 9] = u4;
+		commands[c + 10] = v4;
+		idx += Sprite.SPRITE_SIZE;
+		return c;
+	}
+
 	@Override
 	public Matrix4 getTransformMatrix () {
 		return (adjustNeeded ? virtualMatrix : super.getTransformMatrix());
@@ -150,7 +408,25 @@ public class CpuSpriteBatch extends SpriteBatch {
 	@Override
 	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
 		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
-		if (!adjustNeeded) {
+		if (executor != null) {
+			float invTexWidth = 1.0f / texture.getWidth();
+			float invTexHeight = 1.0f / texture.getHeight();
+			float u = srcX * invTexWidth;
+			float v = (srcY + srcHeight) * invTexHeight;
+			float u2 = (srcX + srcWidth) * invTexWidth;
+			float v2 = srcY * invTexHeight;
+			if (flipX) {
+				float tmp = u;
+				u = u2;
+				u2 = tmp;
+			}
+			if (flipY) {
+				float tmp = v;
+				v = v2;
+				v2 = tmp;
+			}
+			recordRect(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, u, v, u, v2, u2, v2, u2, v);
+		} else if (!adjustNeeded) {
 			super.draw(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, srcX, srcY, srcWidth, srcHeight,
 				flipX, flipY);
 		} else {
@@ -227,7 +503,11 @@ public class CpuSpriteBatch extends SpriteBatch {
 	@Override
 	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
 		float scaleX, float scaleY, float rotation) {
-		if (!adjustNeeded) {
+		if (executor != null) {
+			// v must be flipped
+			recordRect(region.texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u, region.v2,
+				region.u, region.v, region.u2, region.v, region.u2, region.v2);
+		} else if (!adjustNeeded) {
 			super.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
 		} else {
 			drawAdjusted(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
@@ -237,7 +517,15 @@ public class CpuSpriteBatch extends SpriteBatch {
 	@Override
 	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
 		float scaleX, float scaleY, float rotation, boolean clockwise) {
-		if (!adjustNeeded) {
+		if (executor != null) {
+			if (clockwise) {
+				recordRect(region.texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u2, region.v2,
+					region.u, region.v2, region.u, region.v, region.u2, region.v);
+			} else {
+				recordRect(region.texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u, region.v,
+					region.u2, region.v, region.u2, region.v2, region.u, region.v2);
+			}
+		} else if (!adjustNeeded) {
 			super.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation, clockwise);
 		} else {
 			drawAdjusted(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation, clockwise);
@@ -257,7 +545,9 @@ public class CpuSpriteBatch extends SpriteBatch {
 
 	@Override
 	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
-		if (!adjustNeeded) {
+		if (executor != null) {
+			recordAffine(region, width, height, transform);
+		} else if (!adjustNeeded) {
 			super.draw(region, width, height, transform);
 		} else {
 			drawAdjusted(region, width, height, transform);
@@ -290,7 +580,7 @@ public class CpuSpriteBatch extends SpriteBatch {
 
 		if (texture != lastTexture)
 			switchTexture(texture);
-		else if (idx == vertices.length) super.flush();
+		else if (idx == vertices.length) flush();
 
 		// bottom left and top right corner points relative to origin
 		final float worldOriginX = x + originX;
@@ -412,7 +702,7 @@ public class CpuSpriteBatch extends SpriteBatch {
 
 		if (region.texture != lastTexture)
 			switchTexture(region.texture);
-		else if (idx == vertices.length) super.flush();
+		else if (idx == vertices.length) flush();
 
 		// bottom left and top right corner points relative to origin
 		final float worldOriginX = x + originX;
@@ -543,7 +833,7 @@ public class CpuSpriteBatch extends SpriteBatch {
 
 		if (region.texture != lastTexture)
 			switchTexture(region.texture);
-		else if (idx == vertices.length) super.flush();
+		else if (idx == vertices.length) flush();
 
 		Affine2 t = transform;
 
@@ -618,7 +908,7 @@ public class CpuSpriteBatch extends SpriteBatch {
 			}
 
 			if (count > 0) {
-				super.flush();
+				flush();
 				copyCount = Math.min(vertices.length, count);
 			}
 		} while (count > 0);
@@ -648,4 +938,14 @@ public class CpuSpriteBatch extends SpriteBatch {
 		return (val[Matrix4.M00] == 1 && val[Matrix4.M10] == 0 && val[Matrix4.M01] == 0 && val[Matrix4.M11] == 1
 			&& val[Matrix4.M03] == 0 && val[Matrix4.M13] == 0);
 	}
+
+	static private class GenerateTask implements AsyncTask<Void> {
+		float[] commands, vertices;
+		int start, end;
+
+		public Void call () {
+			generate(commands, vertices, start, end);
+			return null;
+		}
+	}
 }
@@ -0,0 +1,568 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** Draws batched sprites using instanced rendering, which requires GL30. Instead of the 4 vertices SpriteBatch computes for each
+ * sprite, one record of 12 floats is written per sprite: position, size, origin, rotation, texture region and packed color. The
+ * vertex shader expands each record into a quad, so rotation and scale cost nothing on the CPU.
+ * <p>
+ * The API mirrors {@link SpriteBatch} for the draw methods that can be expressed as a record. It is not a {@link Batch}, since
+ * arbitrary vertices and affine transforms can't be. Shaders set with {@link #setShader(ShaderProgram)} must use the same
+ * attributes as {@link #createDefaultShader()}, the combined matrix is set as "u_projTrans" and the texture as "u_texture".
+ * @see SpriteBatch */
+public class InstancedSpriteBatch implements Disposable {
+	/** Instance attribute with the position x, y and the size width, height. */
+	static public final String BOUNDS_ATTRIBUTE = "a_bounds";
+	/** Instance attribute with the origin x, y relative to the position and the rotation in radians. */
+	static public final String TRANSFORM_ATTRIBUTE = "a_transform";
+	/** Instance attribute with the texture region u, v, u2, v2. */
+	static public final String REGION_ATTRIBUTE = "a_region";
+
+	static final int INSTANCE_SIZE = 4 + 3 + 4 + 1;
+
+	private final static Map<Application, Array<InstancedSpriteBatch>> batches = new HashMap<Application, Array<InstancedSpriteBatch>>();
+
+	private final GL30 gl;
+	private final int[] bufferHandles;
+	private int currBufferIdx = 0;
+	private int vaoHandle = -1;
+	private final ByteBuffer byteBuffer;
+
+	final float[] instances;
+	int idx = 0;
+	Texture lastTexture = null;
+
+	boolean drawing = false;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+	private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	private final ShaderProgram shader;
+	private ShaderProgram customShader = null;
+	private boolean ownsShader;
+
+	float color = Color.WHITE.toFloatBits();
+	private Color tempColor = new Color(1, 1, 1, 1);
+
+	/** Number of render calls since the last {@link #begin()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** The maximum number of sprites rendered in one batch so far. **/
+	public int maxSpritesInBatch = 0;
+
+	/** Constructs a new InstancedSpriteBatch with a size of 1000, one buffer, and the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, int, ShaderProgram) */
+	public InstancedSpriteBatch () {
+		this(1000, 1, null);
+	}
+
+	/** Constructs an InstancedSpriteBatch with one buffer and the default shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, int, ShaderProgram) */
+	public InstancedSpriteBatch (int size) {
+		this(size, 1, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch. The projection matrix is set up the same way as {@link SpriteBatch} does.
+	 * @param size The max number of sprites in a single batch.
+	 * @param buffers The number of instance buffers to cycle through, see {@link SpriteBatch#SpriteBatch(int, int, ShaderProgram)}.
+	 * @param defaultShader The default shader to use. This is not owned by the InstancedSpriteBatch and must be disposed
+	 *           separately.
+	 * @throws GdxRuntimeException if GL30 is not available. */
+	public InstancedSpriteBatch (int size, int buffers, ShaderProgram defaultShader) {
+		if (Gdx.gl30 == null) throw new GdxRuntimeException("InstancedSpriteBatch requires GL30.");
+		if (size < 1) throw new IllegalArgumentException("size must be > 0: " + size);
+		if (buffers < 1) throw new IllegalArgumentException("buffers must be > 0: " + buffers);
+		gl = Gdx.gl30;
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+		instances = new float[size * INSTANCE_SIZE];
+		byteBuffer = BufferUtils.newUnsafeByteBuffer(size * INSTANCE_SIZE * 4);
+		bufferHandles = new int[buffers];
+		createBuffers();
+		addManagedBatch(Gdx.app, this);
+
+		if (defaultShader == null) {
+			shader = createDefaultShader();
+			ownsShader = true;
+		} else
+			shader = defaultShader;
+	}
+
+	private void createBuffers () {
+		for (int i = 0; i < bufferHandles.length; i++)
+			bufferHandles[i] = gl.glGenBuffer();
+		int[] handle = new int[1];
+		gl.glGenVertexArrays(1, handle, 0);
+		vaoHandle = handle[0];
+		// A generated name only becomes a vertex array object once it is bound.
+		gl.glBindVertexArray(vaoHandle);
+		gl.glBindVertexArray(0);
+	}
+
+	/** Returns a new instance of the default shader used by InstancedSpriteBatch when no shader is specified. The shader uses GLSL
+	 * 1.50 on desktop and GLSL ES 3.00 elsewhere. */
+	static public ShaderProgram createDefaultShader () {
+		String version = Gdx.app.getType() == ApplicationType.Desktop ? "#version 150\n" : "#version 300 es\n";
+		String vertexShader = version //
+			+ "in vec4 " + BOUNDS_ATTRIBUTE + ";\n" //
+			+ "in vec3 " + TRANSFORM_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + REGION_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "out vec4 v_color;\n" //
+			+ "out vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   vec2 corner = vec2(float(gl_VertexID & 1), float(gl_VertexID >> 1));\n" //
+			+ "   vec2 origin = " + TRANSFORM_ATTRIBUTE + ".xy;\n" //
+			+ "   vec2 local = corner * " + BOUNDS_ATTRIBUTE + ".zw - origin;\n" //
+			+ "   float c = cos(" + TRANSFORM_ATTRIBUTE + ".z);\n" //
+			+ "   float s = sin(" + TRANSFORM_ATTRIBUTE + ".z);\n" //
+			+ "   vec2 position = " + BOUNDS_ATTRIBUTE + ".xy + origin + vec2(c * local.x - s * local.y, s * local.x + c * local.y);\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   v_texCoords = vec2(mix(" + REGION_ATTRIBUTE + ".x, " + REGION_ATTRIBUTE + ".z, corner.x), mix(" + REGION_ATTRIBUTE
+			+ ".w, " + REGION_ATTRIBUTE + ".y, corner.y));\n" //
+			+ "   gl_Position =  u_projTrans * vec4(position, 0.0, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = version //
+			+ "#ifdef GL_ES\n" //
+			+ "precision mediump float;\n" //
+			+ "#endif\n" //
+			+ "in vec4 v_color;\n" //
+			+ "in vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "out vec4 fragColor;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  fragColor = v_color * texture(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (shader.isCompiled() == false) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+
+	public void begin () {
+		if (drawing) throw new IllegalStateException("InstancedSpriteBatch.end must be called before begin.");
+		renderCalls = 0;
+
+		Gdx.gl.glDepthMask(false);
+		if (customShader != null)
+			customShader.begin();
+		else
+			shader.begin();
+		setupMatrices();
+
+		drawing = true;
+	}
+
+	public void end () {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before end.");
+		if (idx > 0) flush();
+		lastTexture = null;
+		drawing = false;
+
+		GL20 gl = Gdx.gl;
+		gl.glDepthMask(true);
+		if (isBlendingEnabled()) gl.glDisable(GL20.GL_BLEND);
+
+		if (customShader != null)
+			customShader.end();
+		else
+			shader.end();
+	}
+
+	public void setColor (Color tint) {
+		color = tint.toFloatBits();
+	}
+
+	public void setColor (float r, float g, float b, float a) {
+		int intBits = (int)(255 * a) << 24 | (int)(255 * b) << 16 | (int)(255 * g) << 8 | (int)(255 * r);
+		color = NumberUtils.intToFloatColor(intBits);
+	}
+
+	public void setColor (float color) {
+		this.color = color;
+	}
+
+	public Color getColor () {
+		int intBits = NumberUtils.floatToIntColor(color);
+		Color color = tempColor;
+		color.r = (intBits & 0xff) / 255f;
+		color.g = ((intBits >>> 8) & 0xff) / 255f;
+		color.b = ((intBits >>> 16) & 0xff) / 255f;
+		color.a = ((intBits >>> 24) & 0xff) / 255f;
+		return color;
+	}
+
+	public float getPackedColor () {
+		return color;
+	}
+
+	public void draw (Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		float[] instances = this.instances;
+
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx == instances.length) //
+			flush();
+
+		int idx = this.idx;
+		instances[idx++] = x;
+		instances[idx++] = y;
+		instances[idx++] = width;
+		instances[idx++] = height;
+		instances[idx++] = 0;
+		instances[idx++] = 0;
+		instances[idx++] = 0;
+		instances[idx++] = 0;
+		instances[idx++] = 0;
+		instances[idx++] = 1;
+		instances[idx++] = 1;
+		instances[idx++] = color;
+		this.idx = idx;
+	}
+
+	public void draw (TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		float[] instances = this.instances;
+
+		Texture texture = region.texture;
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) //
+			flush();
+
+		int idx = this.idx;
+		instances[idx++] = x;
+		instances[idx++] = y;
+		instances[idx++] = width;
+		instances[idx++] = height;
+		instances[idx++] = 0;
+		instances[idx++] = 0;
+		instances[idx++] = 0;
+		instances[idx++] = region.u;
+		instances[idx++] = region.v;
+		instances[idx++] = region.u2;
+		instances[idx++] = region.v2;
+		instances[idx++] = color;
+		this.idx = idx;
+	}
+
+	/** Draws a rectangle scaled and rotated around the origin, see
+	 * {@link Batch#draw(TextureRegion, float, float, float, float, float, float, float, float, float)}. */
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		float[] instances = this.instances;
+
+		Texture texture = region.texture;
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) //
+			flush();
+
+		// The scale is applied to the size and origin, the position stays where the unscaled origin is.
+		float scaledOriginX = originX * scaleX;
+		float scaledOriginY = originY * scaleY;
+		int idx = this.idx;
+		instances[idx++] = x + originX - scaledOriginX;
+		instances[idx++] = y + originY - scaledOriginY;
+		instances[idx++] = width * scaleX;
+		instances[idx++] = height * scaleY;
+		instances[idx++] = scaledOriginX;
+		instances[idx++] = scaledOriginY;
+		instances[idx++] = rotation * MathUtils.degreesToRadians;
+		instances[idx++] = region.u;
+		instances[idx++] = region.v;
+		instances[idx++] = region.u2;
+		instances[idx++] = region.v2;
+		instances[idx++] = color;
+		this.idx = idx;
+	}
+
+	/** Draws the sprite with its position, size, origin, scale, rotation and region. Only the color of the sprite's first vertex
+	 * is used, the color of this batch is ignored. */
+	public void draw (Sprite sprite) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+
+		float[] instances = this.instances;
+
+		Texture texture = sprite.getTexture();
+		if (texture != lastTexture) {
+			switchTexture(texture);
+		} else if (idx == instances.length) //
+			flush();
+
+		float originX = sprite.getOriginX(), originY = sprite.getOriginY();
+		float scaleX = sprite.getScaleX(), scaleY = sprite.getScaleY();
+		float scaledOriginX = originX * scaleX;
+		float scaledOriginY = originY * scaleY;
+		int idx = this.idx;
+		instances[idx++] = sprite.getX() + originX - scaledOriginX;
+		instances[idx++] = sprite.getY() + originY - scaledOriginY;
+		instances[idx++] = sprite.getWidth() * scaleX;
+		instances[idx++] = sprite.getHeight() * scaleY;
+		instances[idx++] = scaledOriginX;
+		instances[idx++] = scaledOriginY;
+		instances[idx++] = sprite.getRotation() * MathUtils.degreesToRadians;
+		instances[idx++] = sprite.u;
+		instances[idx++] = sprite.v;
+		instances[idx++] = sprite.u2;
+		instances[idx++] = sprite.v2;
+		instances[idx++] = sprite.vertices[Batch.C1];
+		this.idx = idx;
+	}
+
+	public void flush () {
+		if (idx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = idx / INSTANCE_SIZE;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		GL30 gl = this.gl;
+		lastTexture.bind();
+		BufferUtils.copy(instances, byteBuffer, idx, 0);
+		gl.glBindVertexArray(vaoHandle);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandles[currBufferIdx]);
+		gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, GL20.GL_STREAM_DRAW);
+
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		int stride = INSTANCE_SIZE * 4;
+		setInstanceAttribute(shader, BOUNDS_ATTRIBUTE, 4, GL20.GL_FLOAT, false, stride, 0);
+		setInstanceAttribute(shader, TRANSFORM_ATTRIBUTE, 3, GL20.GL_FLOAT, false, stride, 16);
+		setInstanceAttribute(shader, REGION_ATTRIBUTE, 4, GL20.GL_FLOAT, false, stride, 28);
+		setInstanceAttribute(shader, ShaderProgram.COLOR_ATTRIBUTE, 4, GL20.GL_UNSIGNED_BYTE, true, stride, 44);
+
+		if (blendingDisabled) {
+			gl.glDisable(GL20.GL_BLEND);
+		} else {
+			gl.glEnable(GL20.GL_BLEND);
+			if (blendSrcFunc != -1) gl.glBlendFunc(blendSrcFunc, blendDstFunc);
+		}
+
+		gl.glDrawArraysInstanced(GL20.GL_TRIANGLE_STRIP, 0, 4, spritesInBatch);
+
+		gl.glBindVertexArray(0);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+
+		idx = 0;
+
+		if (bufferHandles.length > 1) {
+			currBufferIdx++;
+			if (currBufferIdx == bufferHandles.length) currBufferIdx = 0;
+		}
+	}
+
+	private void setInstanceAttribute (ShaderProgram shader, String name, int size, int type, boolean normalize, int stride,
+		int offset) {
+		int location = shader.getAttributeLocation(name);
+		if (location < 0) return;
+		shader.enableVertexAttribute(location);
+		shader.setVertexAttribute(location, size, type, normalize, stride, offset);
+		gl.glVertexAttribDivisor(location, 1);
+	}
+
+	public void disableBlending () {
+		if (blendingDisabled) return;
+		flush();
+		blendingDisabled = true;
+	}
+
+	public void enableBlending () {
+		if (!blendingDisabled) return;
+		flush();
+		blendingDisabled = false;
+	}
+
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		if (blendSrcFunc == srcFunc && blendDstFunc == dstFunc) return;
+		flush();
+		blendSrcFunc = srcFunc;
+		blendDstFunc = dstFunc;
+	}
+
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	@Override
+	public void dispose () {
+		GL30 gl = this.gl;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		for (int i = 0; i < bufferHandles.length; i++)
+			gl.glDeleteBuffer(bufferHandles[i]);
+		gl.glDeleteVertexArrays(1, new int[] {vaoHandle}, 0);
+		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+		if (ownsShader && shader != null) shader.dispose();
+
+		if (batches.get(Gdx.app) != null) batches.get(Gdx.app).removeValue(this, true);
+	}
+
+	private static void addManagedBatch (Application app, InstancedSpriteBatch batch) {
+		Array<InstancedSpriteBatch> managedResources = batches.get(app);
+		if (managedResources == null) managedResources = new Array<InstancedSpriteBatch>();
+		managedResources.add(batch);
+		batches.put(app, managedResources);
+	}
+
+	/** Invalidates all instanced sprite batches so their buffers and vertex array objects are created again. This can be used
+	 * when the OpenGL context is lost. */
+	public static void invalidateAllInstancedSpriteBatches (Application app) {
+		if (Gdx.gl30 == null) return;
+
+		Array<InstancedSpriteBatch> batchArray = batches.get(app);
+		if (batchArray == null) return;
+		for (int i = 0; i < batchArray.size; i++) {
+			batchArray.get(i).createBuffers();
+		}
+	}
+
+	public static void clearAllInstancedSpriteBatches (Application app) {
+		batches.remove(app);
+	}
+
+	public static StringBuilder getManagedStatus (final StringBuilder builder) {
+		builder.append("Managed instanced sprite batches/app: { ");
+		for (Application app : batches.keySet()) {
+			builder.append(batches.get(app).size);
+			builder.append(" ");
+		}
+		builder.append("}");
+		return builder;
+	}
+
+	public static String getManagedStatus () {
+		return getManagedStatus(new StringBuilder()).toString();
+	}
+
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (drawing) flush();
+		projectionMatrix.set(projection);
+		if (drawing) setupMatrices();
+	}
+
+	public void setTransformMatrix (Matrix4 transform) {
+		if (drawing) flush();
+		transformMatrix.set(transform);
+		if (drawing) setupMatrices();
+	}
+
+	private void setupMatrices () {
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		if (customShader != null) {
+			customShader.setUniformMatrix("u_projTrans", combinedMatrix);
+			customShader.setUniformi("u_texture", 0);
+		} else {
+			shader.setUniformMatrix("u_projTrans", combinedMatrix);
+			shader.setUniformi("u_texture", 0);
+		}
+	}
+
+	protected void switchTexture (Texture texture) {
+		flush();
+		lastTexture = texture;
+	}
+
+	public void setShader (ShaderProgram shader) {
+		if (drawing) {
+			flush();
+			if (customShader != null)
+				customShader.end();
+			else
+				this.shader.end();
+		}
+		customShader = shader;
+		if (drawing) {
+			if (customShader != null)
+				customShader.begin();
+			else
+				this.shader.begin();
+			setupMatrices();
+		}
+	}
+
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	public boolean isDrawing () {
+		return drawing;
+	}
+
+	/** @return The number of instance buffers the batch cycles through. */
+	public int getBufferCount () {
+		return bufferHandles.length;
+	}
+}
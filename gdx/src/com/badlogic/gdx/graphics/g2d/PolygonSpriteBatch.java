@@ -58,6 +58,8 @@ import com.badlogic.gdx.utils.NumberUtils;
  * @author Nathan Sweet */
 public class PolygonSpriteBatch implements Batch {
 	private Mesh mesh;
+	private Mesh[] buffers;
+	private int currBufferIdx = 0;
 
 	private final float[] vertices;
 	private final short[] triangles;
@@ -111,16 +113,32 @@ public class PolygonSpriteBatch implements Batch {
 	 * @param size The max number of vertices and number of triangles in a single batch. Max of 10920.
 	 * @param defaultShader The default shader to use. This is not owned by the PolygonSpriteBatch and must be disposed separately. */
 	public PolygonSpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, 1, defaultShader);
+	}
+
+	/** Constructs a new PolygonSpriteBatch. See {@link #PolygonSpriteBatch(int, ShaderProgram)} and
+	 * {@link SpriteBatch#SpriteBatch(int, int, ShaderProgram)}.
+	 * @param size The max number of vertices and number of triangles in a single batch. Max of 10920.
+	 * @param buffers The number of vertex and index buffers to cycle through.
+	 * @param defaultShader The default shader to use. This is not owned by the PolygonSpriteBatch and must be disposed separately. */
+	public PolygonSpriteBatch (int size, int buffers, ShaderProgram defaultShader) {
 		// 32767 is max index, so 32767 / 3 - (32767 / 3 % 3) = 10920.
 		if (size > 10920) throw new IllegalArgumentException("Can't have more than 10920 triangles per batch: " + size);
+		if (buffers < 1) throw new IllegalArgumentException("buffers must be > 0: " + buffers);
 
 		Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
 		if (Gdx.gl30 != null) {
 			vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
+		} else if (buffers > 1) {
+			vertexDataType = VertexDataType.VertexBufferObject;
+		}
+		this.buffers = new Mesh[buffers];
+		for (int i = 0; i < buffers; i++) {
+			this.buffers[i] = new Mesh(vertexDataType, false, size, size * 3, new VertexAttribute(Usage.Position, 2,
+				ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
 		}
-		mesh = new Mesh(vertexDataType, false, size, size * 3, new VertexAttribute(Usage.Position, 2,
-			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		mesh = this.buffers[0];
 
 		vertices = new float[size * VERTEX_SIZE];
 		triangles = new short[size * 3];
@@ -1202,6 +1220,12 @@ public class PolygonSpriteBatch implements Batch {
 
 		vertexIndex = 0;
 		triangleIndex = 0;
+
+		if (buffers.length > 1) {
+			currBufferIdx++;
+			if (currBufferIdx == buffers.length) currBufferIdx = 0;
+			this.mesh = buffers[currBufferIdx];
+		}
 	}
 
 	@Override
@@ -1236,7 +1260,8 @@ public class PolygonSpriteBatch implements Batch {
 
 	@Override
 	public void dispose () {
-		mesh.dispose();
+		for (int i = 0; i < buffers.length; i++)
+			buffers[i].dispose();
 		if (ownsShader && shader != null) shader.dispose();
 	}
 
@@ -1310,4 +1335,9 @@ public class PolygonSpriteBatch implements Batch {
 	public boolean isDrawing () {
 		return drawing;
 	}
+
+	/** @return The number of vertex and index buffers the batch cycles through. */
+	public int getBufferCount () {
+		return buffers.length;
+	}
 }
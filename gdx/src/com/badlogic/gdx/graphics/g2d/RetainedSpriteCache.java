@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static com.badlogic.gdx.graphics.g2d.Sprite.SPRITE_SIZE;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/** Draws 2D images that mostly don't change, like {@link SpriteCache}, but each image can be changed or removed later without
+ * rebuilding the cache. Images are added with {@link #add(Sprite)}, which returns a handle for {@link #set(int, Sprite)} and
+ * {@link #remove(int)}. Only the vertices of changed images are uploaded when {@link #draw()} is called, so a static scene costs
+ * nearly nothing per frame.
+ * <p>
+ * Images are drawn in the order they were added. Removing an image leaves a gap that draws nothing. Each draw closes up to
+ * {@link #compactPerDraw} gaps by moving the following images down, keeping their order.
+ * <p>
+ * Like SpriteCache, RetainedSpriteCache does not manage blending. The shader uses the same uniforms as {@link SpriteBatch}.
+ * RetainedSpriteCache is managed and must be disposed once it is no longer needed. */
+public class RetainedSpriteCache implements Disposable {
+	private final Mesh mesh;
+	private final float[] vertices;
+	private final int capacity;
+
+	private final Texture[] slotTextures;
+	private final int[] slotHandles;
+	private final int[] handleSlots;
+	private final IntArray freeHandles = new IntArray();
+	private int nextHandle;
+	private int slotCount, firstHole;
+
+	private final boolean[] dirty;
+	private final IntArray dirtySlots = new IntArray();
+
+	private final Array<Texture> runTextures = new Array();
+	private final IntArray runs = new IntArray();
+	private boolean runsDirty;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	private final ShaderProgram shader;
+	private ShaderProgram customShader = null;
+	private boolean ownsShader;
+
+	/** The maximum number of images moved to close gaps each time {@link #draw()} is called. **/
+	public int compactPerDraw = 64;
+
+	/** Number of render calls in the last {@link #draw()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** Creates a cache that can contain up to 1000 images. */
+	public RetainedSpriteCache () {
+		this(1000, null);
+	}
+
+	/** Creates a cache with the specified size, using the default shader. */
+	public RetainedSpriteCache (int size) {
+		this(size, null);
+	}
+
+	/** Creates a cache with the specified size and shader.
+	 * @param size The maximum number of images this cache can hold. The memory required to hold the images is allocated up front.
+	 *           Max of 5460.
+	 * @param shader The shader to use, or null to use {@link SpriteBatch#createDefaultShader()}. This is not owned by the
+	 *           RetainedSpriteCache and must be disposed separately. */
+	public RetainedSpriteCache (int size, ShaderProgram shader) {
+		// 32767 is max index, so 32767 / 6 - (32767 / 6 % 3) = 5460.
+		if (size > 5460) throw new IllegalArgumentException("Can't have more than 5460 sprites per cache: " + size);
+		capacity = size;
+
+		mesh = new Mesh(VertexDataType.VertexBufferObjectSubData, false, size * 4, size * 6, new VertexAttribute(Usage.Position,
+			2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		mesh.setAutoBind(false);
+
+		vertices = new float[size * SPRITE_SIZE];
+		mesh.setVertices(vertices);
+
+		int len = size * 6;
+		short[] indices = new short[len];
+		short j = 0;
+		for (int i = 0; i < len; i += 6, j += 4) {
+			indices[i] = j;
+			indices[i + 1] = (short)(j + 1);
+			indices[i + 2] = (short)(j + 2);
+			indices[i + 3] = (short)(j + 2);
+			indices[i + 4] = (short)(j + 3);
+			indices[i + 5] = j;
+		}
+		mesh.setIndices(indices);
+
+		slotTextures = new Texture[size];
+		slotHandles = new int[size];
+		handleSlots = new int[size];
+		dirty = new boolean[size];
+
+		if (shader == null) {
+			this.shader = SpriteBatch.createDefaultShader();
+			ownsShader = true;
+		} else
+			this.shader = shader;
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+	}
+
+	/** Adds the sprite to the cache.
+	 * @return The handle to change or remove the image. */
+	public int add (Sprite sprite) {
+		return add(sprite.getTexture(), sprite.getVertices(), 0);
+	}
+
+	/** Adds an image to the cache. The image is specified as 4 vertices, each with 5 elements: x, y, color, u, and v.
+	 * @return The handle to change or remove the image. */
+	public int add (Texture texture, float[] vertices, int offset) {
+		if (texture == null) throw new IllegalArgumentException("texture cannot be null.");
+		if (slotCount == capacity) {
+			compact(Integer.MAX_VALUE);
+			if (slotCount == capacity) throw new GdxRuntimeException("Can't have more than " + capacity + " images in the cache.");
+		}
+		int handle = freeHandles.size > 0 ? freeHandles.pop() : nextHandle++;
+		int slot = slotCount++;
+		if (firstHole == slot) firstHole = slotCount;
+		slotHandles[slot] = handle;
+		handleSlots[handle] = slot;
+		setSlot(slot, texture, vertices, offset);
+		return handle;
+	}
+
+	/** Changes an image to the sprite's current vertices and texture. */
+	public void set (int handle, Sprite sprite) {
+		set(handle, sprite.getTexture(), sprite.getVertices(), 0);
+	}
+
+	/** Changes an image. See {@link #add(Texture, float[], int)}. */
+	public void set (int handle, Texture texture, float[] vertices, int offset) {
+		if (texture == null) throw new IllegalArgumentException("texture cannot be null.");
+		setSlot(slot(handle), texture, vertices, offset);
+	}
+
+	/** Removes an image from the cache. The handle may be returned again by a later add. */
+	public void remove (int handle) {
+		int slot = slot(handle);
+		handleSlots[handle] = -1;
+		freeHandles.add(handle);
+		clearSlot(slot);
+		if (slot < firstHole) firstHole = slot;
+		while (slotCount > 0 && slotTextures[slotCount - 1] == null)
+			slotCount--;
+		if (firstHole > slotCount) firstHole = slotCount;
+	}
+
+	/** Removes all images from the cache. All handles are invalidated. */
+	public void clear () {
+		for (int i = 0; i < slotCount; i++)
+			if (slotTextures[i] != null) clearSlot(i);
+		freeHandles.clear();
+		nextHandle = 0;
+		slotCount = 0;
+		firstHole = 0;
+	}
+
+	/** @return The number of images in the cache. */
+	public int getCount () {
+		return nextHandle - freeHandles.size;
+	}
+
+	private int slot (int handle) {
+		int slot = handle >= 0 && handle < nextHandle ? handleSlots[handle] : -1;
+		if (slot == -1) throw new IllegalArgumentException("Invalid handle: " + handle);
+		return slot;
+	}
+
+	private void setSlot (int slot, Texture texture, float[] vertices, int offset) {
+		System.arraycopy(vertices, offset, this.vertices, slot * SPRITE_SIZE, SPRITE_SIZE);
+		if (slotTextures[slot] != texture) {
+			slotTextures[slot] = texture;
+			runsDirty = true;
+		}
+		markDirty(slot);
+	}
+
+	/** Collapses the image to a point so it draws nothing. */
+	private void clearSlot (int slot) {
+		float[] vertices = this.vertices;
+		for (int i = slot * SPRITE_SIZE, n = i + SPRITE_SIZE; i < n; i++)
+			vertices[i] = 0;
+		slotTextures[slot] = null;
+		runsDirty = true;
+		markDirty(slot);
+	}
+
+	private void markDirty (int slot) {
+		if (dirty[slot]) return;
+		dirty[slot] = true;
+		dirtySlots.add(slot);
+	}
+
+	/** Moves up to max images down into the gaps before them, keeping their order. */
+	private void compact (int max) {
+		int write = firstHole;
+		if (write >= slotCount) return;
+		Texture[] slotTextures = this.slotTextures;
+		int read = write + 1;
+		for (; read < slotCount && max > 0; read++) {
+			if (slotTextures[read] == null) continue;
+			// All slots from write to read are gaps.
+			System.arraycopy(vertices, read * SPRITE_SIZE, vertices, write * SPRITE_SIZE, SPRITE_SIZE);
+			slotTextures[write] = slotTextures[read];
+			int handle = slotHandles[read];
+			slotHandles[write] = handle;
+			handleSlots[handle] = write;
+			markDirty(write);
+			clearSlot(read);
+			write++;
+			max--;
+		}
+		if (read == slotCount) slotCount = write;
+		firstHole = write;
+	}
+
+	private void updateRuns () {
+		runTextures.clear();
+		runs.clear();
+		Texture[] slotTextures = this.slotTextures;
+		Texture runTexture = null;
+		int start = 0;
+		for (int i = 0, n = slotCount; i < n; i++) {
+			// Gaps draw nothing, so they can be part of any run.
+			Texture texture = slotTextures[i];
+			if (texture == null || texture == runTexture) continue;
+			if (runTexture != null) {
+				runTextures.add(runTexture);
+				runs.add(start);
+				runs.add(i - start);
+			}
+			runTexture = texture;
+			start = i;
+		}
+		if (runTexture != null) {
+			runTextures.add(runTexture);
+			runs.add(start);
+			runs.add(slotCount - start);
+		}
+		runsDirty = false;
+	}
+
+	/** Uploads the vertices of changed images, merging adjacent images into one upload. The mesh must be bound. */
+	private void upload () {
+		IntArray dirtySlots = this.dirtySlots;
+		if (dirtySlots.size == 0) return;
+		dirtySlots.sort();
+		int[] items = dirtySlots.items;
+		boolean[] dirty = this.dirty;
+		int start = items[0], end = start + 1;
+		for (int i = 0, n = dirtySlots.size; i < n; i++) {
+			int slot = items[i];
+			dirty[slot] = false;
+			if (slot == end)
+				end++;
+			else if (slot >= end) {
+				mesh.updateVertices(start * SPRITE_SIZE, vertices, start * SPRITE_SIZE, (end - start) * SPRITE_SIZE);
+				start = slot;
+				end = slot + 1;
+			}
+		}
+		mesh.updateVertices(start * SPRITE_SIZE, vertices, start * SPRITE_SIZE, (end - start) * SPRITE_SIZE);
+		dirtySlots.clear();
+	}
+
+	/** Draws all images, first uploading the vertices of images that were changed since the last draw. */
+	public void draw () {
+		compact(compactPerDraw);
+		if (runsDirty) updateRuns();
+
+		ShaderProgram shader = customShader != null ? customShader : this.shader;
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		Gdx.gl.glDepthMask(false);
+		shader.begin();
+		shader.setUniformMatrix("u_projTrans", combinedMatrix);
+		shader.setUniformi("u_texture", 0);
+		mesh.bind(shader);
+		upload();
+
+		renderCalls = 0;
+		int[] runs = this.runs.items;
+		for (int i = 0, n = runTextures.size; i < n; i++) {
+			runTextures.get(i).bind();
+			mesh.render(shader, GL20.GL_TRIANGLES, runs[i * 2] * 6, runs[i * 2 + 1] * 6);
+			renderCalls++;
+		}
+		totalRenderCalls += renderCalls;
+
+		mesh.unbind(shader);
+		shader.end();
+		Gdx.gl.glDepthMask(true);
+	}
+
+	/** Releases all resources held by this RetainedSpriteCache. */
+	public void dispose () {
+		mesh.dispose();
+		if (ownsShader && shader != null) shader.dispose();
+	}
+
+	public Matrix4 getProjectionMatrix () {
+		return projectionMatrix;
+	}
+
+	public void setProjectionMatrix (Matrix4 projection) {
+		projectionMatrix.set(projection);
+	}
+
+	public Matrix4 getTransformMatrix () {
+		return transformMatrix;
+	}
+
+	public void setTransformMatrix (Matrix4 transform) {
+		transformMatrix.set(transform);
+	}
+
+	/** Sets the shader to use instead of the default shader, or null to use the default shader. See
+	 * {@link SpriteBatch#setShader(ShaderProgram)}. */
+	public void setShader (ShaderProgram shader) {
+		customShader = shader;
+	}
+}
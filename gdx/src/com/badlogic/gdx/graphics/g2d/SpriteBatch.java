@@ -25,6 +25,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
@@ -36,6 +37,8 @@ import com.badlogic.gdx.utils.NumberUtils;
  * @author Nathan Sweet */
 public class SpriteBatch implements Batch {
 	private Mesh mesh;
+	private Mesh[] buffers;
+	private int currBufferIdx = 0;
 
 	final float[] vertices;
 	int idx = 0;
@@ -80,25 +83,44 @@ public class SpriteBatch implements Batch {
 		this(size, null);
 	}
 
-	/** Constructs a new SpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards, x-axis
-	 * point to the right and the origin being in the bottom left corner of the screen. The projection will be pixel perfect with
-	 * respect to the current screen resolution.
+	/** Constructs a new SpriteBatch with one buffer. Sets the projection matrix to an orthographic projection with y-axis point
+	 * upwards, x-axis point to the right and the origin being in the bottom left corner of the screen. The projection will be pixel
+	 * perfect with respect to the current screen resolution.
 	 * <p>
 	 * The defaultShader specifies the shader to use. Note that the names for uniforms for this default shader are different than
 	 * the ones expect for shaders set with {@link #setShader(ShaderProgram)}. See {@link #createDefaultShader()}.
 	 * @param size The max number of sprites in a single batch. Max of 5460.
 	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, 1, defaultShader);
+	}
+
+	/** Constructs a new SpriteBatch. See {@link #SpriteBatch(int, ShaderProgram)}.
+	 * <p>
+	 * With more than one buffer, each flush writes to the next buffer in turn, so the vertices are never uploaded into a buffer
+	 * that the GPU may still be reading from a previous flush. Use {@link GLProfiler#stallingBufferUploads} to find a buffer count
+	 * that avoids such uploads.
+	 * @param size The max number of sprites in a single batch. Max of 5460.
+	 * @param buffers The number of vertex buffers to cycle through.
+	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
+	public SpriteBatch (int size, int buffers, ShaderProgram defaultShader) {
 		// 32767 is max index, so 32767 / 6 - (32767 / 6 % 3) = 5460.
 		if (size > 5460) throw new IllegalArgumentException("Can't have more than 5460 sprites per batch: " + size);
+		if (buffers < 1) throw new IllegalArgumentException("buffers must be > 0: " + buffers);
 
 		Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
 		if (Gdx.gl30 != null) {
 			vertexDataType = Mesh.VertexDataType.VertexBufferObjectWithVAO;
+		} else if (buffers > 1) {
+			vertexDataType = Mesh.VertexDataType.VertexBufferObject;
 		}
-		mesh = new Mesh(vertexDataType, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
-			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		this.buffers = new Mesh[buffers];
+		for (int i = 0; i < buffers; i++) {
+			this.buffers[i] = new Mesh(vertexDataType, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
+				ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		}
+		mesh = this.buffers[0];
 
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
@@ -115,7 +137,8 @@ public class SpriteBatch implements Batch {
 			indices[i + 4] = (short)(j + 3);
 			indices[i + 5] = j;
 		}
-		mesh.setIndices(indices);
+		for (int i = 0; i < buffers; i++)
+			this.buffers[i].setIndices(indices);
 
 		if (defaultShader == null) {
 			shader = createDefaultShader();
@@ -972,6 +995,12 @@ public class SpriteBatch implements Batch {
 		mesh.render(customShader != null ? customShader : shader, GL20.GL_TRIANGLES, 0, count);
 
 		idx = 0;
+
+		if (buffers.length > 1) {
+			currBufferIdx++;
+			if (currBufferIdx == buffers.length) currBufferIdx = 0;
+			this.mesh = buffers[currBufferIdx];
+		}
 	}
 
 	@Override
@@ -1008,7 +1037,8 @@ public class SpriteBatch implements Batch {
 
 	@Override
 	public void dispose () {
-		mesh.dispose();
+		for (int i = 0; i < buffers.length; i++)
+			buffers[i].dispose();
 		if (ownsShader && shader != null) shader.dispose();
 	}
 
@@ -1081,4 +1111,9 @@ public class SpriteBatch implements Batch {
 	public boolean isDrawing () {
 		return drawing;
 	}
+
+	/** @return The number of vertex buffers the batch cycles through. */
+	public int getBufferCount () {
+		return buffers.length;
+	}
 }
@@ -30,6 +30,7 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Trace;
 
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
  * is done using a {@link ShaderProvider}, which defaults to {@link DefaultShaderProvider}. Sorting the renderables is done using
@@ -73,6 +74,8 @@ public class ModelBatch implements Disposable {
 	/** the {@link RenderContext} **/
 	protected final RenderContext context;
 	private final boolean ownContext;
+	/** Number of times the batch was flushed, ever. Will not be reset unless set manually. **/
+	public int totalFlushes = 0;
 	/** the {@link ShaderProvider}, provides {@link Shader} instances for Renderables **/
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
@@ -201,20 +204,26 @@ public class ModelBatch implements Disposable {
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
 	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
 	public void flush () {
-		sorter.sort(camera, renderables);
-		Shader currentShader = null;
-		for (int i = 0; i < renderables.size; i++) {
-			final Renderable renderable = renderables.get(i);
-			if (currentShader != renderable.shader) {
-				if (currentShader != null) currentShader.end();
-				currentShader = renderable.shader;
-				currentShader.begin(camera, context);
+		Trace.begin("ModelBatch.flush");
+		try {
+			totalFlushes++;
+			sorter.sort(camera, renderables);
+			Shader currentShader = null;
+			for (int i = 0; i < renderables.size; i++) {
+				final Renderable renderable = renderables.get(i);
+				if (currentShader != renderable.shader) {
+					if (currentShader != null) currentShader.end();
+					currentShader = renderable.shader;
+					currentShader.begin(camera, context);
+				}
+				currentShader.render(renderable);
 			}
-			currentShader.render(renderable);
+			if (currentShader != null) currentShader.end();
+			renderablesPool.flush();
+			renderables.clear();
+		} finally {
+			Trace.end();
 		}
-		if (currentShader != null) currentShader.end();
-		renderablesPool.flush();
-		renderables.clear();
 	}
 
 	/** End rendering one or more {@link Renderable}s. Must be called after a call to {@link #begin(Camera)}. This will flush the
@@ -22,10 +22,12 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Sort;
 
 /** <p>
  * Minimalistic grouping strategy that splits decals into opaque and transparent ones enabling and disabling blending as needed.
@@ -94,6 +96,9 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 	Camera camera;
 	ShaderProgram shader;
 	private final Comparator<Decal> cameraSorter;
+	/** True when the default back to front comparator is used, in which case blended decals are radix sorted by their distance. */
+	private boolean sortByDistance;
+	private float[] distances;
 
 	public CameraGroupStrategy (final Camera camera) {
 		this(camera, new Comparator<Decal>() {
@@ -104,6 +109,7 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 				return (int)Math.signum(dist2 - dist1);
 			}
 		});
+		sortByDistance = true;
 	}
 
 	public CameraGroupStrategy (Camera camera, Comparator<Decal> sorter) {
@@ -130,7 +136,10 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 	public void beforeGroup (int group, Array<Decal> contents) {
 		if (group == GROUP_BLEND) {
 			Gdx.gl.glEnable(GL20.GL_BLEND);
-			contents.sort(cameraSorter);
+			if (sortByDistance)
+				sortByDistance(contents);
+			else
+				contents.sort(cameraSorter);
 		} else {
 			for (int i = 0, n = contents.size; i < n; i++) {
 				Decal decal = contents.get(i);
@@ -155,6 +164,18 @@ public class CameraGroupStrategy implements GroupStrategy, Disposable {
 		}
 	}
 
+	private void sortByDistance (Array<Decal> contents) {
+		int n = contents.size;
+		if (distances == null || distances.length < n) distances = new float[Math.max(16, (int)(n * 1.75f))];
+		float[] distances = this.distances;
+		Object[] items = (Object[])contents.items;
+		Vector3 position = camera.position;
+		// Negated so the farthest decal comes first.
+		for (int i = 0; i < n; i++)
+			distances[i] = -position.dst2(((Decal)items[i]).position);
+		Sort.instance().sort(items, distances, 0, n);
+	}
+
 	@Override
 	public void afterGroup (int group) {
 		if (group == GROUP_BLEND) {
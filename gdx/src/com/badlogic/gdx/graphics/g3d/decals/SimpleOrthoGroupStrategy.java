@@ -68,6 +68,7 @@ import com.badlogic.gdx.utils.Sort;
  * </p> */
 public class SimpleOrthoGroupStrategy implements GroupStrategy {
 	private Comparator comparator = new Comparator();
+	private float[] keys;
 	private static final int GROUP_OPAQUE = 0;
 	private static final int GROUP_BLEND = 1;
 
@@ -79,7 +80,7 @@ public class SimpleOrthoGroupStrategy implements GroupStrategy {
 	@Override
 	public void beforeGroup (int group, Array<Decal> contents) {
 		if (group == GROUP_BLEND) {
-			Sort.instance().sort(contents, comparator);
+			sortByZ(contents);
 			Gdx.gl.glEnable(GL20.GL_BLEND);
 			// no need for writing into the z buffer if transparent decals are the last thing to be rendered
 			// and they are rendered back to front
@@ -89,6 +90,17 @@ public class SimpleOrthoGroupStrategy implements GroupStrategy {
 		}
 	}
 
+	/** Orders the decals the same as {@link Comparator}, but with a radix sort on their z. */
+	private void sortByZ (Array<Decal> contents) {
+		int n = contents.size;
+		if (keys == null || keys.length < n) keys = new float[Math.max(16, (int)(n * 1.75f))];
+		float[] keys = this.keys;
+		Object[] items = (Object[])contents.items;
+		for (int i = 0; i < n; i++)
+			keys[i] = ((Decal)items[i]).getZ();
+		Sort.instance().sort(items, keys, 0, n);
+	}
+
 	@Override
 	public void afterGroup (int group) {
 		if (group == GROUP_BLEND) {
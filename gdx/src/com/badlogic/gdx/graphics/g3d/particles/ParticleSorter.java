@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRende
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Sort;
 
 /** This class is used by particle batches to sort the particles before rendering.
  * @author Inferno */
@@ -32,7 +33,8 @@ public abstract class ParticleSorter {
 		}
 	}
 
-	/** This class will sort all the particles using the distance from camera. */
+	/** This class will sort all the particles using the distance from camera. The particles are ordered with a radix sort on the
+	 * distances, see {@link Sort#sortIndices(float[], int[], int)}. */
 	public static class Distance extends ParticleSorter{
 		private float[] distances;
 		private int[] particleIndices, particleOffsets;
@@ -56,12 +58,11 @@ public abstract class ParticleSorter {
 			for(ParticleControllerRenderData data : renderData){
 				for(int k=0, c = i+data.controller.particles.size; i <c; ++i, k+=data.positionChannel.strideSize){
 					distances[i] = cx*data.positionChannel.data[k+ParticleChannels.XOffset] + cy*data.positionChannel.data[k+ParticleChannels.YOffset] + cz*data.positionChannel.data[k+ParticleChannels.ZOffset];
-					particleIndices[i] = i;
 				}
 				count += data.controller.particles.size;
 			}
 			
-			qsort(0, count-1);
+			Sort.instance().sortIndices(distances, particleIndices, count);
 			
 			for(i=0; i < count; ++i){
 				particleOffsets[particleIndices[i]] = i;
@@ -69,6 +70,9 @@ public abstract class ParticleSorter {
 			return particleOffsets;
 		}
 
+		/** Quick sorts the distances between si and ei, inclusive, moving the particle indices along with them.
+		 * @deprecated No longer used by {@link #sort(Array)}, which uses {@link Sort#sortIndices(float[], int[], int)}. */
+		@Deprecated
 		public void qsort( int si, int ei){
 			//base case
 			if(si< ei){
@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g3d.RenderableProvider;
 import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Trace;
 
 /**Singleton class which manages the particle effects.
  * It's a utility class to ease particle batches management and particle effects update. 
@@ -45,8 +46,13 @@ public final class ParticleSystem implements RenderableProvider{
 	
 	/** Updates the simulation of all effects */
 	public void update(){
-		for(ParticleEffect effect : effects){
-			effect.update();
+		Trace.begin("ParticleSystem.update");
+		try {
+			for(ParticleEffect effect : effects){
+				effect.update();
+			}
+		} finally {
+			Trace.end();
 		}
 	}
 	
@@ -24,22 +24,61 @@ import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Sort;
 
+/** Sorts opaque renderables front to back, followed by blended renderables back to front. {@link #sort(Camera, Array)} computes
+ * the distance of each renderable to the camera once and orders them with a radix sort on it, without calling
+ * {@link #compare(Renderable, Renderable)}, which orders the same way. Subclasses are sorted with compare, so overriding it still
+ * customizes the order. */
 public class DefaultRenderableSorter implements RenderableSorter, Comparator<Renderable> {
 	private Camera camera;
 	private final Vector3 tmpV1 = new Vector3();
 	private final Vector3 tmpV2 = new Vector3();
+	private final Array<Renderable> blended = new Array<Renderable>();
+	private float[] keys = new float[0];
 
 	@Override
 	public void sort (final Camera camera, final Array<Renderable> renderables) {
 		this.camera = camera;
-		renderables.sort(this);
+		if (getClass() != DefaultRenderableSorter.class) {
+			renderables.sort(this);
+			return;
+		}
+		final Object[] items = (Object[])renderables.items;
+		final int n = renderables.size;
+		// Stable partition into opaque followed by blended renderables.
+		int opaque = 0;
+		for (int i = 0; i < n; i++) {
+			final Renderable renderable = (Renderable)items[i];
+			if (isBlended(renderable))
+				blended.add(renderable);
+			else
+				items[opaque++] = renderable;
+		}
+		System.arraycopy((Object[])blended.items, 0, items, opaque, blended.size);
+		blended.clear();
+
+		if (keys.length < n) keys = new float[Math.max(16, (int)(n * 1.75f))];
+		final float[] keys = this.keys;
+		final Vector3 position = camera.position;
+		for (int i = 0; i < n; i++) {
+			final float dst2 = position.dst2(((Renderable)items[i]).worldTransform.getTranslation(tmpV1));
+			keys[i] = i < opaque ? dst2 : -dst2;
+		}
+		final Sort sort = Sort.instance();
+		sort.sort(items, keys, 0, opaque);
+		sort.sort(items, keys, opaque, n);
+	}
+
+	private static boolean isBlended (final Renderable renderable) {
+		return renderable.material.has(BlendingAttribute.Type)
+			&& ((BlendingAttribute)renderable.material.get(BlendingAttribute.Type)).blended;
 	}
 
 	@Override
 	public int compare (final Renderable o1, final Renderable o2) {
-		final boolean b1 = o1.material.has(BlendingAttribute.Type) && ((BlendingAttribute)o1.material.get(BlendingAttribute.Type)).blended;
-		final boolean b2 = o2.material.has(BlendingAttribute.Type) && ((BlendingAttribute)o2.material.get(BlendingAttribute.Type)).blended;
+		final boolean b1 = isBlended(o1);
+		final boolean b2 = isBlended(o2);
 		if (b1 != b2) return b1 ? 1 : -1;
 		// FIXME implement better sorting algorithm
 		// final boolean same = o1.shader == o2.shader && o1.mesh == o2.mesh && (o1.lights == null) == (o2.lights == null) &&
@@ -20,6 +20,7 @@ import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -51,32 +52,48 @@ public class ETC1 {
 		public final ByteBuffer compressedData;
 		/** the offset in bytes to the actual compressed data. Might be 16 if this contains a PKM header, 0 otherwise **/
 		public final int dataOffset;
+		/** whether compressedData is mapped from a file rather than allocated with BufferUtils#newUnsafeByteBuffer **/
+		private final boolean mapped;
 
 		public ETC1Data (int width, int height, ByteBuffer compressedData, int dataOffset) {
 			this.width = width;
 			this.height = height;
 			this.compressedData = compressedData;
 			this.dataOffset = dataOffset;
+			this.mapped = false;
 			checkNPOT();
 		}
 
+		/** Loads a gzipped PKM file as written by {@link #write(FileHandle)}, or an uncompressed PKM file if the extension is
+		 * ".pkm". Uncompressed files are memory mapped, see {@link FileHandle#map()}, so the image data is uploaded straight from
+		 * the file without being copied. */
 		public ETC1Data (FileHandle pkmFile) {
-			byte[] buffer = new byte[1024 * 10];
-			DataInputStream in = null;
-			try {
-				in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(pkmFile.read())));
-				int fileSize = in.readInt();
-				compressedData = BufferUtils.newUnsafeByteBuffer(fileSize);
-				int readBytes = 0;
-				while ((readBytes = in.read(buffer)) != -1) {
-					compressedData.put(buffer, 0, readBytes);
+			if (pkmFile.extension().equalsIgnoreCase("pkm")) {
+				compressedData = pkmFile.map();
+				mapped = true;
+				if (compressedData.capacity() < PKM_HEADER_SIZE || !isValidPKM(compressedData, 0))
+					throw new GdxRuntimeException("Couldn't load pkm file '" + pkmFile + "', invalid PKM header");
+				// Page the file in now, this runs in TextureData#prepare(), which AssetManager calls off the GL thread.
+				if (compressedData instanceof MappedByteBuffer) ((MappedByteBuffer)compressedData).load();
+			} else {
+				byte[] buffer = new byte[1024 * 10];
+				DataInputStream in = null;
+				try {
+					in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(pkmFile.read())));
+					int fileSize = in.readInt();
+					compressedData = BufferUtils.newUnsafeByteBuffer(fileSize);
+					int readBytes = 0;
+					while ((readBytes = in.read(buffer)) != -1) {
+						compressedData.put(buffer, 0, readBytes);
+					}
+					compressedData.position(0);
+					compressedData.limit(compressedData.capacity());
+				} catch (Exception e) {
+					throw new GdxRuntimeException("Couldn't load pkm file '" + pkmFile + "'", e);
+				} finally {
+					StreamUtils.closeQuietly(in);
 				}
-				compressedData.position(0);
-				compressedData.limit(compressedData.capacity());
-			} catch (Exception e) {
-				throw new GdxRuntimeException("Couldn't load pkm file '" + pkmFile + "'", e);
-			} finally {
-				StreamUtils.closeQuietly(in);
+				mapped = false;
 			}
 
 			width = getWidthPKM(compressedData, 0);
@@ -123,9 +140,9 @@ public class ETC1 {
 			compressedData.limit(compressedData.capacity());
 		}
 
-		/** Releases the native resources of the ETC1Data instance. */
+		/** Releases the native resources of the ETC1Data instance. A mapped file is released by the garbage collector. */
 		public void dispose () {
-			BufferUtils.disposeUnsafeByteBuffer(compressedData);
+			if (!mapped) BufferUtils.disposeUnsafeByteBuffer(compressedData);
 		}
 
 		public String toString () {
@@ -22,6 +22,7 @@ import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectShortArray;
 
 public class IndexArray implements IndexData {
 	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
@@ -80,6 +81,13 @@ public class IndexArray implements IndexData {
 		byteBuffer.limit(buffer.limit() << 1);
 	}
 
+	public void setIndices (DirectShortArray indices) {
+		buffer.position(0);
+		buffer.limit(indices.size);
+		byteBuffer.position(0);
+		BufferUtils.copy(indices.getBuffer(), byteBuffer, indices.size);
+	}
+
 	/** <p>
 	 * Returns the underlying ShortBuffer. If you modify the buffer contents they wil be uploaded on the call to {@link #bind()}.
 	 * If you need immediate uploading use {@link #setIndices(short[], int, int)}.
@@ -22,6 +22,7 @@ import java.nio.ShortBuffer;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectShortArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** <p>
@@ -47,6 +48,8 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class IndexBufferObject implements IndexData {
 	ShortBuffer buffer;
 	ByteBuffer byteBuffer;
+	/** When not null, the indices are uploaded from this array rather than from {@link #buffer}. */
+	DirectShortArray directIndices;
 	int bufferHandle;
 	final boolean isDirect;
 	boolean isDirty = true;
@@ -84,6 +87,7 @@ public class IndexBufferObject implements IndexData {
 
 	/** @return the number of indices currently stored in this buffer */
 	public int getNumIndices () {
+		if (directIndices != null) return directIndices.size;
 		return buffer.limit();
 	}
 
@@ -106,6 +110,7 @@ public class IndexBufferObject implements IndexData {
 	 * @param count the number of shorts to copy */
 	public void setIndices (short[] indices, int offset, int count) {
 		isDirty = true;
+		directIndices = null;
 		buffer.clear();
 		buffer.put(indices, offset, count);
 		buffer.flip();
@@ -119,6 +124,7 @@ public class IndexBufferObject implements IndexData {
 	}
 	
 	public void setIndices (ShortBuffer indices) {
+		directIndices = null;
 		isDirty = true;
 		int pos = indices.position();
 		buffer.clear();
@@ -135,6 +141,30 @@ public class IndexBufferObject implements IndexData {
 	}
 
 
+	public void setIndices (DirectShortArray indices) {
+		if (indices.size > buffer.capacity())
+			throw new GdxRuntimeException("Too many indices: " + indices.size + " > " + buffer.capacity());
+		isDirty = true;
+		directIndices = indices;
+
+		if (isBound) {
+			ShortBuffer data = indices.getBuffer();
+			Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, data.limit() << 1, data, usage);
+			isDirty = false;
+		}
+	}
+
+	/** Copies the direct array into the buffer, so the buffer can be changed and uploaded as usual. */
+	private void copyDirectIndices () {
+		ShortBuffer data = directIndices.getBuffer();
+		directIndices = null;
+		buffer.clear();
+		buffer.put(data);
+		buffer.flip();
+		byteBuffer.position(0);
+		byteBuffer.limit(buffer.limit() << 1);
+	}
+
 	/** <p>
 	 * Returns the underlying ShortBuffer. If you modify the buffer contents they wil be uploaded on the call to {@link #bind()}.
 	 * If you need immediate uploading use {@link #setIndices(short[], int, int)}.
@@ -142,6 +172,7 @@ public class IndexBufferObject implements IndexData {
 	 * 
 	 * @return the underlying short buffer. */
 	public ShortBuffer getBuffer () {
+		if (directIndices != null) copyDirectIndices();
 		isDirty = true;
 		return buffer;
 	}
@@ -152,8 +183,13 @@ public class IndexBufferObject implements IndexData {
 
 		Gdx.gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, bufferHandle);
 		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 2);
-			Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			if (directIndices != null) {
+				ShortBuffer data = directIndices.getBuffer();
+				Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, data.limit() << 1, data, usage);
+			} else {
+				byteBuffer.limit(buffer.limit() * 2);
+				Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			}
 			isDirty = false;
 		}
 		isBound = true;
@@ -176,6 +212,7 @@ public class IndexBufferObject implements IndexData {
 		Gdx.gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 0);
 		Gdx.gl20.glDeleteBuffer(bufferHandle);
 		bufferHandle = 0;
+		directIndices = null;
 
 		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 	}
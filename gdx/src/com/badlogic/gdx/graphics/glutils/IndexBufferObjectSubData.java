@@ -22,6 +22,7 @@ import java.nio.ShortBuffer;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectShortArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** <p>
@@ -47,6 +48,8 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class IndexBufferObjectSubData implements IndexData {
 	ShortBuffer buffer;
 	ByteBuffer byteBuffer;
+	/** When not null, the indices are uploaded from this array rather than from {@link #buffer}. */
+	DirectShortArray directIndices;
 	int bufferHandle;
 	final boolean isDirect;
 	boolean isDirty = true;
@@ -85,13 +88,20 @@ public class IndexBufferObjectSubData implements IndexData {
 	private int createBufferObject () {
 		int result = Gdx.gl20.glGenBuffer();
 		Gdx.gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, result);
-		Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.capacity(), null, usage);
+		// Allocate the store from the short view, GwtGL20 can't cope with null or ByteBuffer data. This also runs from invalidate,
+		// so the index count must be kept.
+		int position = buffer.position(), limit = buffer.limit();
+		buffer.clear();
+		Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.capacity(), buffer, usage);
+		buffer.limit(limit);
+		buffer.position(position);
 		Gdx.gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 0);
 		return result;
 	}
 
 	/** @return the number of indices currently stored in this buffer */
 	public int getNumIndices () {
+		if (directIndices != null) return directIndices.size;
 		return buffer.limit();
 	}
 
@@ -114,6 +124,7 @@ public class IndexBufferObjectSubData implements IndexData {
 	 * @param count the number of floats to copy */
 	public void setIndices (short[] indices, int offset, int count) {
 		isDirty = true;
+		directIndices = null;
 		buffer.clear();
 		buffer.put(indices, offset, count);
 		buffer.flip();
@@ -121,12 +132,14 @@ public class IndexBufferObjectSubData implements IndexData {
 		byteBuffer.limit(count << 1);
 
 		if (isBound) {
-			Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, byteBuffer.limit(), byteBuffer);
+			buffer.position(0);
+			Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, buffer.limit() * 2, buffer);
 			isDirty = false;
 		}
 	}
 
 	public void setIndices (ShortBuffer indices) {
+		directIndices = null;
 		int pos = indices.position();
 		isDirty = true;
 		buffer.clear();
@@ -137,12 +150,36 @@ public class IndexBufferObjectSubData implements IndexData {
 		byteBuffer.limit(buffer.limit() << 1);
 		
 		if (isBound) {
-			Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, byteBuffer.limit(), byteBuffer);
+			buffer.position(0);
+			Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, buffer.limit() * 2, buffer);
+			isDirty = false;
+		}
+	}
+
+	public void setIndices (DirectShortArray indices) {
+		if (indices.size > buffer.capacity())
+			throw new GdxRuntimeException("Too many indices: " + indices.size + " > " + buffer.capacity());
+		isDirty = true;
+		directIndices = indices;
+
+		if (isBound) {
+			ShortBuffer data = indices.getBuffer();
+			Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, data.limit() << 1, data);
 			isDirty = false;
 		}
 	}
 
-	
+	/** Copies the direct array into the buffer, so the buffer can be changed and uploaded as usual. */
+	private void copyDirectIndices () {
+		ShortBuffer data = directIndices.getBuffer();
+		directIndices = null;
+		buffer.clear();
+		buffer.put(data);
+		buffer.flip();
+		byteBuffer.position(0);
+		byteBuffer.limit(buffer.limit() << 1);
+	}
+
 	/** <p>
 	 * Returns the underlying ShortBuffer. If you modify the buffer contents they wil be uploaded on the call to {@link #bind()}.
 	 * If you need immediate uploading use {@link #setIndices(short[], int, int)}.
@@ -150,6 +187,7 @@ public class IndexBufferObjectSubData implements IndexData {
 	 * 
 	 * @return the underlying short buffer. */
 	public ShortBuffer getBuffer () {
+		if (directIndices != null) copyDirectIndices();
 		isDirty = true;
 		return buffer;
 	}
@@ -160,8 +198,14 @@ public class IndexBufferObjectSubData implements IndexData {
 
 		Gdx.gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, bufferHandle);
 		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 2);
-			Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, byteBuffer.limit(), byteBuffer);
+			if (directIndices != null) {
+				ShortBuffer data = directIndices.getBuffer();
+				Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, data.limit() << 1, data);
+			} else {
+				byteBuffer.limit(buffer.limit() * 2);
+				buffer.position(0);
+				Gdx.gl20.glBufferSubData(GL20.GL_ELEMENT_ARRAY_BUFFER, 0, buffer.limit() * 2, buffer);
+			}
 			isDirty = false;
 		}
 		isBound = true;
@@ -185,5 +229,6 @@ public class IndexBufferObjectSubData implements IndexData {
 		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 0);
 		gl.glDeleteBuffer(bufferHandle);
 		bufferHandle = 0;
+		directIndices = null;
 	}
 }
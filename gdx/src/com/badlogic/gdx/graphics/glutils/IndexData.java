@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.glutils;
 import java.nio.Buffer;
 import java.nio.ShortBuffer;
 
+import com.badlogic.gdx.utils.DirectShortArray;
 import com.badlogic.gdx.utils.Disposable;
 
 /** An IndexData instance holds index data. Can be either a plain short buffer or an OpenGL buffer object.
@@ -51,6 +52,16 @@ public interface IndexData extends Disposable {
 	 * @param indices the index data to copy */
 	public void setIndices (ShortBuffer indices);
 
+	/** Sets the indices of this IndexData to the items of the array, discarding the old indices.
+	 * <p>
+	 * The buffer object implementations upload {@link DirectShortArray#getBuffer()} itself and keep a reference to the array,
+	 * which is uploaded again after a context loss. Changes to the array are uploaded by calling this method again. The array
+	 * must not be disposed while it is set, until other indices are set. The indices are only copied into {@link #getBuffer()}
+	 * if that is called. Implementations outside of libgdx can delegate to {@link #setIndices(ShortBuffer)} with
+	 * {@link DirectShortArray#getBuffer()}, like {@link IndexArray} does.
+	 * @param indices the index data */
+	public void setIndices (DirectShortArray indices);
+
 	/** <p>
 	 * Returns the underlying ShortBuffer. If you modify the buffer contents they wil be uploaded on the call to {@link #bind()}.
 	 * If you need immediate uploading use {@link #setIndices(short[], int, int)}.
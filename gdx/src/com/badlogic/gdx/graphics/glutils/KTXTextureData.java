@@ -4,6 +4,7 @@ package com.badlogic.gdx.graphics.glutils;
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.zip.GZIPInputStream;
@@ -50,6 +51,8 @@ public class KTXTextureData implements TextureData, CubemapData {
 
 	// KTX image data (only available after preparing and before consuming)
 	private ByteBuffer compressedData;
+	// Whether compressedData is mapped from the file, rather than allocated with BufferUtils.newUnsafeByteBuffer
+	private boolean mapped;
 
 	// Whether to generate mipmaps if they are not included in the file
 	private boolean useMipMaps;
@@ -92,7 +95,11 @@ public class KTXTextureData implements TextureData, CubemapData {
 				StreamUtils.closeQuietly(in);
 			}
 		} else {
-			compressedData = ByteBuffer.wrap(file.readBytes());
+			// Map the file so the image data is uploaded straight from it, without copying it to the heap. Page it in now, prepare
+			// runs off the GL thread when loading with AssetManager, so only the GL calls are left for consumeCustomData.
+			compressedData = file.map();
+			mapped = true;
+			if (compressedData instanceof MappedByteBuffer) ((MappedByteBuffer)compressedData).load();
 		}
 		if (compressedData.get() != (byte)0x0AB) throw new GdxRuntimeException("Invalid KTX Header");
 		if (compressedData.get() != (byte)0x04B) throw new GdxRuntimeException("Invalid KTX Header");
@@ -140,6 +147,7 @@ public class KTXTextureData implements TextureData, CubemapData {
 			directBuffer.order(compressedData.order());
 			directBuffer.put(compressedData);
 			compressedData = directBuffer;
+			mapped = false;
 		}
 	}
 
@@ -282,8 +290,9 @@ public class KTXTextureData implements TextureData, CubemapData {
 	}
 
 	public void disposePreparedData () {
-		if (compressedData != null) BufferUtils.disposeUnsafeByteBuffer(compressedData);
+		if (compressedData != null && !mapped) BufferUtils.disposeUnsafeByteBuffer(compressedData);
 		compressedData = null;
+		mapped = false;
 	}
 
 	@Override
@@ -23,6 +23,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectFloatArray;
 
 /** <p>
  * Convenience class for working with OpenGL vertex arrays. It interleaves all data in the order you specified in the constructor
@@ -86,6 +87,13 @@ public class VertexArray implements VertexData {
 		buffer.limit(count);
 	}
 
+	@Override
+	public void setVertices (DirectFloatArray vertices) {
+		buffer.position(0);
+		buffer.limit(vertices.size);
+		BufferUtils.copy(vertices.getBuffer(), byteBuffer, vertices.size);
+	}
+
 	@Override
 	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
 		final int pos = byteBuffer.position();
@@ -25,6 +25,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectFloatArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** <p>
@@ -55,6 +56,8 @@ public class VertexBufferObject implements VertexData {
 	private FloatBuffer buffer;
 	private ByteBuffer byteBuffer;
 	private boolean ownsBuffer;
+	/** When not null, the vertices are uploaded from this array rather than from {@link #buffer}. */
+	private DirectFloatArray directVertices;
 	private int bufferHandle;
 	private int usage;
 	boolean isDirty = false;
@@ -97,6 +100,7 @@ public class VertexBufferObject implements VertexData {
 
 	@Override
 	public int getNumVertices () {
+		if (directVertices != null) return directVertices.size * 4 / attributes.vertexSize;
 		return buffer.limit() * 4 / attributes.vertexSize;
 	}
 
@@ -107,6 +111,7 @@ public class VertexBufferObject implements VertexData {
 
 	@Override
 	public FloatBuffer getBuffer () {
+		if (directVertices != null) copyDirectVertices();
 		isDirty = true;
 		return buffer;
 	}
@@ -117,6 +122,7 @@ public class VertexBufferObject implements VertexData {
 	 * @param value */
 	protected void setBuffer (Buffer data, boolean ownsBuffer, VertexAttributes value) {
 		if (isBound) throw new GdxRuntimeException("Cannot change attributes while VBO is bound");
+		directVertices = null;
 		if (this.ownsBuffer && byteBuffer != null)
 			BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 		attributes = value;
@@ -135,22 +141,55 @@ public class VertexBufferObject implements VertexData {
 
 	private void bufferChanged () {
 		if (isBound) {
-			Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			upload(Gdx.gl20);
 			isDirty = false;
 		}
 	}
 
+	/** Uploads the direct array if one is set, else the buffer. The buffer object must be bound. */
+	private void upload (GL20 gl) {
+		if (directVertices != null) {
+			FloatBuffer data = directVertices.getBuffer();
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, data.limit() << 2, data, usage);
+		} else {
+			byteBuffer.limit(buffer.limit() * 4);
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+		}
+	}
+
+	/** Copies the direct array into the buffer, so the buffer can be changed and uploaded as usual. */
+	private void copyDirectVertices () {
+		FloatBuffer data = directVertices.getBuffer();
+		directVertices = null;
+		buffer.clear();
+		buffer.put(data);
+		buffer.flip();
+		byteBuffer.position(0);
+		byteBuffer.limit(buffer.limit() << 2);
+	}
+
 	@Override
 	public void setVertices (float[] vertices, int offset, int count) {
 		isDirty = true;
+		directVertices = null;
 		BufferUtils.copy(vertices, byteBuffer, count, offset);
 		buffer.position(0);
 		buffer.limit(count);
 		bufferChanged();
 	}
 
+	@Override
+	public void setVertices (DirectFloatArray vertices) {
+		if (vertices.size > buffer.capacity())
+			throw new GdxRuntimeException("Too many vertices: " + vertices.size + " > " + buffer.capacity() + " floats");
+		isDirty = true;
+		directVertices = vertices;
+		bufferChanged();
+	}
+
 	@Override
 	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		if (directVertices != null) copyDirectVertices();
 		isDirty = true;
 		final int pos = byteBuffer.position();
 		byteBuffer.position(targetOffset * 4);
@@ -186,8 +225,7 @@ public class VertexBufferObject implements VertexData {
 
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
 		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 4);
-			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			upload(gl);
 			isDirty = false;
 		}
 
@@ -257,6 +295,7 @@ public class VertexBufferObject implements VertexData {
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
 		gl.glDeleteBuffer(bufferHandle);
 		bufferHandle = 0;
+		directVertices = null;
 		if (ownsBuffer) BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 	}
 }
@@ -24,6 +24,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectFloatArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** <p>
@@ -53,6 +54,8 @@ public class VertexBufferObjectSubData implements VertexData {
 	final VertexAttributes attributes;
 	final FloatBuffer buffer;
 	final ByteBuffer byteBuffer;
+	/** When not null, the vertices are uploaded from this array rather than from {@link #buffer}. */
+	DirectFloatArray directVertices;
 	int bufferHandle;
 	final boolean isDirect;
 	final boolean isStatic;
@@ -81,7 +84,13 @@ public class VertexBufferObjectSubData implements VertexData {
 	private int createBufferObject () {
 		int result = Gdx.gl20.glGenBuffer();
 		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, result);
-		Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.capacity(), null, usage);
+		// Allocate the store from the float view, GwtGL20 can't cope with null or ByteBuffer data. This also runs from invalidate,
+		// so the vertex count must be kept.
+		int position = buffer.position(), limit = buffer.limit();
+		buffer.clear();
+		Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.capacity(), buffer, usage);
+		buffer.limit(limit);
+		buffer.position(position);
 		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
 		return result;
 	}
@@ -93,6 +102,7 @@ public class VertexBufferObjectSubData implements VertexData {
 
 	@Override
 	public int getNumVertices () {
+		if (directVertices != null) return directVertices.size * 4 / attributes.vertexSize;
 		return buffer.limit() * 4 / attributes.vertexSize;
 	}
 
@@ -103,20 +113,41 @@ public class VertexBufferObjectSubData implements VertexData {
 
 	@Override
 	public FloatBuffer getBuffer () {
+		if (directVertices != null) copyDirectVertices();
 		isDirty = true;
 		return buffer;
 	}
 
 	private void bufferChanged () {
 		if (isBound) {
-			Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, 0, byteBuffer.limit(), byteBuffer);
+			FloatBuffer data = uploadBuffer();
+			Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, 0, data.limit() * 4, data);
 			isDirty = false;
 		}
 	}
 
+	/** Returns the direct array's buffer if one is set, else the buffer, with its position at 0. */
+	private FloatBuffer uploadBuffer () {
+		FloatBuffer data = directVertices != null ? directVertices.getBuffer() : buffer;
+		data.position(0);
+		return data;
+	}
+
+	/** Copies the direct array into the buffer, so the buffer can be changed and uploaded as usual. */
+	private void copyDirectVertices () {
+		FloatBuffer data = directVertices.getBuffer();
+		directVertices = null;
+		buffer.clear();
+		buffer.put(data);
+		buffer.flip();
+		byteBuffer.position(0);
+		byteBuffer.limit(buffer.limit() << 2);
+	}
+
 	@Override
 	public void setVertices (float[] vertices, int offset, int count) {
 		isDirty = true;
+		directVertices = null;
 		if (isDirect) {
 			BufferUtils.copy(vertices, byteBuffer, count, offset);
 			buffer.position(0);
@@ -133,8 +164,17 @@ public class VertexBufferObjectSubData implements VertexData {
 	}
 
 	@Override
-	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+	public void setVertices (DirectFloatArray vertices) {
+		if (vertices.size > buffer.capacity())
+			throw new GdxRuntimeException("Too many vertices: " + vertices.size + " > " + buffer.capacity() + " floats");
 		isDirty = true;
+		directVertices = vertices;
+		bufferChanged();
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		if (directVertices != null) copyDirectVertices();
 		if (isDirect) {
 			final int pos = byteBuffer.position();
 			byteBuffer.position(targetOffset * 4);
@@ -143,6 +183,17 @@ public class VertexBufferObjectSubData implements VertexData {
 		} else
 			throw new GdxRuntimeException("Buffer must be allocated direct."); // Should never happen
 
+		if (isBound && !isDirty) {
+			// Only upload the updated range.
+			final int pos = buffer.position(), limit = buffer.limit();
+			buffer.limit(targetOffset + count);
+			buffer.position(targetOffset);
+			Gdx.gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, targetOffset * 4, count * 4, buffer);
+			buffer.limit(limit);
+			buffer.position(pos);
+			return;
+		}
+		isDirty = true;
 		bufferChanged();
 	}
 
@@ -160,8 +211,8 @@ public class VertexBufferObjectSubData implements VertexData {
 
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
 		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 4);
-			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			FloatBuffer data = uploadBuffer();
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, data.limit() * 4, data, usage);
 			isDirty = false;
 		}
 
@@ -229,6 +280,7 @@ public class VertexBufferObjectSubData implements VertexData {
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
 		gl.glDeleteBuffer(bufferHandle);
 		bufferHandle = 0;
+		directVertices = null;
 	}
 
 	/** Returns the VBO handle
@@ -10,6 +10,8 @@ import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.DirectFloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /**
  * <p>
@@ -37,6 +39,8 @@ public class VertexBufferObjectWithVAO implements VertexData {
 	final VertexAttributes attributes;
 	final FloatBuffer buffer;
 	final ByteBuffer byteBuffer;
+	/** When not null, the vertices are uploaded from this array rather than from {@link #buffer}. */
+	DirectFloatArray directVertices;
 	int bufferHandle;
 	final boolean isStatic;
 	final int usage;
@@ -83,6 +87,7 @@ public class VertexBufferObjectWithVAO implements VertexData {
 
 	@Override
 	public int getNumVertices() {
+		if (directVertices != null) return directVertices.size * 4 / attributes.vertexSize;
 		return buffer.limit() * 4 / attributes.vertexSize;
 	}
 
@@ -93,28 +98,62 @@ public class VertexBufferObjectWithVAO implements VertexData {
 
 	@Override
 	public FloatBuffer getBuffer() {
+		if (directVertices != null) copyDirectVertices();
 		isDirty = true;
 		return buffer;
 	}
 
 	private void bufferChanged() {
 		if (isBound) {
-			Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			upload(Gdx.gl20);
 			isDirty = false;
 		}
 	}
 
+	/** Uploads the direct array if one is set, else the buffer. The buffer object must be bound. */
+	private void upload(GL20 gl) {
+		if (directVertices != null) {
+			FloatBuffer data = directVertices.getBuffer();
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, data.limit() << 2, data, usage);
+		} else {
+			byteBuffer.limit(buffer.limit() * 4);
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+		}
+	}
+
+	/** Copies the direct array into the buffer, so the buffer can be changed and uploaded as usual. */
+	private void copyDirectVertices() {
+		FloatBuffer data = directVertices.getBuffer();
+		directVertices = null;
+		buffer.clear();
+		buffer.put(data);
+		buffer.flip();
+		byteBuffer.position(0);
+		byteBuffer.limit(buffer.limit() << 2);
+	}
+
 	@Override
 	public void setVertices(float[] vertices, int offset, int count) {
 		isDirty = true;
+		directVertices = null;
 		BufferUtils.copy(vertices, byteBuffer, count, offset);
 		buffer.position(0);
 		buffer.limit(count);
 		bufferChanged();
 	}
 
+	@Override
+	public void setVertices(DirectFloatArray vertices) {
+		if (vertices.size > buffer.capacity())
+			throw new GdxRuntimeException("Too many vertices: " + vertices.size + " > " + buffer.capacity() + " floats");
+		isDirty = true;
+		directVertices = vertices;
+		bufferChanged();
+	}
+
 	@Override
 	public void updateVertices(int targetOffset, float[] vertices, int sourceOffset, int count) {
+		if (directVertices != null) copyDirectVertices();
 		isDirty = true;
 		final int pos = byteBuffer.position();
 		byteBuffer.position(targetOffset * 4);
@@ -188,8 +227,7 @@ public class VertexBufferObjectWithVAO implements VertexData {
 	private void bindData(GL20 gl) {
 		if (isDirty) {
 			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
-			byteBuffer.limit(buffer.limit() * 4);
-			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			upload(gl);
 			isDirty = false;
 		}
 	}
@@ -231,6 +269,7 @@ public class VertexBufferObjectWithVAO implements VertexData {
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
 		gl.glDeleteBuffer(bufferHandle);
 		bufferHandle = 0;
+		directVertices = null;
 		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 
 		if (gl.glIsVertexArray(vaoHandle)) {
@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.glutils;
 import java.nio.FloatBuffer;
 
 import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.DirectFloatArray;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.IntIntMap;
 
@@ -46,6 +47,17 @@ public interface VertexData extends Disposable {
 	 * @param count the number of floats to copy */
 	public void setVertices (float[] vertices, int offset, int count);
 
+	/** Sets the vertices of this VertexData to the items of the array, discarding the old vertex data. The size must equal the
+	 * number of floats per vertex times the number of vertices.
+	 * <p>
+	 * The buffer object implementations upload {@link DirectFloatArray#getBuffer()} itself and keep a reference to the array,
+	 * which is uploaded again after a context loss. Changes to the array are uploaded by calling this method again. The array
+	 * must not be disposed while it is set, until other vertices are set. The vertices are only copied into {@link #getBuffer()}
+	 * if that or {@link #updateVertices(int, float[], int, int)} is called. Implementations outside of libgdx can copy
+	 * {@link DirectFloatArray#getBuffer()} into their own buffer, like {@link VertexArray} does.
+	 * @param vertices the vertex data */
+	public void setVertices (DirectFloatArray vertices);
+
 	/** Update (a portion of) the vertices. Does not resize the backing buffer.
 	 * @param vertices the vertex data
 	 * @param sourceOffset the offset to start copying the data from
@@ -146,6 +146,7 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	public void glDrawArrays (int mode, int first, int count) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl20.glDrawArrays(mode, first, count);
 	}
@@ -154,6 +155,7 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	public void glDrawElements (int mode, int count, int type, Buffer indices) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl20.glDrawElements(mode, count, type, indices);
 	}
@@ -301,6 +303,7 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	@Override
 	public void glBindBuffer (int target, int buffer) {
 		calls++;
+		bindBuffer(target, buffer);
 		gl20.glBindBuffer(target, buffer);
 	}
 
@@ -343,12 +346,14 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
 		calls++;
+		if (data != null) uploadBuffer(target);
 		gl20.glBufferData(target, size, data, usage);
 	}
 
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
 		calls++;
+		uploadBuffer(target);
 		gl20.glBufferSubData(target, offset, size, data);
 	}
 
@@ -379,6 +384,8 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	@Override
 	public void glDeleteBuffers (int n, IntBuffer buffers) {
 		calls++;
+		for (int i = 0, p = buffers.position(); i < n; i++)
+			deleteBuffer(buffers.get(p + i));
 		gl20.glDeleteBuffers(n, buffers);
 	}
 
@@ -422,6 +429,7 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	public void glDrawElements (int mode, int count, int type, int indices) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl20.glDrawElements(mode, count, type, indices);
 	}
@@ -916,6 +924,7 @@ public class GL20Profiler extends GLProfiler implements GL20 {
 	@Override
 	public void glDeleteBuffer (int buffer) {
 		calls++;
+		deleteBuffer(buffer);
 		gl20.glDeleteBuffer(buffer);
 	}
 
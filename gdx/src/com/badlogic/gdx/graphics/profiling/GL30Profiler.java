@@ -147,6 +147,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawArrays (int mode, int first, int count) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawArrays(mode, first, count);
 	}
@@ -155,6 +156,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawElements (int mode, int count, int type, Buffer indices) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawElements(mode, count, type, indices);
 	}
@@ -302,6 +304,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	@Override
 	public void glBindBuffer (int target, int buffer) {
 		calls++;
+		bindBuffer(target, buffer);
 		gl30.glBindBuffer(target, buffer);
 	}
 
@@ -344,12 +347,14 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
 		calls++;
+		if (data != null) uploadBuffer(target);
 		gl30.glBufferData(target, size, data, usage);
 	}
 
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
 		calls++;
+		uploadBuffer(target);
 		gl30.glBufferSubData(target, offset, size, data);
 	}
 
@@ -380,6 +385,8 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	@Override
 	public void glDeleteBuffers (int n, IntBuffer buffers) {
 		calls++;
+		for (int i = 0, p = buffers.position(); i < n; i++)
+			deleteBuffer(buffers.get(p + i));
 		gl30.glDeleteBuffers(n, buffers);
 	}
 
@@ -423,6 +430,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawElements (int mode, int count, int type, int indices) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawElements(mode, count, type, indices);
 	}
@@ -912,6 +920,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
 	}
@@ -920,6 +929,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
 	}
@@ -1096,18 +1106,23 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	@Override
 	public void glBindVertexArray (int array) {
 		calls++;
+		bindVertexArray(array);
 		gl30.glBindVertexArray(array);
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
 		calls++;
+		for (int i = 0; i < n; i++)
+			deleteVertexArray(arrays[offset + i]);
 		gl30.glDeleteVertexArrays(n, arrays, offset);
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
 		calls++;
+		for (int i = 0, p = arrays.position(); i < n; i++)
+			deleteVertexArray(arrays.get(p + i));
 		gl30.glDeleteVertexArrays(n, arrays);
 	}
 
@@ -1301,6 +1316,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
 	}
@@ -1309,6 +1325,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
 		vertexCount.put(count);
 		drawCalls++;
+		drawFromBuffers();
 		calls++;
 		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
 	}
@@ -1485,6 +1502,7 @@ public class GL30Profiler extends GLProfiler implements GL30 {
 	@Override
 	public void glDeleteBuffer (int buffer) {
 		calls++;
+		deleteBuffer(buffer);
 		gl30.glDeleteBuffer(buffer);
 	}
 
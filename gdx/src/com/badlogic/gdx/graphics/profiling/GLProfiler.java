@@ -17,7 +17,10 @@
 package com.badlogic.gdx.graphics.profiling;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.math.FloatCounter;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntSet;
 
 /** This class will collect statistics about the GL calls. All calls to it will get counted and delegated to the actual GL20 or
  * GL30 instance.
@@ -43,6 +46,17 @@ public abstract class GLProfiler {
 	/** The amount rendered vertices since the last reset. */
 	public static FloatCounter vertexCount = new FloatCounter(0);
 
+	/** The amount of times data was uploaded to a vertex or index buffer that a draw call used since the last reset. Such uploads
+	 * can make the driver wait until the GPU is done reading the buffer. Orphaning uploads, which pass null data to
+	 * glBufferData, are not counted. The element array buffer binding of each vertex array object is tracked, but buffers
+	 * deleted while bound to a vertex array object that isn't bound are still considered bound to it. */
+	public static int stallingBufferUploads;
+
+	private static int arrayBuffer, elementArrayBuffer, vertexArray;
+	private static final IntSet drawnBuffers = new IntSet();
+	/** The element array buffer bound to each vertex array object other than the one bound. */
+	private static final IntIntMap elementArrayBuffers = new IntIntMap();
+
 	/** Enables profiling by replacing the {@code GL20} and {@code GL30} instances with profiling ones. */
 	public static void enable () {
 		if (!isEnabled()) {
@@ -71,6 +85,49 @@ public abstract class GLProfiler {
 		drawCalls = 0;
 		shaderSwitches = 0;
 		vertexCount.reset();
+		stallingBufferUploads = 0;
+		drawnBuffers.clear();
+	}
+
+	static void bindBuffer (int target, int buffer) {
+		if (target == GL20.GL_ARRAY_BUFFER)
+			arrayBuffer = buffer;
+		else if (target == GL20.GL_ELEMENT_ARRAY_BUFFER) elementArrayBuffer = buffer;
+	}
+
+	/** Element array buffer bindings are part of the vertex array object state, so they are swapped with it. */
+	static void bindVertexArray (int array) {
+		elementArrayBuffers.put(vertexArray, elementArrayBuffer);
+		vertexArray = array;
+		elementArrayBuffer = elementArrayBuffers.remove(array, 0);
+	}
+
+	static void deleteVertexArray (int array) {
+		if (array == 0) return;
+		if (array == vertexArray) bindVertexArray(0);
+		elementArrayBuffers.remove(array, 0);
+	}
+
+	static void drawFromBuffers () {
+		if (arrayBuffer != 0) drawnBuffers.add(arrayBuffer);
+		if (elementArrayBuffer != 0) drawnBuffers.add(elementArrayBuffer);
+	}
+
+	static void uploadBuffer (int target) {
+		int buffer;
+		if (target == GL20.GL_ARRAY_BUFFER)
+			buffer = arrayBuffer;
+		else if (target == GL20.GL_ELEMENT_ARRAY_BUFFER)
+			buffer = elementArrayBuffer;
+		else
+			return;
+		if (buffer != 0 && drawnBuffers.contains(buffer)) stallingBufferUploads++;
+	}
+
+	static void deleteBuffer (int buffer) {
+		drawnBuffers.remove(buffer);
+		if (arrayBuffer == buffer) arrayBuffer = 0;
+		if (elementArrayBuffer == buffer) elementArrayBuffer = 0;
 	}
 
 }
@@ -38,7 +38,7 @@ public class AtomicQueue<T> {
 	}
 
 	private int next (int idx) {
-		return (idx + 1) % queue.length();
+		return ++idx == queue.length() ? 0 : idx;
 	}
 
 	public boolean put (T value) {
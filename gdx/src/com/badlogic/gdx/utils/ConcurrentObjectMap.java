@@ -0,0 +1,473 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** An unordered map that can be used by multiple threads without external synchronization. Null keys are not allowed, null
+ * values are. Reads are lock-free and never block, writes lock only the segment the key hashes to, so writes to different
+ * segments do not contend. No allocation is done except for the entry created when a new key is put and when a segment grows its
+ * table.<br>
+ * <br>
+ * Iterators are weakly consistent: they never throw because the map was modified, and they see each entry present when
+ * iteration started at most once, but may or may not see entries put or removed during iteration.
+ * @see ObjectMap */
+public class ConcurrentObjectMap<K, V> implements Iterable<ConcurrentObjectMap.Entry<K, V>> {
+	static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	final Segment<K, V>[] segments;
+	private final int segmentShift, segmentMask;
+
+	/** Creates a new map with an initial capacity of 32, a load factor of 0.8 and 16 segments. */
+	public ConcurrentObjectMap () {
+		this(32, 0.8f, 16);
+	}
+
+	/** Creates a new map with a load factor of 0.8 and 16 segments.
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two. */
+	public ConcurrentObjectMap (int initialCapacity) {
+		this(initialCapacity, 0.8f, 16);
+	}
+
+	/** Creates a new map with the specified initial capacity, load factor and number of segments. Each segment grows its own
+	 * table when it holds more than its share of initialCapacity * loadFactor items.
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param concurrencyLevel The estimated number of threads writing concurrently. The map is split into this many segments,
+	 *           increased to the next nearest power of two. */
+	public ConcurrentObjectMap (int initialCapacity, float loadFactor, int concurrencyLevel) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		if (loadFactor <= 0) throw new IllegalArgumentException("loadFactor must be > 0: " + loadFactor);
+		if (concurrencyLevel <= 0) throw new IllegalArgumentException("concurrencyLevel must be > 0: " + concurrencyLevel);
+		int segmentCount = MathUtils.nextPowerOfTwo(Math.min(concurrencyLevel, 1 << 16));
+		segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+		segmentMask = segmentCount - 1;
+		int capacity = MathUtils.nextPowerOfTwo(Math.min(initialCapacity, MAXIMUM_CAPACITY) / segmentCount);
+		segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++)
+			segments[i] = new Segment(Math.max(2, capacity), loadFactor);
+	}
+
+	/** Returns the old value associated with the specified key, or null. */
+	public V put (K key, V value) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		int hash = hash(key);
+		return segmentFor(hash).put(key, hash, value, false);
+	}
+
+	/** Puts the value only if the key is not in the map, atomically.
+	 * @return The value already associated with the key (which may be null), or null if the value was put. Use
+	 *         {@link #containsKey(Object)} first if null values are stored. */
+	public V putIfAbsent (K key, V value) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		int hash = hash(key);
+		return segmentFor(hash).put(key, hash, value, true);
+	}
+
+	public void putAll (ObjectMap<K, V> map) {
+		for (ObjectMap.Entry<K, V> entry : map.entries())
+			put(entry.key, entry.value);
+	}
+
+	/** Returns the value for the specified key, or null if the key is not in the map. */
+	public V get (K key) {
+		return get(key, null);
+	}
+
+	/** Returns the value for the specified key, or the default value if the key is not in the map. */
+	public V get (K key, V defaultValue) {
+		int hash = hash(key);
+		AtomicReferenceArray<Node<K, V>> table = segmentFor(hash).table;
+		for (Node<K, V> node = table.get(hash & (table.length() - 1)); node != null; node = node.next)
+			if (node.hash == hash && key.equals(node.key)) return node.value;
+		return defaultValue;
+	}
+
+	/** Returns the value removed for the specified key, or null if the key was not in the map. */
+	public V remove (K key) {
+		int hash = hash(key);
+		return segmentFor(hash).remove(key, hash);
+	}
+
+	/** Returns an approximate number of key/value pairs in the map. The result is exact only when no other thread is writing. */
+	public int size () {
+		long size = 0;
+		for (int i = 0, n = segments.length; i < n; i++)
+			size += segments[i].size;
+		return (int)Math.min(size, Integer.MAX_VALUE);
+	}
+
+	/** Clears the map. Entries put concurrently with clear may remain. */
+	public void clear () {
+		for (int i = 0, n = segments.length; i < n; i++)
+			segments[i].clear();
+	}
+
+	/** Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may be
+	 * an expensive operation.
+	 * @param identity If true, uses == to compare the specified value with values in the map. If false, uses
+	 *           {@link #equals(Object)}. */
+	public boolean containsValue (Object value, boolean identity) {
+		return findNode(value, identity) != null;
+	}
+
+	public boolean containsKey (K key) {
+		int hash = hash(key);
+		AtomicReferenceArray<Node<K, V>> table = segmentFor(hash).table;
+		for (Node<K, V> node = table.get(hash & (table.length() - 1)); node != null; node = node.next)
+			if (node.hash == hash && key.equals(node.key)) return true;
+		return false;
+	}
+
+	/** Returns the key for the specified value, or null if it is not in the map. Note this traverses the entire map and compares
+	 * every value, which may be an expensive operation.
+	 * @param identity If true, uses == to compare the specified value with values in the map. If false, uses
+	 *           {@link #equals(Object)}. */
+	public K findKey (Object value, boolean identity) {
+		Node<K, V> node = findNode(value, identity);
+		return node == null ? null : node.key;
+	}
+
+	private Node<K, V> findNode (Object value, boolean identity) {
+		Segment<K, V>[] segments = this.segments;
+		for (int s = 0, n = segments.length; s < n; s++) {
+			AtomicReferenceArray<Node<K, V>> table = segments[s].table;
+			for (int i = 0, nn = table.length(); i < nn; i++) {
+				for (Node<K, V> node = table.get(i); node != null; node = node.next) {
+					V nodeValue = node.value;
+					if (identity || value == null) {
+						if (nodeValue == value) return node;
+					} else if (value.equals(nodeValue)) return node;
+				}
+			}
+		}
+		return null;
+	}
+
+	private Segment<K, V> segmentFor (int hash) {
+		return segments[(hash >>> segmentShift) & segmentMask];
+	}
+
+	/** Spreads the hash code so both the high bits used to pick a segment and the low bits used to pick a bucket vary. */
+	static int hash (Object key) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	public String toString () {
+		Entries<K, V> entries = entries();
+		if (!entries.hasNext()) return "{}";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('{');
+		while (true) {
+			Entry<K, V> entry = entries.next();
+			buffer.append(entry.key);
+			buffer.append('=');
+			buffer.append(entry.value);
+			if (!entries.hasNext()) break;
+			buffer.append(", ");
+		}
+		buffer.append('}');
+		return buffer.toString();
+	}
+
+	public Entries<K, V> iterator () {
+		return entries();
+	}
+
+	/** Returns a new iterator for the entries in the map. Remove is supported. Unlike {@link ObjectMap#entries()}, a new
+	 * iterator is returned each time this method is called so it can be used by any thread. To iterate without allocation, keep
+	 * an {@link Entries} instance per thread and {@link Entries#reset() reset} it. */
+	public Entries<K, V> entries () {
+		return new Entries(this);
+	}
+
+	/** Returns a new iterator for the values in the map. Remove is supported. To iterate without allocation, keep a
+	 * {@link Values} instance per thread and {@link Values#reset() reset} it. */
+	public Values<V> values () {
+		return new Values(this);
+	}
+
+	/** Returns a new iterator for the keys in the map. Remove is supported. To iterate without allocation, keep a {@link Keys}
+	 * instance per thread and {@link Keys#reset() reset} it. */
+	public Keys<K> keys () {
+		return new Keys(this);
+	}
+
+	static final class Node<K, V> {
+		final int hash;
+		final K key;
+		volatile V value;
+		volatile Node<K, V> next;
+
+		Node (int hash, K key, V value, Node<K, V> next) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	/** A chained hash table guarded by its own lock. Writers hold the lock. Readers take no lock: a new node is fully constructed
+	 * before it is stored in the table, removal unlinks a node without changing it, and growing builds a new table that is
+	 * published when complete. */
+	static final class Segment<K, V> extends ReentrantLock {
+		volatile AtomicReferenceArray<Node<K, V>> table;
+		volatile int size;
+		final float loadFactor;
+		int threshold;
+
+		Segment (int capacity, float loadFactor) {
+			this.loadFactor = loadFactor;
+			table = new AtomicReferenceArray(capacity);
+			threshold = (int)(capacity * loadFactor);
+		}
+
+		V put (K key, int hash, V value, boolean onlyIfAbsent) {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> table = this.table;
+				int index = hash & (table.length() - 1);
+				Node<K, V> first = table.get(index);
+				for (Node<K, V> node = first; node != null; node = node.next) {
+					if (node.hash == hash && key.equals(node.key)) {
+						V oldValue = node.value;
+						if (!onlyIfAbsent) node.value = value;
+						return oldValue;
+					}
+				}
+				table.set(index, new Node(hash, key, value, first));
+				int size = this.size + 1;
+				this.size = size;
+				if (size > threshold) resize();
+				return null;
+			} finally {
+				unlock();
+			}
+		}
+
+		V remove (Object key, int hash) {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> table = this.table;
+				int index = hash & (table.length() - 1);
+				for (Node<K, V> node = table.get(index), previous = null; node != null; previous = node, node = node.next) {
+					if (node.hash == hash && key.equals(node.key)) {
+						if (previous == null)
+							table.set(index, node.next);
+						else
+							previous.next = node.next;
+						size--;
+						return node.value;
+					}
+				}
+				return null;
+			} finally {
+				unlock();
+			}
+		}
+
+		void clear () {
+			lock();
+			try {
+				AtomicReferenceArray<Node<K, V>> table = this.table;
+				for (int i = 0, n = table.length(); i < n; i++)
+					table.set(i, null);
+				size = 0;
+			} finally {
+				unlock();
+			}
+		}
+
+		/** Doubles the table. Readers may still be walking the old table, so its chains are not modified: the trailing run of
+		 * each chain that lands in a single new bucket is shared and the nodes before it are copied. */
+		private void resize () {
+			AtomicReferenceArray<Node<K, V>> oldTable = table;
+			int oldCapacity = oldTable.length();
+			if (oldCapacity >= MAXIMUM_CAPACITY) return;
+			int newCapacity = oldCapacity << 1, mask = newCapacity - 1;
+			AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray(newCapacity);
+			for (int i = 0; i < oldCapacity; i++) {
+				Node<K, V> first = oldTable.get(i);
+				if (first == null) continue;
+				Node<K, V> lastRun = first;
+				int lastIndex = first.hash & mask;
+				for (Node<K, V> node = first.next; node != null; node = node.next) {
+					int index = node.hash & mask;
+					if (index != lastIndex) {
+						lastIndex = index;
+						lastRun = node;
+					}
+				}
+				newTable.lazySet(lastIndex, lastRun);
+				for (Node<K, V> node = first; node != lastRun; node = node.next) {
+					int index = node.hash & mask;
+					newTable.lazySet(index, new Node(node.hash, node.key, node.value, newTable.get(index)));
+				}
+			}
+			table = newTable;
+			threshold = (int)(newCapacity * loadFactor);
+		}
+	}
+
+	static public class Entry<K, V> {
+		public K key;
+		public V value;
+
+		public String toString () {
+			return key + "=" + value;
+		}
+	}
+
+	static private class MapIterator<K, V> {
+		final ConcurrentObjectMap<K, V> map;
+		AtomicReferenceArray<Node<K, V>> table;
+		int segmentIndex, tableIndex;
+		Node<K, V> nextNode, currentNode;
+
+		public MapIterator (ConcurrentObjectMap<K, V> map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset () {
+			table = null;
+			segmentIndex = -1;
+			tableIndex = 0;
+			nextNode = null;
+			currentNode = null;
+			findNextNode();
+		}
+
+		void findNextNode () {
+			if (nextNode != null) {
+				nextNode = nextNode.next;
+				if (nextNode != null) return;
+			}
+			Segment<K, V>[] segments = map.segments;
+			while (true) {
+				if (table != null) {
+					for (int n = table.length(); tableIndex < n;) {
+						nextNode = table.get(tableIndex++);
+						if (nextNode != null) return;
+					}
+				}
+				if (++segmentIndex >= segments.length) {
+					table = null;
+					return;
+				}
+				table = segments[segmentIndex].table;
+				tableIndex = 0;
+			}
+		}
+
+		public boolean hasNext () {
+			return nextNode != null;
+		}
+
+		Node<K, V> nextNode () {
+			Node<K, V> node = nextNode;
+			if (node == null) throw new NoSuchElementException();
+			currentNode = node;
+			findNextNode();
+			return node;
+		}
+
+		/** Removes the key of the last returned entry from the map, even if it was put again since. */
+		public void remove () {
+			if (currentNode == null) throw new IllegalStateException("next must be called before remove.");
+			map.remove(currentNode.key);
+			currentNode = null;
+		}
+	}
+
+	static public class Entries<K, V> extends MapIterator<K, V> implements Iterable<Entry<K, V>>, Iterator<Entry<K, V>> {
+		Entry<K, V> entry = new Entry();
+
+		public Entries (ConcurrentObjectMap<K, V> map) {
+			super(map);
+		}
+
+		/** Note the same entry instance is returned each time this method is called. */
+		public Entry<K, V> next () {
+			Node<K, V> node = nextNode();
+			entry.key = node.key;
+			entry.value = node.value;
+			return entry;
+		}
+
+		public Entries<K, V> iterator () {
+			return this;
+		}
+	}
+
+	static public class Values<V> extends MapIterator<Object, V> implements Iterable<V>, Iterator<V> {
+		public Values (ConcurrentObjectMap<?, V> map) {
+			super((ConcurrentObjectMap<Object, V>)map);
+		}
+
+		public V next () {
+			return nextNode().value;
+		}
+
+		public Values<V> iterator () {
+			return this;
+		}
+
+		/** Returns a new array containing the remaining values. */
+		public Array<V> toArray () {
+			return toArray(new Array());
+		}
+
+		/** Adds the remaining values to the specified array. */
+		public Array<V> toArray (Array<V> array) {
+			while (hasNext())
+				array.add(next());
+			return array;
+		}
+	}
+
+	static public class Keys<K> extends MapIterator<K, Object> implements Iterable<K>, Iterator<K> {
+		public Keys (ConcurrentObjectMap<K, ?> map) {
+			super((ConcurrentObjectMap<K, Object>)map);
+		}
+
+		public K next () {
+			return nextNode().key;
+		}
+
+		public Keys<K> iterator () {
+			return this;
+		}
+
+		/** Returns a new array containing the remaining keys. */
+		public Array<K> toArray () {
+			return toArray(new Array());
+		}
+
+		/** Adds the remaining keys to the specified array. */
+		public Array<K> toArray (Array<K> array) {
+			while (hasNext())
+				array.add(next());
+			return array;
+		}
+	}
+}
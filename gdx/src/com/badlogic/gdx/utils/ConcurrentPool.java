@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** A pool that can be used by multiple threads without external synchronization. Each thread has a cache of free objects, so
+ * obtain and free don't take a lock as long as the cache is neither empty nor full. When it is, half a cache of objects is
+ * moved from or to a pool shared by all threads in a single synchronized batch.<br>
+ * <br>
+ * {@link #max} limits the objects in the shared pool, each thread can hold up to cacheSize more. Objects cached by a thread that
+ * has ended are moved to the shared pool when another thread first uses the pool. The statistics and {@link #getFree()} are
+ * approximate while other threads use the pool.
+ * @see ConcurrentReflectionPool */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	private final int cacheSize;
+	private final Array<T> shared;
+	private final Array<Cache<T>> caches = new Array();
+	private int retiredObtained, retiredFreed, retiredMissed, retiredCreated;
+
+	private final ThreadLocal<Cache<T>> threadCache = new ThreadLocal<Cache<T>>() {
+		protected Cache<T> initialValue () {
+			return newCache();
+		}
+	};
+
+	/** Creates a pool with an initial capacity of 16, no maximum and a cache size of 16. */
+	public ConcurrentPool () {
+		this(16, Integer.MAX_VALUE, 16);
+	}
+
+	/** Creates a pool with the specified initial capacity, no maximum and a cache size of 16. */
+	public ConcurrentPool (int initialCapacity) {
+		this(initialCapacity, Integer.MAX_VALUE, 16);
+	}
+
+	/** Creates a pool with a cache size of 16.
+	 * @param max The maximum number of free objects to store in the shared pool. */
+	public ConcurrentPool (int initialCapacity, int max) {
+		this(initialCapacity, max, 16);
+	}
+
+	/** @param max The maximum number of free objects to store in the shared pool.
+	 * @param cacheSize The maximum number of free objects each thread keeps without synchronization. */
+	public ConcurrentPool (int initialCapacity, int max, int cacheSize) {
+		super(0, max);
+		if (cacheSize < 1) throw new IllegalArgumentException("cacheSize must be > 0: " + cacheSize);
+		this.cacheSize = cacheSize;
+		shared = new Array(false, initialCapacity);
+	}
+
+	public T obtain () {
+		Cache<T> cache = threadCache.get();
+		cache.obtained++;
+		Array<T> objects = cache.objects;
+		if (objects.size > 0) return objects.pop();
+		cache.missed++;
+		Array<T> shared = this.shared;
+		synchronized (shared) {
+			int count = Math.min(shared.size, (cacheSize + 1) / 2);
+			if (count > 0) {
+				objects.addAll(shared, shared.size - count, count);
+				shared.truncate(shared.size - count);
+			}
+		}
+		if (objects.size > 0) return objects.pop();
+		cache.created++;
+		return newObject();
+	}
+
+	/** Puts the specified object in the calling thread's cache, making it eligible to be returned by {@link #obtain()}. Unlike
+	 * {@link Pool#free(Object)}, the object is reset before it is added, so another thread never obtains an object being reset.
+	 * If the cache is full, half of it is moved to the shared pool. Objects that don't fit in the shared pool are discarded. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		if (object instanceof Poolable) ((Poolable)object).reset();
+		Cache<T> cache = threadCache.get();
+		cache.freed++;
+		Array<T> objects = cache.objects;
+		if (objects.size == cacheSize) spill(objects);
+		objects.add(object);
+	}
+
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("object cannot be null.");
+		Cache<T> cache = threadCache.get();
+		Array<T> cached = cache.objects;
+		int cacheSize = this.cacheSize;
+		for (int i = 0; i < objects.size; i++) {
+			T object = objects.get(i);
+			if (object == null) continue;
+			if (object instanceof Poolable) ((Poolable)object).reset();
+			cache.freed++;
+			if (cached.size == cacheSize) spill(cached);
+			cached.add(object);
+		}
+	}
+
+	/** Moves half of the objects to the shared pool, discarding those that exceed {@link #max}. */
+	private void spill (Array<T> objects) {
+		int count = Math.max(1, objects.size / 2);
+		Array<T> shared = this.shared;
+		synchronized (shared) {
+			int moved = Math.min(count, max - shared.size);
+			if (moved > 0) {
+				shared.addAll(objects, objects.size - moved, moved);
+				peak = Math.max(peak, shared.size);
+			}
+		}
+		objects.truncate(objects.size - count);
+	}
+
+	/** Removes all free objects from the shared pool and the calling thread's cache. Objects cached by other threads are kept. */
+	public void clear () {
+		synchronized (shared) {
+			shared.clear();
+		}
+		threadCache.get().objects.clear();
+	}
+
+	/** The approximate number of objects available to be obtained by any thread. */
+	public int getFree () {
+		int free;
+		synchronized (shared) {
+			free = shared.size;
+		}
+		synchronized (caches) {
+			for (int i = 0, n = caches.size; i < n; i++)
+				free += caches.get(i).objects.size;
+		}
+		return free;
+	}
+
+	public int getObtained () {
+		synchronized (caches) {
+			int total = retiredObtained;
+			for (int i = 0, n = caches.size; i < n; i++)
+				total += caches.get(i).obtained;
+			return total;
+		}
+	}
+
+	public int getFreed () {
+		synchronized (caches) {
+			int total = retiredFreed;
+			for (int i = 0, n = caches.size; i < n; i++)
+				total += caches.get(i).freed;
+			return total;
+		}
+	}
+
+	/** The number of times {@link #obtain()} found the calling thread's cache empty since the statistics were reset. A miss takes
+	 * objects from the shared pool if it has any, else creates one. */
+	public int getMissed () {
+		synchronized (caches) {
+			int total = retiredMissed;
+			for (int i = 0, n = caches.size; i < n; i++)
+				total += caches.get(i).missed;
+			return total;
+		}
+	}
+
+	public int getCreated () {
+		synchronized (caches) {
+			int total = retiredCreated;
+			for (int i = 0, n = caches.size; i < n; i++)
+				total += caches.get(i).created;
+			return total;
+		}
+	}
+
+	/** Sets the statistics to 0. Counts by threads using the pool at the same time may be lost. */
+	public void resetStatistics () {
+		synchronized (caches) {
+			retiredObtained = 0;
+			retiredFreed = 0;
+			retiredMissed = 0;
+			retiredCreated = 0;
+			for (int i = 0, n = caches.size; i < n; i++) {
+				Cache<T> cache = caches.get(i);
+				cache.obtained = 0;
+				cache.freed = 0;
+				cache.missed = 0;
+				cache.created = 0;
+			}
+		}
+	}
+
+	/** Creates the calling thread's cache. The caches of threads that have ended are removed, their counts are kept and their
+	 * objects are moved to the shared pool. */
+	Cache<T> newCache () {
+		Cache<T> cache = new Cache(Thread.currentThread(), cacheSize);
+		synchronized (caches) {
+			for (int i = caches.size - 1; i >= 0; i--) {
+				Cache<T> retired = caches.get(i);
+				if (retired.thread.isAlive()) continue;
+				caches.removeIndex(i);
+				retiredObtained += retired.obtained;
+				retiredFreed += retired.freed;
+				retiredMissed += retired.missed;
+				retiredCreated += retired.created;
+				Array<T> objects = retired.objects;
+				synchronized (shared) {
+					int moved = Math.min(objects.size, max - shared.size);
+					if (moved > 0) {
+						shared.addAll(objects, 0, moved);
+						peak = Math.max(peak, shared.size);
+					}
+				}
+			}
+			caches.add(cache);
+		}
+		return cache;
+	}
+
+	/** The free objects and counts of one thread. Only that thread modifies them, except when the statistics are reset. */
+	static class Cache<T> {
+		final Thread thread;
+		final Array<T> objects;
+		int obtained, freed, missed, created;
+
+		Cache (Thread thread, int cacheSize) {
+			this.thread = thread;
+			objects = new Array(false, cacheSize);
+		}
+	}
+}
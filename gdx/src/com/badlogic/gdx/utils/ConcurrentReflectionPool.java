@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import com.badlogic.gdx.utils.reflect.Constructor;
+
+/** Concurrent pool that creates new instances of a type using reflection, see {@link ReflectionPool}.
+ * @see ConcurrentPool */
+public class ConcurrentReflectionPool<T> extends ConcurrentPool<T> {
+	private final Constructor constructor;
+
+	public ConcurrentReflectionPool (Class<T> type) {
+		this(type, 16, Integer.MAX_VALUE, 16);
+	}
+
+	public ConcurrentReflectionPool (Class<T> type, int initialCapacity) {
+		this(type, initialCapacity, Integer.MAX_VALUE, 16);
+	}
+
+	public ConcurrentReflectionPool (Class<T> type, int initialCapacity, int max) {
+		this(type, initialCapacity, max, 16);
+	}
+
+	public ConcurrentReflectionPool (Class<T> type, int initialCapacity, int max, int cacheSize) {
+		super(initialCapacity, max, cacheSize);
+		constructor = ReflectionPool.findConstructor(type);
+		if (constructor == null)
+			throw new RuntimeException("Class cannot be created (missing no-arg constructor): " + type.getName());
+	}
+
+	protected T newObject () {
+		try {
+			return (T)constructor.newInstance((Object[])null);
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Unable to create new instance: " + constructor.getDeclaringClass().getName(), ex);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+
+/** A resizable, ordered short array stored off the Java heap, in a direct buffer allocated with
+ * {@link BufferUtils#newUnsafeByteBuffer(int)}. It has the API of {@link ShortArray}, but the items can be handed to OpenGL
+ * without first copying them into a buffer, eg as the data for glBufferData. Meshes backed by index buffer objects upload the
+ * array itself, see {@link com.badlogic.gdx.graphics.Mesh#setIndices(DirectShortArray)}.
+ * <p>
+ * Growing allocates a new buffer and frees the old one, so the buffer returned by {@link #getBuffer()} is only valid until
+ * the array grows or shrinks. Must be disposed when no longer needed. */
+public class DirectShortArray implements Disposable {
+	public int size;
+
+	private ByteBuffer bytes;
+	/** The limit of buffer is always its capacity, view is returned by {@link #getBuffer()}. */
+	private ShortBuffer buffer, view;
+
+	/** Creates an array with a capacity of 16. */
+	public DirectShortArray () {
+		this(16);
+	}
+
+	/** @param capacity Any elements added beyond this will cause the backing buffer to be grown. */
+	public DirectShortArray (int capacity) {
+		bytes = BufferUtils.newUnsafeByteBuffer(Math.max(1, capacity) << 1);
+		buffer = bytes.asShortBuffer();
+		view = bytes.asShortBuffer();
+	}
+
+	public void add (short value) {
+		if (size == buffer.capacity()) resize(Math.max(8, (int)(size * 1.75f)));
+		buffer.put(size++, value);
+	}
+
+	public void addAll (ShortArray array) {
+		addAll(array, 0, array.size);
+	}
+
+	public void addAll (ShortArray array, int offset, int length) {
+		if (offset + length > array.size)
+			throw new IllegalArgumentException("offset + length must be <= size: " + offset + " + " + length + " <= " + array.size);
+		addAll(array.items, offset, length);
+	}
+
+	public void addAll (short... array) {
+		addAll(array, 0, array.length);
+	}
+
+	public void addAll (short[] array, int offset, int length) {
+		int sizeNeeded = size + length;
+		if (sizeNeeded > buffer.capacity()) resize(Math.max(8, (int)(sizeNeeded * 1.75f)));
+		ShortBuffer buffer = this.buffer;
+		buffer.position(size);
+		buffer.put(array, offset, length);
+		size = sizeNeeded;
+	}
+
+	public short get (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return buffer.get(index);
+	}
+
+	public void set (int index, short value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		buffer.put(index, value);
+	}
+
+	public void incr (int index, short value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		buffer.put(index, (short)(buffer.get(index) + value));
+	}
+
+	public void mul (int index, short value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		buffer.put(index, (short)(buffer.get(index) * value));
+	}
+
+	public void insert (int index, short value) {
+		if (index > size) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+		if (size == buffer.capacity()) resize(Math.max(8, (int)(size * 1.75f)));
+		ShortBuffer buffer = this.buffer;
+		for (int i = size; i > index; i--)
+			buffer.put(i, buffer.get(i - 1));
+		size++;
+		buffer.put(index, value);
+	}
+
+	/** Removes and returns the item at the specified index. */
+	public short removeIndex (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		ShortBuffer buffer = this.buffer;
+		short value = buffer.get(index);
+		size--;
+		for (int i = index; i < size; i++)
+			buffer.put(i, buffer.get(i + 1));
+		return value;
+	}
+
+	/** Removes the items between the specified indices, inclusive. */
+	public void removeRange (int start, int end) {
+		if (end >= size) throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + size);
+		if (start > end) throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+		ShortBuffer buffer = this.buffer;
+		int count = end - start + 1;
+		for (int i = start, n = size - count; i < n; i++)
+			buffer.put(i, buffer.get(i + count));
+		size -= count;
+	}
+
+	/** Removes and returns the last item. */
+	public short pop () {
+		return buffer.get(--size);
+	}
+
+	/** Returns the last item. */
+	public short peek () {
+		return buffer.get(size - 1);
+	}
+
+	/** Returns the first item. */
+	public short first () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return buffer.get(0);
+	}
+
+	public void clear () {
+		size = 0;
+	}
+
+	/** Reduces the size of the backing buffer to the size of the actual items. This is useful to release memory when many items
+	 * have been removed, or if it is known that more items will not be added. */
+	public void shrink () {
+		if (buffer.capacity() != size) resize(Math.max(1, size));
+	}
+
+	/** Increases the size of the backing buffer to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing buffer resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > buffer.capacity()) resize(Math.max(8, sizeNeeded));
+	}
+
+	protected void resize (int newSize) {
+		ByteBuffer newBytes = BufferUtils.newUnsafeByteBuffer(newSize << 1);
+		ShortBuffer newBuffer = newBytes.asShortBuffer();
+		ShortBuffer buffer = this.buffer;
+		buffer.position(0);
+		buffer.limit(Math.min(size, newSize));
+		newBuffer.put(buffer);
+		BufferUtils.disposeUnsafeByteBuffer(bytes);
+		bytes = newBytes;
+		this.buffer = newBuffer;
+		view = newBytes.asShortBuffer();
+	}
+
+	/** Reduces the size of the array to the specified size. If the array is already smaller than the specified size, no action is
+	 * taken. */
+	public void truncate (int newSize) {
+		if (size > newSize) size = newSize;
+	}
+
+	/** Returns the backing buffer with its position at 0 and its limit at {@link #size}. Changes to the buffer's contents are
+	 * changes to this array. The buffer is replaced when the array grows or shrinks. */
+	public ShortBuffer getBuffer () {
+		ShortBuffer view = this.view;
+		view.limit(size);
+		view.position(0);
+		return view;
+	}
+
+	public short[] toArray () {
+		short[] array = new short[size];
+		ShortBuffer buffer = this.buffer;
+		buffer.position(0);
+		buffer.get(array);
+		return array;
+	}
+
+	/** Frees the backing buffer. The array must not be used afterward. */
+	public void dispose () {
+		BufferUtils.disposeUnsafeByteBuffer(bytes);
+		bytes = null;
+		buffer = null;
+		view = null;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		ShortBuffer buffer = this.buffer;
+		StringBuilder builder = new StringBuilder(32);
+		builder.append('[');
+		builder.append(buffer.get(0));
+		for (int i = 1; i < size; i++) {
+			builder.append(", ");
+			builder.append(buffer.get(i));
+		}
+		builder.append(']');
+		return builder.toString();
+	}
+}
@@ -18,6 +18,7 @@ package com.badlogic.gdx.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -31,6 +32,7 @@ import java.util.Map;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.JsonValue.PrettyPrintSettings;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.OrderedMap.OrderedMapValues;
@@ -53,6 +55,7 @@ public class Json {
 	private boolean quoteLongValues;
 	private boolean ignoreUnknownFields;
 	private boolean enumNames = true;
+	private boolean streaming;
 	private Serializer defaultSerializer;
 	private final ObjectMap<Class, OrderedMap<String, FieldMetadata>> typeToFields = new ObjectMap();
 	private final ObjectMap<String, Class> tagToClass = new ObjectMap();
@@ -75,6 +78,10 @@ public class Json {
 		this.ignoreUnknownFields = ignoreUnknownFields;
 	}
 
+	public boolean getIgnoreUnknownFields () {
+		return ignoreUnknownFields;
+	}
+
 	/** @see JsonWriter#setOutputType(OutputType) */
 	public void setOutputType (OutputType outputType) {
 		this.outputType = outputType;
@@ -91,6 +98,14 @@ public class Json {
 		this.enumNames = enumNames;
 	}
 
+	/** When true, the fromJson methods bind values to objects while the JSON is parsed rather than first building a
+	 * {@link JsonValue} DOM for the whole document, so the memory used does not grow with the size of the document. Only values
+	 * that are read from a JsonValue, eg by a {@link Serializer}, a {@link Serializable} or when the type is unknown, are parsed
+	 * to a DOM of just that value. A class tag must be the first field of its object. Default is false. */
+	public void setStreaming (boolean streaming) {
+		this.streaming = streaming;
+	}
+
 	/** Sets a tag to use instead of the fully qualifier class name. This can make the JSON easier to read. */
 	public void addClassTag (String tag, Class type) {
 		tagToClass.put(tag, type);
@@ -135,6 +150,10 @@ public class Json {
 		this.usePrototypes = usePrototypes;
 	}
 
+	public boolean getUsePrototypes () {
+		return usePrototypes;
+	}
+
 	/** Sets the type of elements in a collection. When the element type is known, the class for each element in the collection does
 	 * not need to be written unless different from the element type. */
 	public void setElementType (Class type, String fieldName, Class elementType) {
@@ -240,6 +259,58 @@ public class Json {
 		}
 	}
 
+	/** Writes the object as UBJSON, which is smaller and faster to parse than text JSON. Primitive arrays are written as strongly
+	 * typed containers. Read it back with {@link #fromUBJson(Class, InputStream)}. */
+	public void toUBJson (Object object, OutputStream output) {
+		toUBJson(object, object == null ? null : object.getClass(), null, output);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @see #toUBJson(Object, OutputStream) */
+	public void toUBJson (Object object, Class knownType, OutputStream output) {
+		toUBJson(object, knownType, null, output);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @param output Should be buffered for best performance. Closed when writing is done.
+	 * @see #toUBJson(Object, OutputStream) */
+	public void toUBJson (Object object, Class knownType, Class elementType, OutputStream output) {
+		writer = new UBJsonOutput(output);
+		try {
+			writeValue(object, knownType, elementType);
+		} finally {
+			StreamUtils.closeQuietly(writer);
+			writer = null;
+		}
+	}
+
+	/** @see #toUBJson(Object, OutputStream) */
+	public void toUBJson (Object object, FileHandle file) {
+		toUBJson(object, object == null ? null : object.getClass(), null, file);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @see #toUBJson(Object, OutputStream) */
+	public void toUBJson (Object object, Class knownType, FileHandle file) {
+		toUBJson(object, knownType, null, file);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @see #toUBJson(Object, OutputStream) */
+	public void toUBJson (Object object, Class knownType, Class elementType, FileHandle file) {
+		OutputStream output = null;
+		try {
+			output = file.write(false, 8192);
+			toUBJson(object, knownType, elementType, output);
+		} catch (Exception ex) {
+			throw new SerializationException("Error writing file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(output);
+		}
+	}
+
 	/** Sets the writer where JSON output will be written. This is only necessary when not using the toJson methods. */
 	public void setWriter (Writer writer) {
 		if (!(writer instanceof JsonWriter)) writer = new JsonWriter(writer);
@@ -499,6 +570,7 @@ public class Json {
 				return;
 			}
 			if (actualType.isArray()) {
+				if (writePrimitiveArray(value)) return;
 				if (elementType == null) elementType = actualType.getComponentType();
 				int length = ArrayReflection.getLength(value);
 				writeArrayStart();
@@ -565,6 +637,46 @@ public class Json {
 		}
 	}
 
+	/** Writes numeric arrays without boxing each element. UBJSON output uses strongly typed containers.
+	 * @return false if the value is not a numeric array. */
+	private boolean writePrimitiveArray (Object value) throws IOException {
+		if (writer instanceof UBJsonOutput) return ((UBJsonOutput)writer).writePrimitiveArray(value);
+		if (value instanceof float[]) {
+			float[] array = (float[])value;
+			writer.array();
+			for (int i = 0, n = array.length; i < n; i++)
+				writer.value(array[i]);
+		} else if (value instanceof int[]) {
+			int[] array = (int[])value;
+			writer.array();
+			for (int i = 0, n = array.length; i < n; i++)
+				writer.value(array[i]);
+		} else if (value instanceof long[]) {
+			long[] array = (long[])value;
+			writer.array();
+			for (int i = 0, n = array.length; i < n; i++)
+				writer.value(array[i]);
+		} else if (value instanceof double[]) {
+			double[] array = (double[])value;
+			writer.array();
+			for (int i = 0, n = array.length; i < n; i++)
+				writer.value(array[i]);
+		} else if (value instanceof short[]) {
+			short[] array = (short[])value;
+			writer.array();
+			for (int i = 0, n = array.length; i < n; i++)
+				writer.value(array[i]);
+		} else if (value instanceof byte[]) {
+			byte[] array = (byte[])value;
+			writer.array();
+			for (int i = 0, n = array.length; i < n; i++)
+				writer.value(array[i]);
+		} else
+			return false;
+		writer.pop();
+		return true;
+	}
+
 	public void writeObjectStart (String name) {
 		try {
 			writer.name(name);
@@ -651,37 +763,43 @@ public class Json {
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Reader reader) {
-		return (T)readValue(type, null, new JsonReader().parse(reader));
+		return fromJson(type, null, reader);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, Reader reader) {
+		if (streaming) {
+			StreamingReader streamingReader = new StreamingReader(type, elementType);
+			streamingReader.parse(reader);
+			return (T)streamingReader.result;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(reader));
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, InputStream input) {
-		return (T)readValue(type, null, new JsonReader().parse(input));
+		return fromJson(type, null, input);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, InputStream input) {
+		if (streaming) {
+			StreamingReader streamingReader = new StreamingReader(type, elementType);
+			streamingReader.parse(input);
+			return (T)streamingReader.result;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(input));
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, FileHandle file) {
-		try {
-			return (T)readValue(type, null, new JsonReader().parse(file));
-		} catch (Exception ex) {
-			throw new SerializationException("Error reading file: " + file, ex);
-		}
+		return fromJson(type, null, file);
 	}
 
 	/** @param type May be null if the type is unknown.
@@ -689,6 +807,11 @@ public class Json {
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, FileHandle file) {
 		try {
+			if (streaming) {
+				StreamingReader streamingReader = new StreamingReader(type, elementType);
+				streamingReader.parse(file);
+				return (T)streamingReader.result;
+			}
 			return (T)readValue(type, elementType, new JsonReader().parse(file));
 		} catch (Exception ex) {
 			throw new SerializationException("Error reading file: " + file, ex);
@@ -698,28 +821,78 @@ public class Json {
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, char[] data, int offset, int length) {
-		return (T)readValue(type, null, new JsonReader().parse(data, offset, length));
+		return fromJson(type, null, data, offset, length);
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, char[] data, int offset, int length) {
+		if (streaming) {
+			StreamingReader streamingReader = new StreamingReader(type, elementType);
+			streamingReader.parse(data, offset, length);
+			return (T)streamingReader.result;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(data, offset, length));
 	}
 
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, String json) {
-		return (T)readValue(type, null, new JsonReader().parse(json));
+		return fromJson(type, null, json);
 	}
 
 	/** @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T fromJson (Class<T> type, Class elementType, String json) {
+		if (streaming) {
+			StreamingReader streamingReader = new StreamingReader(type, elementType);
+			streamingReader.parse(json);
+			return (T)streamingReader.result;
+		}
 		return (T)readValue(type, elementType, new JsonReader().parse(json));
 	}
 
+	/** Reads UBJSON written by {@link #toUBJson(Object, OutputStream)}.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, InputStream input) {
+		return fromUBJson(type, null, input);
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object, OutputStream)}.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @param input Should be buffered for best performance. Closed when reading is done.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, Class elementType, InputStream input) {
+		UBJsonReader reader = new UBJsonReader();
+		reader.oldFormat = false;
+		return (T)readValue(type, elementType, reader.parse(input));
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object, FileHandle)}.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, FileHandle file) {
+		return fromUBJson(type, null, file);
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object, FileHandle)}.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, Class elementType, FileHandle file) {
+		try {
+			UBJsonReader reader = new UBJsonReader();
+			reader.oldFormat = false;
+			return (T)readValue(type, elementType, reader.parse(file));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
 	public void readField (Object object, String name, JsonValue jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -1048,6 +1221,492 @@ public class Json {
 		return new JsonReader().parse(json).prettyPrint(settings);
 	}
 
+	/** Adapts {@link UBJsonWriter} to the JsonWriter API used by Json and serializers. Whole numbers are written with the smallest
+	 * integer type that holds them. */
+	static private class UBJsonOutput extends JsonWriter {
+		final UBJsonWriter output;
+
+		UBJsonOutput (OutputStream output) {
+			super(null);
+			this.output = new UBJsonWriter(output);
+		}
+
+		public JsonWriter name (String name) throws IOException {
+			output.name(name);
+			return this;
+		}
+
+		public JsonWriter object () throws IOException {
+			output.object();
+			return this;
+		}
+
+		public JsonWriter array () throws IOException {
+			output.array();
+			return this;
+		}
+
+		public JsonWriter value (Object value) throws IOException {
+			if (value == null)
+				output.value();
+			else if (value instanceof Number) {
+				Number number = (Number)value;
+				if (value instanceof Float)
+					value(number.floatValue());
+				else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+					value(number.longValue());
+				else
+					value(number.doubleValue());
+			} else if (value instanceof Boolean)
+				output.value(((Boolean)value).booleanValue());
+			else
+				output.value(value.toString());
+			return this;
+		}
+
+		public JsonWriter value (long value) throws IOException {
+			if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+				output.value((byte)value);
+			else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+				output.value((short)value);
+			else if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+				output.value((int)value);
+			else
+				output.value(value);
+			return this;
+		}
+
+		public JsonWriter value (double value) throws IOException {
+			long longValue = (long)value;
+			if (value == longValue)
+				value(longValue);
+			else
+				output.value(value);
+			return this;
+		}
+
+		public JsonWriter value (float value) throws IOException {
+			long longValue = (long)value;
+			if ((double)value == longValue)
+				value(longValue);
+			else
+				output.value(value);
+			return this;
+		}
+
+		public JsonWriter value (boolean value) throws IOException {
+			output.value(value);
+			return this;
+		}
+
+		public JsonWriter value (char value) throws IOException {
+			output.value(String.valueOf(value));
+			return this;
+		}
+
+		boolean writePrimitiveArray (Object value) throws IOException {
+			if (value instanceof float[])
+				output.value((float[])value);
+			else if (value instanceof int[])
+				output.value((int[])value);
+			else if (value instanceof long[])
+				output.value((long[])value);
+			else if (value instanceof double[])
+				output.value((double[])value);
+			else if (value instanceof short[])
+				output.value((short[])value);
+			else if (value instanceof byte[])
+				output.value((byte[])value);
+			else
+				return false;
+			return true;
+		}
+
+		public JsonWriter pop () throws IOException {
+			output.pop();
+			return this;
+		}
+
+		public void write (char[] cbuf, int off, int len) throws IOException {
+			throw new UnsupportedOperationException("Text can't be written to UBJSON output.");
+		}
+
+		public void flush () throws IOException {
+			output.flush();
+		}
+
+		public void close () throws IOException {
+			output.close();
+		}
+	}
+
+	/** Binds parse events directly to objects, using the same rules as {@link Json#readValue(Class, Class, JsonValue)}. Values
+	 * that must be read from a JsonValue are collected into a DOM of just that value. */
+	private class StreamingReader extends JsonReader {
+		final Class rootType, rootElementType;
+		final Array<StreamingFrame> frames = new Array();
+		final JsonValue scalar = new JsonValue(ValueType.nullValue);
+		StreamingFrame root;
+		int depth;
+		Object result;
+
+		StreamingReader (Class rootType, Class rootElementType) {
+			this.rootType = rootType;
+			this.rootElementType = rootElementType;
+		}
+
+		public JsonValue parse (char[] data, int offset, int length) {
+			depth = 0;
+			root = null;
+			super.parse(data, offset, length);
+			if (depth != 0) {
+				boolean array = frames.get(0).array;
+				depth = 0;
+				throw new SerializationException("Error parsing JSON, unmatched " + (array ? "bracket." : "brace."));
+			}
+			// The root is finished after parsing so errors reading it don't report the whole document as the parse location.
+			if (root != null) result = finish(root);
+			return null;
+		}
+
+		protected void startObject (String name) {
+			StreamingFrame parent = parent();
+			StreamingFrame frame = push(name, parent, false);
+			switch (frame.kind) {
+			case StreamingFrame.DOM:
+				frame.value = new JsonValue(ValueType.object);
+				addChild(parent, name, frame.value);
+				break;
+			case StreamingFrame.SKIP:
+				break;
+			default:
+				// The type isn't known until the first field, which may be a class tag.
+				frame.kind = StreamingFrame.PENDING;
+			}
+		}
+
+		protected void startArray (String name) {
+			StreamingFrame parent = parent();
+			StreamingFrame frame = push(name, parent, true);
+			switch (frame.kind) {
+			case StreamingFrame.DOM:
+				frame.value = new JsonValue(ValueType.array);
+				addChild(parent, name, frame.value);
+				break;
+			case StreamingFrame.SKIP:
+				break;
+			default:
+				Class type = frame.type;
+				if (type != null && classToSerializer.get(type) != null) {
+					startDom(frame);
+					break;
+				}
+				if (type == null || type == Object.class) type = Array.class;
+				frame.kind = StreamingFrame.COLLECTION;
+				if (ClassReflection.isAssignableFrom(Array.class, type))
+					frame.object = type == Array.class ? new Array() : newInstance(type);
+				else if (ClassReflection.isAssignableFrom(Collection.class, type))
+					frame.object = type.isInterface() ? new ArrayList() : newInstance(type);
+				else if (type.isArray()) {
+					Class componentType = type.getComponentType();
+					if (frame.elementType == null) frame.elementType = componentType;
+					frame.kind = StreamingFrame.ARRAY;
+					frame.object = ArrayReflection.newInstance(componentType, 16);
+					frame.size = 0;
+				} else
+					throw new SerializationException("Unable to convert value to required type: array (" + type.getName() + ")");
+			}
+		}
+
+		protected void pop () {
+			StreamingFrame frame = frames.get(depth - 1);
+			if (frame.kind == StreamingFrame.PENDING) resolve(frame);
+			depth--;
+			if (depth == 0) {
+				root = frame;
+				return;
+			}
+			if (frame.kind == StreamingFrame.SKIP) return;
+			StreamingFrame parent = frames.get(depth - 1);
+			if (parent.kind == StreamingFrame.DOM) return;
+			set(parent, frame.name, frame.field, finish(frame));
+		}
+
+		protected void string (String name, String value) {
+			if (typeName != null && depth > 0 && typeName.equals(name)) {
+				StreamingFrame frame = frames.get(depth - 1);
+				if (frame.kind == StreamingFrame.PENDING) {
+					frame.type = classForTag(value);
+					return;
+				}
+				if (frame.kind == StreamingFrame.OBJECT || frame.kind == StreamingFrame.MAP) {
+					if (frame.type != classForTag(value))
+						throw new SerializationException("Class tag must be the first field of an object when streaming: " + value);
+					return;
+				}
+			}
+			scalar.set(value);
+			value(name);
+		}
+
+		protected void number (String name, double value, String stringValue) {
+			scalar.set(value, stringValue);
+			value(name);
+		}
+
+		protected void number (String name, long value, String stringValue) {
+			scalar.set(value, stringValue);
+			value(name);
+		}
+
+		protected void bool (String name, boolean value) {
+			scalar.set(value);
+			value(name);
+		}
+
+		private void value (String name) {
+			StreamingFrame parent = parent();
+			if (parent == null) {
+				result = readValue(rootType, rootElementType, copy(scalar));
+				return;
+			}
+			switch (parent.kind) {
+			case StreamingFrame.DOM:
+				addChild(parent, name, copy(scalar));
+				return;
+			case StreamingFrame.SKIP:
+				return;
+			case StreamingFrame.OBJECT:
+				FieldMetadata metadata = field(parent, name);
+				if (metadata == null) return;
+				Field field = metadata.field;
+				Object value;
+				try {
+					value = readValue(field.getType(), metadata.elementType, scalar(field.getType()));
+				} catch (SerializationException ex) {
+					ex.addTrace(field.getName() + " (" + parent.type.getName() + ")");
+					throw ex;
+				} catch (RuntimeException runtimeEx) {
+					SerializationException ex = new SerializationException(runtimeEx);
+					ex.addTrace(field.getName() + " (" + parent.type.getName() + ")");
+					throw ex;
+				}
+				set(parent, name, field, value);
+				return;
+			default:
+				set(parent, name, null, readValue(parent.elementType, null, scalar(parent.elementType)));
+			}
+		}
+
+		/** Returns the scalar value, copied if it will be given to a serializer which could keep it. */
+		private JsonValue scalar (Class type) {
+			if (type != null && classToSerializer.get(type) != null) return copy(scalar);
+			return scalar;
+		}
+
+		/** Returns the frame that will receive the next value, resolving its type if it was waiting for a class tag. */
+		private StreamingFrame parent () {
+			if (depth == 0) return null;
+			StreamingFrame parent = frames.get(depth - 1);
+			if (parent.kind == StreamingFrame.PENDING) resolve(parent);
+			return parent;
+		}
+
+		private StreamingFrame push (String name, StreamingFrame parent, boolean array) {
+			if (depth == frames.size) frames.add(new StreamingFrame());
+			StreamingFrame frame = frames.get(depth++);
+			frame.name = name;
+			frame.array = array;
+			frame.field = null;
+			frame.fields = null;
+			frame.object = null;
+			frame.value = null;
+			frame.last = null;
+			if (parent == null) {
+				frame.kind = StreamingFrame.PENDING;
+				frame.type = rootType;
+				frame.elementType = rootElementType;
+				return frame;
+			}
+			switch (parent.kind) {
+			case StreamingFrame.DOM:
+			case StreamingFrame.SKIP:
+				frame.kind = parent.kind;
+				return frame;
+			case StreamingFrame.OBJECT:
+				FieldMetadata metadata = field(parent, name);
+				if (metadata == null) {
+					frame.kind = StreamingFrame.SKIP;
+					return frame;
+				}
+				frame.field = metadata.field;
+				frame.type = metadata.field.getType();
+				frame.elementType = metadata.elementType;
+				break;
+			default:
+				frame.type = parent.elementType;
+				frame.elementType = null;
+			}
+			frame.kind = StreamingFrame.PENDING;
+			return frame;
+		}
+
+		/** Decides how an object is read once its class tag, if any, has been seen. */
+		private void resolve (StreamingFrame frame) {
+			Class type = frame.type;
+			if (type == null || type == String.class || type == Integer.class || type == Boolean.class || type == Float.class
+				|| type == Long.class || type == Double.class || type == Short.class || type == Byte.class || type == Character.class
+				|| ClassReflection.isAssignableFrom(Enum.class, type)
+				|| (typeName != null && ClassReflection.isAssignableFrom(Collection.class, type)) || classToSerializer.get(type) != null
+				|| ClassReflection.isAssignableFrom(Serializable.class, type)) {
+				startDom(frame);
+				return;
+			}
+			Object object = newInstance(type);
+			frame.object = object;
+			if (object instanceof ObjectMap || object instanceof ArrayMap || object instanceof Map)
+				frame.kind = StreamingFrame.MAP;
+			else {
+				frame.kind = StreamingFrame.OBJECT;
+				frame.fields = getFields(type);
+			}
+		}
+
+		private void startDom (StreamingFrame frame) {
+			frame.kind = StreamingFrame.DOM;
+			frame.value = new JsonValue(frame.array ? ValueType.array : ValueType.object);
+			frame.value.setName(frame.name);
+		}
+
+		private FieldMetadata field (StreamingFrame frame, String name) {
+			FieldMetadata metadata = frame.fields.get(name);
+			if (metadata == null) {
+				if (ignoreUnknownFields) {
+					if (debug) System.out.println("Ignoring unknown field: " + name + " (" + frame.type.getName() + ")");
+					return null;
+				}
+				throw new SerializationException("Field not found: " + name + " (" + frame.type.getName() + ")");
+			}
+			return metadata;
+		}
+
+		/** Returns the value of a frame that has received all of its children. */
+		private Object finish (StreamingFrame frame) {
+			Object value = frame.object;
+			switch (frame.kind) {
+			case StreamingFrame.DOM:
+				value = readValue(frame.type, frame.elementType, frame.value);
+				break;
+			case StreamingFrame.ARRAY:
+				Object array = frame.object;
+				if (ArrayReflection.getLength(array) != frame.size) {
+					value = ArrayReflection.newInstance(frame.type.getComponentType(), frame.size);
+					System.arraycopy(array, 0, value, 0, frame.size);
+				}
+				break;
+			}
+			frame.object = null;
+			frame.value = null;
+			frame.last = null;
+			return value;
+		}
+
+		private void set (StreamingFrame frame, String name, Field field, Object value) {
+			switch (frame.kind) {
+			case StreamingFrame.OBJECT:
+				try {
+					field.set(frame.object, value);
+				} catch (ReflectionException ex) {
+					throw new SerializationException("Error accessing field: " + field.getName() + " (" + frame.type.getName() + ")",
+						ex);
+				} catch (RuntimeException runtimeEx) {
+					SerializationException ex = new SerializationException(runtimeEx);
+					ex.addTrace(field.getName() + " (" + frame.type.getName() + ")");
+					throw ex;
+				}
+				break;
+			case StreamingFrame.MAP:
+				Object map = frame.object;
+				if (map instanceof ObjectMap)
+					((ObjectMap)map).put(name, value);
+				else if (map instanceof ArrayMap)
+					((ArrayMap)map).put(name, value);
+				else
+					((Map)map).put(name, value);
+				break;
+			case StreamingFrame.COLLECTION:
+				if (frame.object instanceof Array)
+					((Array)frame.object).add(value);
+				else
+					((Collection)frame.object).add(value);
+				break;
+			case StreamingFrame.ARRAY:
+				Object array = frame.object;
+				int length = ArrayReflection.getLength(array);
+				if (frame.size == length) {
+					Object newArray = ArrayReflection.newInstance(frame.type.getComponentType(), length << 1);
+					System.arraycopy(array, 0, newArray, 0, length);
+					frame.object = array = newArray;
+				}
+				ArrayReflection.set(array, frame.size++, value);
+				break;
+			}
+		}
+
+		private void addChild (StreamingFrame frame, String name, JsonValue child) {
+			child.setName(name);
+			if (frame.last == null)
+				frame.value.child = child;
+			else {
+				frame.last.next = child;
+				child.prev = frame.last;
+			}
+			frame.last = child;
+			frame.value.size++;
+		}
+
+		private JsonValue copy (JsonValue value) {
+			switch (value.type()) {
+			case doubleValue:
+				return new JsonValue(value.asDouble(), value.asString());
+			case longValue:
+				return new JsonValue(value.asLong(), value.asString());
+			case booleanValue:
+				return new JsonValue(value.asBoolean());
+			default:
+				return new JsonValue(value.asString());
+			}
+		}
+
+		private Class classForTag (String tag) {
+			Class type = Json.this.getClass(tag);
+			if (type != null) return type;
+			try {
+				return ClassReflection.forName(tag);
+			} catch (ReflectionException ex) {
+				throw new SerializationException(ex);
+			}
+		}
+	}
+
+	/** An object or array being read by {@link StreamingReader}. */
+	static private class StreamingFrame {
+		static final int PENDING = 0, OBJECT = 1, MAP = 2, COLLECTION = 3, ARRAY = 4, DOM = 5, SKIP = 6;
+
+		int kind;
+		boolean array;
+		String name;
+		Field field;
+		Class type, elementType;
+		OrderedMap<String, FieldMetadata> fields;
+		/** The object, map, collection or Java array being populated. */
+		Object object;
+		/** The number of elements in a Java array. */
+		int size;
+		/** The DOM being built and its last child. */
+		JsonValue value, last;
+	}
+
 	static private class FieldMetadata {
 		Field field;
 		Class elementType;
@@ -31,6 +31,7 @@ public class JsonWriter extends Writer {
 	private boolean named;
 	private OutputType outputType = OutputType.json;
 	private boolean quoteLongValues = false;
+	private final char[] buffer = new char[20];
 
 	public JsonWriter (Writer writer) {
 		this.writer = writer;
@@ -57,7 +58,7 @@ public class JsonWriter extends Writer {
 			current.needsComma = true;
 		else
 			writer.write(',');
-		writer.write(outputType.quoteName(name));
+		writeName(name);
 		writer.write(':');
 		named = true;
 		return this;
@@ -99,11 +100,69 @@ public class JsonWriter extends Writer {
 		if (quoteLongValues
 			&& (value instanceof Long || value instanceof Double || value instanceof BigDecimal || value instanceof BigInteger)) {
 			value = String.valueOf(value);
-		} else if (value instanceof Number) {
+		}
+		beginValue();
+		if (value == null)
+			writer.write("null");
+		else if (value instanceof Number) {
 			Number number = (Number)value;
 			long longValue = number.longValue();
-			if (number.doubleValue() == longValue) value = longValue;
-		}
+			if (number.doubleValue() == longValue)
+				writeLong(longValue);
+			else
+				writer.write(value.toString());
+		} else if (value instanceof Boolean)
+			writer.write((Boolean)value ? "true" : "false");
+		else
+			writeString(String.valueOf(value));
+		return this;
+	}
+
+	/** Writes the value without boxing it. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (long value) throws IOException {
+		if (quoteLongValues) return value((Object)value);
+		beginValue();
+		writeLong(value);
+		return this;
+	}
+
+	/** Writes the value without boxing it. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (double value) throws IOException {
+		if (quoteLongValues) return value((Object)value);
+		beginValue();
+		long longValue = (long)value;
+		if (value == longValue)
+			writeLong(longValue);
+		else
+			writer.write(Double.toString(value));
+		return this;
+	}
+
+	/** Writes the value without boxing it. The output is the same as {@link #value(Object)}. */
+	public JsonWriter value (float value) throws IOException {
+		beginValue();
+		long longValue = (long)value;
+		if ((double)value == longValue)
+			writeLong(longValue);
+		else
+			writer.write(Float.toString(value));
+		return this;
+	}
+
+	public JsonWriter value (boolean value) throws IOException {
+		beginValue();
+		writer.write(value ? "true" : "false");
+		return this;
+	}
+
+	/** Writes the character as a string, the same as {@link #value(Object)}. */
+	public JsonWriter value (char value) throws IOException {
+		beginValue();
+		writeString(String.valueOf(value));
+		return this;
+	}
+
+	private void beginValue () throws IOException {
 		if (current != null) {
 			if (current.array) {
 				if (!current.needsComma)
@@ -115,8 +174,6 @@ public class JsonWriter extends Writer {
 				named = false;
 			}
 		}
-		writer.write(outputType.quoteValue(value));
-		return this;
 	}
 
 	public JsonWriter object (String name) throws IOException {
@@ -138,6 +195,130 @@ public class JsonWriter extends Writer {
 		return this;
 	}
 
+	/** Writes the digits directly, without creating a string. */
+	private void writeLong (long value) throws IOException {
+		char[] buffer = this.buffer;
+		int i = buffer.length;
+		boolean negative = value < 0;
+		if (!negative) value = -value; // Negative values have one more digit of range.
+		do {
+			buffer[--i] = (char)('0' - value % 10);
+			value /= 10;
+		} while (value != 0);
+		if (negative) buffer[--i] = '-';
+		writer.write(buffer, i, buffer.length - i);
+	}
+
+	/** Same output as {@link OutputType#quoteName(String)}, but escapes directly to the writer. */
+	private void writeName (String name) throws IOException {
+		boolean quote;
+		switch (outputType) {
+		case minimal:
+			quote = name.contains("//") || name.contains("/*") || !isMinimalName(name);
+			if (quote) quote = !isJavascriptName(name);
+			break;
+		case javascript:
+			quote = !isJavascriptName(name);
+			break;
+		default:
+			quote = true;
+		}
+		writeEscaped(name, quote);
+	}
+
+	/** Same output as {@link OutputType#quoteValue(Object)} for a string, but escapes directly to the writer. */
+	private void writeString (String value) throws IOException {
+		boolean quote = true;
+		if (outputType == OutputType.minimal && !value.equals("true") && !value.equals("false") && !value.equals("null")
+			&& !value.contains("//") && !value.contains("/*")) {
+			quote = !isMinimalValue(value);
+		}
+		writeEscaped(value, quote);
+	}
+
+	private void writeEscaped (String value, boolean quote) throws IOException {
+		if (quote) writer.write('"');
+		int start = 0, n = value.length();
+		for (int i = 0; i < n; i++) {
+			String escape;
+			switch (value.charAt(i)) {
+			case '\\':
+				escape = "\\\\";
+				break;
+			case '\r':
+				escape = "\\r";
+				break;
+			case '\n':
+				escape = "\\n";
+				break;
+			case '\t':
+				escape = "\\t";
+				break;
+			case '"':
+				if (!quote) continue;
+				escape = "\\\"";
+				break;
+			default:
+				continue;
+			}
+			if (i > start) writer.write(value, start, i - start);
+			writer.write(escape);
+			start = i + 1;
+		}
+		if (start < n) writer.write(value, start, n - start);
+		if (quote) writer.write('"');
+	}
+
+	/** Equivalent to matching the escaped name against the minimal name pattern. */
+	static private boolean isMinimalName (String name) {
+		int n = name.length();
+		if (n == 0) return false;
+		switch (name.charAt(0)) {
+		case '"':
+		case ':':
+		case ',':
+		case '}':
+		case '/':
+		case ' ':
+			return false;
+		}
+		return name.indexOf(':', 1) == -1;
+	}
+
+	/** Equivalent to matching the escaped value against the minimal value pattern. */
+	static private boolean isMinimalValue (String value) {
+		int n = value.length();
+		if (n == 0 || value.charAt(n - 1) == ' ') return false;
+		switch (value.charAt(0)) {
+		case '"':
+		case ':':
+		case ',':
+		case '{':
+		case '[':
+		case ']':
+		case '/':
+		case ' ':
+			return false;
+		}
+		for (int i = 1; i < n; i++) {
+			char c = value.charAt(i);
+			if (c == '}' || c == ']' || c == ',') return false;
+		}
+		return true;
+	}
+
+	static private boolean isJavascriptName (String name) {
+		int n = name.length();
+		if (n == 0) return false;
+		for (int i = 0; i < n; i++) {
+			char c = name.charAt(i);
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$') continue;
+			if (i > 0 && c >= '0' && c <= '9') continue;
+			return false;
+		}
+		return true;
+	}
+
 	public void write (char[] cbuf, int off, int len) throws IOException {
 		writer.write(cbuf, off, len);
 	}
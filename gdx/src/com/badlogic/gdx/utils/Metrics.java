@@ -0,0 +1,573 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/** A registry of named counters, gauges and histograms to monitor an application while it runs, generalizing
+ * {@link PerformanceCounters}. Call {@link #frame()} once per frame, for example at the end of
+ * {@link com.badlogic.gdx.ApplicationListener#render()}. It takes a snapshot of every metric for the frame that just ended,
+ * records the frame time in {@link #frameTime} and every {@link #exportInterval} frames passes the registry to the
+ * {@link #exporter}, see {@link CsvExporter} and {@link JsonExporter}.<br>
+ * <br>
+ * Metrics are created once by name, after that recording values and taking snapshots doesn't allocate. Values owned by other
+ * objects are read through a {@link Source} when a frame ends, see the track methods for {@link SpriteBatch},
+ * {@link ModelBatch}, {@link AssetManager}, {@link Pool} and {@link GLProfiler}.<br>
+ * <br>
+ * This class is not thread safe. Values produced on other threads should be read through a {@link Source}. */
+public class Metrics {
+	private final static float nano2millis = 1f / 1000000f;
+
+	/** All metrics, in the order they were created. */
+	public final Array<Metric> metrics = new Array();
+	private final ObjectMap<String, Metric> names = new ObjectMap();
+
+	/** The time between the last two calls to {@link #frame()}, in milliseconds. Reset after each export. */
+	public final Histogram frameTime;
+	/** The number of times {@link #frame()} was called. */
+	public long frameId;
+	/** Receives the metrics every {@link #exportInterval} frames, can be null. */
+	public Exporter exporter;
+	/** The number of frames between exports. */
+	public int exportInterval = 1;
+
+	private long lastFrame;
+
+	public Metrics () {
+		frameTime = histogram("frameTime", 0, 100, 100);
+	}
+
+	/** Returns the counter with the specified name, creating it if it doesn't exist yet.
+	 * @throws IllegalArgumentException if a metric with that name exists and is not a counter. */
+	public Counter counter (String name) {
+		Metric metric = names.get(name);
+		if (metric == null) return add(new Counter(name, null));
+		if (!(metric instanceof Counter)) throw new IllegalArgumentException("Metric is not a counter: " + name);
+		return (Counter)metric;
+	}
+
+	/** Creates a counter which reads the running total from the source when a frame ends and counts the difference to the
+	 * previous total.
+	 * @throws IllegalArgumentException if a metric with that name exists. */
+	public Counter counter (String name, Source source) {
+		if (source == null) throw new IllegalArgumentException("source cannot be null.");
+		return add(new Counter(name, source));
+	}
+
+	/** Returns the gauge with the specified name, creating it if it doesn't exist yet.
+	 * @throws IllegalArgumentException if a metric with that name exists and is not a gauge. */
+	public Gauge gauge (String name) {
+		Metric metric = names.get(name);
+		if (metric == null) return add(new Gauge(name, null));
+		if (!(metric instanceof Gauge)) throw new IllegalArgumentException("Metric is not a gauge: " + name);
+		return (Gauge)metric;
+	}
+
+	/** Creates a gauge which reads its value from the source when a frame ends.
+	 * @throws IllegalArgumentException if a metric with that name exists. */
+	public Gauge gauge (String name, Source source) {
+		if (source == null) throw new IllegalArgumentException("source cannot be null.");
+		return add(new Gauge(name, source));
+	}
+
+	/** Returns the histogram with the specified name, creating it with the specified range and number of buckets if it doesn't
+	 * exist yet.
+	 * @throws IllegalArgumentException if a metric with that name exists and is not a histogram. */
+	public Histogram histogram (String name, float min, float max, int buckets) {
+		Metric metric = names.get(name);
+		if (metric == null) return add(new Histogram(name, min, max, buckets));
+		if (!(metric instanceof Histogram)) throw new IllegalArgumentException("Metric is not a histogram: " + name);
+		return (Histogram)metric;
+	}
+
+	/** Returns the metric with the specified name, or null. */
+	public Metric get (String name) {
+		return names.get(name);
+	}
+
+	private <T extends Metric> T add (T metric) {
+		if (names.containsKey(metric.name)) throw new IllegalArgumentException("Metric already exists: " + metric.name);
+		names.put(metric.name, metric);
+		metrics.add(metric);
+		return metric;
+	}
+
+	/** Removes the metric with the specified name.
+	 * @return the removed metric, or null. */
+	public Metric remove (String name) {
+		Metric metric = names.remove(name);
+		if (metric != null) metrics.removeValue(metric, true);
+		return metric;
+	}
+
+	/** Counts the render calls of the batch, see {@link SpriteBatch#totalRenderCalls}. */
+	public Counter trackRenderCalls (String name, final SpriteBatch batch) {
+		return counter(name, new Source() {
+			public double get () {
+				return batch.totalRenderCalls;
+			}
+		});
+	}
+
+	/** Counts the flushes of the batch, see {@link ModelBatch#totalFlushes}. */
+	public Counter trackFlushes (String name, final ModelBatch batch) {
+		return counter(name, new Source() {
+			public double get () {
+				return batch.totalFlushes;
+			}
+		});
+	}
+
+	/** Measures the number of assets waiting to be loaded, see {@link AssetManager#getQueuedAssets()}. */
+	public Gauge trackQueuedAssets (String name, final AssetManager manager) {
+		return gauge(name, new Source() {
+			public double get () {
+				return manager.getQueuedAssets();
+			}
+		});
+	}
+
+	/** Counts the times the pool had no free object, see {@link Pool#getMissed()}. The pool's statistics should not be reset
+	 * while it is tracked. */
+	public Counter trackMisses (String name, final Pool pool) {
+		return counter(name, new Source() {
+			public double get () {
+				return pool.getMissed();
+			}
+		});
+	}
+
+	/** Counts the GL calls, draw calls, texture bindings and shader switches made by the GLProfiler, in counters named
+	 * "gl.calls", "gl.drawCalls", "gl.textureBindings" and "gl.shaderSwitches". {@link GLProfiler#reset()} should not be called
+	 * while the profiler is tracked, the counters provide the values per frame. */
+	public void trackGLProfiler () {
+		counter("gl.calls", new Source() {
+			public double get () {
+				return GLProfiler.calls;
+			}
+		});
+		counter("gl.drawCalls", new Source() {
+			public double get () {
+				return GLProfiler.drawCalls;
+			}
+		});
+		counter("gl.textureBindings", new Source() {
+			public double get () {
+				return GLProfiler.textureBindings;
+			}
+		});
+		counter("gl.shaderSwitches", new Source() {
+			public double get () {
+				return GLProfiler.shaderSwitches;
+			}
+		});
+	}
+
+	/** Ends the current frame. Records the time since the last call in {@link #frameTime}, takes a snapshot of every metric and
+	 * exports them every {@link #exportInterval} frames. Histograms are reset after each export, so each export covers the
+	 * values recorded since the previous one. */
+	public void frame () {
+		long time = TimeUtils.nanoTime();
+		if (lastFrame > 0) frameTime.record((time - lastFrame) * nano2millis);
+		lastFrame = time;
+		frameId++;
+		Object[] metrics = this.metrics.items;
+		for (int i = 0, n = this.metrics.size; i < n; i++)
+			((Metric)metrics[i]).frame();
+		if (exporter != null && frameId % exportInterval == 0) {
+			exporter.export(this);
+			for (int i = 0, n = this.metrics.size; i < n; i++) {
+				Metric metric = (Metric)metrics[i];
+				if (metric instanceof Histogram) metric.reset();
+			}
+		}
+	}
+
+	/** Resets all metrics. */
+	public void reset () {
+		for (int i = 0, n = metrics.size; i < n; i++)
+			metrics.get(i).reset();
+		lastFrame = 0;
+	}
+
+	/** Creates a string in the form of "name: value; name: value" with the value of each metric in the last frame. */
+	public StringBuilder toString (StringBuilder sb) {
+		sb.setLength(0);
+		for (int i = 0, n = metrics.size; i < n; i++) {
+			if (i != 0) sb.append("; ");
+			metrics.get(i).toString(sb);
+		}
+		return sb;
+	}
+
+	public String toString () {
+		return toString(new StringBuilder()).toString();
+	}
+
+	/** Provides the value of a counter or gauge owned by another object. */
+	static public interface Source {
+		/** Returns the current value, for a counter the running total. */
+		public double get ();
+	}
+
+	/** Writes the metrics somewhere, see {@link Metrics#exporter}. */
+	static public interface Exporter {
+		/** Called by {@link Metrics#frame()} after the snapshot of all metrics was taken. */
+		public void export (Metrics metrics);
+	}
+
+	/** A named value tracked by {@link Metrics}. */
+	static abstract public class Metric {
+		public final String name;
+
+		Metric (String name) {
+			if (name == null) throw new IllegalArgumentException("name cannot be null.");
+			this.name = name;
+		}
+
+		/** Takes the snapshot at the end of a frame. */
+		abstract void frame ();
+
+		/** Resets the metric to its initial values. */
+		abstract public void reset ();
+
+		/** Appends "name: value", where value is the value in the last frame. */
+		abstract public StringBuilder toString (StringBuilder sb);
+
+		public String toString () {
+			return toString(new StringBuilder()).toString();
+		}
+	}
+
+	/** Counts events, such as draw calls or cache misses, per frame and in total. */
+	static public class Counter extends Metric {
+		final Source source;
+		private long current, lastTotal;
+		/** The count in the last frame. */
+		public long value;
+		/** The count since the counter was created or reset. */
+		public long total;
+
+		Counter (String name, Source source) {
+			super(name);
+			this.source = source;
+			if (source != null) lastTotal = (long)source.get();
+		}
+
+		/** Adds one to the count of the current frame. */
+		public void inc () {
+			current++;
+		}
+
+		/** Adds the amount to the count of the current frame. */
+		public void add (long amount) {
+			current += amount;
+		}
+
+		void frame () {
+			if (source != null) {
+				long sourceTotal = (long)source.get();
+				// A total lower than before means the source was reset, everything since then is new.
+				current += sourceTotal >= lastTotal ? sourceTotal - lastTotal : sourceTotal;
+				lastTotal = sourceTotal;
+			}
+			value = current;
+			total += current;
+			current = 0;
+		}
+
+		public void reset () {
+			current = 0;
+			value = 0;
+			total = 0;
+			if (source != null) lastTotal = (long)source.get();
+		}
+
+		public StringBuilder toString (StringBuilder sb) {
+			return sb.append(name).append(": ").append(value);
+		}
+	}
+
+	/** Measures a value at the end of each frame, such as the size of a queue. */
+	static public class Gauge extends Metric {
+		final Source source;
+		/** The value at the end of the last frame, or the last value set. */
+		public float value;
+
+		Gauge (String name, Source source) {
+			super(name);
+			this.source = source;
+		}
+
+		/** Sets the value. Has no effect on gauges with a {@link Source}, which are read when the frame ends. */
+		public void set (float value) {
+			this.value = value;
+		}
+
+		void frame () {
+			if (source != null) value = (float)source.get();
+		}
+
+		public void reset () {
+			value = 0;
+		}
+
+		public StringBuilder toString (StringBuilder sb) {
+			return sb.append(name).append(": ").append(value);
+		}
+	}
+
+	/** Records the distribution of values, such as the time a task takes, in equally sized buckets between a minimum and a
+	 * maximum. Values outside of the range are counted in an extra bucket on either side. */
+	static public class Histogram extends Metric {
+		public final float min, max;
+		private final float bucketSize;
+		/** The number of values in each bucket, the first and last bucket count values below min and at or above max. */
+		public final int[] buckets;
+		/** The number of values recorded since the histogram was reset. */
+		public long count;
+		/** The sum of the values recorded since the histogram was reset. */
+		public double sum;
+		/** The smallest and largest value recorded since the histogram was reset, 0 if no values were recorded. */
+		public float smallest, largest;
+
+		Histogram (String name, float min, float max, int bucketCount) {
+			super(name);
+			if (max <= min) throw new IllegalArgumentException("max must be > min: " + min + ", " + max);
+			if (bucketCount < 1) throw new IllegalArgumentException("bucketCount must be > 0: " + bucketCount);
+			this.min = min;
+			this.max = max;
+			bucketSize = (max - min) / bucketCount;
+			buckets = new int[bucketCount + 2];
+		}
+
+		public void record (float value) {
+			int bucket;
+			if (value < min)
+				bucket = 0;
+			else if (value >= max)
+				bucket = buckets.length - 1;
+			else
+				bucket = Math.min(1 + (int)((value - min) / bucketSize), buckets.length - 2);
+			buckets[bucket]++;
+			if (count == 0) {
+				smallest = value;
+				largest = value;
+			} else {
+				if (value < smallest) smallest = value;
+				if (value > largest) largest = value;
+			}
+			count++;
+			sum += value;
+		}
+
+		/** Returns the mean of the recorded values, or 0 if no values were recorded. */
+		public float mean () {
+			return count == 0 ? 0 : (float)(sum / count);
+		}
+
+		/** Returns an estimate of the value below which the specified fraction of the recorded values fall, the upper bound of the
+		 * bucket containing it. Returns 0 if no values were recorded.
+		 * @param fraction Between 0 and 1, eg 0.99 for the 99th percentile. */
+		public float percentile (float fraction) {
+			if (count == 0) return 0;
+			long target = Math.max(1, (long)Math.ceil(fraction * count));
+			int[] buckets = this.buckets;
+			long seen = 0;
+			for (int i = 0, last = buckets.length - 1; i <= last; i++) {
+				seen += buckets[i];
+				if (seen < target) continue;
+				if (i == 0) return smallest;
+				if (i == last) return largest;
+				return Math.min(min + i * bucketSize, largest);
+			}
+			return largest;
+		}
+
+		void frame () {
+		}
+
+		public void reset () {
+			int[] buckets = this.buckets;
+			for (int i = 0, n = buckets.length; i < n; i++)
+				buckets[i] = 0;
+			count = 0;
+			sum = 0;
+			smallest = 0;
+			largest = 0;
+		}
+
+		/** Appends "name: [count: value, mean: value, p99: value]". */
+		public StringBuilder toString (StringBuilder sb) {
+			return sb.append(name).append(": [count: ").append(count).append(", mean: ").append(mean()).append(", p99: ")
+				.append(percentile(0.99f)).append("]");
+		}
+	}
+
+	/** Writes one line of comma separated values per export. A header line with the column names is written before the first
+	 * line and whenever metrics were added or removed. Counters and gauges have one column with their value in the last frame,
+	 * histograms have count, mean, p50, p95, p99 and max columns. Names are written as is, so they should not contain commas.
+	 * The writer is flushed after each line and never closed. */
+	static public class CsvExporter implements Exporter {
+		private final Writer writer;
+		private final StringBuilder line = new StringBuilder(256);
+		private final Array<Metric> columns = new Array();
+
+		public CsvExporter (Writer writer) {
+			if (writer == null) throw new IllegalArgumentException("writer cannot be null.");
+			this.writer = writer;
+		}
+
+		public void export (Metrics metrics) {
+			StringBuilder line = this.line;
+			line.setLength(0);
+			if (!sameColumns(metrics.metrics)) {
+				columns.clear();
+				columns.addAll(metrics.metrics);
+				line.append("frame");
+				for (int i = 0, n = columns.size; i < n; i++) {
+					Metric metric = columns.get(i);
+					if (metric instanceof Histogram) {
+						line.append(',').append(metric.name).append(".count");
+						line.append(',').append(metric.name).append(".mean");
+						line.append(',').append(metric.name).append(".p50");
+						line.append(',').append(metric.name).append(".p95");
+						line.append(',').append(metric.name).append(".p99");
+						line.append(',').append(metric.name).append(".max");
+					} else
+						line.append(',').append(metric.name);
+				}
+				line.append('\n');
+			}
+			line.append(metrics.frameId);
+			for (int i = 0, n = columns.size; i < n; i++) {
+				Metric metric = columns.get(i);
+				if (metric instanceof Counter)
+					line.append(',').append(((Counter)metric).value);
+				else if (metric instanceof Gauge)
+					line.append(',').append(((Gauge)metric).value);
+				else if (metric instanceof Histogram) {
+					Histogram histogram = (Histogram)metric;
+					line.append(',').append(histogram.count);
+					line.append(',').append(histogram.mean());
+					line.append(',').append(histogram.percentile(0.5f));
+					line.append(',').append(histogram.percentile(0.95f));
+					line.append(',').append(histogram.percentile(0.99f));
+					line.append(',').append(histogram.largest);
+				}
+			}
+			line.append('\n');
+			write(writer, line);
+		}
+
+		private boolean sameColumns (Array<Metric> metrics) {
+			if (metrics.size != columns.size) return false;
+			for (int i = 0, n = columns.size; i < n; i++)
+				if (metrics.get(i) != columns.get(i)) return false;
+			return true;
+		}
+	}
+
+	/** Writes one JSON object per line per export, eg:<br>
+	 * <code>{"frame":60,"counters":{"draws":12},"gauges":{"queued":0},"histograms":{"frameTime":{"count":60,"mean":16.6,
+	 * "p50":17.0,"p95":17.0,"p99":18.0,"max":17.4}}}</code><br>
+	 * Values that are NaN or infinite, which JSON can't represent, are written as null. The writer is flushed after each line and
+	 * never closed. */
+	static public class JsonExporter implements Exporter {
+		private final Writer writer;
+		private final StringBuilder line = new StringBuilder(256);
+
+		public JsonExporter (Writer writer) {
+			if (writer == null) throw new IllegalArgumentException("writer cannot be null.");
+			this.writer = writer;
+		}
+
+		public void export (Metrics metrics) {
+			StringBuilder line = this.line;
+			line.setLength(0);
+			line.append("{\"frame\":").append(metrics.frameId);
+			Array<Metric> all = metrics.metrics;
+			boolean first = true;
+			line.append(",\"counters\":{");
+			for (int i = 0, n = all.size; i < n; i++) {
+				Metric metric = all.get(i);
+				if (!(metric instanceof Counter)) continue;
+				if (!first) line.append(',');
+				first = false;
+				name(line, metric.name).append(((Counter)metric).value);
+			}
+			first = true;
+			line.append("},\"gauges\":{");
+			for (int i = 0, n = all.size; i < n; i++) {
+				Metric metric = all.get(i);
+				if (!(metric instanceof Gauge)) continue;
+				if (!first) line.append(',');
+				first = false;
+				number(name(line, metric.name), ((Gauge)metric).value);
+			}
+			first = true;
+			line.append("},\"histograms\":{");
+			for (int i = 0, n = all.size; i < n; i++) {
+				Metric metric = all.get(i);
+				if (!(metric instanceof Histogram)) continue;
+				if (!first) line.append(',');
+				first = false;
+				Histogram histogram = (Histogram)metric;
+				name(line, metric.name).append("{\"count\":").append(histogram.count);
+				number(line.append(",\"mean\":"), histogram.mean());
+				number(line.append(",\"p50\":"), histogram.percentile(0.5f));
+				number(line.append(",\"p95\":"), histogram.percentile(0.95f));
+				number(line.append(",\"p99\":"), histogram.percentile(0.99f));
+				number(line.append(",\"max\":"), histogram.largest).append('}');
+			}
+			line.append("}}\n");
+			write(writer, line);
+		}
+
+		/** Appends the quoted and escaped name followed by a colon. */
+		private StringBuilder name (StringBuilder line, String name) {
+			line.append('"');
+			for (int i = 0, n = name.length(); i < n; i++) {
+				char c = name.charAt(i);
+				if (c == '"' || c == '\\') line.append('\\');
+				line.append(c);
+			}
+			return line.append("\":");
+		}
+
+		/** Appends the value, or null if it is NaN or infinite. */
+		private StringBuilder number (StringBuilder line, float value) {
+			if (Float.isNaN(value) || Float.isInfinite(value)) return line.append("null");
+			return line.append(value);
+		}
+	}
+
+	static void write (Writer writer, StringBuilder line) {
+		try {
+			writer.write(line.chars, 0, line.length);
+			writer.flush();
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error writing metrics.", ex);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A bounded queue that allows any number of threads to call {@link #put(Object)}, {@link #poll()} and {@link #drainTo(Array)}.
+ * Neither operation blocks or takes a lock. Each slot has a sequence number that tells producers when it is free and consumers
+ * when it holds a value, so a slow thread only delays the slot it claimed. Values put by a single thread are polled in the order
+ * they were put. Null values are not allowed.
+ * @see MpscQueue */
+public class MpmcQueue<T> {
+	private final AtomicLongArray indices = new AtomicLongArray(MpscQueue.PAD * 3);
+	private final AtomicLongArray sequences;
+	private final T[] buffer;
+	private final int mask;
+
+	/** @param capacity If not a power of two, it is increased to the next nearest power of two. */
+	public MpmcQueue (int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		capacity = MathUtils.nextPowerOfTwo(capacity);
+		buffer = (T[])new Object[capacity];
+		sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++)
+			sequences.set(i, i);
+		mask = capacity - 1;
+	}
+
+	/** Adds the value to the queue. May be called by any thread.
+	 * @return false if the queue is full. */
+	public boolean put (T value) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		AtomicLongArray indices = this.indices, sequences = this.sequences;
+		long index = indices.get(MpscQueue.PRODUCER);
+		while (true) {
+			int offset = (int)index & mask;
+			long sequence = sequences.get(offset);
+			if (sequence == index) {
+				if (indices.compareAndSet(MpscQueue.PRODUCER, index, index + 1)) {
+					buffer[offset] = value;
+					sequences.lazySet(offset, index + 1);
+					return true;
+				}
+			} else if (sequence < index) {
+				// The slot still holds the value put a lap ago.
+				return false;
+			}
+			index = indices.get(MpscQueue.PRODUCER);
+		}
+	}
+
+	/** Removes and returns the oldest value, or null if the queue is empty. May be called by any thread. */
+	public T poll () {
+		AtomicLongArray indices = this.indices, sequences = this.sequences;
+		long index = indices.get(MpscQueue.CONSUMER);
+		while (true) {
+			int offset = (int)index & mask;
+			long sequence = sequences.get(offset);
+			if (sequence == index + 1) {
+				if (indices.compareAndSet(MpscQueue.CONSUMER, index, index + 1)) {
+					T value = buffer[offset];
+					buffer[offset] = null;
+					sequences.lazySet(offset, index + mask + 1);
+					return value;
+				}
+			} else if (sequence <= index) {
+				// The slot has not been written for this lap.
+				return null;
+			}
+			index = indices.get(MpscQueue.CONSUMER);
+		}
+	}
+
+	/** Removes all values that are available and adds them to the array, oldest first. May be called by any thread, values
+	 * removed concurrently by other threads are not added.
+	 * @return The number of values added. */
+	public int drainTo (Array<? super T> array) {
+		int count = 0;
+		for (T value; (value = poll()) != null; count++)
+			array.add(value);
+		return count;
+	}
+
+	/** Returns the approximate number of values in the queue. */
+	public int size () {
+		AtomicLongArray indices = this.indices;
+		while (true) {
+			long consumer = indices.get(MpscQueue.CONSUMER);
+			long producer = indices.get(MpscQueue.PRODUCER);
+			if (consumer == indices.get(MpscQueue.CONSUMER)) return (int)Math.max(0, producer - consumer);
+		}
+	}
+
+	public boolean isEmpty () {
+		return size() == 0;
+	}
+
+	public int capacity () {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A bounded queue that allows any number of threads to call {@link #put(Object)} and one thread to call {@link #poll()} and
+ * {@link #drainTo(Array)}. Neither operation blocks or takes a lock. Values put by a single thread are polled in the order they
+ * were put. Null values are not allowed.
+ * @see MpmcQueue */
+public class MpscQueue<T> {
+	/** Longs between the indices, so the producer and consumer indices are on separate cache lines. */
+	static final int PAD = 16;
+	static final int PRODUCER = PAD, CONSUMER = PAD * 2;
+
+	private final AtomicLongArray indices = new AtomicLongArray(PAD * 3);
+	private final AtomicReferenceArray<T> buffer;
+	private final int mask;
+
+	/** @param capacity If not a power of two, it is increased to the next nearest power of two. */
+	public MpscQueue (int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0: " + capacity);
+		capacity = MathUtils.nextPowerOfTwo(capacity);
+		buffer = new AtomicReferenceArray(capacity);
+		mask = capacity - 1;
+	}
+
+	/** Adds the value to the queue. May be called by any thread.
+	 * @return false if the queue is full. */
+	public boolean put (T value) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		AtomicLongArray indices = this.indices;
+		long index;
+		do {
+			index = indices.get(PRODUCER);
+			if (index - indices.get(CONSUMER) > mask) return false;
+		} while (!indices.compareAndSet(PRODUCER, index, index + 1));
+		buffer.lazySet((int)index & mask, value);
+		return true;
+	}
+
+	/** Removes and returns the oldest value, or null if the queue is empty. Must only be called by the consumer thread. If a
+	 * producer has claimed the next slot but not yet stored its value, this waits for the value. */
+	public T poll () {
+		long index = indices.get(CONSUMER);
+		int offset = (int)index & mask;
+		AtomicReferenceArray<T> buffer = this.buffer;
+		T value = buffer.get(offset);
+		if (value == null) {
+			if (index == indices.get(PRODUCER)) return null;
+			do {
+				value = buffer.get(offset);
+			} while (value == null);
+		}
+		buffer.lazySet(offset, null);
+		indices.lazySet(CONSUMER, index + 1);
+		return value;
+	}
+
+	/** Removes all values that are available without waiting and adds them to the array, oldest first. Must only be called by the
+	 * consumer thread. The consumer index is published once for the whole batch.
+	 * @return The number of values added. */
+	public int drainTo (Array<? super T> array) {
+		long index = indices.get(CONSUMER), start = index;
+		AtomicReferenceArray<T> buffer = this.buffer;
+		int mask = this.mask;
+		while (true) {
+			int offset = (int)index & mask;
+			T value = buffer.get(offset);
+			if (value == null) break;
+			buffer.lazySet(offset, null);
+			array.add(value);
+			index++;
+		}
+		if (index != start) indices.lazySet(CONSUMER, index);
+		return (int)(index - start);
+	}
+
+	/** Returns the approximate number of values in the queue. */
+	public int size () {
+		AtomicLongArray indices = this.indices;
+		while (true) {
+			long consumer = indices.get(CONSUMER);
+			long producer = indices.get(PRODUCER);
+			if (consumer == indices.get(CONSUMER)) return (int)Math.max(0, producer - consumer);
+		}
+	}
+
+	public boolean isEmpty () {
+		return indices.get(PRODUCER) == indices.get(CONSUMER);
+	}
+
+	public int capacity () {
+		return mask + 1;
+	}
+}
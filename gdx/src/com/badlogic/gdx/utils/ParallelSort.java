@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/** A stable parallel merge sort. The range is split into one part per available processor, the parts are sorted concurrently
+ * with {@link TimSort} and then merged pairwise, with the merges of each round also running concurrently. The calling thread
+ * does part of the work and the rest runs on a shared pool of daemon threads. Ranges smaller than {@link Sort#parallelThreshold}
+ * and single processor machines use a plain TimSort on the calling thread. Working memory is reused between calls. This class
+ * is not thread safe, use {@link Sort} instead of using it directly.
+ * @see Sort#parallelSort(Object[], Comparator, int, int) */
+class ParallelSort {
+	static private final int threads = Runtime.getRuntime().availableProcessors();
+	static private ExecutorService executor;
+
+	static private final int SORT = 0, MERGE = 1;
+
+	private final TimSort[] sorts;
+	private final Task[] tasks;
+	private final int[] bounds;
+	private Object[] tmp = new Object[0];
+
+	Object[] a;
+	Comparator c;
+	private int lo, width;
+	private Object[] src, dst;
+	private int pending;
+	private Throwable error;
+
+	public ParallelSort () {
+		sorts = new TimSort[threads];
+		tasks = new Task[threads];
+		for (int i = 0; i < threads; i++) {
+			sorts[i] = new TimSort();
+			tasks[i] = new Task();
+		}
+		bounds = new int[threads + 1];
+	}
+
+	public void doSort (Object[] a, Comparator c, int lo, int hi) {
+		if (lo < 0) throw new ArrayIndexOutOfBoundsException("lo can't be < 0: " + lo);
+		if (lo > hi) throw new IllegalArgumentException("lo can't be > hi: " + lo + " > " + hi);
+		if (hi > a.length) throw new ArrayIndexOutOfBoundsException("hi can't be > a.length: " + hi);
+		int n = hi - lo;
+		if (threads < 2 || n < Sort.parallelThreshold) {
+			sorts[0].doSort(a, c, lo, hi);
+			return;
+		}
+
+		int parts = threads;
+		int[] bounds = this.bounds;
+		for (int i = 0; i < parts; i++)
+			bounds[i] = lo + (int)((long)n * i / parts);
+		bounds[parts] = hi;
+
+		Object[] tmp = this.tmp;
+		if (tmp.length < n) this.tmp = tmp = new Object[Math.max(8, (int)(n * 1.75f))];
+		this.a = a;
+		this.c = c;
+		this.lo = lo;
+		try {
+			run(SORT, parts);
+
+			// Each round merges pairs of neighbouring runs, doubling the run width, alternating between a and tmp.
+			src = a;
+			dst = tmp;
+			for (width = 1; width < parts; width <<= 1) {
+				run(MERGE, (parts + (width << 1) - 1) / (width << 1));
+				Object[] swap = src;
+				src = dst;
+				dst = swap;
+			}
+			if (src == tmp) System.arraycopy(tmp, 0, a, lo, n);
+		} finally {
+			for (int i = 0; i < n; i++)
+				tmp[i] = null;
+			this.a = null;
+			this.c = null;
+			src = null;
+			dst = null;
+		}
+	}
+
+	/** Runs count tasks of the given type, one on the calling thread and the rest on the pool, and waits for all of them. */
+	private void run (int type, int count) {
+		synchronized (this) {
+			pending = count - 1;
+			error = null;
+		}
+		ExecutorService executor = executor();
+		for (int i = 1; i < count; i++) {
+			Task task = tasks[i];
+			task.type = type;
+			task.index = i;
+			executor.execute(task);
+		}
+		try {
+			execute(type, 0);
+		} catch (Throwable ex) {
+			synchronized (this) {
+				if (error == null) error = ex;
+			}
+		}
+		synchronized (this) {
+			boolean interrupted = false;
+			while (pending > 0) {
+				try {
+					wait();
+				} catch (InterruptedException ignored) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) Thread.currentThread().interrupt();
+			if (error != null) {
+				Throwable ex = error;
+				error = null;
+				if (ex instanceof RuntimeException) throw (RuntimeException)ex;
+				if (ex instanceof Error) throw (Error)ex;
+				throw new GdxRuntimeException(ex);
+			}
+		}
+	}
+
+	void execute (int type, int index) {
+		int[] bounds = this.bounds;
+		if (type == SORT) {
+			sorts[index].doSort(a, c, bounds[index], bounds[index + 1]);
+			return;
+		}
+		int parts = threads, first = index * (width << 1);
+		int start = bounds[first];
+		int middle = bounds[Math.min(first + width, parts)];
+		int end = bounds[Math.min(first + (width << 1), parts)];
+		merge(src, dst, start - lo, middle - lo, end - lo);
+	}
+
+	/** Merges the sorted runs src[start, middle) and src[middle, end) into dst[start, end). Positions are relative to lo; src or
+	 * dst is offset by lo when it is the array being sorted. */
+	private void merge (Object[] src, Object[] dst, int start, int middle, int end) {
+		Comparator c = this.c;
+		int srcOffset = src == a ? lo : 0, dstOffset = dst == a ? lo : 0;
+		int i = start + srcOffset, iEnd = middle + srcOffset, j = iEnd, jEnd = end + srcOffset, k = start + dstOffset;
+		// Already in order, or nothing to merge with.
+		if (j == jEnd || i == iEnd || c.compare(src[iEnd - 1], src[j]) <= 0) {
+			System.arraycopy(src, i, dst, k, jEnd - i);
+			return;
+		}
+		while (i < iEnd && j < jEnd) {
+			// Take from the left run on ties to keep the sort stable.
+			if (c.compare(src[j], src[i]) < 0)
+				dst[k++] = src[j++];
+			else
+				dst[k++] = src[i++];
+		}
+		if (i < iEnd)
+			System.arraycopy(src, i, dst, k, iEnd - i);
+		else if (j < jEnd) System.arraycopy(src, j, dst, k, jEnd - j);
+	}
+
+	synchronized void done (Throwable ex) {
+		if (ex != null && error == null) error = ex;
+		if (--pending == 0) notifyAll();
+	}
+
+	static private synchronized ExecutorService executor () {
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(threads - 1, new ThreadFactory() {
+				@Override
+				public Thread newThread (Runnable r) {
+					Thread thread = new Thread(r, "ParallelSort-Thread");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return executor;
+	}
+
+	private class Task implements Runnable {
+		int type, index;
+
+		@Override
+		public void run () {
+			Throwable error = null;
+			try {
+				execute(type, index);
+			} catch (Throwable ex) {
+				error = ex;
+			}
+			done(error);
+		}
+	}
+}
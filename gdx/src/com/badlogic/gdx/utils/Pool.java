@@ -25,6 +25,7 @@ abstract public class Pool<T> {
 	public int peak;
 
 	private final Array<T> freeObjects;
+	private int obtained, freed, missed, created;
 
 	/** Creates a pool with an initial capacity of 16 and no maximum. */
 	public Pool () {
@@ -47,13 +48,18 @@ abstract public class Pool<T> {
 	/** Returns an object from this pool. The object may be new (from {@link #newObject()}) or reused (previously
 	 * {@link #free(Object) freed}). */
 	public T obtain () {
-		return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		obtained++;
+		if (freeObjects.size > 0) return freeObjects.pop();
+		missed++;
+		created++;
+		return newObject();
 	}
 
 	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()}. If the pool already contains
 	 * {@link #max} free objects, the specified object is reset but not added to the pool. */
 	public void free (T object) {
 		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		freed++;
 		if (freeObjects.size < max) {
 			freeObjects.add(object);
 			peak = Math.max(peak, freeObjects.size);
@@ -70,6 +76,7 @@ abstract public class Pool<T> {
 		for (int i = 0; i < objects.size; i++) {
 			T object = objects.get(i);
 			if (object == null) continue;
+			freed++;
 			if (freeObjects.size < max) freeObjects.add(object);
 			if (object instanceof Poolable) ((Poolable)object).reset();
 		}
@@ -86,6 +93,36 @@ abstract public class Pool<T> {
 		return freeObjects.size;
 	}
 
+	/** The number of times {@link #obtain()} has been called since the statistics were reset. */
+	public int getObtained () {
+		return obtained;
+	}
+
+	/** The number of objects passed to {@link #free(Object)} or {@link #freeAll(Array)} since the statistics were reset. */
+	public int getFreed () {
+		return freed;
+	}
+
+	/** The number of times {@link #obtain()} found no free object in the pool since the statistics were reset. */
+	public int getMissed () {
+		return missed;
+	}
+
+	/** The number of objects created by {@link #newObject()} since the statistics were reset. If this stays 0 after warm up, the
+	 * code using the pool does not allocate. */
+	public int getCreated () {
+		return created;
+	}
+
+	/** Sets the {@link #getObtained() obtained}, {@link #getFreed() freed}, {@link #getMissed() missed} and
+	 * {@link #getCreated() created} counts to 0. */
+	public void resetStatistics () {
+		obtained = 0;
+		freed = 0;
+		missed = 0;
+		created = 0;
+	}
+
 	/** Objects implementing this interface will have {@link #reset()} called when passed to {@link #free(Object)}. */
 	static public interface Poolable {
 		/** Resets the object for reuse. Object references should be nulled and fields may be set to default values. */
@@ -16,20 +16,27 @@
 
 package com.badlogic.gdx.utils;
 
-/** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access.
+/** Stores a map of {@link Pool}s (usually {@link ConcurrentReflectionPool}s) by type for convenient static access. All methods
+ * can be called from any thread. Looking up a pool takes no lock: the map is never modified, adding a pool replaces it with a
+ * copy.
  * @author Nathan Sweet */
 public class Pools {
-	static private final ObjectMap<Class, Pool> typePools = new ObjectMap();
+	static private volatile ObjectMap<Class, Pool> typePools = new ObjectMap();
 
-	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Note the max size is ignored
+	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Pools created by this method
+	 * are {@link ConcurrentReflectionPool}s, so objects can be obtained and freed from any thread. Note the max size is ignored
 	 * if this is not the first time this pool has been requested. */
 	static public <T> Pool<T> get (Class<T> type, int max) {
 		Pool pool = typePools.get(type);
-		if (pool == null) {
-			pool = new ReflectionPool(type, 4, max);
-			typePools.put(type, pool);
+		if (pool != null) return pool;
+		synchronized (Pools.class) {
+			pool = typePools.get(type);
+			if (pool == null) {
+				pool = new ConcurrentReflectionPool(type, 4, max);
+				put(type, pool);
+			}
+			return pool;
 		}
-		return pool;
 	}
 
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. The max size of the pool used
@@ -40,7 +47,15 @@ public class Pools {
 
 	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. */
 	static public <T> void set (Class<T> type, Pool<T> pool) {
+		synchronized (Pools.class) {
+			put(type, pool);
+		}
+	}
+
+	static private void put (Class type, Pool pool) {
+		ObjectMap<Class, Pool> typePools = new ObjectMap(Pools.typePools);
 		typePools.put(type, pool);
+		Pools.typePools = typePools;
 	}
 
 	/** Obtains an object from the {@link #get(Class) pool}. */
@@ -66,6 +81,7 @@ public class Pools {
 	 * @param samePool If true, objects don't need to be from the same pool but the pool must be looked up for each object. */
 	static public void freeAll (Array objects, boolean samePool) {
 		if (objects == null) throw new IllegalArgumentException("Objects cannot be null.");
+		ObjectMap<Class, Pool> typePools = Pools.typePools;
 		Pool pool = null;
 		for (int i = 0, n = objects.size; i < n; i++) {
 			Object object = objects.get(i);
@@ -0,0 +1,596 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** An unordered map where the keys and values are ints. This implementation uses open addressing with linear probing, an
+ * alternative to the cuckoo hashing of {@link IntIntMap} with the same API. No allocation is done except when growing the table
+ * size. <br>
+ * <br>
+ * Keys are placed using Fibonacci hashing and removal shifts following keys back instead of leaving tombstones, so put never has
+ * to rehash or walk to find room, and adversarial keys cost longer probes rather than table growth. Growing reinserts each key
+ * once. Lookups are fastest at lower load factors, at 0.8 a missing key probes about 13 slots on average.
+ * @see IntIntMap */
+public class ProbingIntIntMap implements Iterable<ProbingIntIntMap.Entry> {
+	private static final int EMPTY = 0;
+
+	public int size;
+
+	int[] keyTable, valueTable;
+	int zeroValue;
+	boolean hasZeroValue;
+
+	private final float loadFactor;
+	private int threshold;
+	/** Used by {@link #place(int)} to bit shift the upper bits of a long into a usable range (>= 0 and <= mask). */
+	int shift;
+	int mask;
+
+	private Entries entries1, entries2;
+	private Values values1, values2;
+	private Keys keys1, keys2;
+
+	/** Creates a new map with an initial capacity of 51 and a load factor of 0.8. */
+	public ProbingIntIntMap () {
+		this(51, 0.8f);
+	}
+
+	/** Creates a new map with a load factor of 0.8.
+	 * @param initialCapacity The backing table size is initialCapacity / loadFactor, increased to the next power of two. */
+	public ProbingIntIntMap (int initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table.
+	 * @param initialCapacity The backing table size is initialCapacity / loadFactor, increased to the next power of two.
+	 * @param loadFactor Must be > 0 and < 1. */
+	public ProbingIntIntMap (int initialCapacity, float loadFactor) {
+		if (loadFactor <= 0f || loadFactor >= 1f) throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+
+		int tableSize = tableSize(initialCapacity, loadFactor);
+		threshold = threshold(tableSize, loadFactor);
+		mask = tableSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		keyTable = new int[tableSize];
+		valueTable = new int[tableSize];
+	}
+
+	/** Creates a new map identical to the specified map. */
+	public ProbingIntIntMap (ProbingIntIntMap map) {
+		loadFactor = map.loadFactor;
+		threshold = map.threshold;
+		mask = map.mask;
+		shift = map.shift;
+		keyTable = new int[map.keyTable.length];
+		valueTable = new int[map.valueTable.length];
+		System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
+		System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
+		size = map.size;
+		zeroValue = map.zeroValue;
+		hasZeroValue = map.hasZeroValue;
+	}
+
+	/** Returns the backing table size needed to hold capacity items below the load factor. */
+	static int tableSize (int capacity, float loadFactor) {
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		int tableSize = MathUtils.nextPowerOfTwo(Math.max(2, (int)Math.ceil(capacity / loadFactor)));
+		if (tableSize > 1 << 30) throw new IllegalArgumentException("The required capacity is too large: " + capacity);
+		return tableSize;
+	}
+
+	/** Returns the number of items that grows the table. At least one slot is always empty, so probing terminates. */
+	static int threshold (int tableSize, float loadFactor) {
+		return Math.min((int)(tableSize * loadFactor), tableSize - 1);
+	}
+
+	/** Returns an index >= 0 and <= {@link #mask} for the specified key. Multiplying by the golden ratio spreads keys that differ
+	 * only in their upper or lower bits across the table. */
+	int place (int key) {
+		return (int)(key * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	/** Returns the index of the key if it is in the table, else -(index + 1) for the empty slot where it would be put. */
+	int locateKey (int key) {
+		int[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == EMPTY) return -(i + 1);
+			if (other == key) return i;
+		}
+	}
+
+	public void put (int key, int value) {
+		if (key == 0) {
+			zeroValue = value;
+			if (!hasZeroValue) {
+				hasZeroValue = true;
+				size++;
+			}
+			return;
+		}
+		int i = locateKey(key);
+		if (i >= 0) {
+			valueTable[i] = value;
+			return;
+		}
+		i = -(i + 1);
+		keyTable[i] = key;
+		valueTable[i] = value;
+		if (++size >= threshold) resize(keyTable.length << 1);
+	}
+
+	public void putAll (ProbingIntIntMap map) {
+		ensureCapacity(map.size);
+		if (map.hasZeroValue) put(0, map.zeroValue);
+		int[] keyTable = map.keyTable, valueTable = map.valueTable;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			int key = keyTable[i];
+			if (key != EMPTY) put(key, valueTable[i]);
+		}
+	}
+
+	/** Skips checks for existing keys, doesn't increment size. */
+	private void putResize (int key, int value) {
+		int[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			if (keyTable[i] == EMPTY) {
+				keyTable[i] = key;
+				valueTable[i] = value;
+				return;
+			}
+		}
+	}
+
+	/** @param defaultValue Returned if the key was not associated with a value. */
+	public int get (int key, int defaultValue) {
+		if (key == 0) {
+			if (!hasZeroValue) return defaultValue;
+			return zeroValue;
+		}
+		int[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == key) return valueTable[i];
+			if (other == EMPTY) return defaultValue;
+		}
+	}
+
+	/** Returns the key's current value and increments the stored value. If the key is not in the map, defaultValue + increment is
+	 * put into the map. */
+	public int getAndIncrement (int key, int defaultValue, int increment) {
+		if (key == 0) {
+			if (hasZeroValue) {
+				int value = zeroValue;
+				zeroValue += increment;
+				return value;
+			} else {
+				hasZeroValue = true;
+				zeroValue = defaultValue + increment;
+				++size;
+				return defaultValue;
+			}
+		}
+		int i = locateKey(key);
+		if (i >= 0) {
+			int value = valueTable[i];
+			valueTable[i] = value + increment;
+			return value;
+		}
+		i = -(i + 1);
+		keyTable[i] = key;
+		valueTable[i] = defaultValue + increment;
+		if (++size >= threshold) resize(keyTable.length << 1);
+		return defaultValue;
+	}
+
+	public int remove (int key, int defaultValue) {
+		if (key == 0) {
+			if (!hasZeroValue) return defaultValue;
+			hasZeroValue = false;
+			size--;
+			return zeroValue;
+		}
+		int i = locateKey(key);
+		if (i < 0) return defaultValue;
+		int oldValue = valueTable[i];
+		removeIndex(i);
+		size--;
+		return oldValue;
+	}
+
+	/** Empties the slot at the index, then moves back the following keys that can be placed closer to where they hash to, so every
+	 * key stays reachable from its place without tombstones. Doesn't decrement size. */
+	void removeIndex (int i) {
+		int[] keyTable = this.keyTable, valueTable = this.valueTable;
+		int mask = this.mask;
+		for (int next = i + 1 & mask;; next = next + 1 & mask) {
+			int key = keyTable[next];
+			if (key == EMPTY) break;
+			int placement = place(key);
+			if ((next - placement & mask) > (i - placement & mask)) {
+				keyTable[i] = key;
+				valueTable[i] = valueTable[next];
+				i = next;
+			}
+		}
+		keyTable[i] = EMPTY;
+	}
+
+	/** Reduces the size of the backing arrays to be the specified capacity or less. If the capacity is already less, nothing is
+	 * done. If the map contains more items than the specified capacity, the next highest power of two capacity is used instead. */
+	public void shrink (int maximumCapacity) {
+		if (maximumCapacity < 0) throw new IllegalArgumentException("maximumCapacity must be >= 0: " + maximumCapacity);
+		int tableSize = tableSize(Math.max(maximumCapacity, size), loadFactor);
+		if (keyTable.length > tableSize) resize(tableSize);
+	}
+
+	/** Clears the map and reduces the size of the backing arrays to be the specified capacity if they are larger. */
+	public void clear (int maximumCapacity) {
+		int tableSize = tableSize(maximumCapacity, loadFactor);
+		if (keyTable.length <= tableSize) {
+			clear();
+			return;
+		}
+		hasZeroValue = false;
+		size = 0;
+		resize(tableSize);
+	}
+
+	public void clear () {
+		if (size == 0) return;
+		int[] keyTable = this.keyTable;
+		for (int i = keyTable.length; i-- > 0;)
+			keyTable[i] = EMPTY;
+		size = 0;
+		hasZeroValue = false;
+	}
+
+	/** Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may be
+	 * an expensive operation. */
+	public boolean containsValue (int value) {
+		if (hasZeroValue && zeroValue == value) return true;
+		int[] keyTable = this.keyTable, valueTable = this.valueTable;
+		for (int i = valueTable.length; i-- > 0;)
+			if (keyTable[i] != EMPTY && valueTable[i] == value) return true;
+		return false;
+	}
+
+	public boolean containsKey (int key) {
+		if (key == 0) return hasZeroValue;
+		return locateKey(key) >= 0;
+	}
+
+	/** Returns the key for the specified value, or notFound if it is not in the map. Note this traverses the entire map and
+	 * compares every value, which may be an expensive operation. */
+	public int findKey (int value, int notFound) {
+		if (hasZeroValue && zeroValue == value) return 0;
+		int[] keyTable = this.keyTable, valueTable = this.valueTable;
+		for (int i = valueTable.length; i-- > 0;)
+			if (keyTable[i] != EMPTY && valueTable[i] == value) return keyTable[i];
+		return notFound;
+	}
+
+	/** Increases the size of the backing array to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		int tableSize = tableSize(size + additionalCapacity, loadFactor);
+		if (keyTable.length < tableSize) resize(tableSize);
+	}
+
+	private void resize (int newSize) {
+		int oldCapacity = keyTable.length;
+		threshold = threshold(newSize, loadFactor);
+		mask = newSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		int[] oldKeyTable = keyTable;
+		int[] oldValueTable = valueTable;
+
+		keyTable = new int[newSize];
+		valueTable = new int[newSize];
+
+		if (size > 0) {
+			for (int i = 0; i < oldCapacity; i++) {
+				int key = oldKeyTable[i];
+				if (key != EMPTY) putResize(key, oldValueTable[i]);
+			}
+		}
+	}
+
+	public String toString () {
+		if (size == 0) return "{}";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('{');
+		int[] keyTable = this.keyTable;
+		int[] valueTable = this.valueTable;
+		int i = keyTable.length;
+		if (hasZeroValue) {
+			buffer.append("0=");
+			buffer.append(zeroValue);
+		} else {
+			while (i-- > 0) {
+				int key = keyTable[i];
+				if (key == EMPTY) continue;
+				buffer.append(key);
+				buffer.append('=');
+				buffer.append(valueTable[i]);
+				break;
+			}
+		}
+		while (i-- > 0) {
+			int key = keyTable[i];
+			if (key == EMPTY) continue;
+			buffer.append(", ");
+			buffer.append(key);
+			buffer.append('=');
+			buffer.append(valueTable[i]);
+		}
+		buffer.append('}');
+		return buffer.toString();
+	}
+
+	public Iterator<Entry> iterator () {
+		return entries();
+	}
+
+	/** Returns an iterator for the entries in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Entries entries () {
+		if (entries1 == null) {
+			entries1 = new Entries(this);
+			entries2 = new Entries(this);
+		}
+		if (!entries1.valid) {
+			entries1.reset();
+			entries1.valid = true;
+			entries2.valid = false;
+			return entries1;
+		}
+		entries2.reset();
+		entries2.valid = true;
+		entries1.valid = false;
+		return entries2;
+	}
+
+	/** Returns an iterator for the values in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Values values () {
+		if (values1 == null) {
+			values1 = new Values(this);
+			values2 = new Values(this);
+		}
+		if (!values1.valid) {
+			values1.reset();
+			values1.valid = true;
+			values2.valid = false;
+			return values1;
+		}
+		values2.reset();
+		values2.valid = true;
+		values1.valid = false;
+		return values2;
+	}
+
+	/** Returns an iterator for the keys in the map. Remove is supported. Note that the same iterator instance is returned each time
+	 * this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Keys keys () {
+		if (keys1 == null) {
+			keys1 = new Keys(this);
+			keys2 = new Keys(this);
+		}
+		if (!keys1.valid) {
+			keys1.reset();
+			keys1.valid = true;
+			keys2.valid = false;
+			return keys1;
+		}
+		keys2.reset();
+		keys2.valid = true;
+		keys1.valid = false;
+		return keys2;
+	}
+
+	static public class Entry {
+		public int key;
+		public int value;
+
+		public String toString () {
+			return key + "=" + value;
+		}
+	}
+
+	static private class MapIterator {
+		static final int INDEX_ILLEGAL = -2;
+		static final int INDEX_ZERO = -1;
+
+		public boolean hasNext;
+
+		final ProbingIntIntMap map;
+		int nextIndex, currentIndex;
+		/** The table index iteration starts at and the number of slots after it that have been visited. */
+		int start, step;
+		boolean valid = true;
+
+		public MapIterator (ProbingIntIntMap map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset () {
+			currentIndex = INDEX_ILLEGAL;
+			nextIndex = INDEX_ZERO;
+			step = -1;
+			// Start after an empty slot, so no run of keys wraps around the end of the iteration. Removing a key then only moves
+			// keys that have not been iterated yet.
+			int[] keyTable = map.keyTable;
+			int start = 0;
+			while (keyTable[start] != EMPTY)
+				start++;
+			this.start = start + 1 & map.mask;
+			if (map.hasZeroValue)
+				hasNext = true;
+			else
+				findNextIndex();
+		}
+
+		void findNextIndex () {
+			hasNext = false;
+			int[] keyTable = map.keyTable;
+			for (int n = keyTable.length, mask = map.mask; ++step < n;) {
+				nextIndex = start + step & mask;
+				if (keyTable[nextIndex] != EMPTY) {
+					hasNext = true;
+					break;
+				}
+			}
+		}
+
+		public void remove () {
+			if (currentIndex == INDEX_ZERO && map.hasZeroValue) {
+				map.hasZeroValue = false;
+			} else if (currentIndex < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			} else {
+				map.removeIndex(currentIndex);
+				// A key that has not been iterated may have moved into the removed slot.
+				step = (currentIndex - start & map.mask) - 1;
+				findNextIndex();
+			}
+			currentIndex = INDEX_ILLEGAL;
+			map.size--;
+		}
+	}
+
+	static public class Entries extends MapIterator implements Iterable<Entry>, Iterator<Entry> {
+		private Entry entry = new Entry();
+
+		public Entries (ProbingIntIntMap map) {
+			super(map);
+		}
+
+		/** Note the same entry instance is returned each time this method is called. */
+		public Entry next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			int[] keyTable = map.keyTable;
+			if (nextIndex == INDEX_ZERO) {
+				entry.key = 0;
+				entry.value = map.zeroValue;
+			} else {
+				entry.key = keyTable[nextIndex];
+				entry.value = map.valueTable[nextIndex];
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return entry;
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public Iterator<Entry> iterator () {
+			return this;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+
+	static public class Values extends MapIterator {
+		public Values (ProbingIntIntMap map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public int next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			int value;
+			if (nextIndex == INDEX_ZERO)
+				value = map.zeroValue;
+			else
+				value = map.valueTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return value;
+		}
+
+		/** Returns a new array containing the remaining values. */
+		public IntArray toArray () {
+			IntArray array = new IntArray(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		/** Adds the remaining values to the array. */
+		public IntArray toArray (IntArray array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+
+	static public class Keys extends MapIterator {
+		public Keys (ProbingIntIntMap map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public int next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			int key = nextIndex == INDEX_ZERO ? 0 : map.keyTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return key;
+		}
+
+		/** Returns a new array containing the remaining keys. */
+		public IntArray toArray () {
+			IntArray array = new IntArray(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		/** Adds the remaining keys to the array. */
+		public IntArray toArray (IntArray array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+}
@@ -0,0 +1,594 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/** An unordered map that uses long keys. This implementation uses open addressing with linear probing, an alternative to the
+ * cuckoo hashing of {@link LongMap} with the same API. Null values are allowed. No allocation is done except when growing the
+ * table size. <br>
+ * <br>
+ * See {@link ProbingIntIntMap} for how keys are placed and removed.
+ * @see LongMap */
+public class ProbingLongMap<V> implements Iterable<ProbingLongMap.Entry<V>> {
+	private static final int EMPTY = 0;
+
+	public int size;
+
+	long[] keyTable;
+	V[] valueTable;
+	V zeroValue;
+	boolean hasZeroValue;
+
+	private final float loadFactor;
+	private int threshold;
+	/** Used by {@link #place(long)} to bit shift the upper bits of a long into a usable range (>= 0 and <= mask). */
+	int shift;
+	int mask;
+
+	private Entries entries1, entries2;
+	private Values values1, values2;
+	private Keys keys1, keys2;
+
+	/** Creates a new map with an initial capacity of 51 and a load factor of 0.8. */
+	public ProbingLongMap () {
+		this(51, 0.8f);
+	}
+
+	/** Creates a new map with a load factor of 0.8.
+	 * @param initialCapacity The backing table size is initialCapacity / loadFactor, increased to the next power of two. */
+	public ProbingLongMap (int initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table.
+	 * @param initialCapacity The backing table size is initialCapacity / loadFactor, increased to the next power of two.
+	 * @param loadFactor Must be > 0 and < 1. */
+	public ProbingLongMap (int initialCapacity, float loadFactor) {
+		if (loadFactor <= 0f || loadFactor >= 1f) throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+
+		int tableSize = ProbingIntIntMap.tableSize(initialCapacity, loadFactor);
+		threshold = ProbingIntIntMap.threshold(tableSize, loadFactor);
+		mask = tableSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		keyTable = new long[tableSize];
+		valueTable = (V[])new Object[tableSize];
+	}
+
+	/** Creates a new map identical to the specified map. */
+	public ProbingLongMap (ProbingLongMap<? extends V> map) {
+		loadFactor = map.loadFactor;
+		threshold = map.threshold;
+		mask = map.mask;
+		shift = map.shift;
+		keyTable = new long[map.keyTable.length];
+		valueTable = (V[])new Object[map.valueTable.length];
+		System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
+		System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
+		size = map.size;
+		zeroValue = map.zeroValue;
+		hasZeroValue = map.hasZeroValue;
+	}
+
+	/** Returns an index >= 0 and <= {@link #mask} for the specified key. */
+	int place (long key) {
+		return (int)((key ^ key >>> 32) * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	/** Returns the index of the key if it is in the table, else -(index + 1) for the empty slot where it would be put. */
+	int locateKey (long key) {
+		long[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			long other = keyTable[i];
+			if (other == EMPTY) return -(i + 1);
+			if (other == key) return i;
+		}
+	}
+
+	public V put (long key, V value) {
+		if (key == 0) {
+			V oldValue = zeroValue;
+			zeroValue = value;
+			if (!hasZeroValue) {
+				hasZeroValue = true;
+				size++;
+			}
+			return oldValue;
+		}
+		int i = locateKey(key);
+		if (i >= 0) {
+			V oldValue = valueTable[i];
+			valueTable[i] = value;
+			return oldValue;
+		}
+		i = -(i + 1);
+		keyTable[i] = key;
+		valueTable[i] = value;
+		if (++size >= threshold) resize(keyTable.length << 1);
+		return null;
+	}
+
+	public void putAll (ProbingLongMap<V> map) {
+		ensureCapacity(map.size);
+		if (map.hasZeroValue) put(0, map.zeroValue);
+		long[] keyTable = map.keyTable;
+		V[] valueTable = map.valueTable;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			long key = keyTable[i];
+			if (key != EMPTY) put(key, valueTable[i]);
+		}
+	}
+
+	/** Skips checks for existing keys, doesn't increment size. */
+	private void putResize (long key, V value) {
+		long[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			if (keyTable[i] == EMPTY) {
+				keyTable[i] = key;
+				valueTable[i] = value;
+				return;
+			}
+		}
+	}
+
+	public V get (long key) {
+		return get(key, null);
+	}
+
+	public V get (long key, V defaultValue) {
+		if (key == 0) {
+			if (!hasZeroValue) return defaultValue;
+			return zeroValue;
+		}
+		long[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			long other = keyTable[i];
+			if (other == key) return valueTable[i];
+			if (other == EMPTY) return defaultValue;
+		}
+	}
+
+	public V remove (long key) {
+		if (key == 0) {
+			if (!hasZeroValue) return null;
+			V oldValue = zeroValue;
+			zeroValue = null;
+			hasZeroValue = false;
+			size--;
+			return oldValue;
+		}
+		int i = locateKey(key);
+		if (i < 0) return null;
+		V oldValue = valueTable[i];
+		removeIndex(i);
+		size--;
+		return oldValue;
+	}
+
+	/** Empties the slot at the index, then moves back the following keys that can be placed closer to where they hash to. Doesn't
+	 * decrement size. */
+	void removeIndex (int i) {
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		int mask = this.mask;
+		for (int next = i + 1 & mask;; next = next + 1 & mask) {
+			long key = keyTable[next];
+			if (key == EMPTY) break;
+			int placement = place(key);
+			if ((next - placement & mask) > (i - placement & mask)) {
+				keyTable[i] = key;
+				valueTable[i] = valueTable[next];
+				i = next;
+			}
+		}
+		keyTable[i] = EMPTY;
+		valueTable[i] = null;
+	}
+
+	/** Reduces the size of the backing arrays to be the specified capacity or less. If the capacity is already less, nothing is
+	 * done. If the map contains more items than the specified capacity, the next highest power of two capacity is used instead. */
+	public void shrink (int maximumCapacity) {
+		if (maximumCapacity < 0) throw new IllegalArgumentException("maximumCapacity must be >= 0: " + maximumCapacity);
+		int tableSize = ProbingIntIntMap.tableSize(Math.max(maximumCapacity, size), loadFactor);
+		if (keyTable.length > tableSize) resize(tableSize);
+	}
+
+	/** Clears the map and reduces the size of the backing arrays to be the specified capacity if they are larger. */
+	public void clear (int maximumCapacity) {
+		int tableSize = ProbingIntIntMap.tableSize(maximumCapacity, loadFactor);
+		if (keyTable.length <= tableSize) {
+			clear();
+			return;
+		}
+		zeroValue = null;
+		hasZeroValue = false;
+		size = 0;
+		resize(tableSize);
+	}
+
+	public void clear () {
+		if (size == 0) return;
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		for (int i = keyTable.length; i-- > 0;) {
+			keyTable[i] = EMPTY;
+			valueTable[i] = null;
+		}
+		size = 0;
+		zeroValue = null;
+		hasZeroValue = false;
+	}
+
+	/** Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may be
+	 * an expensive operation. */
+	public boolean containsValue (Object value, boolean identity) {
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		if (value == null) {
+			if (hasZeroValue && zeroValue == null) return true;
+			for (int i = valueTable.length; i-- > 0;)
+				if (keyTable[i] != EMPTY && valueTable[i] == null) return true;
+		} else if (identity) {
+			if (value == zeroValue) return true;
+			for (int i = valueTable.length; i-- > 0;)
+				if (valueTable[i] == value) return true;
+		} else {
+			if (hasZeroValue && value.equals(zeroValue)) return true;
+			for (int i = valueTable.length; i-- > 0;)
+				if (value.equals(valueTable[i])) return true;
+		}
+		return false;
+	}
+
+	public boolean containsKey (long key) {
+		if (key == 0) return hasZeroValue;
+		return locateKey(key) >= 0;
+	}
+
+	/** Returns the key for the specified value, or <tt>notFound</tt> if it is not in the map. Note this traverses the entire map
+	 * and compares every value, which may be an expensive operation.
+	 * @param identity If true, uses == to compare the specified value with values in the map. If false, uses
+	 *           {@link #equals(Object)}. */
+	public long findKey (Object value, boolean identity, long notFound) {
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		if (value == null) {
+			if (hasZeroValue && zeroValue == null) return 0;
+			for (int i = valueTable.length; i-- > 0;)
+				if (keyTable[i] != EMPTY && valueTable[i] == null) return keyTable[i];
+		} else if (identity) {
+			if (value == zeroValue) return 0;
+			for (int i = valueTable.length; i-- > 0;)
+				if (valueTable[i] == value) return keyTable[i];
+		} else {
+			if (hasZeroValue && value.equals(zeroValue)) return 0;
+			for (int i = valueTable.length; i-- > 0;)
+				if (value.equals(valueTable[i])) return keyTable[i];
+		}
+		return notFound;
+	}
+
+	/** Increases the size of the backing array to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		int tableSize = ProbingIntIntMap.tableSize(size + additionalCapacity, loadFactor);
+		if (keyTable.length < tableSize) resize(tableSize);
+	}
+
+	private void resize (int newSize) {
+		int oldCapacity = keyTable.length;
+		threshold = ProbingIntIntMap.threshold(newSize, loadFactor);
+		mask = newSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		long[] oldKeyTable = keyTable;
+		V[] oldValueTable = valueTable;
+
+		keyTable = new long[newSize];
+		valueTable = (V[])new Object[newSize];
+
+		if (size > 0) {
+			for (int i = 0; i < oldCapacity; i++) {
+				long key = oldKeyTable[i];
+				if (key != EMPTY) putResize(key, oldValueTable[i]);
+			}
+		}
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		long[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		int i = keyTable.length;
+		if (hasZeroValue) {
+			buffer.append("0=");
+			buffer.append(zeroValue);
+		} else {
+			while (i-- > 0) {
+				long key = keyTable[i];
+				if (key == EMPTY) continue;
+				buffer.append(key);
+				buffer.append('=');
+				buffer.append(valueTable[i]);
+				break;
+			}
+		}
+		while (i-- > 0) {
+			long key = keyTable[i];
+			if (key == EMPTY) continue;
+			buffer.append(", ");
+			buffer.append(key);
+			buffer.append('=');
+			buffer.append(valueTable[i]);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+
+	public Iterator<Entry<V>> iterator () {
+		return entries();
+	}
+
+	/** Returns an iterator for the entries in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Entries<V> entries () {
+		if (entries1 == null) {
+			entries1 = new Entries(this);
+			entries2 = new Entries(this);
+		}
+		if (!entries1.valid) {
+			entries1.reset();
+			entries1.valid = true;
+			entries2.valid = false;
+			return entries1;
+		}
+		entries2.reset();
+		entries2.valid = true;
+		entries1.valid = false;
+		return entries2;
+	}
+
+	/** Returns an iterator for the values in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Values<V> values () {
+		if (values1 == null) {
+			values1 = new Values(this);
+			values2 = new Values(this);
+		}
+		if (!values1.valid) {
+			values1.reset();
+			values1.valid = true;
+			values2.valid = false;
+			return values1;
+		}
+		values2.reset();
+		values2.valid = true;
+		values1.valid = false;
+		return values2;
+	}
+
+	/** Returns an iterator for the keys in the map. Remove is supported. Note that the same iterator instance is returned each time
+	 * this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Keys keys () {
+		if (keys1 == null) {
+			keys1 = new Keys(this);
+			keys2 = new Keys(this);
+		}
+		if (!keys1.valid) {
+			keys1.reset();
+			keys1.valid = true;
+			keys2.valid = false;
+			return keys1;
+		}
+		keys2.reset();
+		keys2.valid = true;
+		keys1.valid = false;
+		return keys2;
+	}
+
+	static public class Entry<V> {
+		public long key;
+		public V value;
+
+		public String toString () {
+			return key + "=" + value;
+		}
+	}
+
+	static private class MapIterator<V> {
+		static final int INDEX_ILLEGAL = -2;
+		static final int INDEX_ZERO = -1;
+
+		public boolean hasNext;
+
+		final ProbingLongMap<V> map;
+		int nextIndex, currentIndex;
+		/** The table index iteration starts at and the number of slots after it that have been visited. */
+		int start, step;
+		boolean valid = true;
+
+		public MapIterator (ProbingLongMap<V> map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset () {
+			currentIndex = INDEX_ILLEGAL;
+			nextIndex = INDEX_ZERO;
+			step = -1;
+			// Start after an empty slot, so removing a key only moves keys that have not been iterated yet.
+			long[] keyTable = map.keyTable;
+			int start = 0;
+			while (keyTable[start] != EMPTY)
+				start++;
+			this.start = start + 1 & map.mask;
+			if (map.hasZeroValue)
+				hasNext = true;
+			else
+				findNextIndex();
+		}
+
+		void findNextIndex () {
+			hasNext = false;
+			long[] keyTable = map.keyTable;
+			for (int n = keyTable.length, mask = map.mask; ++step < n;) {
+				nextIndex = start + step & mask;
+				if (keyTable[nextIndex] != EMPTY) {
+					hasNext = true;
+					break;
+				}
+			}
+		}
+
+		public void remove () {
+			if (currentIndex == INDEX_ZERO && map.hasZeroValue) {
+				map.zeroValue = null;
+				map.hasZeroValue = false;
+			} else if (currentIndex < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			} else {
+				map.removeIndex(currentIndex);
+				// A key that has not been iterated may have moved into the removed slot.
+				step = (currentIndex - start & map.mask) - 1;
+				findNextIndex();
+			}
+			currentIndex = INDEX_ILLEGAL;
+			map.size--;
+		}
+	}
+
+	static public class Entries<V> extends MapIterator<V> implements Iterable<Entry<V>>, Iterator<Entry<V>> {
+		private Entry<V> entry = new Entry();
+
+		public Entries (ProbingLongMap map) {
+			super(map);
+		}
+
+		/** Note the same entry instance is returned each time this method is called. */
+		public Entry<V> next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			long[] keyTable = map.keyTable;
+			if (nextIndex == INDEX_ZERO) {
+				entry.key = 0;
+				entry.value = map.zeroValue;
+			} else {
+				entry.key = keyTable[nextIndex];
+				entry.value = map.valueTable[nextIndex];
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return entry;
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public Iterator<Entry<V>> iterator () {
+			return this;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+
+	static public class Values<V> extends MapIterator<V> implements Iterable<V>, Iterator<V> {
+		public Values (ProbingLongMap<V> map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public V next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			V value;
+			if (nextIndex == INDEX_ZERO)
+				value = map.zeroValue;
+			else
+				value = map.valueTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return value;
+		}
+
+		public Iterator<V> iterator () {
+			return this;
+		}
+
+		/** Returns a new array containing the remaining values. */
+		public Array<V> toArray () {
+			Array array = new Array(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		/** Adds the remaining values to the array. */
+		public Array<V> toArray (Array<V> array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+
+	static public class Keys extends MapIterator {
+		public Keys (ProbingLongMap map) {
+			super(map);
+		}
+
+		public long next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			long key = nextIndex == INDEX_ZERO ? 0 : map.keyTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return key;
+		}
+
+		/** Returns a new array containing the remaining keys. */
+		public LongArray toArray () {
+			LongArray array = new LongArray(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		/** Adds the remaining keys to the array. */
+		public LongArray toArray (LongArray array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+}
@@ -0,0 +1,524 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/** An unordered map where the values are ints. This implementation uses open addressing with linear probing, an alternative to
+ * the cuckoo hashing of {@link ObjectIntMap} with the same API. Null keys are not allowed. No allocation is done except when
+ * growing the table size. <br>
+ * <br>
+ * See {@link ProbingIntIntMap} for how keys are placed and removed. The key's hashCode is mixed before placing, so poorly
+ * distributed hash codes are spread across the table, but keys with equal hash codes always probe the same slots.
+ * @see ObjectIntMap */
+public class ProbingObjectIntMap<K> implements Iterable<ProbingObjectIntMap.Entry<K>> {
+	public int size;
+
+	K[] keyTable;
+	int[] valueTable;
+
+	private final float loadFactor;
+	private int threshold;
+	/** Used by {@link #place(Object)} to bit shift the upper bits of a long into a usable range (>= 0 and <= mask). */
+	int shift;
+	int mask;
+
+	private Entries entries1, entries2;
+	private Values values1, values2;
+	private Keys keys1, keys2;
+
+	/** Creates a new map with an initial capacity of 51 and a load factor of 0.8. */
+	public ProbingObjectIntMap () {
+		this(51, 0.8f);
+	}
+
+	/** Creates a new map with a load factor of 0.8.
+	 * @param initialCapacity The backing table size is initialCapacity / loadFactor, increased to the next power of two. */
+	public ProbingObjectIntMap (int initialCapacity) {
+		this(initialCapacity, 0.8f);
+	}
+
+	/** Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table.
+	 * @param initialCapacity The backing table size is initialCapacity / loadFactor, increased to the next power of two.
+	 * @param loadFactor Must be > 0 and < 1. */
+	public ProbingObjectIntMap (int initialCapacity, float loadFactor) {
+		if (loadFactor <= 0f || loadFactor >= 1f) throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		this.loadFactor = loadFactor;
+
+		int tableSize = ProbingIntIntMap.tableSize(initialCapacity, loadFactor);
+		threshold = ProbingIntIntMap.threshold(tableSize, loadFactor);
+		mask = tableSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		keyTable = (K[])new Object[tableSize];
+		valueTable = new int[tableSize];
+	}
+
+	/** Creates a new map identical to the specified map. */
+	public ProbingObjectIntMap (ProbingObjectIntMap<? extends K> map) {
+		loadFactor = map.loadFactor;
+		threshold = map.threshold;
+		mask = map.mask;
+		shift = map.shift;
+		keyTable = (K[])new Object[map.keyTable.length];
+		valueTable = new int[map.valueTable.length];
+		System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
+		System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
+		size = map.size;
+	}
+
+	/** Returns an index >= 0 and <= {@link #mask} for the specified key. */
+	int place (Object key) {
+		return (int)(key.hashCode() * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	/** Returns the index of the key if it is in the table, else -(index + 1) for the empty slot where it would be put. */
+	int locateKey (K key) {
+		K[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			K other = keyTable[i];
+			if (other == null) return -(i + 1);
+			if (key.equals(other)) return i;
+		}
+	}
+
+	public void put (K key, int value) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		int i = locateKey(key);
+		if (i >= 0) {
+			valueTable[i] = value;
+			return;
+		}
+		i = -(i + 1);
+		keyTable[i] = key;
+		valueTable[i] = value;
+		if (++size >= threshold) resize(keyTable.length << 1);
+	}
+
+	public void putAll (ProbingObjectIntMap<K> map) {
+		ensureCapacity(map.size);
+		K[] keyTable = map.keyTable;
+		int[] valueTable = map.valueTable;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			K key = keyTable[i];
+			if (key != null) put(key, valueTable[i]);
+		}
+	}
+
+	/** Skips checks for existing keys, doesn't increment size. */
+	private void putResize (K key, int value) {
+		K[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			if (keyTable[i] == null) {
+				keyTable[i] = key;
+				valueTable[i] = value;
+				return;
+			}
+		}
+	}
+
+	/** @param defaultValue Returned if the key was not associated with a value. */
+	public int get (K key, int defaultValue) {
+		K[] keyTable = this.keyTable;
+		for (int i = place(key);; i = i + 1 & mask) {
+			K other = keyTable[i];
+			if (other == null) return defaultValue;
+			if (key.equals(other)) return valueTable[i];
+		}
+	}
+
+	/** Returns the key's current value and increments the stored value. If the key is not in the map, defaultValue + increment is
+	 * put into the map. */
+	public int getAndIncrement (K key, int defaultValue, int increment) {
+		int i = locateKey(key);
+		if (i >= 0) {
+			int value = valueTable[i];
+			valueTable[i] = value + increment;
+			return value;
+		}
+		i = -(i + 1);
+		keyTable[i] = key;
+		valueTable[i] = defaultValue + increment;
+		if (++size >= threshold) resize(keyTable.length << 1);
+		return defaultValue;
+	}
+
+	public int remove (K key, int defaultValue) {
+		int i = locateKey(key);
+		if (i < 0) return defaultValue;
+		int oldValue = valueTable[i];
+		removeIndex(i);
+		size--;
+		return oldValue;
+	}
+
+	/** Empties the slot at the index, then moves back the following keys that can be placed closer to where they hash to. Doesn't
+	 * decrement size. */
+	void removeIndex (int i) {
+		K[] keyTable = this.keyTable;
+		int[] valueTable = this.valueTable;
+		int mask = this.mask;
+		for (int next = i + 1 & mask;; next = next + 1 & mask) {
+			K key = keyTable[next];
+			if (key == null) break;
+			int placement = place(key);
+			if ((next - placement & mask) > (i - placement & mask)) {
+				keyTable[i] = key;
+				valueTable[i] = valueTable[next];
+				i = next;
+			}
+		}
+		keyTable[i] = null;
+	}
+
+	/** Reduces the size of the backing arrays to be the specified capacity or less. If the capacity is already less, nothing is
+	 * done. If the map contains more items than the specified capacity, the next highest power of two capacity is used instead. */
+	public void shrink (int maximumCapacity) {
+		if (maximumCapacity < 0) throw new IllegalArgumentException("maximumCapacity must be >= 0: " + maximumCapacity);
+		int tableSize = ProbingIntIntMap.tableSize(Math.max(maximumCapacity, size), loadFactor);
+		if (keyTable.length > tableSize) resize(tableSize);
+	}
+
+	/** Clears the map and reduces the size of the backing arrays to be the specified capacity if they are larger. */
+	public void clear (int maximumCapacity) {
+		int tableSize = ProbingIntIntMap.tableSize(maximumCapacity, loadFactor);
+		if (keyTable.length <= tableSize) {
+			clear();
+			return;
+		}
+		size = 0;
+		resize(tableSize);
+	}
+
+	public void clear () {
+		if (size == 0) return;
+		K[] keyTable = this.keyTable;
+		for (int i = keyTable.length; i-- > 0;)
+			keyTable[i] = null;
+		size = 0;
+	}
+
+	/** Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may be
+	 * an expensive operation. */
+	public boolean containsValue (int value) {
+		K[] keyTable = this.keyTable;
+		int[] valueTable = this.valueTable;
+		for (int i = valueTable.length; i-- > 0;)
+			if (keyTable[i] != null && valueTable[i] == value) return true;
+		return false;
+	}
+
+	public boolean containsKey (K key) {
+		return locateKey(key) >= 0;
+	}
+
+	/** Returns the key for the specified value, or null if it is not in the map. Note this traverses the entire map and compares
+	 * every value, which may be an expensive operation. */
+	public K findKey (int value) {
+		K[] keyTable = this.keyTable;
+		int[] valueTable = this.valueTable;
+		for (int i = valueTable.length; i-- > 0;)
+			if (keyTable[i] != null && valueTable[i] == value) return keyTable[i];
+		return null;
+	}
+
+	/** Increases the size of the backing array to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		int tableSize = ProbingIntIntMap.tableSize(size + additionalCapacity, loadFactor);
+		if (keyTable.length < tableSize) resize(tableSize);
+	}
+
+	private void resize (int newSize) {
+		int oldCapacity = keyTable.length;
+		threshold = ProbingIntIntMap.threshold(newSize, loadFactor);
+		mask = newSize - 1;
+		shift = Long.numberOfLeadingZeros(mask);
+
+		K[] oldKeyTable = keyTable;
+		int[] oldValueTable = valueTable;
+
+		keyTable = (K[])new Object[newSize];
+		valueTable = new int[newSize];
+
+		if (size > 0) {
+			for (int i = 0; i < oldCapacity; i++) {
+				K key = oldKeyTable[i];
+				if (key != null) putResize(key, oldValueTable[i]);
+			}
+		}
+	}
+
+	public String toString () {
+		if (size == 0) return "{}";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('{');
+		K[] keyTable = this.keyTable;
+		int[] valueTable = this.valueTable;
+		int i = keyTable.length;
+		while (i-- > 0) {
+			K key = keyTable[i];
+			if (key == null) continue;
+			buffer.append(key);
+			buffer.append('=');
+			buffer.append(valueTable[i]);
+			break;
+		}
+		while (i-- > 0) {
+			K key = keyTable[i];
+			if (key == null) continue;
+			buffer.append(", ");
+			buffer.append(key);
+			buffer.append('=');
+			buffer.append(valueTable[i]);
+		}
+		buffer.append('}');
+		return buffer.toString();
+	}
+
+	public Entries<K> iterator () {
+		return entries();
+	}
+
+	/** Returns an iterator for the entries in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Entries<K> entries () {
+		if (entries1 == null) {
+			entries1 = new Entries(this);
+			entries2 = new Entries(this);
+		}
+		if (!entries1.valid) {
+			entries1.reset();
+			entries1.valid = true;
+			entries2.valid = false;
+			return entries1;
+		}
+		entries2.reset();
+		entries2.valid = true;
+		entries1.valid = false;
+		return entries2;
+	}
+
+	/** Returns an iterator for the values in the map. Remove is supported. Note that the same iterator instance is returned each
+	 * time this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Values values () {
+		if (values1 == null) {
+			values1 = new Values(this);
+			values2 = new Values(this);
+		}
+		if (!values1.valid) {
+			values1.reset();
+			values1.valid = true;
+			values2.valid = false;
+			return values1;
+		}
+		values2.reset();
+		values2.valid = true;
+		values1.valid = false;
+		return values2;
+	}
+
+	/** Returns an iterator for the keys in the map. Remove is supported. Note that the same iterator instance is returned each time
+	 * this method is called. Use the {@link Entries} constructor for nested or multithreaded iteration. */
+	public Keys<K> keys () {
+		if (keys1 == null) {
+			keys1 = new Keys(this);
+			keys2 = new Keys(this);
+		}
+		if (!keys1.valid) {
+			keys1.reset();
+			keys1.valid = true;
+			keys2.valid = false;
+			return keys1;
+		}
+		keys2.reset();
+		keys2.valid = true;
+		keys1.valid = false;
+		return keys2;
+	}
+
+	static public class Entry<K> {
+		public K key;
+		public int value;
+
+		public String toString () {
+			return key + "=" + value;
+		}
+	}
+
+	static private class MapIterator<K> {
+		public boolean hasNext;
+
+		final ProbingObjectIntMap<K> map;
+		int nextIndex, currentIndex;
+		/** The table index iteration starts at and the number of slots after it that have been visited. */
+		int start, step;
+		boolean valid = true;
+
+		public MapIterator (ProbingObjectIntMap<K> map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset () {
+			currentIndex = -1;
+			step = -1;
+			// Start after an empty slot, so removing a key only moves keys that have not been iterated yet.
+			K[] keyTable = map.keyTable;
+			int start = 0;
+			while (keyTable[start] != null)
+				start++;
+			this.start = start + 1 & map.mask;
+			findNextIndex();
+		}
+
+		void findNextIndex () {
+			hasNext = false;
+			K[] keyTable = map.keyTable;
+			for (int n = keyTable.length, mask = map.mask; ++step < n;) {
+				nextIndex = start + step & mask;
+				if (keyTable[nextIndex] != null) {
+					hasNext = true;
+					break;
+				}
+			}
+		}
+
+		public void remove () {
+			if (currentIndex < 0) throw new IllegalStateException("next must be called before remove.");
+			map.removeIndex(currentIndex);
+			// A key that has not been iterated may have moved into the removed slot.
+			step = (currentIndex - start & map.mask) - 1;
+			findNextIndex();
+			currentIndex = -1;
+			map.size--;
+		}
+	}
+
+	static public class Entries<K> extends MapIterator<K> implements Iterable<Entry<K>>, Iterator<Entry<K>> {
+		private Entry<K> entry = new Entry();
+
+		public Entries (ProbingObjectIntMap<K> map) {
+			super(map);
+		}
+
+		/** Note the same entry instance is returned each time this method is called. */
+		public Entry<K> next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			K[] keyTable = map.keyTable;
+			entry.key = keyTable[nextIndex];
+			entry.value = map.valueTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return entry;
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public Entries<K> iterator () {
+			return this;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+
+	static public class Values extends MapIterator<Object> {
+		public Values (ProbingObjectIntMap<?> map) {
+			super((ProbingObjectIntMap<Object>)map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public int next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			int value = map.valueTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return value;
+		}
+
+		/** Returns a new array containing the remaining values. */
+		public IntArray toArray () {
+			IntArray array = new IntArray(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		/** Adds the remaining values to the array. */
+		public IntArray toArray (IntArray array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+	}
+
+	static public class Keys<K> extends MapIterator<K> implements Iterable<K>, Iterator<K> {
+		public Keys (ProbingObjectIntMap<K> map) {
+			super(map);
+		}
+
+		public boolean hasNext () {
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			return hasNext;
+		}
+
+		public K next () {
+			if (!hasNext) throw new NoSuchElementException();
+			if (!valid) throw new GdxRuntimeException("#iterator() cannot be used nested.");
+			K key = map.keyTable[nextIndex];
+			currentIndex = nextIndex;
+			findNextIndex();
+			return key;
+		}
+
+		public Keys<K> iterator () {
+			return this;
+		}
+
+		/** Returns a new array containing the remaining keys. */
+		public Array<K> toArray () {
+			Array array = new Array(true, map.size);
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		/** Adds the remaining keys to the array. */
+		public Array<K> toArray (Array<K> array) {
+			while (hasNext)
+				array.add(next());
+			return array;
+		}
+
+		public void remove () {
+			super.remove();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** A stable least significant digit radix sort on float keys. Keys are converted once to integers that compare like the floats
+ * do with {@link Float#compare(float, float)}, so -0.0 comes before 0.0 and NaN after positive infinity, as with
+ * {@link java.util.Arrays#sort(float[])}. They are then distributed in up to four passes of eight bits, so no comparisons are
+ * made at all. Passes where all keys share the same digit are skipped and small ranges use an insertion sort. Working memory is
+ * reused between calls. This class is not thread safe, use {@link Sort} instead of using it directly.
+ * @see Sort#sort(Object[], float[], int, int) */
+class RadixSort {
+	/** Ranges smaller than this are insertion sorted, the histogram clearing and four passes don't pay off below it. */
+	static private final int INSERTION_SORT_THRESHOLD = 64;
+
+	private int[] bits = new int[0], bits2 = new int[0], order = new int[0], order2 = new int[0];
+	private final int[] counts = new int[4 * 256];
+	private Object[] items = new Object[0];
+
+	/** Sets indices[0] to indices[count - 1] to the indices of keys[0] to keys[count - 1] in ascending key order. Equal keys keep
+	 * their relative order. The keys are not modified. */
+	public void sortIndices (float[] keys, int[] indices, int count) {
+		if (count > keys.length) throw new ArrayIndexOutOfBoundsException("count can't be > keys.length: " + count);
+		if (count > indices.length) throw new ArrayIndexOutOfBoundsException("count can't be > indices.length: " + count);
+		int[] order = sort(keys, 0, count);
+		System.arraycopy(order, 0, indices, 0, count);
+	}
+
+	/** Sorts a[lo] to a[hi - 1] so the items are in ascending order of keys[lo] to keys[hi - 1], where keys[i] is the key of a[i].
+	 * Equal keys keep their relative order. The keys are not modified. */
+	public void sort (Object[] a, float[] keys, int lo, int hi) {
+		if (lo < 0) throw new ArrayIndexOutOfBoundsException("lo can't be < 0: " + lo);
+		if (lo > hi) throw new IllegalArgumentException("lo can't be > hi: " + lo + " > " + hi);
+		if (hi > a.length) throw new ArrayIndexOutOfBoundsException("hi can't be > a.length: " + hi);
+		if (hi > keys.length) throw new ArrayIndexOutOfBoundsException("hi can't be > keys.length: " + hi);
+		int n = hi - lo;
+		if (n < 2) return;
+		int[] order = sort(keys, lo, n);
+		Object[] items = this.items;
+		if (items.length < n) this.items = items = new Object[Math.max(8, (int)(n * 1.75f))];
+		System.arraycopy(a, lo, items, 0, n);
+		for (int i = 0; i < n; i++)
+			a[lo + i] = items[order[i]];
+		for (int i = 0; i < n; i++)
+			items[i] = null;
+	}
+
+	/** Returns an array whose first n entries are the indices, relative to offset, of keys[offset] to keys[offset + n - 1] in
+	 * ascending key order. */
+	private int[] sort (float[] keys, int offset, int n) {
+		ensureCapacity(n);
+		int[] bits = this.bits, order = this.order;
+		for (int i = 0; i < n; i++) {
+			int b = Float.floatToIntBits(keys[offset + i]); // Collapses all NaNs to the positive canonical NaN.
+			// Flip the magnitude of negative floats so the bits compare as signed integers in float order.
+			bits[i] = b ^ ((b >> 31) & 0x7fffffff);
+			order[i] = i;
+		}
+		if (n < INSERTION_SORT_THRESHOLD) {
+			for (int i = 1; i < n; i++) {
+				int b = bits[i], index = order[i], j = i - 1;
+				for (; j >= 0 && bits[j] > b; j--) {
+					bits[j + 1] = bits[j];
+					order[j + 1] = order[j];
+				}
+				bits[j + 1] = b;
+				order[j + 1] = index;
+			}
+			return order;
+		}
+
+		int[] counts = this.counts;
+		for (int i = 0, c = counts.length; i < c; i++)
+			counts[i] = 0;
+		for (int i = 0; i < n; i++) {
+			int b = bits[i];
+			counts[b & 0xff]++;
+			counts[256 + (b >>> 8 & 0xff)]++;
+			counts[512 + (b >>> 16 & 0xff)]++;
+			counts[768 + ((b >>> 24) ^ 0x80)]++;
+		}
+
+		int[] bits2 = this.bits2, order2 = this.order2;
+		for (int pass = 0; pass < 4; pass++) {
+			int base = pass << 8, shift = pass << 3;
+			int first = (bits[0] >>> shift & 0xff) ^ (pass == 3 ? 0x80 : 0);
+			if (counts[base + first] == n) continue; // All keys share this digit.
+			for (int i = base, total = 0, c = base + 256; i < c; i++) {
+				int count = counts[i];
+				counts[i] = total;
+				total += count;
+			}
+			for (int i = 0; i < n; i++) {
+				int b = bits[i];
+				int digit = base + ((b >>> shift & 0xff) ^ (pass == 3 ? 0x80 : 0));
+				int index = counts[digit]++;
+				bits2[index] = b;
+				order2[index] = order[i];
+			}
+			int[] swap = bits;
+			bits = bits2;
+			bits2 = swap;
+			swap = order;
+			order = order2;
+			order2 = swap;
+		}
+		return order;
+	}
+
+	private void ensureCapacity (int n) {
+		if (bits.length >= n) return;
+		int capacity = Math.max(8, (int)(n * 1.75f));
+		bits = new int[capacity];
+		bits2 = new int[capacity];
+		order = new int[capacity];
+		order2 = new int[capacity];
+	}
+}
@@ -18,14 +18,25 @@ import java.util.Comparator;
 /** Provides methods to sort arrays of objects. Sorting requires working memory and this class allows that memory to be reused to
  * avoid allocation. The sorting is otherwise identical to the Arrays.sort methods (uses timsort).<br>
  * <br>
+ * Large arrays can be sorted with {@link #parallelSort(Object[], Comparator, int, int)}, which spreads a merge sort over all
+ * processors, while arrays that can be ordered by a float key, such as a distance to the camera, are better sorted with
+ * {@link #sort(Object[], float[], int, int)}, a radix sort which doesn't call a comparator at all. Both pick a serial or simpler
+ * algorithm by themselves when the array is small.<br>
+ * <br>
  * Note that sorting primitive arrays with the Arrays.sort methods does not allocate memory (unless sorting large arrays of char,
  * short, or byte).
  * @author Nathan Sweet */
 public class Sort {
 	static private Sort instance;
 
+	/** Ranges with fewer items than this are sorted on the calling thread by the parallelSort methods, as handing the work to
+	 * other threads costs more than it saves. */
+	static public int parallelThreshold = 8192;
+
 	private TimSort timSort;
 	private ComparableTimSort comparableTimSort;
+	private ParallelSort parallelSort;
+	private RadixSort radixSort;
 
 	public <T> void sort (Array<T> a) {
 		if (comparableTimSort == null) comparableTimSort = new ComparableTimSort();
@@ -57,6 +68,54 @@ public class Sort {
 		timSort.doSort(a, c, fromIndex, toIndex);
 	}
 
+	/** Sorts the array the same as {@link #sort(Array, Comparator)}, but uses multiple threads if the array has at least
+	 * {@link #parallelThreshold} items. The comparator is called from multiple threads at the same time and must be thread safe.
+	 * Not available on GWT, where the array is sorted on the calling thread. */
+	public <T> void parallelSort (Array<T> a, Comparator<? super T> c) {
+		if (parallelSort == null) parallelSort = new ParallelSort();
+		parallelSort.doSort((Object[])a.items, c, 0, a.size);
+	}
+
+	/** @see #parallelSort(Array, Comparator) */
+	public <T> void parallelSort (T[] a, Comparator<? super T> c) {
+		if (parallelSort == null) parallelSort = new ParallelSort();
+		parallelSort.doSort(a, c, 0, a.length);
+	}
+
+	/** @see #parallelSort(Array, Comparator) */
+	public <T> void parallelSort (T[] a, Comparator<? super T> c, int fromIndex, int toIndex) {
+		if (parallelSort == null) parallelSort = new ParallelSort();
+		parallelSort.doSort(a, c, fromIndex, toIndex);
+	}
+
+	/** Sorts the array in ascending order of the keys, where keys[i] is the key of the item at index i. Uses a stable radix sort,
+	 * so no comparator is called and the key of each item has to be computed only once. The keys are not modified.
+	 * @param keys must have at least as many entries as the array has items. */
+	public <T> void sort (Array<T> a, float[] keys) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort((Object[])a.items, keys, 0, a.size);
+	}
+
+	/** @see #sort(Array, float[]) */
+	public <T> void sort (T[] a, float[] keys) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(a, keys, 0, a.length);
+	}
+
+	/** Sorts a[fromIndex] to a[toIndex - 1] by keys[fromIndex] to keys[toIndex - 1].
+	 * @see #sort(Array, float[]) */
+	public <T> void sort (T[] a, float[] keys, int fromIndex, int toIndex) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(a, keys, fromIndex, toIndex);
+	}
+
+	/** Sets indices[0] to indices[count - 1] to the indices of keys[0] to keys[count - 1] in ascending key order, using a stable
+	 * radix sort. The keys are not modified. */
+	public void sortIndices (float[] keys, int[] indices, int count) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sortIndices(keys, indices, count);
+	}
+
 	/** Returns a Sort instance for convenience. Multiple threads must not use this instance at the same time. */
 	static public Sort instance () {
 		if (instance == null) instance = new Sort();
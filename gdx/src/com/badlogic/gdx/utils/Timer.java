@@ -212,14 +212,19 @@ public class Timer {
 				synchronized (instances) {
 					if (app != Gdx.app) return;
 
-					long timeMillis = System.nanoTime() / 1000000;
 					long waitMillis = 5000;
-					for (int i = 0, n = instances.size; i < n; i++) {
-						try {
-							waitMillis = instances.get(i).update(timeMillis, waitMillis);
-						} catch (Throwable ex) {
-							throw new GdxRuntimeException("Task failed: " + instances.get(i).getClass().getName(), ex);
+					Trace.begin("Timer.update");
+					try {
+						long timeMillis = System.nanoTime() / 1000000;
+						for (int i = 0, n = instances.size; i < n; i++) {
+							try {
+								waitMillis = instances.get(i).update(timeMillis, waitMillis);
+							} catch (Throwable ex) {
+								throw new GdxRuntimeException("Task failed: " + instances.get(i).getClass().getName(), ex);
+							}
 						}
+					} finally {
+						Trace.end();
 					}
 
 					if (app != Gdx.app) return;
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Records when scopes of work begin and end on each thread, to see where the time of a frame goes across the render thread,
+ * the {@link com.badlogic.gdx.utils.async.AsyncExecutor} threads, the {@link Timer} thread and so on. The trace can be written
+ * in the Chrome trace event format with {@link #write(FileHandle)} and opened in chrome://tracing.<br>
+ * <br>
+ * Call {@link #begin(String)} when a scope starts and {@link #end()} when it ends, scopes can be nested. libgdx traces
+ * Stage#act and Stage#draw, ModelBatch#flush, AssetManager#update, ParticleSystem#update, AsyncExecutor tasks, the Timer thread
+ * and Box2D's World#step.<br>
+ * <br>
+ * Tracing is off until {@link #enable()} is called. While it is off, begin and end only read a static field, so the calls can
+ * stay in production code. While it is on, each thread records into its own ring buffer, which keeps the most recent events
+ * and never allocates after it was created. The buffers of threads that have ended are kept until {@link #clear()} or
+ * {@link #enable(int)} is called, or until they hold no events and a new thread starts recording. Not available on GWT, where
+ * nothing is recorded. */
+public class Trace {
+	static private final byte BEGIN = 0, END = 1, INSTANT = 2;
+
+	/** Whether events are recorded, see {@link #enable(int)}. */
+	static public boolean enabled;
+
+	static private final Array<Buffer> buffers = new Array();
+	static private volatile int capacity = 1 << 16;
+	static private volatile long origin = System.nanoTime();
+	/** Incremented to discard all events. Each thread resets its own buffer when it sees a new generation, so no other thread
+	 * writes to it. */
+	static private volatile int generation;
+
+	static private final ThreadLocal<Buffer> threadBuffer = new ThreadLocal<Buffer>() {
+		protected Buffer initialValue () {
+			Buffer buffer = new Buffer(Thread.currentThread());
+			synchronized (buffers) {
+				prune(false);
+				buffers.add(buffer);
+			}
+			return buffer;
+		}
+	};
+
+	/** Enables tracing, keeping the most recent 65536 events of each thread. */
+	static public void enable () {
+		enable(1 << 16);
+	}
+
+	/** Enables tracing and discards all previous events.
+	 * @param eventsPerThread The number of events kept for each thread, rounded up to a power of two. */
+	static public void enable (int eventsPerThread) {
+		if (eventsPerThread < 2) throw new IllegalArgumentException("eventsPerThread must be > 1: " + eventsPerThread);
+		synchronized (buffers) {
+			capacity = MathUtils.nextPowerOfTwo(eventsPerThread);
+			origin = System.nanoTime();
+			generation++;
+			prune(true);
+		}
+		enabled = true;
+	}
+
+	/** Stops recording events. The recorded events are kept until {@link #clear()} or {@link #enable(int)} is called. */
+	static public void disable () {
+		enabled = false;
+	}
+
+	/** Begins a scope on the current thread. Must be followed by a call to {@link #end()} on the same thread.
+	 * @param name Should be a constant, the string is kept until the event is overwritten. */
+	static public void begin (String name) {
+		if (!enabled) return;
+		threadBuffer.get().add(BEGIN, name, System.nanoTime());
+	}
+
+	/** Ends the scope begun last on the current thread. */
+	static public void end () {
+		if (!enabled) return;
+		threadBuffer.get().add(END, null, System.nanoTime());
+	}
+
+	/** Records a point in time on the current thread, such as the start of a frame. */
+	static public void instant (String name) {
+		if (!enabled) return;
+		threadBuffer.get().add(INSTANT, name, System.nanoTime());
+	}
+
+	/** Discards all recorded events. */
+	static public void clear () {
+		synchronized (buffers) {
+			origin = System.nanoTime();
+			generation++;
+			prune(true);
+		}
+	}
+
+	/** Removes the buffers of threads that have ended, which would otherwise be kept forever by threads that come and go, such as
+	 * pooled threads. Must be called while synchronized on buffers.
+	 * @param all If false, only buffers without events in the current generation are removed. */
+	static private void prune (boolean all) {
+		for (int i = buffers.size - 1; i >= 0; i--) {
+			Buffer buffer = buffers.get(i);
+			Thread thread = buffer.thread.get();
+			if (thread != null && thread.isAlive()) continue;
+			if (all || buffer.generation != generation || buffer.count == 0) buffers.removeIndex(i);
+		}
+	}
+
+	/** Writes the recorded events of all threads as Chrome trace event JSON. Events recorded while writing may be missing or
+	 * partially overwritten, so tracing should be disabled first or the traced threads should be idle. Scopes whose begin was
+	 * overwritten in the ring buffer are left out.
+	 * @throws GdxRuntimeException if the file could not be written. */
+	static public void write (FileHandle file) {
+		Writer writer = file.writer(false, "UTF-8");
+		try {
+			write(writer);
+		} finally {
+			StreamUtils.closeQuietly(writer);
+		}
+	}
+
+	/** Writes the recorded events of all threads as Chrome trace event JSON to the writer, which is not closed.
+	 * @see #write(FileHandle) */
+	static public void write (Writer writer) {
+		StringBuilder sb = new StringBuilder(256);
+		try {
+			writer.write("{\"traceEvents\":[\n");
+			boolean first = true;
+			synchronized (buffers) {
+				for (int b = 0, bn = buffers.size; b < bn; b++) {
+					Buffer buffer = buffers.get(b);
+					if (buffer.generation != generation || buffer.count == 0) continue;
+					sb.setLength(0);
+					if (!first) sb.append(",\n");
+					first = false;
+					sb.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(buffer.threadId);
+					sb.append(",\"args\":{\"name\":");
+					string(sb, buffer.threadName).append("}}");
+					writer.write(sb.chars, 0, sb.length);
+
+					String[] names = buffer.names;
+					long[] times = buffer.times;
+					byte[] phases = buffer.phases;
+					int mask = names.length - 1;
+					long count = buffer.count, start = Math.max(0, count - names.length);
+					int depth = 0;
+					for (long i = start; i < count; i++) {
+						int index = (int)(i & mask);
+						byte phase = phases[index];
+						if (phase == END) {
+							// The begin was overwritten.
+							if (depth == 0) continue;
+							depth--;
+						} else if (phase == BEGIN) //
+							depth++;
+						long time = times[index] - origin;
+						if (time < 0) continue;
+						sb.setLength(0);
+						sb.append(",\n{");
+						if (phase != END) string(sb.append("\"name\":"), names[index]).append(',');
+						sb.append("\"ph\":\"").append(phase == BEGIN ? 'B' : phase == END ? 'E' : 'i').append('"');
+						if (phase == INSTANT) sb.append(",\"s\":\"t\"");
+						sb.append(",\"pid\":1,\"tid\":").append(buffer.threadId);
+						// Microseconds with nanosecond precision.
+						sb.append(",\"ts\":").append(time / 1000).append('.').append((int)(time % 1000), 3, '0').append('}');
+						writer.write(sb.chars, 0, sb.length);
+					}
+				}
+			}
+			writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+			writer.flush();
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error writing trace.", ex);
+		}
+	}
+
+	static private StringBuilder string (StringBuilder sb, String value) {
+		sb.append('"');
+		for (int i = 0, n = value == null ? 0 : value.length(); i < n; i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\')
+				sb.append('\\').append(c);
+			else if (c < ' ')
+				sb.append(' ');
+			else
+				sb.append(c);
+		}
+		return sb.append('"');
+	}
+
+	/** The events of one thread. Only that thread writes to it. */
+	static private class Buffer {
+		final WeakReference<Thread> thread;
+		final long threadId;
+		final String threadName;
+		String[] names;
+		long[] times;
+		byte[] phases;
+		long count;
+		int generation = -1;
+
+		Buffer (Thread thread) {
+			this.thread = new WeakReference<Thread>(thread);
+			threadId = thread.getId();
+			threadName = thread.getName();
+		}
+
+		void add (byte phase, String name, long time) {
+			if (generation != Trace.generation) {
+				generation = Trace.generation;
+				int capacity = Trace.capacity;
+				if (names == null || names.length != capacity) {
+					names = new String[capacity];
+					times = new long[capacity];
+					phases = new byte[capacity];
+				}
+				count = 0;
+			}
+			String[] names = this.names;
+			int index = (int)(count & (names.length - 1));
+			names[index] = name;
+			times[index] = time;
+			phases[index] = phase;
+			count++;
+		}
+	}
+}
@@ -30,6 +30,7 @@ public class UBJsonWriter implements Closeable {
 	private JsonObject current;
 	private boolean named;
 	private final Array<JsonObject> stack = new Array();
+	private byte[] buffer = new byte[64];
 
 	public UBJsonWriter (OutputStream out) {
 		if (!(out instanceof DataOutputStream)) out = new DataOutputStream(out);
@@ -80,18 +81,7 @@ public class UBJsonWriter implements Closeable {
 	 * @return this writer, for chaining */
 	public UBJsonWriter name (String name) throws IOException {
 		if (current == null || current.array) throw new IllegalStateException("Current item must be an object.");
-		byte[] bytes = name.getBytes("UTF-8");
-		if (bytes.length <= Byte.MAX_VALUE) {
-			out.writeByte('i');
-			out.writeByte(bytes.length);
-		} else if (bytes.length <= Short.MAX_VALUE) {
-			out.writeByte('I');
-			out.writeShort(bytes.length);
-		} else {
-			out.writeByte('l');
-			out.writeInt(bytes.length);
-		}
-		out.write(bytes);
+		writeString(name);
 		named = true;
 		return this;
 	}
@@ -174,19 +164,8 @@ public class UBJsonWriter implements Closeable {
 	 * @return this writer, for chaining */
 	public UBJsonWriter value (String value) throws IOException {
 		checkName();
-		byte[] bytes = value.getBytes("UTF-8");
 		out.writeByte('S');
-		if (bytes.length <= Byte.MAX_VALUE) {
-			out.writeByte('i');
-			out.writeByte(bytes.length);
-		} else if (bytes.length <= Short.MAX_VALUE) {
-			out.writeByte('I');
-			out.writeShort(bytes.length);
-		} else {
-			out.writeByte('l');
-			out.writeInt(bytes.length);
-		}
-		out.write(bytes);
+		writeString(value);
 		return this;
 	}
 
@@ -244,7 +223,7 @@ public class UBJsonWriter implements Closeable {
 	public UBJsonWriter value (long[] values) throws IOException {
 		array();
 		out.writeByte('$');
-		out.writeByte('I');
+		out.writeByte('L');
 		out.writeByte('#');
 		value(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
@@ -277,7 +256,7 @@ public class UBJsonWriter implements Closeable {
 	public UBJsonWriter value (double[] values) throws IOException {
 		array();
 		out.writeByte('$');
-		out.writeByte('d');
+		out.writeByte('D');
 		out.writeByte('#');
 		value(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
@@ -323,20 +302,8 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('S');
 		out.writeByte('#');
 		value(values.length);
-		for (int i = 0, n = values.length; i < n; i++) {
-			byte[] bytes = values[i].getBytes("UTF-8");
-			if (bytes.length <= Byte.MAX_VALUE) {
-				out.writeByte('i');
-				out.writeByte(bytes.length);
-			} else if (bytes.length <= Short.MAX_VALUE) {
-				out.writeByte('I');
-				out.writeShort(bytes.length);
-			} else {
-				out.writeByte('l');
-				out.writeInt(bytes.length);
-			}
-			out.write(bytes);
-		}
+		for (int i = 0, n = values.length; i < n; i++)
+			writeString(values[i]);
 		pop(true);
 		return this;
 	}
@@ -395,6 +362,8 @@ public class UBJsonWriter implements Closeable {
 			if (object instanceof Long) return value(number.longValue());
 			if (object instanceof Float) return value(number.floatValue());
 			if (object instanceof Double) return value(number.doubleValue());
+		} else if (object instanceof Boolean) {
+			return value(((Boolean)object).booleanValue());
 		} else if (object instanceof Character) {
 			return value(((Character)object).charValue());
 		} else if (object instanceof CharSequence) {
@@ -527,6 +496,33 @@ public class UBJsonWriter implements Closeable {
 		return name(name).value();
 	}
 
+	/** Writes the length and UTF-8 bytes of the string. ASCII strings are copied to a reused buffer rather than encoded. */
+	private void writeString (String value) throws IOException {
+		int length = value.length();
+		byte[] bytes = buffer;
+		if (bytes.length < length) buffer = bytes = new byte[Math.max(length, bytes.length << 1)];
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 0x80) {
+				bytes = value.getBytes("UTF-8");
+				length = bytes.length;
+				break;
+			}
+			bytes[i] = (byte)c;
+		}
+		if (length <= Byte.MAX_VALUE) {
+			out.writeByte('i');
+			out.writeByte(length);
+		} else if (length <= Short.MAX_VALUE) {
+			out.writeByte('I');
+			out.writeShort(length);
+		} else {
+			out.writeByte('l');
+			out.writeInt(length);
+		}
+		out.write(bytes, 0, length);
+	}
+
 	private void checkName () {
 		if (current != null) {
 			if (!current.array) {
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Trace;
 
 /** Allows asnynchronous execution of {@link AsyncTask} instances on a separate thread. Needs to be disposed via a call to
  * {@link #dispose()} when no longer used, in which case the executor waits for running tasks to finish. Scheduled but not yet
@@ -55,7 +56,12 @@ public class AsyncExecutor implements Disposable {
 		return new AsyncResult(executor.submit(new Callable<T>() {
 			@Override
 			public T call () throws Exception {
-				return task.call();
+				Trace.begin("AsyncExecutor.task");
+				try {
+					return task.call();
+				} finally {
+					Trace.end();
+				}
 			}
 		}));
 	}
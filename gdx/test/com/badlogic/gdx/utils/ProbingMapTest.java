@@ -0,0 +1,196 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ProbingMapTest {
+	static private final float[] loadFactors = {0.1f, 0.5f, 0.8f, 0.95f};
+
+	/** Returns keys from a small range so probe runs cluster and removals have to shift followers back, including 0 which is
+	 * stored outside the table by the primitive maps. */
+	static private int key (Random random, int range) {
+		return random.nextInt(4) == 0 ? random.nextInt(range) << 20 : random.nextInt(range) - range / 2;
+	}
+
+	static private void assertMatches (HashMap<Integer, Integer> expected, ProbingIntIntMap map) {
+		assertEquals(expected.size(), map.size);
+		for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+			assertTrue(map.containsKey(entry.getKey()));
+			assertEquals((long)entry.getValue(), map.get(entry.getKey(), -1));
+		}
+		int count = 0;
+		for (ProbingIntIntMap.Entry entry : map) {
+			assertEquals(expected.get(entry.key), (Integer)entry.value);
+			count++;
+		}
+		assertEquals(expected.size(), count);
+	}
+
+	@Test
+	public void test_int_int_map_matches_hash_map () {
+		Random random = new Random(1234);
+		for (float loadFactor : loadFactors) {
+			for (int range : new int[] {8, 64, 1000}) {
+				ProbingIntIntMap map = new ProbingIntIntMap(0, loadFactor);
+				HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+				for (int i = 0; i < 20000; i++) {
+					int key = key(random, range);
+					switch (random.nextInt(8)) {
+					case 0:
+					case 1:
+					case 2:
+						int value = random.nextInt();
+						map.put(key, value);
+						expected.put(key, value);
+						break;
+					case 3:
+					case 4:
+						Integer removed = expected.remove(key);
+						assertEquals(removed == null ? -1 : removed, map.remove(key, -1));
+						break;
+					case 5:
+						assertEquals(expected.containsKey(key), map.containsKey(key));
+						break;
+					case 6:
+						int old = expected.containsKey(key) ? expected.get(key) : 0;
+						assertEquals(old, map.getAndIncrement(key, 0, 3));
+						expected.put(key, old + 3);
+						break;
+					default:
+						if (random.nextInt(100) == 0) map.shrink(random.nextInt(range));
+						else if (random.nextInt(100) == 0) map = new ProbingIntIntMap(map);
+					}
+				}
+				assertMatches(expected, map);
+
+				// Removing through the iterator shifts later entries back into slots the iterator has already visited.
+				Iterator<ProbingIntIntMap.Entry> iter = map.iterator();
+				while (iter.hasNext()) {
+					ProbingIntIntMap.Entry entry = iter.next();
+					if ((entry.key & 1) == 0) {
+						iter.remove();
+						expected.remove(entry.key);
+					}
+				}
+				assertMatches(expected, map);
+			}
+		}
+	}
+
+	@Test
+	public void test_int_float_map_matches_hash_map () {
+		Random random = new Random(42);
+		for (float loadFactor : loadFactors) {
+			ProbingIntFloatMap map = new ProbingIntFloatMap(0, loadFactor);
+			HashMap<Integer, Float> expected = new HashMap<Integer, Float>();
+			for (int i = 0; i < 20000; i++) {
+				int key = key(random, 200);
+				if (random.nextInt(5) < 3) {
+					float value = random.nextFloat();
+					map.put(key, value);
+					expected.put(key, value);
+				} else {
+					Float removed = expected.remove(key);
+					assertEquals(removed == null ? -1 : removed, map.remove(key, -1), 0);
+				}
+				if (random.nextInt(1000) == 0) map = new ProbingIntFloatMap(map);
+			}
+			assertEquals(expected.size(), map.size);
+			for (Map.Entry<Integer, Float> entry : expected.entrySet())
+				assertEquals(entry.getValue(), map.get(entry.getKey(), -1), 0);
+		}
+	}
+
+	@Test
+	public void test_long_map_matches_hash_map () {
+		Random random = new Random(7);
+		for (float loadFactor : loadFactors) {
+			ProbingLongMap<String> map = new ProbingLongMap<String>(0, loadFactor);
+			HashMap<Long, String> expected = new HashMap<Long, String>();
+			for (int i = 0; i < 20000; i++) {
+				long key = (long)key(random, 200) << (random.nextBoolean() ? 32 : 0);
+				if (random.nextInt(5) < 3) {
+					String value = String.valueOf(random.nextInt(1000));
+					assertEquals(expected.put(key, value), map.put(key, value));
+				} else
+					assertEquals(expected.remove(key), map.remove(key));
+				if (random.nextInt(1000) == 0) map = new ProbingLongMap<String>(map);
+			}
+			assertEquals(expected.size(), map.size);
+			for (Map.Entry<Long, String> entry : expected.entrySet())
+				assertEquals(entry.getValue(), map.get(entry.getKey()));
+			for (ProbingLongMap.Entry<String> entry : map)
+				assertEquals(expected.get(entry.key), entry.value);
+		}
+	}
+
+	@Test
+	public void test_object_int_map_matches_hash_map () {
+		Random random = new Random(99);
+		for (float loadFactor : loadFactors) {
+			ProbingObjectIntMap<String> map = new ProbingObjectIntMap<String>(0, loadFactor);
+			HashMap<String, Integer> expected = new HashMap<String, Integer>();
+			for (int i = 0; i < 20000; i++) {
+				String key = String.valueOf(key(random, 200));
+				if (random.nextInt(5) < 3) {
+					int value = random.nextInt();
+					map.put(key, value);
+					expected.put(key, value);
+				} else {
+					Integer removed = expected.remove(key);
+					assertEquals(removed == null ? -1 : removed, map.remove(key, -1));
+				}
+				if (random.nextInt(1000) == 0) map = new ProbingObjectIntMap<String>(map);
+			}
+			assertEquals(expected.size(), map.size);
+			for (Map.Entry<String, Integer> entry : expected.entrySet())
+				assertEquals((long)entry.getValue(), map.get(entry.getKey(), -1));
+			for (ProbingObjectIntMap.Entry<String> entry : map)
+				assertEquals(expected.get(entry.key), (Integer)entry.value);
+			Array<String> keys = new Array<String>();
+			keys.add("first");
+			assertSame(keys, map.keys().toArray(keys));
+			assertEquals(expected.size() + 1, keys.size);
+			assertEquals("first", keys.first());
+			for (String key : expected.keySet())
+				assertTrue(keys.contains(key, false));
+			IntArray values = new IntArray();
+			assertSame(values, map.values().toArray(values));
+			assertEquals(expected.size(), values.size);
+		}
+	}
+
+	@Test
+	public void test_copy_keeps_table_size () {
+		// A low load factor used to make the copy's table smaller than the source's, so copying it threw.
+		for (float loadFactor : loadFactors) {
+			ProbingIntIntMap intMap = new ProbingIntIntMap(0, loadFactor);
+			ProbingIntFloatMap floatMap = new ProbingIntFloatMap(0, loadFactor);
+			ProbingLongMap<String> longMap = new ProbingLongMap<String>(0, loadFactor);
+			ProbingObjectIntMap<String> objectMap = new ProbingObjectIntMap<String>(0, loadFactor);
+			for (int i = 1; i <= 100; i++) {
+				intMap.put(i, i);
+				floatMap.put(i, i);
+				longMap.put(i, String.valueOf(i));
+				objectMap.put(String.valueOf(i), i);
+
+				ProbingIntIntMap intCopy = new ProbingIntIntMap(intMap);
+				assertEquals(intMap.keyTable.length, intCopy.keyTable.length);
+				assertEquals(i, intCopy.get(i, -1));
+				intCopy.put(-i, i);
+				assertEquals(i + 1, intCopy.size);
+				assertEquals(i, intMap.size);
+
+				assertEquals(i, new ProbingIntFloatMap(floatMap).get(i, -1), 0);
+				assertEquals(String.valueOf(i), new ProbingLongMap<String>(longMap).get(i));
+				assertEquals(i, new ProbingObjectIntMap<String>(objectMap).get(String.valueOf(i), -1));
+			}
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SortTest {
+	static private final float[] specials = {Float.NaN, Float.intBitsToFloat(0xffc00000), Float.POSITIVE_INFINITY,
+		Float.NEGATIVE_INFINITY, 0f, -0f, Float.MIN_VALUE, -Float.MIN_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE, 1f, -1f};
+
+	/** An item that remembers its key and the index it had before sorting, so stability can be checked. */
+	static private class Item {
+		final float key;
+		final int index;
+
+		Item (float key, int index) {
+			this.key = key;
+			this.index = index;
+		}
+	}
+
+	static private final Comparator<Item> keyComparator = new Comparator<Item>() {
+		public int compare (Item o1, Item o2) {
+			return Float.compare(o1.key, o2.key);
+		}
+	};
+
+	/** Returns keys with many duplicates, special values and random floats of every magnitude and sign. */
+	static private float[] keys (Random random, int n) {
+		float[] keys = new float[n];
+		for (int i = 0; i < n; i++) {
+			switch (random.nextInt(4)) {
+			case 0:
+				keys[i] = specials[random.nextInt(specials.length)];
+				break;
+			case 1:
+				keys[i] = random.nextInt(8) - 4; // Equal keys.
+				break;
+			case 2:
+				keys[i] = Float.intBitsToFloat(random.nextInt());
+				break;
+			default:
+				keys[i] = (random.nextFloat() - 0.5f) * 1000;
+			}
+		}
+		return keys;
+	}
+
+	static private Item[] items (float[] keys) {
+		Item[] items = new Item[keys.length];
+		for (int i = 0; i < keys.length; i++)
+			items[i] = new Item(keys[i], i);
+		return items;
+	}
+
+	/** Asserts the items are ordered like Arrays.sort orders their keys, and equal keys kept their order. */
+	static private void assertSorted (float[] keys, Item[] sorted, int lo, int hi) {
+		float[] expected = Arrays.copyOfRange(keys, lo, hi);
+		Arrays.sort(expected);
+		for (int i = lo; i < hi; i++) {
+			assertEquals(Float.floatToIntBits(expected[i - lo]), Float.floatToIntBits(sorted[i].key));
+			if (i > lo && Float.compare(sorted[i - 1].key, sorted[i].key) == 0) assertTrue(sorted[i - 1].index < sorted[i].index);
+		}
+	}
+
+	@Test
+	public void test_radix_sort_matches_arrays_sort () {
+		Random random = new Random(1234);
+		RadixSort radixSort = new RadixSort();
+		for (int n : new int[] {0, 1, 2, 10, 63, 64, 65, 1000, 20000}) {
+			for (int round = 0; round < 5; round++) {
+				float[] keys = keys(random, n);
+				Item[] items = items(keys);
+				radixSort.sort(items, keys, 0, n);
+				assertSorted(keys, items, 0, n);
+			}
+		}
+	}
+
+	@Test
+	public void test_radix_sort_range () {
+		Random random = new Random(42);
+		float[] keys = keys(random, 500);
+		Item[] items = items(keys);
+		new RadixSort().sort(items, keys, 100, 400);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, items[i].index);
+		for (int i = 400; i < 500; i++)
+			assertEquals(i, items[i].index);
+		assertSorted(keys, items, 100, 400);
+	}
+
+	@Test
+	public void test_radix_sort_indices () {
+		Random random = new Random(7);
+		RadixSort radixSort = new RadixSort();
+		for (int n : new int[] {1, 50, 5000}) {
+			float[] keys = keys(random, n);
+			int[] indices = new int[n];
+			radixSort.sortIndices(keys, indices, n);
+			Item[] items = new Item[n];
+			for (int i = 0; i < n; i++)
+				items[i] = new Item(keys[indices[i]], indices[i]);
+			assertSorted(keys, items, 0, n);
+		}
+	}
+
+	@Test
+	public void test_radix_sort_zero_and_nan () {
+		float nan = Float.intBitsToFloat(0xffc00000);
+		float[] keys = {Float.NaN, 0f, nan, -0f, Float.POSITIVE_INFINITY, -0f, 0f};
+		Item[] items = items(keys);
+		new RadixSort().sort(items, keys, 0, keys.length);
+		assertSorted(keys, items, 0, keys.length);
+		assertEquals(3, items[0].index);
+		assertEquals(5, items[1].index);
+		assertEquals(1, items[2].index);
+		assertEquals(6, items[3].index);
+		assertEquals(4, items[4].index);
+	}
+
+	@Test
+	public void test_parallel_sort_matches_arrays_sort () {
+		int threshold = Sort.parallelThreshold;
+		Sort.parallelThreshold = 2;
+		try {
+			Random random = new Random(99);
+			ParallelSort parallelSort = new ParallelSort();
+			for (int n : new int[] {0, 1, 2, 3, 17, 1000, 50000}) {
+				float[] keys = keys(random, n);
+				Item[] items = items(keys);
+				Item[] expected = items.clone();
+				Arrays.sort(expected, keyComparator);
+				parallelSort.doSort(items, keyComparator, 0, n);
+				assertArrayEquals(expected, items);
+				assertSorted(keys, items, 0, n);
+			}
+		} finally {
+			Sort.parallelThreshold = threshold;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+
+/** Compares {@link Array} to {@link ArrayList}. Each operation is done for all items, so scores are per array size. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	Integer[] items;
+	Array<Integer> array;
+	ArrayList<Integer> arrayList;
+
+	@Setup
+	public void setup () {
+		items = new Integer[size];
+		for (int i = 0; i < size; i++)
+			items[i] = i;
+		array = arrayAdd();
+		arrayList = arrayListAdd();
+	}
+
+	@Benchmark
+	public Array<Integer> arrayAdd () {
+		Array<Integer> array = new Array();
+		for (int i = 0, n = items.length; i < n; i++)
+			array.add(items[i]);
+		return array;
+	}
+
+	@Benchmark
+	public ArrayList<Integer> arrayListAdd () {
+		ArrayList<Integer> arrayList = new ArrayList();
+		for (int i = 0, n = items.length; i < n; i++)
+			arrayList.add(items[i]);
+		return arrayList;
+	}
+
+	@Benchmark
+	public int arrayGet () {
+		int total = 0;
+		for (int i = 0, n = array.size; i < n; i++)
+			total += array.get(i);
+		return total;
+	}
+
+	@Benchmark
+	public int arrayListGet () {
+		int total = 0;
+		for (int i = 0, n = arrayList.size(); i < n; i++)
+			total += arrayList.get(i);
+		return total;
+	}
+
+	@Benchmark
+	public int arrayIterate () {
+		int total = 0;
+		for (Integer item : array)
+			total += item;
+		return total;
+	}
+
+	@Benchmark
+	public int arrayListIterate () {
+		int total = 0;
+		for (Integer item : arrayList)
+			total += item;
+		return total;
+	}
+
+	/** Searches for 100 items spread over the array. */
+	@Benchmark
+	public int arrayIndexOf () {
+		int total = 0;
+		for (int i = 0, n = items.length, step = Math.max(1, n / 100); i < n; i += step)
+			total += array.indexOf(items[i], false);
+		return total;
+	}
+
+	/** @see #arrayIndexOf() */
+	@Benchmark
+	public int arrayListIndexOf () {
+		int total = 0;
+		for (int i = 0, n = items.length, step = Math.max(1, n / 100); i < n; i += step)
+			total += arrayList.indexOf(items[i]);
+		return total;
+	}
+
+	@Benchmark
+	public Array<Integer> arrayRemoveLast () {
+		Array<Integer> array = new Array(this.array);
+		while (array.size > 0)
+			array.pop();
+		return array;
+	}
+
+	@Benchmark
+	public ArrayList<Integer> arrayListRemoveLast () {
+		ArrayList<Integer> arrayList = new ArrayList(this.arrayList);
+		while (!arrayList.isEmpty())
+			arrayList.remove(arrayList.size() - 1);
+		return arrayList;
+	}
+}
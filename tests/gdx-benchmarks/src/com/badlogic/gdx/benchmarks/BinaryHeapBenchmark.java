@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.BinaryHeap;
+import com.badlogic.gdx.utils.BinaryHeap.Node;
+
+/** Compares {@link BinaryHeap} to {@link PriorityQueue}. Each operation adds all nodes, then pops them all, so scores are per heap
+ * size. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryHeapBenchmark {
+	static final Comparator<Node> comparator = new Comparator<Node>() {
+		public int compare (Node o1, Node o2) {
+			return Float.compare(o1.getValue(), o2.getValue());
+		}
+	};
+
+	@Param({"100", "10000"}) public int size;
+
+	Node[] nodes;
+	float[] values;
+	BinaryHeap<Node> binaryHeap;
+	PriorityQueue<Node> priorityQueue;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1);
+		nodes = new Node[size];
+		values = new float[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = random.nextFloat();
+			nodes[i] = new Node(values[i]);
+		}
+		binaryHeap = new BinaryHeap(size, false);
+		priorityQueue = new PriorityQueue(size, comparator);
+	}
+
+	@Benchmark
+	public float binaryHeap () {
+		for (int i = 0, n = nodes.length; i < n; i++)
+			binaryHeap.add(nodes[i], values[i]);
+		float total = 0;
+		while (binaryHeap.size > 0)
+			total += binaryHeap.pop().getValue();
+		return total;
+	}
+
+	/** Nodes keep the values they were created with, so both heaps order the same values. */
+	@Benchmark
+	public float priorityQueue () {
+		for (int i = 0, n = nodes.length; i < n; i++)
+			priorityQueue.add(nodes[i]);
+		float total = 0;
+		while (!priorityQueue.isEmpty())
+			total += priorityQueue.poll().getValue();
+		return total;
+	}
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.ConcurrentIntMap;
+import com.badlogic.gdx.utils.ConcurrentObjectMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Compares {@link ConcurrentObjectMap} and {@link ConcurrentIntMap} to an {@link ObjectMap} and {@link IntMap} guarded by
+ * synchronized and to {@link ConcurrentHashMap}. Each group has three threads reading and one thread putting and removing keys
+ * of the same map. Scores are per operation. */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentMapBenchmark {
+	@Param({"1000", "100000"}) public int size;
+
+	String[] keys;
+	int[] intKeys;
+	Integer[] integerKeys;
+	ObjectMap<String, Integer> objectMap;
+	ConcurrentObjectMap<String, Integer> concurrentObjectMap;
+	ConcurrentHashMap<String, Integer> concurrentHashMap;
+	IntMap<Integer> intMap;
+	ConcurrentIntMap<Integer> concurrentIntMap;
+	ConcurrentHashMap<Integer, Integer> concurrentIntegerMap;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1);
+		keys = new String[size];
+		intKeys = new int[size];
+		integerKeys = new Integer[size];
+		objectMap = new ObjectMap();
+		concurrentObjectMap = new ConcurrentObjectMap();
+		concurrentHashMap = new ConcurrentHashMap();
+		intMap = new IntMap();
+		concurrentIntMap = new ConcurrentIntMap();
+		concurrentIntegerMap = new ConcurrentHashMap();
+		for (int i = 0; i < size; i++) {
+			keys[i] = Long.toString(random.nextLong(), 36);
+			intKeys[i] = random.nextInt();
+			integerKeys[i] = intKeys[i];
+			// Odd keys stay in the maps, even keys are put and removed by the writer.
+			if ((i & 1) == 0) continue;
+			objectMap.put(keys[i], i);
+			concurrentObjectMap.put(keys[i], i);
+			concurrentHashMap.put(keys[i], i);
+			intMap.put(intKeys[i], i);
+			concurrentIntMap.put(intKeys[i], i);
+			concurrentIntegerMap.put(integerKeys[i], i);
+		}
+	}
+
+	/** The next key index of each thread. */
+	@State(Scope.Thread)
+	static public class Cursor {
+		int index;
+
+		@Setup
+		public void setup () {
+			index = (int)(Thread.currentThread().getId() * 7919);
+		}
+
+		int next (int size) {
+			index = (index + 1) & Integer.MAX_VALUE;
+			return index % size;
+		}
+	}
+
+	@Benchmark
+	@Group("objectMap")
+	@GroupThreads(3)
+	public Integer objectMapGet (Cursor cursor) {
+		String key = keys[cursor.next(size)];
+		synchronized (objectMap) {
+			return objectMap.get(key);
+		}
+	}
+
+	@Benchmark
+	@Group("objectMap")
+	@GroupThreads(1)
+	public Integer objectMapWrite (Cursor cursor) {
+		int i = cursor.next(size) & ~1;
+		synchronized (objectMap) {
+			if (objectMap.put(keys[i], i) == null) return null;
+			return objectMap.remove(keys[i]);
+		}
+	}
+
+	@Benchmark
+	@Group("concurrentObjectMap")
+	@GroupThreads(3)
+	public Integer concurrentObjectMapGet (Cursor cursor) {
+		return concurrentObjectMap.get(keys[cursor.next(size)]);
+	}
+
+	@Benchmark
+	@Group("concurrentObjectMap")
+	@GroupThreads(1)
+	public Integer concurrentObjectMapWrite (Cursor cursor) {
+		int i = cursor.next(size) & ~1;
+		if (concurrentObjectMap.put(keys[i], i) == null) return null;
+		return concurrentObjectMap.remove(keys[i]);
+	}
+
+	@Benchmark
+	@Group("concurrentHashMap")
+	@GroupThreads(3)
+	public Integer concurrentHashMapGet (Cursor cursor) {
+		return concurrentHashMap.get(keys[cursor.next(size)]);
+	}
+
+	@Benchmark
+	@Group("concurrentHashMap")
+	@GroupThreads(1)
+	public Integer concurrentHashMapWrite (Cursor cursor) {
+		int i = cursor.next(size) & ~1;
+		if (concurrentHashMap.put(keys[i], i) == null) return null;
+		return concurrentHashMap.remove(keys[i]);
+	}
+
+	@Benchmark
+	@Group("intMap")
+	@GroupThreads(3)
+	public Integer intMapGet (Cursor cursor) {
+		int key = intKeys[cursor.next(size)];
+		synchronized (intMap) {
+			return intMap.get(key);
+		}
+	}
+
+	@Benchmark
+	@Group("intMap")
+	@GroupThreads(1)
+	public Integer intMapWrite (Cursor cursor) {
+		int i = cursor.next(size) & ~1;
+		synchronized (intMap) {
+			if (intMap.put(intKeys[i], i) == null) return null;
+			return intMap.remove(intKeys[i]);
+		}
+	}
+
+	@Benchmark
+	@Group("concurrentIntMap")
+	@GroupThreads(3)
+	public Integer concurrentIntMapGet (Cursor cursor) {
+		return concurrentIntMap.get(intKeys[cursor.next(size)]);
+	}
+
+	@Benchmark
+	@Group("concurrentIntMap")
+	@GroupThreads(1)
+	public Integer concurrentIntMapWrite (Cursor cursor) {
+		int i = cursor.next(size) & ~1;
+		if (concurrentIntMap.put(intKeys[i], i) == null) return null;
+		return concurrentIntMap.remove(intKeys[i]);
+	}
+
+	@Benchmark
+	@Group("concurrentIntegerMap")
+	@GroupThreads(3)
+	public Integer concurrentIntegerMapGet (Cursor cursor) {
+		return concurrentIntegerMap.get(integerKeys[cursor.next(size)]);
+	}
+
+	@Benchmark
+	@Group("concurrentIntegerMap")
+	@GroupThreads(1)
+	public Integer concurrentIntegerMapWrite (Cursor cursor) {
+		int i = cursor.next(size) & ~1;
+		if (concurrentIntegerMap.put(integerKeys[i], i) == null) return null;
+		return concurrentIntegerMap.remove(integerKeys[i]);
+	}
+}
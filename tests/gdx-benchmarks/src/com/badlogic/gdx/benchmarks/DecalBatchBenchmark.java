@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g3d.decals.CameraGroupStrategy;
+import com.badlogic.gdx.graphics.g3d.decals.Decal;
+import com.badlogic.gdx.graphics.g3d.decals.DecalBatch;
+
+/** Measures the CPU cost of a {@link DecalBatch} with a {@link CameraGroupStrategy}, which sorts translucent decals by distance,
+ * rendering to a {@link MockGL20}. Scores are per decal. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecalBatchBenchmark extends MockGraphicsBenchmark {
+	static final int decals = 1000;
+
+	PerspectiveCamera camera;
+	DecalBatch batch;
+	Texture texture;
+	Decal[] opaque = new Decal[decals], translucent = new Decal[decals];
+
+	@Setup
+	public void setup () {
+		gl = MockGraphicsSetup.gl();
+		camera = new PerspectiveCamera(67, 1024, 768);
+		camera.position.set(0, 0, 50);
+		camera.lookAt(0, 0, 0);
+		camera.update();
+		batch = new DecalBatch(new CameraGroupStrategy(camera));
+		texture = MockGraphicsSetup.newTexture(64, 64);
+		TextureRegion region = new TextureRegion(texture);
+		for (int i = 0; i < decals; i++) {
+			opaque[i] = Decal.newDecal(1, 1, region, false);
+			translucent[i] = Decal.newDecal(1, 1, region, true);
+			opaque[i].setPosition(i % 32 - 16, i / 32 - 16, -(i % 7));
+			translucent[i].setPosition(i % 32 - 16, i / 32 - 16, -(i % 7));
+			opaque[i].setRotationZ(i);
+			translucent[i].setRotationZ(i);
+		}
+	}
+
+	@TearDown
+	public void tearDown () {
+		batch.dispose();
+		texture.dispose();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(decals)
+	public void opaque () {
+		DecalBatch batch = this.batch;
+		for (int i = 0; i < decals; i++)
+			batch.add(opaque[i]);
+		batch.flush();
+		operations += decals;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(decals)
+	public void translucent () {
+		DecalBatch batch = this.batch;
+		for (int i = 0; i < decals; i++)
+			batch.add(translucent[i]);
+		batch.flush();
+		operations += decals;
+	}
+}
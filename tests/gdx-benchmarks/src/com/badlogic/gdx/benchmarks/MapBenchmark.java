@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Compares {@link ObjectMap}, {@link IntMap} and {@link IntIntMap} to {@link HashMap}. Each operation is done for all keys, so
+ * scores are per map size. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	String[] keys;
+	int[] intKeys;
+	Integer[] integerKeys;
+	ObjectMap<String, Integer> objectMap;
+	HashMap<String, Integer> hashMap;
+	IntMap<Integer> intMap;
+	IntIntMap intIntMap;
+	HashMap<Integer, Integer> integerMap;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1);
+		keys = new String[size];
+		intKeys = new int[size];
+		integerKeys = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = Long.toString(random.nextLong(), 36);
+			intKeys[i] = random.nextInt();
+			integerKeys[i] = intKeys[i];
+		}
+		objectMap = objectMapPut();
+		hashMap = hashMapPut();
+		intMap = intMapPut();
+		intIntMap = intIntMapPut();
+		integerMap = integerMapPut();
+	}
+
+	@Benchmark
+	public ObjectMap<String, Integer> objectMapPut () {
+		ObjectMap<String, Integer> map = new ObjectMap();
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public HashMap<String, Integer> hashMapPut () {
+		HashMap<String, Integer> map = new HashMap();
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public int objectMapGet () {
+		int total = 0;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += objectMap.get(keys[i]);
+		return total;
+	}
+
+	@Benchmark
+	public int hashMapGet () {
+		int total = 0;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += hashMap.get(keys[i]);
+		return total;
+	}
+
+	@Benchmark
+	public int objectMapIterate () {
+		int total = 0;
+		for (ObjectMap.Entry<String, Integer> entry : objectMap.entries())
+			total += entry.value;
+		return total;
+	}
+
+	@Benchmark
+	public int hashMapIterate () {
+		int total = 0;
+		for (java.util.Map.Entry<String, Integer> entry : hashMap.entrySet())
+			total += entry.getValue();
+		return total;
+	}
+
+	@Benchmark
+	public IntMap<Integer> intMapPut () {
+		IntMap<Integer> map = new IntMap();
+		for (int i = 0, n = intKeys.length; i < n; i++)
+			map.put(intKeys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public IntIntMap intIntMapPut () {
+		IntIntMap map = new IntIntMap();
+		for (int i = 0, n = intKeys.length; i < n; i++)
+			map.put(intKeys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public HashMap<Integer, Integer> integerMapPut () {
+		HashMap<Integer, Integer> map = new HashMap();
+		for (int i = 0, n = integerKeys.length; i < n; i++)
+			map.put(integerKeys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public int intMapGet () {
+		int total = 0;
+		for (int i = 0, n = intKeys.length; i < n; i++)
+			total += intMap.get(intKeys[i]);
+		return total;
+	}
+
+	@Benchmark
+	public int intIntMapGet () {
+		int total = 0;
+		for (int i = 0, n = intKeys.length; i < n; i++)
+			total += intIntMap.get(intKeys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public int integerMapGet () {
+		int total = 0;
+		for (int i = 0, n = integerKeys.length; i < n; i++)
+			total += integerMap.get(integerKeys[i]);
+		return total;
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/** Measures common {@link Matrix4}, {@link Vector3} and {@link Quaternion} operations. Matrix multiplication is native, so it is
+ * compared to the same multiplication done in Java. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathBenchmark {
+	final Matrix4 a = new Matrix4(), b = new Matrix4(), result = new Matrix4();
+	final Vector3 vector = new Vector3(), vectorResult = new Vector3();
+	final Quaternion q1 = new Quaternion(), q2 = new Quaternion(), quaternionResult = new Quaternion();
+	final float[] vectors = new float[3 * 100], vectorsResult = new float[3 * 100];
+
+	@Setup
+	public void setup () {
+		GdxNativesLoader.load();
+		a.setToLookAt(new Vector3(1, 2, 3), new Vector3(-4, 5, -6), Vector3.Y);
+		b.setToProjection(0.1f, 100, 67, 1.5f);
+		vector.set(0.3f, -0.7f, 2.1f);
+		q1.setFromAxis(Vector3.Y, 30);
+		q2.setFromAxis(new Vector3(1, 1, 0).nor(), 120);
+		for (int i = 0; i < vectors.length; i++)
+			vectors[i] = i * 0.01f;
+	}
+
+	@Benchmark
+	public Matrix4 matrix4Mul () {
+		return result.set(a).mul(b);
+	}
+
+	@Benchmark
+	public Matrix4 matrix4MulJava () {
+		result.set(a);
+		mul(result.val, b.val);
+		return result;
+	}
+
+	@Benchmark
+	public Matrix4 matrix4Inv () {
+		return result.set(a).inv();
+	}
+
+	@Benchmark
+	public Matrix4 matrix4SetQuaternion () {
+		return result.set(q1);
+	}
+
+	/** Transforms 100 vectors with a single native call. */
+	@Benchmark
+	public float[] matrix4MulVecs () {
+		System.arraycopy(vectors, 0, vectorsResult, 0, vectors.length);
+		Matrix4.mulVec(a.val, vectorsResult, 0, vectorsResult.length / 3, 3);
+		return vectorsResult;
+	}
+
+	@Benchmark
+	public Vector3 vector3Mul () {
+		return vectorResult.set(vector).mul(a);
+	}
+
+	@Benchmark
+	public Vector3 vector3Prj () {
+		return vectorResult.set(vector).prj(b);
+	}
+
+	@Benchmark
+	public Vector3 vector3Crs () {
+		return vectorResult.set(vector).crs(Vector3.Y).nor();
+	}
+
+	@Benchmark
+	public Vector3 vector3MulQuaternion () {
+		return vectorResult.set(vector).mul(q1);
+	}
+
+	@Benchmark
+	public Quaternion quaternionMul () {
+		return quaternionResult.set(q1).mul(q2);
+	}
+
+	@Benchmark
+	public Quaternion quaternionSlerp () {
+		return quaternionResult.set(q1).slerp(q2, 0.3f);
+	}
+
+	static void mul (float[] mata, float[] matb) {
+		float m00 = mata[0] * matb[0] + mata[4] * matb[1] + mata[8] * matb[2] + mata[12] * matb[3];
+		float m01 = mata[0] * matb[4] + mata[4] * matb[5] + mata[8] * matb[6] + mata[12] * matb[7];
+		float m02 = mata[0] * matb[8] + mata[4] * matb[9] + mata[8] * matb[10] + mata[12] * matb[11];
+		float m03 = mata[0] * matb[12] + mata[4] * matb[13] + mata[8] * matb[14] + mata[12] * matb[15];
+		float m10 = mata[1] * matb[0] + mata[5] * matb[1] + mata[9] * matb[2] + mata[13] * matb[3];
+		float m11 = mata[1] * matb[4] + mata[5] * matb[5] + mata[9] * matb[6] + mata[13] * matb[7];
+		float m12 = mata[1] * matb[8] + mata[5] * matb[9] + mata[9] * matb[10] + mata[13] * matb[11];
+		float m13 = mata[1] * matb[12] + mata[5] * matb[13] + mata[9] * matb[14] + mata[13] * matb[15];
+		float m20 = mata[2] * matb[0] + mata[6] * matb[1] + mata[10] * matb[2] + mata[14] * matb[3];
+		float m21 = mata[2] * matb[4] + mata[6] * matb[5] + mata[10] * matb[6] + mata[14] * matb[7];
+		float m22 = mata[2] * matb[8] + mata[6] * matb[9] + mata[10] * matb[10] + mata[14] * matb[11];
+		float m23 = mata[2] * matb[12] + mata[6] * matb[13] + mata[10] * matb[14] + mata[14] * matb[15];
+		float m30 = mata[3] * matb[0] + mata[7] * matb[1] + mata[11] * matb[2] + mata[15] * matb[3];
+		float m31 = mata[3] * matb[4] + mata[7] * matb[5] + mata[11] * matb[6] + mata[15] * matb[7];
+		float m32 = mata[3] * matb[8] + mata[7] * matb[9] + mata[11] * matb[10] + mata[15] * matb[11];
+		float m33 = mata[3] * matb[12] + mata[7] * matb[13] + mata[11] * matb[14] + mata[15] * matb[15];
+		mata[0] = m00;
+		mata[1] = m10;
+		mata[2] = m20;
+		mata[3] = m30;
+		mata[4] = m01;
+		mata[5] = m11;
+		mata[6] = m21;
+		mata[7] = m31;
+		mata[8] = m02;
+		mata[9] = m12;
+		mata[10] = m22;
+		mata[11] = m32;
+		mata[12] = m03;
+		mata[13] = m13;
+		mata[14] = m23;
+		mata[15] = m33;
+	}
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+
+/** Base class for benchmarks rendering to a {@link MockGL20}. After each iteration the GL work per operation is printed, eg the
+ * number of GL calls and draw calls per sprite. Benchmark methods must add the operations they did to {@link #operations}, the
+ * same number as their OperationsPerInvocation. */
+public abstract class MockGraphicsBenchmark {
+	MockGL20 gl;
+	/** The number of operations since the iteration started. */
+	long operations;
+
+	@Setup(Level.Iteration)
+	public void startCounting () {
+		gl.reset();
+		operations = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void printCounts () {
+		if (operations == 0) return;
+		MockGL20 gl = this.gl;
+		double ops = operations;
+		System.out.println(String.format("GL per op: %.2f calls, %.4f draws, %.2f vertices, %.4f texture bindings, "
+			+ "%.4f shader switches, %.2f uniforms, %.4f buffer uploads, %.1f buffer bytes, %.4f texture uploads", gl.calls / ops,
+			gl.drawCalls / ops, gl.vertexCount / ops, gl.textureBindings / ops, gl.shaderSwitches / ops, gl.uniformCalls / ops,
+			gl.bufferUploads / ops, gl.bufferUploadBytes / ops, gl.textureUploads / ops));
+	}
+}
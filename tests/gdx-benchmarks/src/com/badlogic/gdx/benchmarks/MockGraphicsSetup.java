@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+
+/** Runs a headless application with a {@link MockGL20}, so rendering code can be benchmarked without a GPU. */
+public class MockGraphicsSetup {
+	static private MockGL20 gl;
+
+	/** Starts the application on first use and returns the GL, with its counters reset. */
+	static public synchronized MockGL20 gl () {
+		if (gl == null) {
+			HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+			config.renderInterval = -1;
+			new HeadlessApplication(new ApplicationAdapter() {
+			}, config);
+			gl = new MockGL20();
+			Gdx.gl = gl;
+			Gdx.gl20 = gl;
+		}
+		gl.reset();
+		return gl;
+	}
+
+	static public Texture newTexture (int width, int height) {
+		Pixmap pixmap = new Pixmap(width, height, Format.RGBA8888);
+		Texture texture = new Texture(pixmap);
+		pixmap.dispose();
+		return texture;
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PolygonRegion;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/** Measures the CPU cost of drawing polygons with a {@link PolygonSpriteBatch}, rendering to a {@link MockGL20}. Scores are per
+ * polygon vertex. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygonSpriteBatchBenchmark extends MockGraphicsBenchmark {
+	static final int polygons = 1000, vertices = 8;
+
+	PolygonSpriteBatch batch;
+	Texture texture;
+	PolygonRegion polygon;
+
+	@Setup
+	public void setup () {
+		gl = MockGraphicsSetup.gl();
+		batch = new PolygonSpriteBatch();
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, 1024, 768);
+		texture = MockGraphicsSetup.newTexture(64, 64);
+		// An octagon, triangulated as a fan.
+		float[] points = new float[vertices * 2];
+		for (int i = 0; i < vertices; i++) {
+			points[i * 2] = 16 + 16 * (float)Math.cos(i * Math.PI * 2 / vertices);
+			points[i * 2 + 1] = 16 + 16 * (float)Math.sin(i * Math.PI * 2 / vertices);
+		}
+		short[] triangles = new short[(vertices - 2) * 3];
+		for (int i = 0; i < vertices - 2; i++) {
+			triangles[i * 3 + 1] = (short)(i + 1);
+			triangles[i * 3 + 2] = (short)(i + 2);
+		}
+		polygon = new PolygonRegion(new TextureRegion(texture, 0, 0, 32, 32), points, triangles);
+	}
+
+	@TearDown
+	public void tearDown () {
+		batch.dispose();
+		texture.dispose();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(polygons * vertices)
+	public void drawPolygons () {
+		PolygonSpriteBatch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < polygons; i++)
+			batch.draw(polygon, i % 32 * 32, i / 32 * 24);
+		batch.end();
+		operations += polygons * vertices;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(polygons * vertices)
+	public void drawPolygonsRotated () {
+		PolygonSpriteBatch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < polygons; i++)
+			batch.draw(polygon, i % 32 * 32, i / 32 * 24, 16, 16, 32, 32, 1.5f, 0.5f, i);
+		batch.end();
+		operations += polygons * vertices;
+	}
+}
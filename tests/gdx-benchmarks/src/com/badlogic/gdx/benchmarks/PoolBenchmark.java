@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.ConcurrentReflectionPool;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+import com.badlogic.gdx.utils.ReflectionPool;
+
+/** Compares obtaining and freeing objects with four threads sharing a {@link ConcurrentReflectionPool}, sharing a
+ * {@link ReflectionPool} guarded by synchronized, and each using their own {@link ReflectionPool}. Scores are per obtain and
+ * free of {@link #BATCH} objects. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PoolBenchmark {
+	static final int BATCH = 8;
+
+	final Pool<Vector2> concurrentPool = new ConcurrentReflectionPool(Vector2.class);
+	final Pool<Vector2> synchronizedPool = new ReflectionPool(Vector2.class);
+
+	@State(Scope.Thread)
+	static public class ThreadState {
+		final Pool<Vector2> pool = new ReflectionPool(Vector2.class);
+		final Vector2[] objects = new Vector2[BATCH];
+	}
+
+	@Benchmark
+	public Vector2 concurrentPool (ThreadState state) {
+		Vector2[] objects = state.objects;
+		Pool<Vector2> pool = concurrentPool;
+		for (int i = 0; i < BATCH; i++)
+			objects[i] = pool.obtain();
+		for (int i = 0; i < BATCH; i++)
+			pool.free(objects[i]);
+		return objects[0];
+	}
+
+	@Benchmark
+	public Vector2 pools (ThreadState state) {
+		Vector2[] objects = state.objects;
+		for (int i = 0; i < BATCH; i++)
+			objects[i] = Pools.obtain(Vector2.class);
+		for (int i = 0; i < BATCH; i++)
+			Pools.free(objects[i]);
+		return objects[0];
+	}
+
+	@Benchmark
+	public Vector2 synchronizedPool (ThreadState state) {
+		Vector2[] objects = state.objects;
+		Pool<Vector2> pool = synchronizedPool;
+		for (int i = 0; i < BATCH; i++) {
+			synchronized (pool) {
+				objects[i] = pool.obtain();
+			}
+		}
+		for (int i = 0; i < BATCH; i++) {
+			synchronized (pool) {
+				pool.free(objects[i]);
+			}
+		}
+		return objects[0];
+	}
+
+	@Benchmark
+	public Vector2 threadPool (ThreadState state) {
+		Vector2[] objects = state.objects;
+		Pool<Vector2> pool = state.pool;
+		for (int i = 0; i < BATCH; i++)
+			objects[i] = pool.obtain();
+		for (int i = 0; i < BATCH; i++)
+			pool.free(objects[i]);
+		return objects[0];
+	}
+}
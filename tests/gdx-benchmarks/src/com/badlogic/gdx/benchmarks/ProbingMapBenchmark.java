@@ -0,0 +1,411 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.IntFloatMap;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ProbingIntFloatMap;
+import com.badlogic.gdx.utils.ProbingIntIntMap;
+import com.badlogic.gdx.utils.ProbingLongMap;
+import com.badlogic.gdx.utils.ProbingObjectIntMap;
+
+/** Compares the cuckoo maps {@link IntIntMap}, {@link IntFloatMap}, {@link LongMap} and {@link ObjectIntMap} to their linear
+ * probing alternatives. Put fills a new map, get looks up every key and as many missing keys, remove takes out and puts back
+ * every key and iterate visits every entry, so scores are per map size. Keys are random, or sequential when {@link #sequential}
+ * is true. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProbingMapBenchmark {
+	@Param({"100", "10000", "1000000"}) public int size;
+	@Param({"false", "true"}) public boolean sequential;
+
+	int[] intKeys, missingIntKeys;
+	long[] longKeys, missingLongKeys;
+	String[] stringKeys, missingStringKeys;
+	Integer[] values;
+
+	IntIntMap intIntMap;
+	ProbingIntIntMap probingIntIntMap;
+	IntFloatMap intFloatMap;
+	ProbingIntFloatMap probingIntFloatMap;
+	LongMap<Integer> longMap;
+	ProbingLongMap<Integer> probingLongMap;
+	ObjectIntMap<String> objectIntMap;
+	ProbingObjectIntMap<String> probingObjectIntMap;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1);
+		intKeys = new int[size];
+		missingIntKeys = new int[size];
+		longKeys = new long[size];
+		missingLongKeys = new long[size];
+		stringKeys = new String[size];
+		missingStringKeys = new String[size];
+		values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			intKeys[i] = sequential ? i + 1 : random.nextInt();
+			missingIntKeys[i] = sequential ? -i - 1 : random.nextInt();
+			longKeys[i] = sequential ? i + 1 : random.nextLong();
+			missingLongKeys[i] = sequential ? -i - 1 : random.nextLong();
+			stringKeys[i] = sequential ? Integer.toString(i) : Long.toString(random.nextLong(), 36);
+			missingStringKeys[i] = sequential ? Integer.toString(-i - 1) : Long.toString(random.nextLong(), 36);
+			values[i] = i;
+		}
+		intIntMap = intIntMapPut();
+		probingIntIntMap = probingIntIntMapPut();
+		intFloatMap = intFloatMapPut();
+		probingIntFloatMap = probingIntFloatMapPut();
+		longMap = longMapPut();
+		probingLongMap = probingLongMapPut();
+		objectIntMap = objectIntMapPut();
+		probingObjectIntMap = probingObjectIntMapPut();
+	}
+
+	@Benchmark
+	public IntIntMap intIntMapPut () {
+		IntIntMap map = new IntIntMap();
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public int intIntMapGet () {
+		IntIntMap map = intIntMap;
+		int total = 0;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		keys = missingIntKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public IntIntMap intIntMapRemove () {
+		IntIntMap map = intIntMap;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i], 0));
+		return map;
+	}
+
+	@Benchmark
+	public int intIntMapIterate () {
+		int total = 0;
+		for (IntIntMap.Entry entry : intIntMap.entries())
+			total += entry.value;
+		return total;
+	}
+
+	@Benchmark
+	public ProbingIntIntMap probingIntIntMapPut () {
+		ProbingIntIntMap map = new ProbingIntIntMap();
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public int probingIntIntMapGet () {
+		ProbingIntIntMap map = probingIntIntMap;
+		int total = 0;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		keys = missingIntKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public ProbingIntIntMap probingIntIntMapRemove () {
+		ProbingIntIntMap map = probingIntIntMap;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i], 0));
+		return map;
+	}
+
+	@Benchmark
+	public int probingIntIntMapIterate () {
+		int total = 0;
+		for (ProbingIntIntMap.Entry entry : probingIntIntMap.entries())
+			total += entry.value;
+		return total;
+	}
+
+	@Benchmark
+	public IntFloatMap intFloatMapPut () {
+		IntFloatMap map = new IntFloatMap();
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public float intFloatMapGet () {
+		IntFloatMap map = intFloatMap;
+		float total = 0;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		keys = missingIntKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public IntFloatMap intFloatMapRemove () {
+		IntFloatMap map = intFloatMap;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i], 0));
+		return map;
+	}
+
+	@Benchmark
+	public float intFloatMapIterate () {
+		float total = 0;
+		for (IntFloatMap.Entry entry : intFloatMap.entries())
+			total += entry.value;
+		return total;
+	}
+
+	@Benchmark
+	public ProbingIntFloatMap probingIntFloatMapPut () {
+		ProbingIntFloatMap map = new ProbingIntFloatMap();
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public float probingIntFloatMapGet () {
+		ProbingIntFloatMap map = probingIntFloatMap;
+		float total = 0;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		keys = missingIntKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public ProbingIntFloatMap probingIntFloatMapRemove () {
+		ProbingIntFloatMap map = probingIntFloatMap;
+		int[] keys = intKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i], 0));
+		return map;
+	}
+
+	@Benchmark
+	public float probingIntFloatMapIterate () {
+		float total = 0;
+		for (ProbingIntFloatMap.Entry entry : probingIntFloatMap.entries())
+			total += entry.value;
+		return total;
+	}
+
+	@Benchmark
+	public LongMap<Integer> longMapPut () {
+		LongMap<Integer> map = new LongMap();
+		long[] keys = longKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], values[i]);
+		return map;
+	}
+
+	@Benchmark
+	public int longMapGet () {
+		LongMap<Integer> map = longMap;
+		int total = 0;
+		long[] keys = longKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i]);
+		keys = missingLongKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			if (map.get(keys[i]) != null) total++;
+		return total;
+	}
+
+	@Benchmark
+	public LongMap<Integer> longMapRemove () {
+		LongMap<Integer> map = longMap;
+		long[] keys = longKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i]));
+		return map;
+	}
+
+	@Benchmark
+	public int longMapIterate () {
+		int total = 0;
+		for (LongMap.Entry<Integer> entry : longMap.entries())
+			total += entry.value.intValue();
+		return total;
+	}
+
+	@Benchmark
+	public ProbingLongMap<Integer> probingLongMapPut () {
+		ProbingLongMap<Integer> map = new ProbingLongMap();
+		long[] keys = longKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], values[i]);
+		return map;
+	}
+
+	@Benchmark
+	public int probingLongMapGet () {
+		ProbingLongMap<Integer> map = probingLongMap;
+		int total = 0;
+		long[] keys = longKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i]);
+		keys = missingLongKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			if (map.get(keys[i]) != null) total++;
+		return total;
+	}
+
+	@Benchmark
+	public ProbingLongMap<Integer> probingLongMapRemove () {
+		ProbingLongMap<Integer> map = probingLongMap;
+		long[] keys = longKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i]));
+		return map;
+	}
+
+	@Benchmark
+	public int probingLongMapIterate () {
+		int total = 0;
+		for (ProbingLongMap.Entry<Integer> entry : probingLongMap.entries())
+			total += entry.value.intValue();
+		return total;
+	}
+
+	@Benchmark
+	public ObjectIntMap<String> objectIntMapPut () {
+		ObjectIntMap<String> map = new ObjectIntMap();
+		String[] keys = stringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public int objectIntMapGet () {
+		ObjectIntMap<String> map = objectIntMap;
+		int total = 0;
+		String[] keys = stringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		keys = missingStringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public ObjectIntMap<String> objectIntMapRemove () {
+		ObjectIntMap<String> map = objectIntMap;
+		String[] keys = stringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i], 0));
+		return map;
+	}
+
+	@Benchmark
+	public int objectIntMapIterate () {
+		int total = 0;
+		for (ObjectIntMap.Entry<String> entry : objectIntMap.entries())
+			total += entry.value;
+		return total;
+	}
+
+	@Benchmark
+	public ProbingObjectIntMap<String> probingObjectIntMapPut () {
+		ProbingObjectIntMap<String> map = new ProbingObjectIntMap();
+		String[] keys = stringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public int probingObjectIntMapGet () {
+		ProbingObjectIntMap<String> map = probingObjectIntMap;
+		int total = 0;
+		String[] keys = stringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		keys = missingStringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			total += map.get(keys[i], 0);
+		return total;
+	}
+
+	@Benchmark
+	public ProbingObjectIntMap<String> probingObjectIntMapRemove () {
+		ProbingObjectIntMap<String> map = probingObjectIntMap;
+		String[] keys = stringKeys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], map.remove(keys[i], 0));
+		return map;
+	}
+
+	@Benchmark
+	public int probingObjectIntMapIterate () {
+		int total = 0;
+		for (ProbingObjectIntMap.Entry<String> entry : probingObjectIntMap.entries())
+			total += entry.value;
+		return total;
+	}
+}
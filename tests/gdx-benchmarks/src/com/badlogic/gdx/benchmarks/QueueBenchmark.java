@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.MpmcQueue;
+import com.badlogic.gdx.utils.MpscQueue;
+
+/** Compares handing values from three producer threads to one consumer thread with {@link MpscQueue}, {@link MpmcQueue}, an
+ * {@link Array} guarded by synchronized, as the backends did for Application#postRunnable, and {@link ConcurrentLinkedQueue}.
+ * The consumer drains all available values each call. Scores are per operation. */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+	final Object value = new Object();
+	final MpscQueue<Object> mpscQueue = new MpscQueue(1024);
+	final MpmcQueue<Object> mpmcQueue = new MpmcQueue(1024);
+	final Array<Object> array = new Array();
+	final ConcurrentLinkedQueue<Object> linkedQueue = new ConcurrentLinkedQueue();
+
+	@State(Scope.Thread)
+	static public class Drained {
+		final Array<Object> values = new Array(1024);
+	}
+
+	@Benchmark
+	@Group("mpscQueue")
+	@GroupThreads(3)
+	public boolean mpscQueuePut () {
+		return mpscQueue.put(value);
+	}
+
+	@Benchmark
+	@Group("mpscQueue")
+	@GroupThreads(1)
+	public int mpscQueueDrain (Drained drained) {
+		drained.values.clear();
+		return mpscQueue.drainTo(drained.values);
+	}
+
+	@Benchmark
+	@Group("mpmcQueue")
+	@GroupThreads(3)
+	public boolean mpmcQueuePut () {
+		return mpmcQueue.put(value);
+	}
+
+	@Benchmark
+	@Group("mpmcQueue")
+	@GroupThreads(1)
+	public int mpmcQueueDrain (Drained drained) {
+		drained.values.clear();
+		return mpmcQueue.drainTo(drained.values);
+	}
+
+	@Benchmark
+	@Group("synchronizedArray")
+	@GroupThreads(3)
+	public boolean synchronizedArrayPut () {
+		synchronized (array) {
+			array.add(value);
+		}
+		return true;
+	}
+
+	@Benchmark
+	@Group("synchronizedArray")
+	@GroupThreads(1)
+	public int synchronizedArrayDrain (Drained drained) {
+		drained.values.clear();
+		synchronized (array) {
+			drained.values.addAll(array);
+			array.clear();
+		}
+		return drained.values.size;
+	}
+
+	@Benchmark
+	@Group("linkedQueue")
+	@GroupThreads(3)
+	public boolean linkedQueuePut () {
+		return linkedQueue.offer(value);
+	}
+
+	@Benchmark
+	@Group("linkedQueue")
+	@GroupThreads(1)
+	public int linkedQueueDrain (Drained drained) {
+		Array<Object> values = drained.values;
+		values.clear();
+		for (Object value; (value = linkedQueue.poll()) != null;)
+			values.add(value);
+		return values.size;
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.ObjectSet;
+
+/** Compares {@link ObjectSet} to {@link HashSet}. Each operation is done for all items, so scores are per set size. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	String[] items, missing;
+	ObjectSet<String> objectSet;
+	HashSet<String> hashSet;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1);
+		items = new String[size];
+		missing = new String[size];
+		for (int i = 0; i < size; i++) {
+			items[i] = Long.toString(random.nextLong(), 36);
+			missing[i] = Long.toString(random.nextLong(), 36) + "-";
+		}
+		objectSet = objectSetAdd();
+		hashSet = hashSetAdd();
+	}
+
+	@Benchmark
+	public ObjectSet<String> objectSetAdd () {
+		ObjectSet<String> set = new ObjectSet();
+		for (int i = 0, n = items.length; i < n; i++)
+			set.add(items[i]);
+		return set;
+	}
+
+	@Benchmark
+	public HashSet<String> hashSetAdd () {
+		HashSet<String> set = new HashSet();
+		for (int i = 0, n = items.length; i < n; i++)
+			set.add(items[i]);
+		return set;
+	}
+
+	@Benchmark
+	public int objectSetContains () {
+		int found = 0;
+		for (int i = 0, n = items.length; i < n; i++) {
+			if (objectSet.contains(items[i])) found++;
+			if (objectSet.contains(missing[i])) found++;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int hashSetContains () {
+		int found = 0;
+		for (int i = 0, n = items.length; i < n; i++) {
+			if (hashSet.contains(items[i])) found++;
+			if (hashSet.contains(missing[i])) found++;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int objectSetIterate () {
+		int total = 0;
+		for (String item : objectSet)
+			total += item.length();
+		return total;
+	}
+
+	@Benchmark
+	public int hashSetIterate () {
+		int total = 0;
+		for (String item : hashSet)
+			total += item.length();
+		return total;
+	}
+}
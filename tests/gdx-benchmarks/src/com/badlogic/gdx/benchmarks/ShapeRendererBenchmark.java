@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+
+/** Measures the CPU cost of a {@link ShapeRenderer}, rendering to a {@link MockGL20}. Scores are per shape. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeRendererBenchmark extends MockGraphicsBenchmark {
+	static final int shapes = 1000;
+
+	ShapeRenderer renderer;
+
+	@Setup
+	public void setup () {
+		gl = MockGraphicsSetup.gl();
+		renderer = new ShapeRenderer();
+		renderer.getProjectionMatrix().setToOrtho2D(0, 0, 1024, 768);
+		renderer.updateMatrices();
+	}
+
+	@TearDown
+	public void tearDown () {
+		renderer.dispose();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(shapes)
+	public void filledRects () {
+		ShapeRenderer renderer = this.renderer;
+		renderer.begin(ShapeType.Filled);
+		for (int i = 0; i < shapes; i++)
+			renderer.rect(i % 32 * 32, i / 32 * 24, 30, 20);
+		renderer.end();
+		operations += shapes;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(shapes)
+	public void lines () {
+		ShapeRenderer renderer = this.renderer;
+		renderer.begin(ShapeType.Line);
+		for (int i = 0; i < shapes; i++)
+			renderer.line(i % 32 * 32, i / 32 * 24, i % 32 * 32 + 30, i / 32 * 24 + 20);
+		renderer.end();
+		operations += shapes;
+	}
+
+	/** Circles with 16 segments. */
+	@Benchmark
+	@OperationsPerInvocation(shapes)
+	public void filledCircles () {
+		ShapeRenderer renderer = this.renderer;
+		renderer.begin(ShapeType.Filled);
+		for (int i = 0; i < shapes; i++)
+			renderer.circle(i % 32 * 32, i / 32 * 24, 10, 16);
+		renderer.end();
+		operations += shapes;
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Select;
+import com.badlogic.gdx.utils.Sort;
+
+/** Compares {@link Sort}, which uses TimSort, and {@link Select} to {@link Arrays#sort(Object[])}. Every operation first copies
+ * the unsorted items, so the copy is included in all scores. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+	static final Comparator<Integer> descending = new Comparator<Integer>() {
+		public int compare (Integer o1, Integer o2) {
+			return o2.compareTo(o1);
+		}
+	};
+
+	@Param({"100", "10000"}) public int size;
+	/** "random" items are shuffled, "partial" items are sorted runs with some items swapped, as is typical for per frame sorting
+	 * of mostly static objects. */
+	@Param({"random", "partial"}) public String order;
+
+	Integer[] items, work;
+	Sort sort = new Sort();
+	Select select = new Select();
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1);
+		items = new Integer[size];
+		for (int i = 0; i < size; i++)
+			items[i] = order.equals("random") ? random.nextInt() : i;
+		if (order.equals("partial")) {
+			for (int i = 0, n = size / 20; i < n; i++) {
+				int a = random.nextInt(size), b = random.nextInt(size);
+				Integer temp = items[a];
+				items[a] = items[b];
+				items[b] = temp;
+			}
+		}
+		work = new Integer[size];
+	}
+
+	@Benchmark
+	public Integer[] sort () {
+		System.arraycopy(items, 0, work, 0, size);
+		sort.sort(work);
+		return work;
+	}
+
+	@Benchmark
+	public Integer[] arraysSort () {
+		System.arraycopy(items, 0, work, 0, size);
+		Arrays.sort(work);
+		return work;
+	}
+
+	@Benchmark
+	public Integer[] sortComparator () {
+		System.arraycopy(items, 0, work, 0, size);
+		sort.sort(work, descending);
+		return work;
+	}
+
+	@Benchmark
+	public Integer[] arraysSortComparator () {
+		System.arraycopy(items, 0, work, 0, size);
+		Arrays.sort(work, descending);
+		return work;
+	}
+
+	/** Finds the median. */
+	@Benchmark
+	public Integer select () {
+		System.arraycopy(items, 0, work, 0, size);
+		return select.select(work, descending, size / 2, size);
+	}
+
+	/** Finds the median by sorting, for comparison with {@link #select()}. */
+	@Benchmark
+	public Integer arraysSortSelect () {
+		System.arraycopy(items, 0, work, 0, size);
+		Arrays.sort(work, descending);
+		return work[size / 2 - 1];
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.CpuSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+
+/** Measures the CPU cost of the {@link Batch} implementations, rendering to a {@link MockGL20}. Scores are per sprite or per
+ * flush. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteBatchBenchmark extends MockGraphicsBenchmark {
+	static final int sprites = 1000, flushes = 100;
+
+	@Param({"SpriteBatch", "PolygonSpriteBatch", "CpuSpriteBatch"}) public String batchType;
+
+	Batch batch;
+	Texture texture1, texture2;
+	TextureRegion region1, region2;
+	final Matrix4 transform = new Matrix4();
+
+	@Setup
+	public void setup () {
+		gl = MockGraphicsSetup.gl();
+		if (batchType.equals("SpriteBatch"))
+			batch = new SpriteBatch();
+		else if (batchType.equals("PolygonSpriteBatch"))
+			batch = new PolygonSpriteBatch();
+		else
+			batch = new CpuSpriteBatch();
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, 1024, 768);
+		texture1 = MockGraphicsSetup.newTexture(64, 64);
+		texture2 = MockGraphicsSetup.newTexture(64, 64);
+		region1 = new TextureRegion(texture1, 0, 0, 32, 32);
+		region2 = new TextureRegion(texture2, 0, 0, 32, 32);
+	}
+
+	@TearDown
+	public void tearDown () {
+		batch.dispose();
+		texture1.dispose();
+		texture2.dispose();
+	}
+
+	/** Sprites with the same texture, so the batch only flushes when it is full. */
+	@Benchmark
+	@OperationsPerInvocation(sprites)
+	public void drawRegions () {
+		Batch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < sprites; i++)
+			batch.draw(region1, i % 32 * 32, i / 32 * 24);
+		batch.end();
+		operations += sprites;
+	}
+
+	/** Rotated and scaled sprites, which need the most vertex math. */
+	@Benchmark
+	@OperationsPerInvocation(sprites)
+	public void drawRegionsRotated () {
+		Batch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < sprites; i++)
+			batch.draw(region1, i % 32 * 32, i / 32 * 24, 16, 16, 32, 32, 1.5f, 0.5f, i);
+		batch.end();
+		operations += sprites;
+	}
+
+	/** Sprites alternating between two textures every 10 sprites, so the batch flushes often. */
+	@Benchmark
+	@OperationsPerInvocation(sprites)
+	public void drawRegionsSwitchingTextures () {
+		Batch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < sprites; i++)
+			batch.draw(i / 10 % 2 == 0 ? region1 : region2, i % 32 * 32, i / 32 * 24);
+		batch.end();
+		operations += sprites;
+	}
+
+	/** A single sprite per flush, so scores are the fixed cost of a flush. */
+	@Benchmark
+	@OperationsPerInvocation(flushes)
+	public void flush () {
+		Batch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < flushes; i++) {
+			batch.draw(region1, i, i);
+			batch.flush();
+		}
+		batch.end();
+		operations += flushes;
+	}
+
+	/** Sprites drawn with a changing transform matrix. {@link CpuSpriteBatch} transforms them on the CPU, the others flush. */
+	@Benchmark
+	@OperationsPerInvocation(sprites)
+	public void drawRegionsTransformed () {
+		Batch batch = this.batch;
+		batch.begin();
+		for (int i = 0; i < sprites; i++) {
+			if (i % 10 == 0) batch.setTransformMatrix(transform.setToRotation(0, 0, 1, i));
+			batch.draw(region1, i % 32 * 32, i / 32 * 24);
+		}
+		batch.setTransformMatrix(transform.idt());
+		batch.end();
+		operations += sprites;
+	}
+}
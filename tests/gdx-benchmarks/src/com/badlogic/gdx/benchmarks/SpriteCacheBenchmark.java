@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/** Measures the CPU cost of building and drawing a {@link SpriteCache}, rendering to a {@link MockGL20}. Scores are per sprite. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteCacheBenchmark extends MockGraphicsBenchmark {
+	static final int sprites = 1000;
+
+	SpriteCache cache;
+	Texture texture;
+	TextureRegion region;
+	int cacheID;
+
+	@Setup
+	public void setup () {
+		gl = MockGraphicsSetup.gl();
+		cache = new SpriteCache(sprites, false);
+		cache.getProjectionMatrix().setToOrtho2D(0, 0, 1024, 768);
+		texture = MockGraphicsSetup.newTexture(64, 64);
+		region = new TextureRegion(texture, 0, 0, 32, 32);
+		cache.beginCache();
+		for (int i = 0; i < sprites; i++)
+			cache.add(region, i % 32 * 32, i / 32 * 24);
+		cacheID = cache.endCache();
+	}
+
+	@TearDown
+	public void tearDown () {
+		cache.dispose();
+		texture.dispose();
+	}
+
+	/** Replaces the sprites of the cache, which uploads them again. */
+	@Benchmark
+	@OperationsPerInvocation(sprites)
+	public void build () {
+		SpriteCache cache = this.cache;
+		cache.beginCache(cacheID);
+		for (int i = 0; i < sprites; i++)
+			cache.add(region, i % 32 * 32, i / 32 * 24, 16, 16, 32, 32, 1, 1, i);
+		cacheID = cache.endCache();
+		operations += sprites;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(sprites)
+	public void draw () {
+		SpriteCache cache = this.cache;
+		cache.begin();
+		cache.draw(cacheID);
+		cache.end();
+		operations += sprites;
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+
+/** Reads and writes {@link Item} without reflection.
+ * Generated by JsonSerializerGenerator, regenerate it when the class changes. */
+public class ItemJsonSerializer implements Json.Serializer<Item> {
+	private final Item defaults = new Item();
+
+	public void write (Json json, Item object, Class knownType) {
+		json.writeObjectStart(Item.class, knownType);
+		boolean usePrototypes = json.getUsePrototypes();
+		JsonWriter writer = json.getWriter();
+		try {
+			if (!usePrototypes || object.id != defaults.id)
+				writer.name("id").value(object.id);
+			if (!usePrototypes || !equal(object.name, defaults.name))
+				json.writeValue("name", object.name, String.class, null);
+			if (!usePrototypes || !equal(object.kind, defaults.kind))
+				json.writeValue("kind", object.kind, Item.Kind.class, null);
+			if (!usePrototypes || Float.floatToIntBits(object.weight) != Float.floatToIntBits(defaults.weight))
+				writer.name("weight").value(object.weight);
+			if (!usePrototypes || object.count != defaults.count)
+				writer.name("count").value(object.count);
+			if (!usePrototypes || object.equipped != defaults.equipped)
+				writer.name("equipped").value(object.equipped);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+		json.writeObjectEnd();
+	}
+
+	public Item read (Json json, JsonValue jsonData, Class type) {
+		Item object = new Item();
+		for (JsonValue child = jsonData.child; child != null; child = child.next) {
+			String name = child.name();
+			if (name.equals("id"))
+				object.id = child.asInt();
+			else if (name.equals("name"))
+				object.name = json.readValue(String.class, null, child);
+			else if (name.equals("kind"))
+				object.kind = json.readValue(Item.Kind.class, null, child);
+			else if (name.equals("weight"))
+				object.weight = child.asFloat();
+			else if (name.equals("count"))
+				object.count = child.asShort();
+			else if (name.equals("equipped"))
+				object.equipped = child.asBoolean();
+			else if (!json.getIgnoreUnknownFields())
+				throw new SerializationException("Field not found: " + name + " (com.badlogic.gdx.benchmarks.json.Item)");
+		}
+		return object;
+	}
+
+	static private boolean equal (Object value, Object defaultValue) {
+		if (value == null || defaultValue == null) return value == defaultValue;
+		if (value.equals(defaultValue)) return true;
+		return value.getClass().isArray() && defaultValue.getClass().isArray()
+			&& Arrays.deepEquals(new Object[] {value}, new Object[] {defaultValue});
+	}
+}
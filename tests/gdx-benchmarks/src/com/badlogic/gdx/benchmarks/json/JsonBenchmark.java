@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+/** Compares the reflection based serialization of {@link Json} to serializers generated by the gdx-tools
+ * {@code JsonSerializerGenerator}. Reading is measured from an already parsed {@link JsonValue}, so the scores show the cost of
+ * binding, and from UBJSON bytes written by {@link Json#toUBJson(Object, Class, java.io.OutputStream)}.
+ * Regenerate {@link PlayerJsonSerializer} and {@link ItemJsonSerializer} when {@link Player} or {@link Item} change. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+	@Param({"reflection", "generated"}) public String serializers;
+	@Param({"10", "1000"}) public int items;
+
+	Json json;
+	Player player;
+	CountingWriter writer;
+	JsonValue jsonData;
+	byte[] ubjson;
+
+	@Setup
+	public void setup () {
+		json = new Json();
+		if (serializers.equals("generated")) {
+			json.setSerializer(Player.class, new PlayerJsonSerializer());
+			json.setSerializer(Item.class, new ItemJsonSerializer());
+		}
+
+		Random random = new Random(1);
+		Item.Kind[] kinds = Item.Kind.values();
+		player = new Player();
+		player.name = "player";
+		player.level = 12;
+		player.experience = 1234567890123L;
+		player.position = new float[] {random.nextFloat(), random.nextFloat(), random.nextFloat()};
+		player.stats = new int[] {10, 12, 8, 15, 9, 11};
+		player.tags = new String[] {"human", "ranger"};
+		for (int i = 0; i < items; i++) {
+			Item item = new Item();
+			item.id = i;
+			item.name = "item" + i;
+			item.kind = kinds[random.nextInt(kinds.length)];
+			item.weight = random.nextFloat() * 10;
+			item.count = (short)(1 + random.nextInt(20));
+			item.equipped = random.nextBoolean();
+			player.items.add(item);
+		}
+
+		writer = new CountingWriter();
+		String text = json.toJson(player, Player.class);
+		jsonData = new JsonReader().parse(text);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		json.toUBJson(player, Player.class, bytes);
+		ubjson = bytes.toByteArray();
+	}
+
+	@Benchmark
+	public long write () {
+		writer.count = 0;
+		json.toJson(player, Player.class, writer);
+		return writer.count;
+	}
+
+	@Benchmark
+	public Player read () {
+		return json.readValue(Player.class, jsonData);
+	}
+
+	@Benchmark
+	public int writeUBJson () {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(ubjson.length);
+		json.toUBJson(player, Player.class, output);
+		return output.size();
+	}
+
+	@Benchmark
+	public Player readUBJson () {
+		return json.fromUBJson(Player.class, new ByteArrayInputStream(ubjson));
+	}
+
+	/** Discards the output so a growing buffer doesn't dominate the write scores. */
+	static class CountingWriter extends Writer {
+		long count;
+
+		public void write (int c) {
+			count++;
+		}
+
+		public void write (char[] chars, int offset, int length) {
+			count += length;
+		}
+
+		public void write (String string, int offset, int length) {
+			count += length;
+		}
+
+		public void flush () {
+		}
+
+		public void close () {
+		}
+	}
+}
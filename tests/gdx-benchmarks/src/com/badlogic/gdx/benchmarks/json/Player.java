@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.json;
+
+import com.badlogic.gdx.utils.Array;
+
+/** Save data read and written by {@link JsonBenchmark}. */
+public class Player {
+	public String name;
+	public int level = 1;
+	public float health = 100;
+	public long experience;
+	public boolean alive = true;
+	public float[] position = new float[3];
+	public int[] stats;
+	public String[] tags;
+	public Array<Item> items = new Array();
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+
+/** Reads and writes {@link Player} without reflection.
+ * Generated by JsonSerializerGenerator, regenerate it when the class changes. */
+public class PlayerJsonSerializer implements Json.Serializer<Player> {
+	private final Player defaults = new Player();
+
+	public void write (Json json, Player object, Class knownType) {
+		json.writeObjectStart(Player.class, knownType);
+		boolean usePrototypes = json.getUsePrototypes();
+		JsonWriter writer = json.getWriter();
+		try {
+			if (!usePrototypes || !equal(object.name, defaults.name))
+				json.writeValue("name", object.name, String.class, null);
+			if (!usePrototypes || object.level != defaults.level)
+				writer.name("level").value(object.level);
+			if (!usePrototypes || Float.floatToIntBits(object.health) != Float.floatToIntBits(defaults.health))
+				writer.name("health").value(object.health);
+			if (!usePrototypes || object.experience != defaults.experience)
+				writer.name("experience").value(object.experience);
+			if (!usePrototypes || object.alive != defaults.alive)
+				writer.name("alive").value(object.alive);
+			if (!usePrototypes || !equal(object.position, defaults.position))
+				json.writeValue("position", object.position, float[].class, null);
+			if (!usePrototypes || !equal(object.stats, defaults.stats))
+				json.writeValue("stats", object.stats, int[].class, null);
+			if (!usePrototypes || !equal(object.tags, defaults.tags))
+				json.writeValue("tags", object.tags, String[].class, null);
+			if (!usePrototypes || !equal(object.items, defaults.items))
+				json.writeValue("items", object.items, Array.class, Item.class);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+		json.writeObjectEnd();
+	}
+
+	public Player read (Json json, JsonValue jsonData, Class type) {
+		Player object = new Player();
+		for (JsonValue child = jsonData.child; child != null; child = child.next) {
+			String name = child.name();
+			if (name.equals("name"))
+				object.name = json.readValue(String.class, null, child);
+			else if (name.equals("level"))
+				object.level = child.asInt();
+			else if (name.equals("health"))
+				object.health = child.asFloat();
+			else if (name.equals("experience"))
+				object.experience = child.asLong();
+			else if (name.equals("alive"))
+				object.alive = child.asBoolean();
+			else if (name.equals("position"))
+				object.position = json.readValue(float[].class, null, child);
+			else if (name.equals("stats"))
+				object.stats = json.readValue(int[].class, null, child);
+			else if (name.equals("tags"))
+				object.tags = json.readValue(String[].class, null, child);
+			else if (name.equals("items"))
+				object.items = json.readValue(Array.class, Item.class, child);
+			else if (!json.getIgnoreUnknownFields())
+				throw new SerializationException("Field not found: " + name + " (com.badlogic.gdx.benchmarks.json.Player)");
+		}
+		return object;
+	}
+
+	static private boolean equal (Object value, Object defaultValue) {
+		if (value == null || defaultValue == null) return value == defaultValue;
+		if (value.equals(defaultValue)) return true;
+		return value.getClass().isArray() && defaultValue.getClass().isArray()
+			&& Arrays.deepEquals(new Object[] {value}, new Object[] {defaultValue});
+	}
+}